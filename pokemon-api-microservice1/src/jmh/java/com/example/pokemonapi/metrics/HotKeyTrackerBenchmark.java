@@ -0,0 +1,105 @@
+package com.example.pokemonapi.metrics;
+
+import com.example.pokemonapi.config.HotKeyProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmarks JMH del coste por solicitud de {@link HotKeyTracker#record(String)} con
+ * {@value #THREADS} hilos registrando a la vez nombres con una distribución Zipf (unos pocos
+ * nombres reciben la mayoría de las consultas, de modo que los hilos compiten por los mismos
+ * contadores), en nanosegundos por operación. Compara el sketch con una sola franja, con una
+ * franja por hilo y un mapa exacto de {@code LongAdder} por nombre como referencia.
+ *
+ * Los nombres se generan una vez, por lo que su {@code hashCode} ya está calculado; en una
+ * solicitud real se suma el cálculo sobre los caracteres del nombre. Se ejecuta con
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.args="HotKeyTrackerBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(HotKeyTrackerBenchmark.THREADS)
+@Fork(1)
+public class HotKeyTrackerBenchmark {
+
+    static final int THREADS = 4;
+
+    private static final int NAMES = 1_000;
+    private static final int SAMPLES = 1 << 16;
+
+    @Param({"1", "4"})
+    public int stripes;
+
+    private HotKeyTracker tracker;
+    private final ConcurrentHashMap<String, LongAdder> exact = new ConcurrentHashMap<>();
+    private String[] samples;
+
+    @Setup
+    public void setUp() {
+        HotKeyProperties properties = new HotKeyProperties();
+        properties.setStripes(stripes);
+        tracker = new HotKeyTracker(properties);
+
+        // Zipf con exponente 1: el nombre de rango k se consulta con probabilidad proporcional a 1/k
+        double[] cumulative = new double[NAMES];
+        double total = 0;
+        for (int k = 0; k < NAMES; k++) {
+            total += 1.0 / (k + 1);
+            cumulative[k] = total;
+        }
+        Random random = new Random(42);
+        samples = new String[SAMPLES];
+        String[] names = new String[NAMES];
+        for (int k = 0; k < NAMES; k++) {
+            names[k] = "pokemon-" + k;
+        }
+        for (int i = 0; i < SAMPLES; i++) {
+            double r = random.nextDouble() * total;
+            int k = 0;
+            while (cumulative[k] < r) {
+                k++;
+            }
+            samples[i] = names[k];
+        }
+    }
+
+    /**
+     * Posición de cada hilo en la secuencia de nombres, para que no compartan un contador.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = new Random().nextInt(SAMPLES);
+
+        private int advance() {
+            next = (next + 1) & (SAMPLES - 1);
+            return next;
+        }
+    }
+
+    @Benchmark
+    public void sketch(Cursor cursor) {
+        tracker.record(samples[cursor.advance()]);
+    }
+
+    @Benchmark
+    public void exactCounters(Cursor cursor) {
+        exact.computeIfAbsent(samples[cursor.advance()], name -> new LongAdder()).increment();
+    }
+}
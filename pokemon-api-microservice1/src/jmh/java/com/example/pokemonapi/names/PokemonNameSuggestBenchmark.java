@@ -0,0 +1,108 @@
+package com.example.pokemonapi.names;
+
+import com.example.pokemonapi.config.NameIndexProperties;
+import com.example.pokemonapi.config.PokeApiProperties;
+import com.example.pokemonapi.model.SuggestionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH de {@code GET /pokemon/suggest} sobre el listado completo de nombres:
+ * autocompletado por prefijo, sugerencia aproximada de un nombre con una errata y consulta del
+ * filtro de Bloom, medidos en microsegundos por operación.
+ *
+ * Por defecto usa {@code size} nombres sintéticos (tantos como el listado de la PokeAPI, con
+ * formas como {@code -mega} o {@code -alola}), generados con una semilla fija, para no depender
+ * de la red. Con {@code -p namesFile=nombres.txt} (un nombre por línea, e.g. extraído del
+ * listado con {@code jq -r '.results[].name'}) se usa el listado real. Se ejecuta con
+ * {@code mvn -Pjmh test-compile exec:exec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokemonNameSuggestBenchmark {
+
+    private static final String[] SYLLABLES = {"pi", "ka", "chu", "bul", "ba", "saur", "char", "man", "der",
+            "mew", "two", "squir", "tle", "ee", "vee", "gar", "dos", "lu", "cario", "on", "ix", "zu", "bat",
+            "ra", "ti", "ca", "ma", "go", "dra", "nite", "sy", "la", "bi", "tu", "rex", "lo", "ta"};
+    private static final String[] FORMS = {"-mega", "-alola", "-galar", "-gmax", "-hisui"};
+
+    @Param({"1302"})
+    public int size;
+
+    @Param({""})
+    public String namesFile;
+
+    private PokemonNameIndex nameIndex;
+    private String prefix;
+    private String typo;
+    private String missing;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> names = namesFile.isEmpty() ? syntheticNames(size)
+                : Files.readAllLines(Path.of(namesFile)).stream().map(String::trim).filter(n -> !n.isEmpty()).toList();
+        nameIndex = new PokemonNameIndex(null, new PokeApiProperties(), new NameIndexProperties());
+        nameIndex.load(names);
+
+        String sample = names.get(names.size() / 2);
+        prefix = sample.substring(0, Math.min(3, sample.length()));
+        // Errata en la primera letra: ningún nombre tiene ese prefijo y la sugerencia es aproximada
+        typo = "x" + sample.substring(1);
+        missing = "aguacate-inexistente";
+    }
+
+    @Benchmark
+    public SuggestionResponse prefixMatch() {
+        return nameIndex.suggest(prefix, 10);
+    }
+
+    @Benchmark
+    public SuggestionResponse similarMatch() {
+        return nameIndex.suggest(typo, 10);
+    }
+
+    @Benchmark
+    public boolean bloomFilterCheck() {
+        return nameIndex.mightExist(missing);
+    }
+
+    private static List<String> syntheticNames(int size) {
+        Random random = new Random(42);
+        Set<String> names = new LinkedHashSet<>();
+        while (names.size() < size) {
+            StringBuilder name = new StringBuilder();
+            int syllables = 2 + random.nextInt(3);
+            for (int i = 0; i < syllables; i++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            if (random.nextInt(5) == 0) {
+                name.append(FORMS[random.nextInt(FORMS.length)]);
+            }
+            names.add(name.toString());
+        }
+        return new ArrayList<>(names);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH de la serialización de {@code GET /pokemon/{name}}: el mapeo de Jackson
+ * ({@code ObjectMapper}) frente a los {@link StatsWriter} JSON, CBOR y Smile, con la respuesta
+ * completa ({@code fields=all}) o solo nombre y hp ({@code fields=nombre,hp}), en nanosegundos
+ * por operación. El tamaño de cada carga se imprime al preparar el benchmark. Se ejecuta con
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.args="StatsSerializationBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatsSerializationBenchmark {
+
+    @Param({"all", "nombre,hp"})
+    public String fields;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StatsWriter json = new JsonStatsWriter();
+    private final StatsWriter cbor = new CborStatsWriter();
+    private final StatsWriter smile = new SmileStatsWriter();
+    private PokemonStatsResponse response;
+    private int mask;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        response = new PokemonStatsResponse.Builder()
+                .nombre("charizard").hp(78).ataque(84).defensa(78).velocidad(100)
+                .addTipo("fire").addTipo("flying").addHabilidad("blaze").addHabilidad("solar-power")
+                .build();
+        mask = "all".equals(fields) ? StatsField.ALL : StatsField.parse(fields);
+        System.out.printf("%nfields=%s: jackson %d bytes, json %d bytes, cbor %d bytes, smile %d bytes%n", fields,
+                objectMapper.writeValueAsBytes(response).length, json.write(response, mask).length,
+                cbor.write(response, mask).length, smile.write(response, mask).length);
+    }
+
+    @Benchmark
+    public byte[] jacksonObjectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] jsonWriter() {
+        return json.write(response, mask);
+    }
+
+    @Benchmark
+    public byte[] cborWriter() {
+        return cbor.write(response, mask);
+    }
+
+    @Benchmark
+    public byte[] smileWriter() {
+        return smile.write(response, mask);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.config.PokeApiProperties;
+import com.example.pokemonapi.config.ResilienceProperties;
+import com.example.pokemonapi.metrics.PokemonMetrics;
+import com.example.pokemonapi.model.Pokemon;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.resilience.UpstreamGuard;
+import com.example.pokemonapi.resilience.UpstreamRetrier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH del trabajo de CPU por solicitud de {@code GET /pokemon/{name}} con
+ * {@code pokeapi.response-parser=binding}: deserialización de la respuesta de la PokeAPI al
+ * modelo {@link Pokemon}, {@link PokemonService#buildResponseFromPokemon(Pokemon)} y
+ * serialización de {@link PokemonStatsResponse}.
+ *
+ * Usa las respuestas grabadas de {@code src/test/resources/fixtures/pokeapi}, sin red, y un
+ * {@link ObjectMapper} configurado como el de Spring Boot. Se ejecuta con
+ * {@code mvn -Pjmh test-compile exec:exec}; el perfilador {@code gc} informa la memoria
+ * asignada por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokemonHotPathBenchmark {
+
+    @Param({"pikachu", "mewtwo"})
+    public String fixture;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private PokemonService pokemonService;
+    private byte[] payload;
+    private Pokemon pokemon;
+    private PokemonStatsResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        PokeApiProperties properties = new PokeApiProperties();
+        properties.setResponseParser(PokeApiProperties.ResponseParser.BINDING);
+        // Solo se usa la transformación; el resto de colaboradores no intervienen.
+        pokemonService = new PokemonService(null, null, properties, null, null,
+                new PokemonMetrics(new SimpleMeterRegistry()), new UpstreamGuard(new ResilienceProperties()),
+                new UpstreamRetrier(new ResilienceProperties(), Runnable::run), null, null);
+        payload = new ClassPathResource("fixtures/pokeapi/pokemon/" + fixture + ".json").getContentAsByteArray();
+        pokemon = objectMapper.readValue(payload, Pokemon.class);
+        response = pokemonService.buildResponseFromPokemon(pokemon);
+    }
+
+    @Benchmark
+    public Pokemon deserializePokemon() throws IOException {
+        return objectMapper.readValue(payload, Pokemon.class);
+    }
+
+    @Benchmark
+    public PokemonStatsResponse buildResponseFromPokemon() {
+        return pokemonService.buildResponseFromPokemon(pokemon);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
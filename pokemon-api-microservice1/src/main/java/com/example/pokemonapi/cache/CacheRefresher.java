@@ -0,0 +1,127 @@
+package com.example.pokemonapi.cache;
+
+import com.example.pokemonapi.config.CacheProperties;
+import com.example.pokemonapi.metrics.PokemonMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Refresca en segundo plano las entradas obsoletas de {@link PokemonStatsCache}
+ * ("stale-while-revalidate").
+ *
+ * Los refrescos se ejecutan en un pool de {@code pokemon.cache.refresh.max-concurrency} hilos
+ * con una cola acotada a {@code pokemon.cache.refresh.queue-capacity}: si la cola está llena,
+ * el refresco se descarta y la entrada se vuelve a programar en la siguiente lectura. Una misma
+ * clave no se programa dos veces mientras su refresco está pendiente o en curso.
+ */
+@Component
+public class CacheRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheRefresher.class);
+
+    private final ThreadPoolExecutor executor;
+    private final PokemonMetrics metrics;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param properties la configuración de la caché (concurrencia y cola del refresco).
+     * @param metrics las métricas en las que se registra la duración de cada refresco.
+     */
+    @Autowired
+    public CacheRefresher(CacheProperties properties, PokemonMetrics metrics) {
+        CacheProperties.Refresh refresh = properties.getRefresh();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(refresh.getMaxConcurrency(), refresh.getMaxConcurrency(),
+                30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(refresh.getQueueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Programa el refresco de una clave, salvo que ya haya uno pendiente o en curso.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param refresh la consulta a la PokeAPI que vuelve a almacenar la entrada.
+     * @return {@code true} si el refresco quedó programado.
+     */
+    public boolean schedule(String key, Runnable refresh) {
+        if (!pending.add(key)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> run(key, refresh));
+            return true;
+        } catch (RejectedExecutionException ex) {
+            pending.remove(key);
+            dropped.increment();
+            return false;
+        }
+    }
+
+    private void run(String key, Runnable refresh) {
+        Timer.Sample sample = metrics.start();
+        Throwable failure = null;
+        try {
+            refresh.run();
+        } catch (RuntimeException ex) {
+            failure = ex;
+            // La entrada obsoleta se sigue sirviendo; la siguiente lectura vuelve a intentarlo
+            log.debug("No se pudo refrescar '{}': {}", key, ex.getMessage());
+        } finally {
+            pending.remove(key);
+            metrics.recordRefresh(sample, failure);
+        }
+    }
+
+    /**
+     * Refrescos esperando un hilo libre.
+     *
+     * @return la profundidad de la cola.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Refrescos en ejecución.
+     *
+     * @return el número de hilos ocupados.
+     */
+    public int getActive() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Refrescos descartados porque la cola estaba llena.
+     *
+     * @return el total acumulado.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.pokemonapi.cache;
+
+import com.example.pokemonapi.exception.PokemonNotFoundException;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+
+/**
+ * Resultado de una búsqueda almacenado en caché. Puede representar una respuesta exitosa
+ * o un resultado negativo ("no encontrado"), de modo que los nombres inexistentes que se
+ * repiten no vuelvan a consultar la PokeAPI.
+ */
+public final class CachedLookup {
+
+    private final PokemonStatsResponse response;
+    private final String notFoundMessage;
+    private final String upstreamEtag;
+    private final long storedAtNanos;
+
+    private CachedLookup(PokemonStatsResponse response, String notFoundMessage, String upstreamEtag,
+                         long storedAtNanos) {
+        this.response = response;
+        this.notFoundMessage = notFoundMessage;
+        this.upstreamEtag = upstreamEtag;
+        this.storedAtNanos = storedAtNanos;
+    }
+
+    /**
+     * Crea una entrada para una respuesta exitosa.
+     *
+     * @param response la respuesta construida a partir de la PokeAPI.
+     * @param upstreamEtag el {@code ETag} con el que respondió la PokeAPI, o {@code null} si no envió ninguno.
+     * @param storedAtNanos el instante de almacenamiento, según el reloj de la caché.
+     * @return la entrada de caché.
+     */
+    public static CachedLookup found(PokemonStatsResponse response, String upstreamEtag, long storedAtNanos) {
+        return new CachedLookup(response, null, upstreamEtag, storedAtNanos);
+    }
+
+    /**
+     * Crea una entrada negativa para un Pokémon que la PokeAPI no reconoce.
+     *
+     * @param message el mensaje de la {@link PokemonNotFoundException} original.
+     * @param storedAtNanos el instante de almacenamiento, según el reloj de la caché.
+     * @return la entrada de caché.
+     */
+    public static CachedLookup notFound(String message, long storedAtNanos) {
+        return new CachedLookup(null, message, null, storedAtNanos);
+    }
+
+    public boolean isFound() { return response != null; }
+    public PokemonStatsResponse getResponse() { return response; }
+    public String getNotFoundMessage() { return notFoundMessage; }
+    public String getUpstreamEtag() { return upstreamEtag; }
+    public long getStoredAtNanos() { return storedAtNanos; }
+
+    /**
+     * Devuelve la respuesta almacenada o relanza el "no encontrado" almacenado.
+     *
+     * @return la respuesta almacenada.
+     * @throws PokemonNotFoundException si la entrada es negativa.
+     */
+    public PokemonStatsResponse resolve() {
+        if (response == null) {
+            throw new PokemonNotFoundException(notFoundMessage);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,416 @@
+package com.example.pokemonapi.cache;
+
+import com.example.pokemonapi.cache.shared.CachedLookupCodec;
+import com.example.pokemonapi.cache.shared.SharedCacheStore;
+import com.example.pokemonapi.config.CacheProperties;
+import com.example.pokemonapi.model.CacheStatsResponse;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché en memoria, acotada y con expiración, de los resultados de
+ * {@code PokemonService.getPokemonStats}. La clave es el nombre normalizado del Pokémon.
+ *
+ * Las respuestas exitosas y los resultados "no encontrado" tienen tiempos de vida
+ * independientes (ver {@link CacheProperties}). Una respuesta exitosa pasa por tres etapas:
+ * vigente hasta {@code soft-ttl}, obsoleta (se devuelve y se refresca en segundo plano) hasta
+ * {@code ttl}, y expirada; en esta última solo se conserva durante {@code stale-if-error} para
+ * devolverla si la PokeAPI falla. Al superar el tamaño máximo, Caffeine desaloja las entradas
+ * con menor frecuencia de uso.
+ *
+ * Opcionalmente tiene un segundo nivel compartido entre réplicas ({@link SharedCacheStore}):
+ * cada entrada almacenada se escribe también allí, y {@link #getShared(String)} y
+ * {@link #loadShared(Collection)} traen a memoria las entradas que otra réplica ya obtuvo, con su
+ * edad real. Los errores del segundo nivel se cuentan y se tratan como un fallo de caché.
+ * Las escrituras en el segundo nivel se hacen en un pool propio, sin esperarlas, de modo que
+ * almacenar una entrada nunca bloquea al hilo que la almacena (que puede ser el event loop del
+ * cliente no bloqueante); {@link #getSharedAsync(String)} ofrece la lectura con la misma garantía.
+ */
+@Component
+public class PokemonStatsCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonStatsCache.class);
+    // Operaciones pendientes sobre la caché compartida; al llenarse se descartan y se cuentan como error
+    static final int SHARED_QUEUE_CAPACITY = 1_000;
+
+    private final boolean enabled;
+    private final Cache<String, CachedLookup> cache;
+    private final Ticker ticker;
+    private final long softTtlNanos;
+    private final long hardTtlNanos;
+    private final LongAdder negativeHits = new LongAdder();
+    // Lecturas de entradas conservadas solo para "stale-if-error": Caffeine las cuenta como aciertos
+    private final LongAdder expiredReads = new LongAdder();
+    private final SharedCacheStore shared;
+    private final Duration sharedTtl;
+    private final Duration sharedNotFoundTtl;
+    private final long retentionNanos;
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder sharedMisses = new LongAdder();
+    private final LongAdder sharedErrors = new LongAdder();
+    private final ThreadPoolExecutor sharedExecutor;
+
+    /**
+     * Constructor de una caché solo en memoria, sin segundo nivel compartido.
+     *
+     * @param properties la configuración de la caché.
+     */
+    public PokemonStatsCache(CacheProperties properties) {
+        this(properties, SharedCacheStore.disabled());
+    }
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param properties la configuración de la caché.
+     * @param shared el segundo nivel compartido entre réplicas (o {@link SharedCacheStore#disabled()}).
+     */
+    @Autowired
+    public PokemonStatsCache(CacheProperties properties, SharedCacheStore shared) {
+        this(properties, shared, Ticker.systemTicker());
+    }
+
+    /**
+     * Constructor que permite sustituir el reloj, usado en las pruebas de expiración.
+     *
+     * @param properties la configuración de la caché.
+     * @param ticker la fuente de tiempo de Caffeine.
+     */
+    PokemonStatsCache(CacheProperties properties, Ticker ticker) {
+        this(properties, SharedCacheStore.disabled(), ticker);
+    }
+
+    PokemonStatsCache(CacheProperties properties, SharedCacheStore shared, Ticker ticker) {
+        this.enabled = properties.isEnabled();
+        this.shared = properties.isEnabled() ? shared : SharedCacheStore.disabled();
+        this.sharedTtl = properties.getShared().getTtl();
+        this.sharedNotFoundTtl = properties.getShared().getNotFoundTtl();
+        this.ticker = ticker;
+        this.softTtlNanos = properties.getSoftTtl().toNanos();
+        this.hardTtlNanos = properties.getTtl().toNanos();
+        long foundTtlNanos = saturatedAdd(hardTtlNanos, properties.getStaleIfError().toNanos());
+        long notFoundTtlNanos = properties.getNotFoundTtl().toNanos();
+        this.retentionNanos = foundTtlNanos;
+        this.sharedExecutor = this.shared.isEnabled() ? sharedExecutor(properties.getShared().getMaxConnections()) : null;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<String, CachedLookup>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedLookup value, long currentTime) {
+                        // Las entradas traídas de la caché compartida ya tienen edad
+                        long ttl = value.isFound() ? foundTtlNanos : notFoundTtlNanos;
+                        return Math.max(0, ttl - Math.max(0, currentTime - value.getStoredAtNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedLookup value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedLookup value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Busca una entrada vigente u obsoleta (sin superar {@code ttl}) en la caché.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @return la entrada almacenada, o {@code null} si no existe, expiró o la caché está deshabilitada.
+     */
+    public CachedLookup getIfPresent(String key) {
+        if (!enabled) {
+            return null;
+        }
+        CachedLookup lookup = cache.getIfPresent(key);
+        if (lookup == null) {
+            return null;
+        }
+        if (!lookup.isFound()) {
+            negativeHits.increment();
+        } else if (ageNanos(lookup) >= hardTtlNanos) {
+            expiredReads.increment();
+            return null;
+        }
+        return lookup;
+    }
+
+    /**
+     * Indica si una respuesta exitosa superó {@code soft-ttl} y debe refrescarse.
+     *
+     * @param lookup una entrada devuelta por {@link #getIfPresent(String)}.
+     * @return {@code true} si la entrada es obsoleta.
+     */
+    public boolean isStale(CachedLookup lookup) {
+        return lookup.isFound() && ageNanos(lookup) >= softTtlNanos;
+    }
+
+    /**
+     * Busca la última respuesta exitosa conocida de un Pokémon, aunque haya expirado, para
+     * devolverla cuando la PokeAPI falla o para revalidarla con una solicitud condicional.
+     * No cuenta como acierto ni como fallo.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @return la entrada exitosa conservada, o {@code null} si no hay ninguna.
+     */
+    public CachedLookup getLastKnown(String key) {
+        if (!enabled) {
+            return null;
+        }
+        CachedLookup lookup = cache.policy().getIfPresentQuietly(key);
+        return lookup != null && lookup.isFound() ? lookup : null;
+    }
+
+    /**
+     * Almacena una respuesta exitosa.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param response la respuesta a almacenar.
+     */
+    public void putFound(String key, PokemonStatsResponse response) {
+        putFound(key, response, null);
+    }
+
+    /**
+     * Almacena una respuesta exitosa junto con el validador de la PokeAPI, para revalidarla
+     * después con {@code If-None-Match}. También se usa tras un 304 para reiniciar su edad.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param response la respuesta a almacenar.
+     * @param upstreamEtag el {@code ETag} de la PokeAPI, o {@code null} si no envió ninguno.
+     */
+    public void putFound(String key, PokemonStatsResponse response, String upstreamEtag) {
+        if (enabled) {
+            CachedLookup lookup = CachedLookup.found(response, upstreamEtag, ticker.read());
+            cache.put(key, lookup);
+            writeShared(key, lookup, sharedTtl);
+        }
+    }
+
+    /**
+     * Almacena un resultado negativo con el tiempo de vida corto configurado.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param message el mensaje de la excepción "no encontrado" original.
+     */
+    public void putNotFound(String key, String message) {
+        if (enabled) {
+            CachedLookup lookup = CachedLookup.notFound(message, ticker.read());
+            cache.put(key, lookup);
+            writeShared(key, lookup, sharedNotFoundTtl);
+        }
+    }
+
+    /**
+     * Busca una entrada en la caché compartida cuando no está en memoria. Si existe, se guarda
+     * en memoria con su edad real, de modo que también sirva para "stale-if-error" y como
+     * validador de una consulta condicional aunque haya superado {@code ttl}.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @return la entrada, con las mismas condiciones que {@link #getIfPresent(String)}, o
+     *         {@code null} si no existe, expiró o la caché compartida no está disponible.
+     */
+    public CachedLookup getShared(String key) {
+        if (!shared.isEnabled()) {
+            return null;
+        }
+        byte[] encoded;
+        try {
+            encoded = shared.get(key);
+        } catch (RuntimeException ex) {
+            sharedErrors.increment();
+            return null;
+        }
+        CachedLookup lookup = install(key, encoded);
+        return lookup == null || lookup.isFound() && ageNanos(lookup) >= hardTtlNanos ? null : lookup;
+    }
+
+    /**
+     * Variante de {@link #getShared(String)} que consulta la caché compartida en el pool de la
+     * caché, para los llamadores que no deben bloquearse. Si está deshabilitada, el futuro se
+     * devuelve ya completado, sin cambiar de hilo.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @return un futuro con el resultado de {@link #getShared(String)}; nunca falla.
+     */
+    public CompletableFuture<CachedLookup> getSharedAsync(String key) {
+        if (!shared.isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> getShared(key), sharedExecutor);
+        } catch (RejectedExecutionException ex) {
+            sharedErrors.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Trae a memoria, con una sola operación sobre la caché compartida, las entradas de los
+     * nombres indicados que no estén ya en memoria (e.g., antes de resolver un lote).
+     *
+     * @param keys los nombres normalizados.
+     */
+    public void loadShared(Collection<String> keys) {
+        if (!shared.isEnabled()) {
+            return;
+        }
+        List<String> missing = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (cache.policy().getIfPresentQuietly(key) == null) {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        List<byte[]> values;
+        try {
+            values = shared.getAll(missing);
+        } catch (RuntimeException ex) {
+            sharedErrors.increment();
+            return;
+        }
+        for (int i = 0; i < missing.size(); i++) {
+            install(missing.get(i), values.get(i));
+        }
+    }
+
+    private CachedLookup install(String key, byte[] encoded) {
+        if (encoded == null) {
+            sharedMisses.increment();
+            return null;
+        }
+        CachedLookup lookup;
+        try {
+            lookup = CachedLookupCodec.decode(encoded, System.currentTimeMillis(), ticker.read());
+        } catch (IllegalArgumentException ex) {
+            log.warn("Entrada de la caché compartida inválida para '{}': {}", key, ex.getMessage());
+            sharedErrors.increment();
+            return null;
+        }
+        if (lookup.isFound() && ageNanos(lookup) >= retentionNanos) {
+            sharedMisses.increment();
+            return null;
+        }
+        sharedHits.increment();
+        cache.put(key, lookup);
+        return lookup;
+    }
+
+    private void writeShared(String key, CachedLookup lookup, Duration ttl) {
+        if (!shared.isEnabled()) {
+            return;
+        }
+        byte[] encoded = CachedLookupCodec.encode(lookup, System.currentTimeMillis(), ticker.read());
+        try {
+            sharedExecutor.execute(() -> {
+                try {
+                    shared.put(key, encoded, ttl);
+                } catch (RuntimeException ex) {
+                    sharedErrors.increment();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            sharedErrors.increment();
+        }
+    }
+
+    /**
+     * Elimina la entrada de un Pokémon, sea positiva o negativa, en memoria y en la caché compartida.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     */
+    public void invalidate(String key) {
+        cache.invalidate(key);
+        if (shared.isEnabled()) {
+            try {
+                shared.delete(key);
+            } catch (RuntimeException ex) {
+                sharedErrors.increment();
+            }
+        }
+    }
+
+    /**
+     * Elimina todas las entradas de la caché en memoria. La caché compartida no se vacía: sus
+     * entradas expiran según {@code pokemon.cache.shared.ttl}.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Obtiene una instantánea de los contadores de aciertos, fallos y desalojos.
+     *
+     * @return las estadísticas actuales de la caché.
+     */
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        long expired = expiredReads.sum();
+        return new CacheStatsResponse(cache.estimatedSize(), stats.hitCount() - expired, negativeHits.sum(),
+                stats.missCount() + expired, stats.evictionCount());
+    }
+
+    public long getSharedHits() { return sharedHits.sum(); }
+    public long getSharedMisses() { return sharedMisses.sum(); }
+    public long getSharedErrors() { return sharedErrors.sum(); }
+
+    /**
+     * Detiene el pool de la caché compartida tras completar las escrituras pendientes. Spring lo
+     * invoca al apagar la aplicación.
+     */
+    @PreDestroy
+    void shutdown() {
+        if (sharedExecutor != null) {
+            sharedExecutor.shutdown();
+        }
+    }
+
+    private static ThreadPoolExecutor sharedExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(SHARED_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "shared-cache-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private long ageNanos(CachedLookup lookup) {
+        return ticker.read() - lookup.getStoredAtNanos();
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+}
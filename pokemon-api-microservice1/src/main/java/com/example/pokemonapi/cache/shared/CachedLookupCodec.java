@@ -0,0 +1,123 @@
+package com.example.pokemonapi.cache.shared;
+
+import com.example.pokemonapi.cache.CachedLookup;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codificación binaria compacta de una entrada de caché para la caché compartida.
+ *
+ * Formato (enteros en big-endian, cadenas con {@link DataOutputStream#writeUTF}):
+ * <pre>
+ * versión (1 byte) | tipo (1 byte: 1 = encontrado, 0 = no encontrado) | instante de almacenamiento (8 bytes, epoch ms)
+ * encontrado:    ETag (1 byte de presencia + cadena) | nombre | hp, ataque, defensa, velocidad (2 bytes c/u)
+ *                | nº de tipos (1 byte) + tipos | nº de habilidades (1 byte) + habilidades
+ * no encontrado: mensaje
+ * </pre>
+ * Una respuesta típica ocupa unos 60 bytes, frente a los ~150 de su JSON. El instante de
+ * almacenamiento se guarda en tiempo de reloj para que otra réplica conozca la edad real de la
+ * entrada y aplique el mismo {@code soft-ttl} y {@code ttl}.
+ */
+public final class CachedLookupCodec {
+
+    private static final byte VERSION = 1;
+    private static final byte FOUND = 1;
+    private static final byte NOT_FOUND = 0;
+
+    private CachedLookupCodec() {
+    }
+
+    /**
+     * Codifica una entrada.
+     *
+     * @param lookup la entrada de la caché local.
+     * @param nowEpochMillis el instante actual en tiempo de reloj.
+     * @param nowTickerNanos el instante actual según el reloj de la caché local.
+     * @return la entrada codificada.
+     */
+    public static byte[] encode(CachedLookup lookup, long nowEpochMillis, long nowTickerNanos) {
+        long storedAtMillis = nowEpochMillis - TimeUnit.NANOSECONDS.toMillis(nowTickerNanos - lookup.getStoredAtNanos());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(lookup.isFound() ? FOUND : NOT_FOUND);
+            out.writeLong(storedAtMillis);
+            if (!lookup.isFound()) {
+                out.writeUTF(lookup.getNotFoundMessage());
+                return bytes.toByteArray();
+            }
+            out.writeBoolean(lookup.getUpstreamEtag() != null);
+            if (lookup.getUpstreamEtag() != null) {
+                out.writeUTF(lookup.getUpstreamEtag());
+            }
+            PokemonStatsResponse response = lookup.getResponse();
+            out.writeUTF(response.getNombre());
+            out.writeShort(response.getHp());
+            out.writeShort(response.getAtaque());
+            out.writeShort(response.getDefensa());
+            out.writeShort(response.getVelocidad());
+            writeList(out, response.getTipos());
+            writeList(out, response.getHabilidades());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodifica una entrada y expresa su instante de almacenamiento en el reloj de la caché local.
+     *
+     * @param encoded la entrada codificada.
+     * @param nowEpochMillis el instante actual en tiempo de reloj.
+     * @param nowTickerNanos el instante actual según el reloj de la caché local.
+     * @return la entrada de caché.
+     * @throws IllegalArgumentException si los bytes no son una entrada válida de esta versión.
+     */
+    public static CachedLookup decode(byte[] encoded, long nowEpochMillis, long nowTickerNanos) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("Versión de entrada de caché compartida no soportada");
+            }
+            byte kind = in.readByte();
+            long ageMillis = Math.max(0, nowEpochMillis - in.readLong());
+            long storedAtNanos = nowTickerNanos - TimeUnit.MILLISECONDS.toNanos(ageMillis);
+            if (kind == NOT_FOUND) {
+                return CachedLookup.notFound(in.readUTF(), storedAtNanos);
+            }
+            String etag = in.readBoolean() ? in.readUTF() : null;
+            PokemonStatsResponse.Builder builder = new PokemonStatsResponse.Builder()
+                    .nombre(in.readUTF())
+                    .hp(in.readUnsignedShort())
+                    .ataque(in.readUnsignedShort())
+                    .defensa(in.readUnsignedShort())
+                    .velocidad(in.readUnsignedShort());
+            for (int i = in.readUnsignedByte(); i > 0; i--) {
+                builder.addTipo(in.readUTF());
+            }
+            for (int i = in.readUnsignedByte(); i > 0; i--) {
+                builder.addHabilidad(in.readUTF());
+            }
+            return CachedLookup.found(builder.build(), etag, storedAtNanos);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Entrada de caché compartida truncada o inválida", ex);
+        }
+    }
+
+    private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+        if (values.size() > 255) {
+            throw new IllegalArgumentException("Demasiados elementos para la caché compartida: " + values.size());
+        }
+        out.writeByte(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+}
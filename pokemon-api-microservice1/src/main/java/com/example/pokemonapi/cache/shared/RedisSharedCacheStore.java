@@ -0,0 +1,185 @@
+package com.example.pokemonapi.cache.shared;
+
+import com.example.pokemonapi.config.CacheProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SharedCacheStore} sobre un servidor compatible con Redis, con {@code GET},
+ * {@code SET ... PX}, {@code MGET} y {@code DEL}.
+ *
+ * Mantiene un pool de hasta {@code max-connections} {@link RespConnection}: cada operación toma
+ * una conexión libre (o abre una nueva) y la devuelve al terminar. {@link #getAll(List)} reparte
+ * las claves en comandos {@code MGET} de hasta {@value #MGET_CHUNK} claves enviados juntos por
+ * canalización, de modo que un lote completo cuesta un único viaje de ida y vuelta.
+ *
+ * Ante un error de comunicación, la conexión se descarta y, durante {@code retry-interval}, las
+ * operaciones fallan de inmediato sin intentar conectar, para que un servidor caído no añada su
+ * tiempo de espera a cada solicitud. Una respuesta que no se puede interpretar también descarta
+ * la conexión, sin suspender las operaciones.
+ */
+public class RedisSharedCacheStore implements SharedCacheStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisSharedCacheStore.class);
+    static final int MGET_CHUNK = 100;
+
+    private static final byte[] GET = RespConnection.arg("GET");
+    private static final byte[] MGET = RespConnection.arg("MGET");
+    private static final byte[] SET = RespConnection.arg("SET");
+    private static final byte[] PX = RespConnection.arg("PX");
+    private static final byte[] DEL = RespConnection.arg("DEL");
+
+    private final CacheProperties.Shared properties;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<RespConnection> idle = new ConcurrentLinkedQueue<>();
+    private volatile long unavailableUntilNanos;
+
+    /**
+     * @param properties la configuración de la caché compartida.
+     */
+    public RedisSharedCacheStore(CacheProperties.Shared properties) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConnections());
+        this.unavailableUntilNanos = System.nanoTime();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return (byte[]) call(connection -> connection.execute(GET, key(key)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<byte[]> getAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<byte[][]> commands = new ArrayList<>();
+        for (int start = 0; start < keys.size(); start += MGET_CHUNK) {
+            List<String> chunk = keys.subList(start, Math.min(keys.size(), start + MGET_CHUNK));
+            byte[][] command = new byte[chunk.size() + 1][];
+            command[0] = MGET;
+            for (int i = 0; i < chunk.size(); i++) {
+                command[i + 1] = key(chunk.get(i));
+            }
+            commands.add(command);
+        }
+        List<Object> replies = (List<Object>) call(connection -> connection.pipeline(commands));
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (Object reply : replies) {
+            for (Object value : (List<Object>) reply) {
+                values.add((byte[]) value);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        long millis = Math.max(1, ttl.toMillis());
+        call(connection -> connection.execute(SET, key(key), value, PX, RespConnection.arg(Long.toString(millis))));
+    }
+
+    @Override
+    public void delete(String key) {
+        call(connection -> connection.execute(DEL, key(key)));
+    }
+
+    /**
+     * Cierra las conexiones libres. Spring lo invoca al apagar la aplicación.
+     */
+    @Override
+    public void close() {
+        RespConnection connection;
+        while ((connection = idle.poll()) != null) {
+            closeQuietly(connection);
+        }
+    }
+
+    private byte[] key(String key) {
+        return RespConnection.arg(properties.getKeyPrefix() + key);
+    }
+
+    private Object call(Command command) {
+        if (System.nanoTime() - unavailableUntilNanos < 0) {
+            throw new UncheckedIOException(new IOException("Caché compartida no disponible temporalmente"));
+        }
+        boolean acquired = false;
+        RespConnection connection = null;
+        try {
+            acquired = permits.tryAcquire(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                throw new IOException("No hay conexiones libres a la caché compartida");
+            }
+            connection = idle.poll();
+            if (connection == null) {
+                connection = connect();
+            }
+            Object result = command.apply(connection);
+            idle.offer(connection);
+            return result;
+        } catch (IOException ex) {
+            if (connection != null) {
+                closeQuietly(connection);
+            }
+            unavailableUntilNanos = System.nanoTime() + properties.getRetryInterval().toNanos();
+            log.warn("Error de la caché compartida en {}:{}; se omite durante {}: {}", properties.getHost(),
+                    properties.getPort(), properties.getRetryInterval(), ex.getMessage());
+            throw new UncheckedIOException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrumpido esperando una conexión", ex));
+        } catch (RuntimeException ex) {
+            // Respuesta no válida a medio leer: la conexión queda en un estado desconocido
+            if (connection != null) {
+                closeQuietly(connection);
+            }
+            throw ex;
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+        }
+    }
+
+    private RespConnection connect() throws IOException {
+        RespConnection connection = new RespConnection(properties.getHost(), properties.getPort(), properties.getTimeout());
+        try {
+            if (properties.getPassword() != null && !properties.getPassword().isEmpty()) {
+                connection.execute(RespConnection.arg("AUTH"), RespConnection.arg(properties.getPassword()));
+            }
+            if (properties.getDatabase() != 0) {
+                connection.execute(RespConnection.arg("SELECT"), RespConnection.arg(Integer.toString(properties.getDatabase())));
+            }
+            return connection;
+        } catch (IOException ex) {
+            closeQuietly(connection);
+            throw ex;
+        }
+    }
+
+    private static void closeQuietly(RespConnection connection) {
+        try {
+            connection.close();
+        } catch (IOException ignored) {
+            // La conexión ya no se usa
+        }
+    }
+
+    /**
+     * Operación sobre una conexión del pool.
+     */
+    @FunctionalInterface
+    private interface Command {
+        Object apply(RespConnection connection) throws IOException;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.pokemonapi.cache.shared;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conexión a un servidor compatible con Redis que habla RESP2, el protocolo de texto y binario
+ * de Redis: cada comando se envía como un arreglo de cadenas binarias y cada respuesta es una
+ * cadena simple ({@code +}), un error ({@code -}), un entero ({@code :}), una cadena binaria
+ * ({@code $}, {@code null} si la longitud es -1) o un arreglo ({@code *}).
+ *
+ * Admite canalización ("pipelining"): {@link #pipeline(List)} escribe varios comandos en un
+ * solo envío y después lee sus respuestas en orden, con un único viaje de ida y vuelta.
+ * No es segura para uso concurrente; {@link RedisSharedCacheStore} la usa desde un solo hilo a la vez.
+ */
+public class RespConnection implements Closeable {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+
+    /**
+     * Abre la conexión.
+     *
+     * @param host el servidor.
+     * @param port el puerto.
+     * @param timeout el tiempo máximo de conexión y de espera de cada respuesta.
+     * @throws IOException si no se puede conectar.
+     */
+    public RespConnection(String host, int port, Duration timeout) throws IOException {
+        socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout((int) timeout.toMillis());
+            socket.connect(new InetSocketAddress(host, port), (int) timeout.toMillis());
+            in = new BufferedInputStream(socket.getInputStream());
+            out = new BufferedOutputStream(socket.getOutputStream());
+        } catch (IOException ex) {
+            socket.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Ejecuta un comando y lee su respuesta.
+     *
+     * @param args el comando y sus argumentos.
+     * @return la respuesta: {@code String}, {@code Long}, {@code byte[]}, {@code List} o {@code null}.
+     * @throws IOException si falla la comunicación o el servidor responde con un error.
+     */
+    public Object execute(byte[]... args) throws IOException {
+        write(args);
+        out.flush();
+        return read();
+    }
+
+    /**
+     * Ejecuta varios comandos con un único envío y lee sus respuestas.
+     *
+     * @param commands los comandos, cada uno con sus argumentos.
+     * @return una respuesta por comando, en el mismo orden.
+     * @throws IOException si falla la comunicación o el servidor responde con un error.
+     */
+    public List<Object> pipeline(List<byte[][]> commands) throws IOException {
+        for (byte[][] command : commands) {
+            write(command);
+        }
+        out.flush();
+        List<Object> replies = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            replies.add(read());
+        }
+        return replies;
+    }
+
+    /**
+     * Codifica una cadena como argumento de un comando.
+     *
+     * @param value la cadena.
+     * @return sus bytes en UTF-8.
+     */
+    public static byte[] arg(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    private void write(byte[][] args) throws IOException {
+        out.write('*');
+        out.write(arg(Integer.toString(args.length)));
+        out.write(CRLF);
+        for (byte[] value : args) {
+            out.write('$');
+            out.write(arg(Integer.toString(value.length)));
+            out.write(CRLF);
+            out.write(value);
+            out.write(CRLF);
+        }
+    }
+
+    private Object read() throws IOException {
+        int type = in.read();
+        switch (type) {
+            case '+':
+                return readLine();
+            case '-':
+                throw new IOException("Error del servidor de caché: " + readLine());
+            case ':':
+                return Long.parseLong(readLine());
+            case '$': {
+                int length = Integer.parseInt(readLine());
+                if (length < 0) {
+                    return null;
+                }
+                byte[] value = in.readNBytes(length);
+                if (value.length < length || in.read() != '\r' || in.read() != '\n') {
+                    throw new EOFException("Respuesta incompleta del servidor de caché");
+                }
+                return value;
+            }
+            case '*': {
+                int count = Integer.parseInt(readLine());
+                if (count < 0) {
+                    return null;
+                }
+                List<Object> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add(read());
+                }
+                return values;
+            }
+            case -1:
+                throw new EOFException("El servidor de caché cerró la conexión");
+            default:
+                throw new IOException("Respuesta no válida del servidor de caché: " + (char) type);
+        }
+    }
+
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                throw new EOFException("El servidor de caché cerró la conexión");
+            }
+            line.append((char) b);
+        }
+        if (in.read() != '\n') {
+            throw new IOException("Respuesta no válida del servidor de caché");
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.pokemonapi.cache.shared;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Almacén de la caché compartida entre réplicas (segundo nivel de {@code PokemonStatsCache}).
+ *
+ * Guarda valores opacos (la codificación de {@link CachedLookupCodec}) con un tiempo de vida.
+ * Las implementaciones lanzan una {@link java.io.UncheckedIOException} si el almacén no responde;
+ * la caché local trata el error como un fallo y sigue funcionando sin el segundo nivel.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * Obtiene un valor.
+     *
+     * @param key la clave.
+     * @return el valor, o {@code null} si no existe o expiró.
+     */
+    byte[] get(String key);
+
+    /**
+     * Obtiene varios valores con el menor número de viajes de ida y vuelta posible.
+     *
+     * @param keys las claves.
+     * @return un valor por clave, en el mismo orden, con {@code null} para las que no existen.
+     */
+    List<byte[]> getAll(List<String> keys);
+
+    /**
+     * Almacena un valor.
+     *
+     * @param key la clave.
+     * @param value el valor.
+     * @param ttl el tiempo de vida del valor.
+     */
+    void put(String key, byte[] value, Duration ttl);
+
+    /**
+     * Elimina un valor, si existe.
+     *
+     * @param key la clave.
+     */
+    void delete(String key);
+
+    /**
+     * Indica si el almacén está habilitado. Si no lo está, la caché local no lo consulta.
+     *
+     * @return {@code true} salvo para {@link #disabled()}.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Almacén vacío para cuando la caché compartida está deshabilitada.
+     *
+     * @return un almacén que no guarda nada.
+     */
+    static SharedCacheStore disabled() {
+        return Disabled.INSTANCE;
+    }
+
+    /**
+     * Almacén que no guarda nada.
+     */
+    final class Disabled implements SharedCacheStore {
+        private static final Disabled INSTANCE = new Disabled();
+
+        private Disabled() {
+        }
+
+        @Override
+        public byte[] get(String key) { return null; }
+
+        @Override
+        public List<byte[]> getAll(List<String> keys) { return Arrays.asList(new byte[keys.size()][]); }
+
+        @Override
+        public void put(String key, byte[] value, Duration ttl) { }
+
+        @Override
+        public void delete(String key) { }
+
+        @Override
+        public boolean isEnabled() { return false; }
+    }
+}
@@ -1,25 +1,205 @@
 package com.example.pokemonapi.config;
 
+import com.example.pokemonapi.cache.shared.RedisSharedCacheStore;
+import com.example.pokemonapi.cache.shared.SharedCacheStore;
+import com.example.pokemonapi.metrics.UpstreamTimingHooks;
+import com.example.pokemonapi.resilience.CancellableRequestFactory;
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Clase de configuración de la aplicación que define los beans necesarios para el
  * contenedor de Spring.
  */
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties({CacheProperties.class, PokeApiProperties.class, BatchProperties.class,
+        SnapshotProperties.class, ResilienceProperties.class, HttpCacheProperties.class,
+        RankingProperties.class, NameIndexProperties.class, StartupProperties.class, TimingProperties.class,
+        HotKeyProperties.class, DeadlineProperties.class, EvolutionProperties.class})
 public class AppConfig {
 
+    /**
+     * Crea el pool de conexiones HTTP persistentes (keep-alive) hacia la PokeAPI.
+     * Se expone como bean para poder consultar su ocupación desde el endpoint de administración.
+     *
+     * @param properties la configuración del cliente de la PokeAPI.
+     * @return el administrador de conexiones con los límites y tiempos configurados.
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager pokeApiConnectionManager(PokeApiProperties properties) {
+        PokeApiProperties.Http http = properties.getHttp();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnectionsTotal())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(http.getConnectionTimeToLive()))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Crea el cliente HTTP de Apache sobre el pool de conexiones. Un hilo en segundo plano
+     * cierra las conexiones inactivas y expiradas. Con la compresión habilitada, el cliente
+     * envía {@code Accept-Encoding: gzip} y descomprime el cuerpo a medida que se lee. Un
+     * manejador tras la conexión mide las fases de la solicitud en curso para {@code Server-Timing}.
+     *
+     * @param connectionManager el pool de conexiones.
+     * @param properties la configuración del cliente de la PokeAPI.
+     * @return el cliente HTTP, que Spring cierra al apagar la aplicación.
+     */
+    @Bean
+    public CloseableHttpClient pokeApiHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                 PokeApiProperties properties) {
+        PokeApiProperties.Http http = properties.getHttp();
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(http.getPoolAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(http.getIdleEviction()))
+                .addExecInterceptorAfter(ChainElement.CONNECT.name(), "request-timing", UpstreamTimingHooks.EXEC_HANDLER);
+        if (!http.isCompressionEnabled()) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
     /**
      * Crea y configura un bean de RestTemplate para realizar solicitudes HTTP a APIs externas.
      * Este bean se inyecta en otras partes de la aplicación, como en PokemonService, para
-     * consumir la PokeAPI.
+     * consumir la PokeAPI. Usa el cliente HTTP con pool de conexiones en lugar del
+     * {@code HttpURLConnection} del JDK. La fábrica de solicitudes permite abortar una llamada
+     * en curso (e.g., la perdedora de una solicitud de cobertura).
      *
+     * @param httpClient el cliente HTTP con pool de conexiones.
      * @return una nueva instancia de RestTemplate.
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+        return new RestTemplate(new CancellableRequestFactory(httpClient));
+    }
+
+    /**
+     * Crea el pool de conexiones del cliente no bloqueante hacia la PokeAPI, con los mismos
+     * límites y tiempos que el pool del cliente bloqueante.
+     *
+     * @param properties la configuración del cliente de la PokeAPI.
+     * @return el proveedor de conexiones de Reactor Netty, que Spring libera al apagar la aplicación.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider pokeApiConnectionProvider(PokeApiProperties properties) {
+        PokeApiProperties.Http http = properties.getHttp();
+        return ConnectionProvider.builder("pokeapi")
+                .maxConnections(http.getMaxConnectionsTotal())
+                .pendingAcquireTimeout(http.getPoolAcquireTimeout())
+                .pendingAcquireMaxCount(-1)
+                .maxIdleTime(http.getIdleEviction())
+                .maxLifeTime(http.getConnectionTimeToLive())
+                .evictInBackground(http.getIdleEviction())
+                .build();
+    }
+
+    /**
+     * Crea el WebClient no bloqueante usado cuando {@code pokeapi.client-mode=reactive}.
+     * Aplica los mismos tiempos de conexión y lectura y la misma compresión gzip que el
+     * RestTemplate, y limita el tamaño del cuerpo acumulado en memoria. Los enganches de solicitud
+     * y respuesta miden las fases de la solicitud en curso para {@code Server-Timing}.
+     *
+     * @param builder el builder de WebClient configurado por Spring Boot.
+     * @param connectionProvider el pool de conexiones de Reactor Netty.
+     * @param properties la configuración del cliente de la PokeAPI.
+     * @return el WebClient hacia la PokeAPI.
+     */
+    @Bean
+    public WebClient pokeApiWebClient(WebClient.Builder builder, ConnectionProvider connectionProvider,
+                                      PokeApiProperties properties) {
+        PokeApiProperties.Http http = properties.getHttp();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                .responseTimeout(http.getReadTimeout())
+                .compress(http.isCompressionEnabled())
+                .doOnRequest(UpstreamTimingHooks::onRequest)
+                .doOnResponse(UpstreamTimingHooks::onResponse);
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) http.getMaxResponseSize().toBytes()))
+                .build();
+    }
+
+    /**
+     * Crea el segundo nivel de la caché de resultados, compartido entre réplicas: un servidor
+     * compatible con Redis si {@code pokemon.cache.shared.enabled=true}, o un almacén vacío.
+     *
+     * @param properties la configuración de la caché.
+     * @return el almacén compartido; Spring cierra sus conexiones al apagar la aplicación.
+     */
+    @Bean
+    public SharedCacheStore sharedCacheStore(CacheProperties properties) {
+        CacheProperties.Shared shared = properties.getShared();
+        return shared.isEnabled() ? new RedisSharedCacheStore(shared) : SharedCacheStore.disabled();
+    }
+
+    /**
+     * Crea el pool de hilos acotado con el que se reparten en paralelo las consultas de
+     * varios Pokémon (e.g., consultas por lotes). Su tamaño limita cuántas consultas a la
+     * PokeAPI se originan a la vez desde estas operaciones.
+     *
+     * @param properties la configuración de los lotes.
+     * @return un pool de tamaño fijo, que Spring detiene al apagar la aplicación.
+     */
+    @Bean
+    public ExecutorService pokemonLookupExecutor(BatchProperties properties) {
+        return Executors.newFixedThreadPool(properties.getMaxConcurrency(),
+                new CustomizableThreadFactory("pokemon-lookup-"));
+    }
+
+    /**
+     * Crea el pool de hilos en el que se lanzan los reintentos y las solicitudes de cobertura
+     * hacia la PokeAPI. Un intento ocupa su hilo mientras espera turno en la cola del límite de
+     * tasa y mientras dura la llamada, así que el pool admite tantos hilos como llamadas
+     * simultáneas ({@code max-concurrent-calls}) más plazas en esa cola ({@code max-queue-size}).
+     * Los hilos se crean bajo demanda y los inactivos se liberan. Por encima de ese tamaño el
+     * pool rechaza la tarea y {@code UpstreamRetrier} da el intento por fallido.
+     *
+     * @param properties la configuración de las protecciones de la PokeAPI.
+     * @return un pool de hilos acotado, que Spring detiene al apagar la aplicación.
+     */
+    @Bean
+    public ExecutorService pokeApiCallExecutor(ResilienceProperties properties) {
+        ResilienceProperties.RateLimit rateLimit = properties.getRateLimit();
+        int threads = properties.getLimiter().getMaxConcurrentCalls()
+                + (rateLimit.isEnabled() ? rateLimit.getMaxQueueSize() : 0);
+        return new ThreadPoolExecutor(0, Math.max(1, threads), 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new CustomizableThreadFactory("pokeapi-call-"), new ThreadPoolExecutor.AbortPolicy());
     }
 }
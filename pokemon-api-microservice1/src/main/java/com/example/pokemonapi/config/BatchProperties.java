@@ -0,0 +1,37 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración de las consultas por lotes de Pokémon.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.batch}.
+ */
+@ConfigurationProperties(prefix = "pokemon.batch")
+public class BatchProperties {
+
+    /**
+     * Número máximo de consultas de Pokémon ejecutándose en paralelo (tamaño del pool de hilos).
+     */
+    private int maxConcurrency = 8;
+
+    /**
+     * Plazo total de un lote. Los nombres que no terminen a tiempo se informan como tiempo agotado.
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    /**
+     * Número máximo de nombres aceptados en una sola solicitud.
+     */
+    private int maxNames = 50;
+
+    public int getMaxConcurrency() { return maxConcurrency; }
+    public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+    public int getMaxNames() { return maxNames; }
+    public void setMaxNames(int maxNames) { this.maxNames = maxNames; }
+}
@@ -0,0 +1,159 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración de la caché en memoria de estadísticas de Pokémon.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.cache}.
+ */
+@ConfigurationProperties(prefix = "pokemon.cache")
+public class CacheProperties {
+
+    /**
+     * Habilita o deshabilita la caché. Si está deshabilitada, cada solicitud llega a la PokeAPI.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Tiempo de vida máximo ("hard TTL") de una respuesta exitosa. Pasado este tiempo, la
+     * siguiente solicitud espera a la PokeAPI.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Tiempo tras el que una respuesta exitosa se considera obsoleta ("soft TTL"): se sigue
+     * devolviendo de inmediato mientras se refresca en segundo plano. Si es igual o mayor que
+     * {@link #ttl}, no hay refresco en segundo plano.
+     */
+    private Duration softTtl = Duration.ofMinutes(5);
+
+    /**
+     * Tiempo adicional a {@link #ttl} durante el que se conserva una respuesta para devolverla
+     * si la PokeAPI falla ("stale-if-error").
+     */
+    private Duration staleIfError = Duration.ofHours(1);
+
+    /**
+     * Tiempo de vida de un resultado "no encontrado" (caché negativa). Es más corto que
+     * {@link #ttl} para que un Pokémon recién agregado a la PokeAPI no quede oculto mucho tiempo.
+     */
+    private Duration notFoundTtl = Duration.ofSeconds(30);
+
+    /**
+     * Número máximo de entradas. Al superarlo se desalojan las entradas menos útiles.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Configuración del refresco en segundo plano.
+     */
+    private Refresh refresh = new Refresh();
+
+    /**
+     * Configuración de la caché compartida entre réplicas (segundo nivel).
+     */
+    private Shared shared = new Shared();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+    public Duration getSoftTtl() { return softTtl; }
+    public void setSoftTtl(Duration softTtl) { this.softTtl = softTtl; }
+
+    public Duration getStaleIfError() { return staleIfError; }
+    public void setStaleIfError(Duration staleIfError) { this.staleIfError = staleIfError; }
+
+    public Duration getNotFoundTtl() { return notFoundTtl; }
+    public void setNotFoundTtl(Duration notFoundTtl) { this.notFoundTtl = notFoundTtl; }
+
+    public long getMaximumSize() { return maximumSize; }
+    public void setMaximumSize(long maximumSize) { this.maximumSize = maximumSize; }
+
+    public Refresh getRefresh() { return refresh; }
+    public void setRefresh(Refresh refresh) { this.refresh = refresh; }
+
+    public Shared getShared() { return shared; }
+    public void setShared(Shared shared) { this.shared = shared; }
+
+    /**
+     * Parámetros del refresco en segundo plano de las entradas obsoletas.
+     */
+    public static class Refresh {
+        /** Refrescos simultáneos como máximo. */
+        private int maxConcurrency = 4;
+        /** Refrescos pendientes como máximo; los que no caben se descartan. */
+        private int queueCapacity = 1000;
+
+        public int getMaxConcurrency() { return maxConcurrency; }
+        public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+
+        public int getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+    }
+
+    /**
+     * Parámetros de la caché compartida entre réplicas, accedida con el protocolo de Redis.
+     */
+    public static class Shared {
+        /** Habilita la caché compartida. Si está deshabilitada, cada réplica solo usa su memoria. */
+        private boolean enabled = false;
+        /** Servidor compatible con Redis. */
+        private String host = "localhost";
+        /** Puerto del servidor. */
+        private int port = 6379;
+        /** Contraseña para {@code AUTH}, o vacía si el servidor no la exige. */
+        private String password;
+        /** Base de datos para {@code SELECT}. */
+        private int database = 0;
+        /** Prefijo de las claves, para compartir el servidor con otras aplicaciones. */
+        private String keyPrefix = "pokemon:stats:";
+        /** Tiempo de vida de una respuesta exitosa en la caché compartida. */
+        private Duration ttl = Duration.ofMinutes(70);
+        /** Tiempo de vida de un resultado "no encontrado" en la caché compartida. */
+        private Duration notFoundTtl = Duration.ofSeconds(30);
+        /** Tiempo máximo de conexión y de espera de cada respuesta del servidor. */
+        private Duration timeout = Duration.ofMillis(100);
+        /** Conexiones abiertas como máximo. */
+        private int maxConnections = 8;
+        /** Tras un error, tiempo durante el que la caché compartida se omite sin intentar conectar. */
+        private Duration retryInterval = Duration.ofSeconds(5);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public String getHost() { return host; }
+        public void setHost(String host) { this.host = host; }
+
+        public int getPort() { return port; }
+        public void setPort(int port) { this.port = port; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+
+        public int getDatabase() { return database; }
+        public void setDatabase(int database) { this.database = database; }
+
+        public String getKeyPrefix() { return keyPrefix; }
+        public void setKeyPrefix(String keyPrefix) { this.keyPrefix = keyPrefix; }
+
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+        public Duration getNotFoundTtl() { return notFoundTtl; }
+        public void setNotFoundTtl(Duration notFoundTtl) { this.notFoundTtl = notFoundTtl; }
+
+        public Duration getTimeout() { return timeout; }
+        public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+        public int getMaxConnections() { return maxConnections; }
+        public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
+
+        public Duration getRetryInterval() { return retryInterval; }
+        public void setRetryInterval(Duration retryInterval) { this.retryInterval = retryInterval; }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración del plazo de las solicitudes a {@code /pokemon}, que acota la
+ * espera y las llamadas a la PokeAPI que realizan.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.deadline}.
+ */
+@ConfigurationProperties(prefix = "pokemon.deadline")
+public class DeadlineProperties {
+
+    /**
+     * Habilita el plazo de las solicitudes y la cancelación al desconectarse el cliente.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cabecera con la que el cliente indica su plazo, en milisegundos desde la llegada.
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Plazo de las solicitudes sin la cabecera; cero para no acotarlas.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Plazo máximo que se acepta en la cabecera.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getHeader() { return header; }
+    public void setHeader(String header) { this.header = header; }
+
+    public Duration getDefaultTimeout() { return defaultTimeout; }
+    public void setDefaultTimeout(Duration defaultTimeout) { this.defaultTimeout = defaultTimeout; }
+
+    public Duration getMaxTimeout() { return maxTimeout; }
+    public void setMaxTimeout(Duration maxTimeout) { this.maxTimeout = maxTimeout; }
+}
@@ -0,0 +1,31 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración de la línea evolutiva de {@code GET /pokemon/{name}/evolution}.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.evolution}.
+ */
+@ConfigurationProperties(prefix = "pokemon.evolution")
+public class EvolutionProperties {
+
+    /**
+     * Plazo para obtener las estadísticas de los miembros de la cadena, acotado además por el
+     * plazo de la solicitud. Los que no terminen a tiempo se informan como {@code tiempo_agotado}.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Tiempo durante el que se reutilizan la especie de cada Pokémon y las cadenas evolutivas,
+     * que la PokeAPI no cambia.
+     */
+    private Duration chainTtl = Duration.ofHours(1);
+
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+    public Duration getChainTtl() { return chainTtl; }
+    public void setChainTtl(Duration chainTtl) { this.chainTtl = chainTtl; }
+}
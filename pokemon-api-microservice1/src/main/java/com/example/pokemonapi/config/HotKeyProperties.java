@@ -0,0 +1,57 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración del registro de nombres más consultados.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.hot-keys}.
+ */
+@ConfigurationProperties(prefix = "pokemon.hot-keys")
+public class HotKeyProperties {
+
+    /**
+     * Indica si se cuentan las consultas de {@code GET /pokemon/{name}} por nombre.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Contadores de cada fila del sketch. Con más contadores las estimaciones de los nombres
+     * populares se acercan más al valor real, a costa de memoria: cada franja ocupa
+     * {@code 16 × counters-per-row} bytes.
+     */
+    private int countersPerRow = 2048;
+
+    /**
+     * Franjas del sketch, entre las que se reparten los hilos para no competir por los mismos
+     * contadores. {@code 0} usa tantas como procesadores (hasta 16).
+     */
+    private int stripes = 0;
+
+    /**
+     * Nombres candidatos a los más consultados que se siguen; acota el {@code limit} del endpoint.
+     */
+    private int candidates = 64;
+
+    /**
+     * Intervalo tras el que todos los contadores se dividen entre dos, de modo que las consultas
+     * antiguas pesan cada vez menos.
+     */
+    private Duration decayInterval = Duration.ofMinutes(1);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getCountersPerRow() { return countersPerRow; }
+    public void setCountersPerRow(int countersPerRow) { this.countersPerRow = countersPerRow; }
+
+    public int getStripes() { return stripes; }
+    public void setStripes(int stripes) { this.stripes = stripes; }
+
+    public int getCandidates() { return candidates; }
+    public void setCandidates(int candidates) { this.candidates = candidates; }
+
+    public Duration getDecayInterval() { return decayInterval; }
+    public void setDecayInterval(Duration decayInterval) { this.decayInterval = decayInterval; }
+}
@@ -0,0 +1,66 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la caché HTTP de {@code GET /pokemon/{name}} en clientes y CDN
+ * ({@code ETag} y {@code Cache-Control}).
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.http-cache}.
+ */
+@ConfigurationProperties(prefix = "pokemon.http-cache")
+public class HttpCacheProperties {
+
+    /**
+     * Emite {@code ETag} y {@code Cache-Control}, y responde 304 a {@code If-None-Match}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Tiempo durante el que un cliente o una CDN reutiliza la respuesta sin revalidarla.
+     */
+    private Duration maxAge = Duration.ofMinutes(1);
+
+    /**
+     * Tiempo adicional a {@link #maxAge} durante el que una CDN puede servir la respuesta
+     * mientras la revalida. Cero para omitir la directiva.
+     */
+    private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+
+    /**
+     * Si es {@code true}, cachés compartidas (CDN, proxies) pueden almacenar la respuesta
+     * ({@code public}); si es {@code false}, solo el cliente ({@code private}).
+     */
+    private boolean cachePublic = true;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getMaxAge() { return maxAge; }
+    public void setMaxAge(Duration maxAge) { this.maxAge = maxAge; }
+
+    public Duration getStaleWhileRevalidate() { return staleWhileRevalidate; }
+    public void setStaleWhileRevalidate(Duration staleWhileRevalidate) { this.staleWhileRevalidate = staleWhileRevalidate; }
+
+    public boolean isCachePublic() { return cachePublic; }
+    public void setCachePublic(boolean cachePublic) { this.cachePublic = cachePublic; }
+
+    /**
+     * Construye la cabecera {@code Cache-Control} configurada.
+     *
+     * @return las directivas, o {@link CacheControl#empty()} si la caché HTTP está deshabilitada.
+     */
+    public CacheControl toCacheControl() {
+        if (!enabled) {
+            return CacheControl.empty();
+        }
+        CacheControl cacheControl = CacheControl.maxAge(maxAge);
+        cacheControl = cachePublic ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+        if (!staleWhileRevalidate.isZero()) {
+            cacheControl = cacheControl.staleWhileRevalidate(staleWhileRevalidate);
+        }
+        return cacheControl;
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.pokemonapi.config;
+
+import com.example.pokemonapi.cache.CacheRefresher;
+import com.example.pokemonapi.cache.PokemonStatsCache;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import com.example.pokemonapi.names.PokemonNameIndex;
+import com.example.pokemonapi.resilience.CircuitBreaker;
+import com.example.pokemonapi.resilience.UpstreamGuard;
+import com.example.pokemonapi.resilience.UpstreamRetrier;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica en Micrometer los contadores que ya exponen los endpoints de administración
+ * ({@code /admin/cache} y {@code /admin/http-pool}) y el estado de las protecciones de la
+ * PokeAPI, para que Prometheus los recoja.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Métricas de la caché de resultados: entradas, aciertos, aciertos negativos, fallos y
+     * desalojos, más la cola, los hilos ocupados y los descartes del refresco en segundo plano,
+     * y los aciertos, fallos y errores de la caché compartida entre réplicas.
+     *
+     * @param cache la caché de resultados de la PokeAPI.
+     * @param refresher el refresco en segundo plano de las entradas obsoletas.
+     * @return el registrador de las métricas.
+     */
+    @Bean
+    public MeterBinder pokemonCacheMetrics(PokemonStatsCache cache, CacheRefresher refresher) {
+        return registry -> {
+            Gauge.builder("pokemon.cache.size", cache, c -> c.stats().getEntradas())
+                    .description("Entradas actuales de la caché")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.cache.requests", cache, c -> c.stats().getAciertos())
+                    .description("Consultas a la caché").tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.cache.requests", cache, c -> c.stats().getFallos())
+                    .description("Consultas a la caché").tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.cache.negative.hits", cache, c -> c.stats().getAciertosNegativos())
+                    .description("Aciertos de la caché sobre resultados no encontrados")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.cache.evictions", cache, c -> c.stats().getDesalojos())
+                    .description("Entradas desalojadas por tamaño")
+                    .register(registry);
+            Gauge.builder("pokemon.cache.refresh.queue", refresher, CacheRefresher::getQueueDepth)
+                    .description("Refrescos en segundo plano esperando un hilo libre")
+                    .register(registry);
+            Gauge.builder("pokemon.cache.refresh.active", refresher, CacheRefresher::getActive)
+                    .description("Refrescos en segundo plano en ejecución")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.cache.refresh.dropped", refresher, CacheRefresher::getDropped)
+                    .description("Refrescos descartados por tener la cola llena")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.cache.shared.requests", cache, PokemonStatsCache::getSharedHits)
+                    .description("Consultas a la caché compartida entre réplicas").tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.cache.shared.requests", cache, PokemonStatsCache::getSharedMisses)
+                    .description("Consultas a la caché compartida entre réplicas").tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.cache.shared.requests", cache, PokemonStatsCache::getSharedErrors)
+                    .description("Consultas a la caché compartida entre réplicas").tag("result", "error")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Métricas del índice de nombres válidos: nombres cargados, consultas rechazadas y admitidas,
+     * falsos positivos, y la tasa de falsos positivos observada frente a la esperada.
+     *
+     * @param nameIndex el índice de nombres.
+     * @return el registrador de las métricas.
+     */
+    @Bean
+    public MeterBinder pokemonNameIndexMetrics(PokemonNameIndex nameIndex) {
+        return registry -> {
+            Gauge.builder("pokemon.names.size", nameIndex, PokemonNameIndex::getSize)
+                    .description("Nombres de Pokémon cargados en el filtro de Bloom")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.names.checks", nameIndex, PokemonNameIndex::getRejected)
+                    .description("Nombres consultados en el filtro de Bloom").tag("result", "rejected")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.names.checks", nameIndex, PokemonNameIndex::getAdmitted)
+                    .description("Nombres consultados en el filtro de Bloom").tag("result", "admitted")
+                    .register(registry);
+            FunctionCounter.builder("pokemon.names.false.positives", nameIndex, PokemonNameIndex::getFalsePositives)
+                    .description("Nombres admitidos por el filtro a los que la PokeAPI respondió 404")
+                    .register(registry);
+            Gauge.builder("pokemon.names.false.positive.rate", nameIndex, PokemonNameIndex::getObservedFalsePositiveRate)
+                    .description("Fracción de los nombres inexistentes que el filtro admitió")
+                    .tag("kind", "observed")
+                    .register(registry);
+            Gauge.builder("pokemon.names.false.positive.rate", nameIndex, PokemonNameIndex::getExpectedFalsePositiveRate)
+                    .description("Fracción de los nombres inexistentes que el filtro admitió")
+                    .tag("kind", "expected")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Métricas de las protecciones de la PokeAPI: estado del cortocircuito (una serie por estado,
+     * con valor 1 en el estado actual), límite de concurrencia, llamadas en curso, cola y espera
+     * del límite de tasa y rechazos.
+     *
+     * @param guard las protecciones de las llamadas a la PokeAPI.
+     * @return el registrador de las métricas.
+     */
+    @Bean
+    public MeterBinder pokeApiResilienceMetrics(UpstreamGuard guard) {
+        return registry -> {
+            for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+                Gauge.builder("pokeapi.circuit.state", guard, g -> g.getCircuitState() == state ? 1 : 0)
+                        .description("Estado del cortocircuito de la PokeAPI")
+                        .tag("state", state.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+            Gauge.builder("pokeapi.limiter.limit", guard, UpstreamGuard::getConcurrencyLimit)
+                    .description("Límite actual de llamadas concurrentes a la PokeAPI")
+                    .register(registry);
+            Gauge.builder("pokeapi.limiter.inflight", guard, UpstreamGuard::getInFlight)
+                    .description("Llamadas a la PokeAPI en curso")
+                    .register(registry);
+            FunctionCounter.builder("pokeapi.upstream.rejected", guard, UpstreamGuard::getCircuitOpenRejections)
+                    .description("Llamadas a la PokeAPI rechazadas sin intentarlas")
+                    .tag("reason", PokeApiUnavailableException.CIRCUIT_OPEN)
+                    .register(registry);
+            FunctionCounter.builder("pokeapi.upstream.rejected", guard, UpstreamGuard::getLimitRejections)
+                    .description("Llamadas a la PokeAPI rechazadas sin intentarlas")
+                    .tag("reason", PokeApiUnavailableException.LIMIT_REACHED)
+                    .register(registry);
+            FunctionCounter.builder("pokeapi.upstream.rejected", guard, UpstreamGuard::getRateQueueFullRejections)
+                    .description("Llamadas a la PokeAPI rechazadas sin intentarlas")
+                    .tag("reason", PokeApiUnavailableException.RATE_QUEUE_FULL)
+                    .register(registry);
+            FunctionCounter.builder("pokeapi.upstream.rejected", guard, UpstreamGuard::getRateDeadlineRejections)
+                    .description("Llamadas a la PokeAPI rechazadas sin intentarlas")
+                    .tag("reason", PokeApiUnavailableException.RATE_DEADLINE)
+                    .register(registry);
+            Gauge.builder("pokeapi.ratelimit.queue", guard, UpstreamGuard::getRateQueueSize)
+                    .description("Llamadas a la PokeAPI esperando turno en el límite de tasa")
+                    .register(registry);
+            FunctionTimer.builder("pokeapi.ratelimit.wait", guard, UpstreamGuard::getRateGranted,
+                            UpstreamGuard::getRateWaitNanos, TimeUnit.NANOSECONDS)
+                    .description("Espera de las llamadas a la PokeAPI en el límite de tasa")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Métricas de los reintentos y las solicitudes de cobertura hacia la PokeAPI, y del
+     * presupuesto que los limita.
+     *
+     * @param retrier los reintentos y las solicitudes de cobertura.
+     * @return el registrador de las métricas.
+     */
+    @Bean
+    public MeterBinder pokeApiRetryMetrics(UpstreamRetrier retrier) {
+        return registry -> {
+            FunctionCounter.builder("pokeapi.upstream.extra", retrier, UpstreamRetrier::getRetries)
+                    .description("Llamadas adicionales a la PokeAPI").tag("kind", "retry")
+                    .register(registry);
+            FunctionCounter.builder("pokeapi.upstream.extra", retrier, UpstreamRetrier::getHedges)
+                    .description("Llamadas adicionales a la PokeAPI").tag("kind", "hedge")
+                    .register(registry);
+            FunctionCounter.builder("pokeapi.hedge.wins", retrier, UpstreamRetrier::getHedgeWins)
+                    .description("Solicitudes de cobertura que terminaron antes que la original")
+                    .register(registry);
+            FunctionCounter.builder("pokeapi.retry.budget.exhausted", retrier, UpstreamRetrier::getBudgetExhausted)
+                    .description("Reintentos o coberturas descartados por falta de presupuesto")
+                    .register(registry);
+            Gauge.builder("pokeapi.retry.budget.remaining", retrier, UpstreamRetrier::getBudgetRemaining)
+                    .description("Llamadas adicionales que quedan en el presupuesto")
+                    .register(registry);
+            TimeGauge.builder("pokeapi.hedge.delay", retrier, TimeUnit.NANOSECONDS, r -> r.getHedgeDelay().toNanos())
+                    .description("Espera actual antes de una solicitud de cobertura")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Métricas del pool de conexiones HTTP hacia la PokeAPI.
+     *
+     * @param connectionManager el pool de conexiones del cliente bloqueante.
+     * @return el registrador de las métricas.
+     */
+    @Bean
+    public MeterBinder pokeApiHttpPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return registry -> {
+            Gauge.builder("pokeapi.http.pool.connections", connectionManager, p -> p.getTotalStats().getLeased())
+                    .description("Conexiones del pool").tag("state", "leased")
+                    .register(registry);
+            Gauge.builder("pokeapi.http.pool.connections", connectionManager, p -> p.getTotalStats().getAvailable())
+                    .description("Conexiones del pool").tag("state", "available")
+                    .register(registry);
+            Gauge.builder("pokeapi.http.pool.pending", connectionManager, p -> p.getTotalStats().getPending())
+                    .description("Solicitudes esperando una conexión libre")
+                    .register(registry);
+            Gauge.builder("pokeapi.http.pool.max", connectionManager, p -> p.getTotalStats().getMax())
+                    .description("Conexiones máximas del pool")
+                    .register(registry);
+        };
+    }
+}
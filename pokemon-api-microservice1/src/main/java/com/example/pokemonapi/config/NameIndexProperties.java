@@ -0,0 +1,55 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración del índice de nombres de Pokémon válidos.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.names}.
+ */
+@ConfigurationProperties(prefix = "pokemon.names")
+public class NameIndexProperties {
+
+    /**
+     * Indica si se descarga el listado de nombres y se rechazan los nombres inexistentes sin
+     * consultar la PokeAPI.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Intervalo entre descargas del listado de nombres. La primera se hace al arrancar.
+     */
+    private Duration refreshInterval = Duration.ofHours(6);
+
+    /**
+     * Tasa de falsos positivos con la que se dimensiona el filtro de Bloom: fracción de los
+     * nombres inexistentes que igualmente se consultan a la PokeAPI.
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Valor máximo aceptado para {@code limit} en {@code GET /pokemon/suggest}.
+     */
+    private int maxSuggestions = 20;
+
+    /**
+     * Sugerencias incluidas en la respuesta de un Pokémon no encontrado ({@code 0} para omitirlas).
+     */
+    private int notFoundSuggestions = 3;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getRefreshInterval() { return refreshInterval; }
+    public void setRefreshInterval(Duration refreshInterval) { this.refreshInterval = refreshInterval; }
+
+    public double getFalsePositiveRate() { return falsePositiveRate; }
+    public void setFalsePositiveRate(double falsePositiveRate) { this.falsePositiveRate = falsePositiveRate; }
+
+    public int getMaxSuggestions() { return maxSuggestions; }
+    public void setMaxSuggestions(int maxSuggestions) { this.maxSuggestions = maxSuggestions; }
+
+    public int getNotFoundSuggestions() { return notFoundSuggestions; }
+    public void setNotFoundSuggestions(int notFoundSuggestions) { this.notFoundSuggestions = notFoundSuggestions; }
+}
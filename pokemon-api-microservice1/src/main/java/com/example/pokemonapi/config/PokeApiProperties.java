@@ -0,0 +1,117 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración del cliente de la PokeAPI.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokeapi}.
+ */
+@ConfigurationProperties(prefix = "pokeapi")
+public class PokeApiProperties {
+
+    /**
+     * URL base de la PokeAPI, sin barra final (e.g., {@code https://pokeapi.co/api/v2}).
+     */
+    private String baseUrl = "https://pokeapi.co/api/v2";
+
+    /**
+     * Estrategia para convertir la respuesta de la PokeAPI en {@code PokemonStatsResponse}.
+     */
+    private ResponseParser responseParser = ResponseParser.STREAMING;
+
+    /**
+     * Cliente usado por {@code GET /pokemon/{name}}: bloqueante (RestTemplate) o no bloqueante (WebClient).
+     */
+    private ClientMode clientMode = ClientMode.BLOCKING;
+
+    /**
+     * Configuración del pool de conexiones HTTP.
+     */
+    private Http http = new Http();
+
+    public String getBaseUrl() { return baseUrl; }
+    public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+
+    public ResponseParser getResponseParser() { return responseParser; }
+    public void setResponseParser(ResponseParser responseParser) { this.responseParser = responseParser; }
+
+    public ClientMode getClientMode() { return clientMode; }
+    public void setClientMode(ClientMode clientMode) { this.clientMode = clientMode; }
+
+    public Http getHttp() { return http; }
+    public void setHttp(Http http) { this.http = http; }
+
+    /**
+     * Estrategias de lectura de la respuesta de {@code /pokemon/{name}}.
+     */
+    public enum ResponseParser {
+        /** Lectura token a token que solo recorre los campos necesarios. */
+        STREAMING,
+        /** Mapeo completo al modelo {@code Pokemon} con Jackson (comportamiento original). */
+        BINDING
+    }
+
+    /**
+     * Modos de llamada a la PokeAPI.
+     */
+    public enum ClientMode {
+        /** Un hilo del servidor espera la respuesta completa de la PokeAPI (RestTemplate). */
+        BLOCKING,
+        /** La solicitud se libera mientras se espera a la PokeAPI (WebClient sobre Reactor Netty). */
+        REACTIVE
+    }
+
+    /**
+     * Parámetros del cliente HTTP con pool de conexiones persistentes (keep-alive).
+     */
+    public static class Http {
+        /** Conexiones máximas en el pool para todos los destinos. */
+        private int maxConnectionsTotal = 100;
+        /** Conexiones máximas por destino (host de la PokeAPI). */
+        private int maxConnectionsPerRoute = 50;
+        /** Tiempo máximo para establecer la conexión TCP/TLS. */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        /** Tiempo máximo de inactividad esperando datos de la respuesta. */
+        private Duration readTimeout = Duration.ofSeconds(5);
+        /** Tiempo máximo de espera para obtener una conexión libre del pool. */
+        private Duration poolAcquireTimeout = Duration.ofSeconds(1);
+        /** Las conexiones inactivas por más de este tiempo se cierran en segundo plano. */
+        private Duration idleEviction = Duration.ofSeconds(30);
+        /** Tiempo de vida máximo de una conexión, aunque se siga usando. */
+        private Duration connectionTimeToLive = Duration.ofMinutes(5);
+        /** Solicita respuestas comprimidas ({@code Accept-Encoding: gzip}) y las descomprime al vuelo. */
+        private boolean compressionEnabled = true;
+        /** Tamaño máximo del cuerpo que el cliente no bloqueante acumula en memoria. */
+        private DataSize maxResponseSize = DataSize.ofMegabytes(2);
+
+        public int getMaxConnectionsTotal() { return maxConnectionsTotal; }
+        public void setMaxConnectionsTotal(int maxConnectionsTotal) { this.maxConnectionsTotal = maxConnectionsTotal; }
+
+        public int getMaxConnectionsPerRoute() { return maxConnectionsPerRoute; }
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) { this.maxConnectionsPerRoute = maxConnectionsPerRoute; }
+
+        public Duration getConnectTimeout() { return connectTimeout; }
+        public void setConnectTimeout(Duration connectTimeout) { this.connectTimeout = connectTimeout; }
+
+        public Duration getReadTimeout() { return readTimeout; }
+        public void setReadTimeout(Duration readTimeout) { this.readTimeout = readTimeout; }
+
+        public Duration getPoolAcquireTimeout() { return poolAcquireTimeout; }
+        public void setPoolAcquireTimeout(Duration poolAcquireTimeout) { this.poolAcquireTimeout = poolAcquireTimeout; }
+
+        public Duration getIdleEviction() { return idleEviction; }
+        public void setIdleEviction(Duration idleEviction) { this.idleEviction = idleEviction; }
+
+        public Duration getConnectionTimeToLive() { return connectionTimeToLive; }
+        public void setConnectionTimeToLive(Duration connectionTimeToLive) { this.connectionTimeToLive = connectionTimeToLive; }
+
+        public boolean isCompressionEnabled() { return compressionEnabled; }
+        public void setCompressionEnabled(boolean compressionEnabled) { this.compressionEnabled = compressionEnabled; }
+
+        public DataSize getMaxResponseSize() { return maxResponseSize; }
+        public void setMaxResponseSize(DataSize maxResponseSize) { this.maxResponseSize = maxResponseSize; }
+    }
+}
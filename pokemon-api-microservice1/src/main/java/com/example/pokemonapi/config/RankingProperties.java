@@ -0,0 +1,46 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración del ranking de Pokémon por tipo.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.ranking}.
+ */
+@ConfigurationProperties(prefix = "pokemon.ranking")
+public class RankingProperties {
+
+    /**
+     * Valor máximo aceptado para {@code k}.
+     */
+    private int maxK = 50;
+
+    /**
+     * Consultas de Pokémon en curso como máximo para un mismo ranking. Se ejecutan en el pool
+     * de las consultas por lotes, cuyo tamaño es el límite global.
+     */
+    private int maxConcurrency = 8;
+
+    /**
+     * Plazo total de un ranking. Los Pokémon que no terminen a tiempo se informan como omitidos.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Tiempo durante el que se reutiliza la lista de Pokémon de un tipo.
+     */
+    private Duration typeMembersTtl = Duration.ofHours(1);
+
+    public int getMaxK() { return maxK; }
+    public void setMaxK(int maxK) { this.maxK = maxK; }
+
+    public int getMaxConcurrency() { return maxConcurrency; }
+    public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+    public Duration getTypeMembersTtl() { return typeMembersTtl; }
+    public void setTypeMembersTtl(Duration typeMembersTtl) { this.typeMembersTtl = typeMembersTtl; }
+}
@@ -0,0 +1,256 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración de las protecciones alrededor de las llamadas a la PokeAPI:
+ * cortocircuito, compartimento (máximo de llamadas concurrentes), límite adaptativo, límite de
+ * tasa, reintentos, solicitudes de cobertura ("hedging") y presupuesto de llamadas adicionales.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokeapi.resilience}.
+ */
+@ConfigurationProperties(prefix = "pokeapi.resilience")
+public class ResilienceProperties {
+
+    /**
+     * Configuración del cortocircuito.
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Configuración del compartimento y del límite adaptativo de concurrencia.
+     */
+    private Limiter limiter = new Limiter();
+
+    /**
+     * Configuración del límite de tasa de llamadas salientes.
+     */
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * Configuración de los reintentos ante fallos transitorios.
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * Configuración de las solicitudes de cobertura.
+     */
+    private Hedging hedging = new Hedging();
+
+    /**
+     * Presupuesto compartido por reintentos y solicitudes de cobertura.
+     */
+    private RetryBudget retryBudget = new RetryBudget();
+
+    public CircuitBreaker getCircuitBreaker() { return circuitBreaker; }
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) { this.circuitBreaker = circuitBreaker; }
+
+    public Limiter getLimiter() { return limiter; }
+    public void setLimiter(Limiter limiter) { this.limiter = limiter; }
+
+    public RateLimit getRateLimit() { return rateLimit; }
+    public void setRateLimit(RateLimit rateLimit) { this.rateLimit = rateLimit; }
+
+    public Retry getRetry() { return retry; }
+    public void setRetry(Retry retry) { this.retry = retry; }
+
+    public Hedging getHedging() { return hedging; }
+    public void setHedging(Hedging hedging) { this.hedging = hedging; }
+
+    public RetryBudget getRetryBudget() { return retryBudget; }
+    public void setRetryBudget(RetryBudget retryBudget) { this.retryBudget = retryBudget; }
+
+    /**
+     * Parámetros del cortocircuito.
+     */
+    public static class CircuitBreaker {
+        /** Habilita el cortocircuito. */
+        private boolean enabled = true;
+        /** Número de llamadas recientes consideradas. */
+        private int slidingWindowSize = 50;
+        /** Llamadas registradas necesarias antes de evaluar los umbrales. */
+        private int minimumCalls = 20;
+        /** Porcentaje de fallos que abre el circuito. */
+        private double failureRateThreshold = 50;
+        /** Porcentaje de llamadas lentas que abre el circuito. */
+        private double slowCallRateThreshold = 80;
+        /** Duración a partir de la cual una llamada se considera lenta. */
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+        /** Tiempo que el circuito permanece abierto antes de las llamadas de prueba. */
+        private Duration openDuration = Duration.ofSeconds(10);
+        /** Número de llamadas de prueba en estado semiabierto. */
+        private int halfOpenCalls = 5;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public int getSlidingWindowSize() { return slidingWindowSize; }
+        public void setSlidingWindowSize(int slidingWindowSize) { this.slidingWindowSize = slidingWindowSize; }
+
+        public int getMinimumCalls() { return minimumCalls; }
+        public void setMinimumCalls(int minimumCalls) { this.minimumCalls = minimumCalls; }
+
+        public double getFailureRateThreshold() { return failureRateThreshold; }
+        public void setFailureRateThreshold(double failureRateThreshold) { this.failureRateThreshold = failureRateThreshold; }
+
+        public double getSlowCallRateThreshold() { return slowCallRateThreshold; }
+        public void setSlowCallRateThreshold(double slowCallRateThreshold) { this.slowCallRateThreshold = slowCallRateThreshold; }
+
+        public Duration getSlowCallDuration() { return slowCallDuration; }
+        public void setSlowCallDuration(Duration slowCallDuration) { this.slowCallDuration = slowCallDuration; }
+
+        public Duration getOpenDuration() { return openDuration; }
+        public void setOpenDuration(Duration openDuration) { this.openDuration = openDuration; }
+
+        public int getHalfOpenCalls() { return halfOpenCalls; }
+        public void setHalfOpenCalls(int halfOpenCalls) { this.halfOpenCalls = halfOpenCalls; }
+    }
+
+    /**
+     * Parámetros del compartimento y del límite adaptativo.
+     */
+    public static class Limiter {
+        /** Máximo fijo de llamadas concurrentes a la PokeAPI (compartimento). */
+        private int maxConcurrentCalls = 50;
+        /** Ajusta el límite con la latencia observada; si no, el límite es siempre el máximo. */
+        private boolean adaptive = true;
+        /** Límite inicial del modo adaptativo. */
+        private int initialLimit = 20;
+        /** Límite mínimo del modo adaptativo. */
+        private int minLimit = 2;
+        /** Latencia a partir de la cual se reduce el límite. */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+        /** Factor aplicado al límite tras una llamada lenta. */
+        private double backoffRatio = 0.9;
+
+        public int getMaxConcurrentCalls() { return maxConcurrentCalls; }
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) { this.maxConcurrentCalls = maxConcurrentCalls; }
+
+        public boolean isAdaptive() { return adaptive; }
+        public void setAdaptive(boolean adaptive) { this.adaptive = adaptive; }
+
+        public int getInitialLimit() { return initialLimit; }
+        public void setInitialLimit(int initialLimit) { this.initialLimit = initialLimit; }
+
+        public int getMinLimit() { return minLimit; }
+        public void setMinLimit(int minLimit) { this.minLimit = minLimit; }
+
+        public Duration getLatencyThreshold() { return latencyThreshold; }
+        public void setLatencyThreshold(Duration latencyThreshold) { this.latencyThreshold = latencyThreshold; }
+
+        public double getBackoffRatio() { return backoffRatio; }
+        public void setBackoffRatio(double backoffRatio) { this.backoffRatio = backoffRatio; }
+    }
+
+    /**
+     * Parámetros del límite de tasa ("token bucket") compartido por todas las llamadas a la
+     * PokeAPI, para respetar su política de uso justo ante picos de tráfico.
+     */
+    public static class RateLimit {
+        /** Habilita el límite de tasa. */
+        private boolean enabled = true;
+        /** Llamadas por segundo permitidas de media. */
+        private double permitsPerSecond = 50;
+        /** Llamadas que se pueden acumular y realizar de golpe. */
+        private int burst = 50;
+        /** Llamadas que pueden esperar su turno a la vez; el resto se rechaza. */
+        private int maxQueueSize = 100;
+        /** Espera máxima en la cola; una llamada que no obtendría su turno antes se rechaza de inmediato. */
+        private Duration maxWait = Duration.ofSeconds(1);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public double getPermitsPerSecond() { return permitsPerSecond; }
+        public void setPermitsPerSecond(double permitsPerSecond) { this.permitsPerSecond = permitsPerSecond; }
+
+        public int getBurst() { return burst; }
+        public void setBurst(int burst) { this.burst = burst; }
+
+        public int getMaxQueueSize() { return maxQueueSize; }
+        public void setMaxQueueSize(int maxQueueSize) { this.maxQueueSize = maxQueueSize; }
+
+        public Duration getMaxWait() { return maxWait; }
+        public void setMaxWait(Duration maxWait) { this.maxWait = maxWait; }
+    }
+
+    /**
+     * Parámetros de los reintentos (errores 5xx y de conexión o lectura).
+     */
+    public static class Retry {
+        /** Reintentos máximos por solicitud; 0 los deshabilita. */
+        private int maxRetries = 2;
+        /** Espera base antes del primer reintento; se duplica en cada uno. */
+        private Duration initialBackoff = Duration.ofMillis(50);
+        /** Espera máxima entre reintentos. La espera real es aleatoria entre cero y este valor acotado. */
+        private Duration maxBackoff = Duration.ofMillis(500);
+
+        public int getMaxRetries() { return maxRetries; }
+        public void setMaxRetries(int maxRetries) { this.maxRetries = maxRetries; }
+
+        public Duration getInitialBackoff() { return initialBackoff; }
+        public void setInitialBackoff(Duration initialBackoff) { this.initialBackoff = initialBackoff; }
+
+        public Duration getMaxBackoff() { return maxBackoff; }
+        public void setMaxBackoff(Duration maxBackoff) { this.maxBackoff = maxBackoff; }
+    }
+
+    /**
+     * Parámetros de las solicitudes de cobertura: si la llamada no responde en el percentil
+     * configurado de la latencia reciente, se envía una segunda y se usa la primera que termine.
+     */
+    public static class Hedging {
+        /** Habilita las solicitudes de cobertura. */
+        private boolean enabled = false;
+        /** Percentil de la latencia reciente tras el que se envía la solicitud de cobertura. */
+        private double percentile = 95;
+        /** Espera mínima antes de la solicitud de cobertura. */
+        private Duration minDelay = Duration.ofMillis(20);
+        /** Espera máxima, usada también mientras no hay muestras suficientes. */
+        private Duration maxDelay = Duration.ofSeconds(1);
+        /** Latencias recientes consideradas para el percentil. */
+        private int sampleSize = 1000;
+        /** Muestras necesarias antes de usar el percentil. */
+        private int minSamples = 50;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public double getPercentile() { return percentile; }
+        public void setPercentile(double percentile) { this.percentile = percentile; }
+
+        public Duration getMinDelay() { return minDelay; }
+        public void setMinDelay(Duration minDelay) { this.minDelay = minDelay; }
+
+        public Duration getMaxDelay() { return maxDelay; }
+        public void setMaxDelay(Duration maxDelay) { this.maxDelay = maxDelay; }
+
+        public int getSampleSize() { return sampleSize; }
+        public void setSampleSize(int sampleSize) { this.sampleSize = sampleSize; }
+
+        public int getMinSamples() { return minSamples; }
+        public void setMinSamples(int minSamples) { this.minSamples = minSamples; }
+    }
+
+    /**
+     * Parámetros del presupuesto de llamadas adicionales.
+     */
+    public static class RetryBudget {
+        /** Porcentaje de llamadas adicionales sobre las solicitudes de la ventana. */
+        private double percent = 10;
+        /** Llamadas adicionales permitidas por segundo aunque haya poco tráfico. */
+        private int minPerSecond = 3;
+        /** Ventana sobre la que se cuentan solicitudes y llamadas adicionales. */
+        private Duration window = Duration.ofSeconds(10);
+
+        public double getPercent() { return percent; }
+        public void setPercent(double percent) { this.percent = percent; }
+
+        public int getMinPerSecond() { return minPerSecond; }
+        public void setMinPerSecond(int minPerSecond) { this.minPerSecond = minPerSecond; }
+
+        public Duration getWindow() { return window; }
+        public void setWindow(Duration window) { this.window = window; }
+    }
+}
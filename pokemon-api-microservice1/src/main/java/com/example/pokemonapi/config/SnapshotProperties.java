@@ -0,0 +1,30 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración de la instantánea binaria de estadísticas de Pokémon.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.snapshot}.
+ */
+@ConfigurationProperties(prefix = "pokemon.snapshot")
+public class SnapshotProperties {
+
+    /**
+     * Ruta del archivo de instantánea. Si está vacía, no se usa instantánea y todas las
+     * consultas van a la caché o a la PokeAPI.
+     */
+    private String path = "";
+
+    /**
+     * Cada cuánto se comprueba si el archivo cambió en disco para recargarlo sin reiniciar.
+     */
+    private Duration checkInterval = Duration.ofSeconds(30);
+
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+
+    public Duration getCheckInterval() { return checkInterval; }
+    public void setCheckInterval(Duration checkInterval) { this.checkInterval = checkInterval; }
+}
@@ -0,0 +1,29 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración del arranque de la aplicación.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.startup}.
+ */
+@ConfigurationProperties(prefix = "pokemon.startup")
+public class StartupProperties {
+
+    /**
+     * Indica si al arrancar se crean los controladores (y con ellos los servicios que usan) y se
+     * ejecuta el camino de lectura y serialización de respuestas, para que la primera solicitud
+     * no pague la carga de clases ni la creación de beans diferidos.
+     */
+    private boolean warmUp = true;
+
+    /**
+     * Repeticiones del camino de lectura y serialización durante el calentamiento.
+     */
+    private int warmUpIterations = 200;
+
+    public boolean isWarmUp() { return warmUp; }
+    public void setWarmUp(boolean warmUp) { this.warmUp = warmUp; }
+
+    public int getWarmUpIterations() { return warmUpIterations; }
+    public void setWarmUpIterations(int warmUpIterations) { this.warmUpIterations = warmUpIterations; }
+}
@@ -0,0 +1,104 @@
+package com.example.pokemonapi.config;
+
+import com.example.pokemonapi.model.BatchItemResponse;
+import com.example.pokemonapi.model.Pokemon;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.serialization.StatsField;
+import com.example.pokemonapi.serialization.StatsFormat;
+import com.example.pokemonapi.service.PokemonStatsExtractor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Calentamiento del camino de {@code GET /pokemon/{name}} durante el arranque.
+ *
+ * Con {@code spring.main.lazy-initialization=true} (perfil {@code fast-startup}) los beans se
+ * crean en la primera solicitud que los usa, lo que la haría lenta. Este componente no es
+ * diferido: al terminar de crear los beans no diferidos instancia los controladores REST y el
+ * manejador global de excepciones, y con ellos los servicios, la caché, el índice de nombres y
+ * los clientes HTTP, y recorre varias veces la lectura de un documento de la PokeAPI y la
+ * serialización de la respuesta en todos los formatos. Todo ello ocurre dentro de la inicialización del contexto, por lo que las clases
+ * cargadas también quedan en el archivo AppCDS que se entrena con el perfil {@code cds}.
+ *
+ * No hace ninguna llamada a la PokeAPI.
+ */
+@Component
+@Lazy(false)
+public class StartupWarmup implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    // Documento con la forma de /pokemon/{name} de la PokeAPI, reducido a los campos que se leen
+    private static final byte[] SAMPLE = ("{\"abilities\":[{\"ability\":{\"name\":\"static\",\"url\":\"\"},\"is_hidden\":false,\"slot\":1}],"
+            + "\"id\":25,\"name\":\"pikachu\",\"stats\":["
+            + "{\"base_stat\":35,\"effort\":0,\"stat\":{\"name\":\"hp\",\"url\":\"\"}},"
+            + "{\"base_stat\":55,\"effort\":0,\"stat\":{\"name\":\"attack\",\"url\":\"\"}},"
+            + "{\"base_stat\":40,\"effort\":0,\"stat\":{\"name\":\"defense\",\"url\":\"\"}},"
+            + "{\"base_stat\":90,\"effort\":2,\"stat\":{\"name\":\"speed\",\"url\":\"\"}}],"
+            + "\"types\":[{\"slot\":1,\"type\":{\"name\":\"electric\",\"url\":\"\"}}]}").getBytes(StandardCharsets.UTF_8);
+
+    private final ApplicationContext context;
+    private final ObjectMapper objectMapper;
+    private final StartupProperties properties;
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param context el contexto del que se obtienen los controladores.
+     * @param objectMapper el {@link ObjectMapper} de la aplicación, el mismo que usan los convertidores HTTP.
+     * @param properties la configuración del arranque.
+     */
+    @Autowired
+    public StartupWarmup(ApplicationContext context, ObjectMapper objectMapper, StartupProperties properties) {
+        this.context = context;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isWarmUp()) {
+            return;
+        }
+        long start = System.nanoTime();
+        int controllers = context.getBeansWithAnnotation(RestController.class).size();
+        context.getBeansWithAnnotation(ControllerAdvice.class);
+        try {
+            run(properties.getWarmUpIterations());
+        } catch (IOException | RuntimeException ex) {
+            // El calentamiento nunca debe impedir el arranque
+            log.warn("No se pudo completar el calentamiento: {}", ex.getMessage());
+            return;
+        }
+        log.info("Calentamiento completado en {} ms ({} controladores, {} iteraciones)",
+                (System.nanoTime() - start) / 1_000_000, controllers, properties.getWarmUpIterations());
+    }
+
+    private void run(int iterations) throws IOException {
+        PokemonStatsExtractor extractor = new PokemonStatsExtractor(objectMapper.getFactory());
+        ObjectMapper binding = objectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        for (int i = 0; i < iterations; i++) {
+            PokemonStatsResponse response = extractor.extract(new ByteArrayInputStream(SAMPLE));
+            binding.readValue(SAMPLE, Pokemon.class);
+            for (StatsFormat format : StatsFormat.values()) {
+                format.getWriter().write(response, StatsField.ALL);
+            }
+            objectMapper.writeValueAsBytes(List.of(BatchItemResponse.ok(response.getNombre(), response)));
+            response.etag();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración del desglose por fases de {@code GET /pokemon/{name}}.
+ * Se enlazan desde {@code application.properties} con el prefijo {@code pokemon.timing}.
+ */
+@ConfigurationProperties(prefix = "pokemon.timing")
+public class TimingProperties {
+
+    /**
+     * Indica si las respuestas llevan el desglose en la cabecera {@code Server-Timing}. Expone
+     * tiempos internos a los clientes, por lo que está deshabilitado por defecto.
+     */
+    private boolean serverTimingHeader = false;
+
+    /**
+     * Indica si se registra en el log el desglose de las solicitudes que superan
+     * {@link #slowRequestThreshold}.
+     */
+    private boolean slowRequestLog = false;
+
+    /**
+     * Tiempo total a partir del cual una solicitud se considera lenta.
+     */
+    private Duration slowRequestThreshold = Duration.ofSeconds(1);
+
+    /**
+     * Indica si hay que medir las fases de cada solicitud: lo necesita la cabecera o el log.
+     */
+    public boolean isEnabled() {
+        return serverTimingHeader || slowRequestLog;
+    }
+
+    public boolean isServerTimingHeader() { return serverTimingHeader; }
+    public void setServerTimingHeader(boolean serverTimingHeader) { this.serverTimingHeader = serverTimingHeader; }
+
+    public boolean isSlowRequestLog() { return slowRequestLog; }
+    public void setSlowRequestLog(boolean slowRequestLog) { this.slowRequestLog = slowRequestLog; }
+
+    public Duration getSlowRequestThreshold() { return slowRequestThreshold; }
+    public void setSlowRequestThreshold(Duration slowRequestThreshold) { this.slowRequestThreshold = slowRequestThreshold; }
+}
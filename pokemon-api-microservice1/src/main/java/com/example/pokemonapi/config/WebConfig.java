@@ -0,0 +1,51 @@
+package com.example.pokemonapi.config;
+
+import com.example.pokemonapi.metrics.RequestTimingInterceptor;
+import com.example.pokemonapi.resilience.RequestDeadlineInterceptor;
+import com.example.pokemonapi.serialization.PokemonStatsMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configuración de Spring MVC: registra el convertidor de las respuestas de estadísticas
+ * (JSON, CBOR y Smile) delante de los convertidores de Jackson y, si están habilitados, el
+ * desglose por fases de {@code GET /pokemon/{name}} y el plazo de las solicitudes a {@code /pokemon}.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final TimingProperties timingProperties;
+    private final DeadlineProperties deadlineProperties;
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param timingProperties la configuración del desglose por fases.
+     * @param deadlineProperties la configuración del plazo de las solicitudes.
+     */
+    @Autowired
+    public WebConfig(TimingProperties timingProperties, DeadlineProperties deadlineProperties) {
+        this.timingProperties = timingProperties;
+        this.deadlineProperties = deadlineProperties;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new PokemonStatsMessageConverter(timingProperties.isServerTimingHeader()));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (timingProperties.isEnabled()) {
+            registry.addInterceptor(new RequestTimingInterceptor(timingProperties)).addPathPatterns("/pokemon/*");
+        }
+        if (deadlineProperties.isEnabled()) {
+            registry.addInterceptor(new RequestDeadlineInterceptor(deadlineProperties)).addPathPatterns("/pokemon/**");
+        }
+    }
+}
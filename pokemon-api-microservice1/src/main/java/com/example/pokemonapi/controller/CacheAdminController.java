@@ -0,0 +1,69 @@
+package com.example.pokemonapi.controller;
+
+import com.example.pokemonapi.cache.PokemonStatsCache;
+import com.example.pokemonapi.model.CacheStatsResponse;
+import com.example.pokemonapi.service.PokemonService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST de administración de la caché de Pokémon.
+ * Permite consultar los contadores de aciertos y fallos e invalidar entradas.
+ */
+@RestController
+@RequestMapping("/admin/cache")
+public class CacheAdminController {
+
+    private final PokemonStatsCache cache;
+
+    /**
+     * Constructor que inyecta la caché de Pokémon.
+     *
+     * @param cache la caché en memoria administrada por este controlador.
+     */
+    @Autowired
+    public CacheAdminController(PokemonStatsCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Endpoint para consultar las estadísticas de la caché.
+     * Responde a las solicitudes GET en /admin/cache.
+     *
+     * @return un {@link CacheStatsResponse} con entradas, aciertos, fallos y desalojos.
+     */
+    @GetMapping
+    public CacheStatsResponse getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Endpoint para invalidar la entrada de un Pokémon.
+     * Responde a las solicitudes DELETE en /admin/cache/{name}.
+     *
+     * @param name el nombre del Pokémon cuya entrada se elimina.
+     * @return una respuesta vacía con estado HTTP 204 (No Content).
+     */
+    @DeleteMapping("/{name}")
+    public ResponseEntity<Void> invalidate(@PathVariable String name) {
+        cache.invalidate(PokemonService.normalizeName(name));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Endpoint para vaciar por completo la caché.
+     * Responde a las solicitudes DELETE en /admin/cache.
+     *
+     * @return una respuesta vacía con estado HTTP 204 (No Content).
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> invalidateAll() {
+        cache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.pokemonapi.controller;
+
+import com.example.pokemonapi.metrics.HotKeyTracker;
+import com.example.pokemonapi.model.HotKeyResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador REST de administración con los nombres de Pokémon más consultados, para
+ * dimensionar la caché y planificar capacidad.
+ */
+@RestController
+@RequestMapping("/admin/hot-keys")
+public class HotKeyAdminController {
+
+    private final HotKeyTracker hotKeys;
+
+    /**
+     * Constructor que inyecta el registro de nombres más consultados.
+     *
+     * @param hotKeys el registro que se consulta.
+     */
+    @Autowired
+    public HotKeyAdminController(HotKeyTracker hotKeys) {
+        this.hotKeys = hotKeys;
+    }
+
+    /**
+     * Endpoint para consultar los nombres más consultados y su tasa reciente.
+     * Responde a las solicitudes GET en /admin/hot-keys?limit=10.
+     *
+     * @param limit el número de nombres a devolver.
+     * @return los nombres, de más a menos consultado, con sus solicitudes estimadas y por segundo.
+     */
+    @GetMapping
+    public List<HotKeyResponse> getTop(@RequestParam(defaultValue = "10") int limit) {
+        return hotKeys.top(limit);
+    }
+}
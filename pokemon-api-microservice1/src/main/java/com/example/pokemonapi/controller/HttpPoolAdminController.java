@@ -0,0 +1,41 @@
+package com.example.pokemonapi.controller;
+
+import com.example.pokemonapi.model.HttpPoolStatsResponse;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST de administración del pool de conexiones HTTP hacia la PokeAPI.
+ */
+@RestController
+@RequestMapping("/admin/http-pool")
+public class HttpPoolAdminController {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    /**
+     * Constructor que inyecta el pool de conexiones.
+     *
+     * @param connectionManager el pool de conexiones del cliente de la PokeAPI.
+     */
+    @Autowired
+    public HttpPoolAdminController(PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * Endpoint para consultar la ocupación del pool.
+     * Responde a las solicitudes GET en /admin/http-pool.
+     *
+     * @return un {@link HttpPoolStatsResponse} con conexiones en uso, disponibles y solicitudes en espera.
+     */
+    @GetMapping
+    public HttpPoolStatsResponse getStats() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new HttpPoolStatsResponse(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+}
@@ -4,9 +4,35 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import com.example.pokemonapi.config.HttpCacheProperties;
+import com.example.pokemonapi.metrics.HotKeyTracker;
+import com.example.pokemonapi.metrics.PokemonMetrics;
+import com.example.pokemonapi.names.PokemonNameIndex;
+import com.example.pokemonapi.service.PokemonBatchService;
+import com.example.pokemonapi.service.PokemonEvolutionService;
+import com.example.pokemonapi.service.PokemonRankingService;
 import com.example.pokemonapi.service.PokemonService;
+import com.example.pokemonapi.model.BatchItemResponse;
+import com.example.pokemonapi.model.EvolutionResponse;
 import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.model.RankingResponse;
+import com.example.pokemonapi.model.SuggestionResponse;
+import com.example.pokemonapi.serialization.StatsField;
+import com.example.pokemonapi.serialization.StatsFormat;
+import com.example.pokemonapi.serialization.StatsProjection;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Controlador REST que expone el endpoint para obtener información de los Pokémon.
@@ -17,27 +43,176 @@ import com.example.pokemonapi.model.PokemonStatsResponse;
 public class PokemonController {
 
     private final PokemonService pokemonService;
+    private final PokemonBatchService pokemonBatchService;
+    private final PokemonRankingService pokemonRankingService;
+    private final PokemonEvolutionService pokemonEvolutionService;
+    private final PokemonNameIndex nameIndex;
+    private final PokemonMetrics metrics;
+    private final HotKeyTracker hotKeys;
+    private final boolean httpCacheEnabled;
+    private final CacheControl cacheControl;
 
     /**
-     * Constructor que inyecta la dependencia de PokemonService.
+     * Constructor que inyecta las dependencias de PokemonService y PokemonBatchService.
      *
      * @param pokemonService el servicio que contiene la lógica de negocio para los Pokémon.
+     * @param pokemonBatchService el servicio que resuelve consultas de varios Pokémon en paralelo.
+     * @param pokemonRankingService el servicio que calcula el ranking de un tipo.
+     * @param pokemonEvolutionService el servicio que obtiene la línea evolutiva de un Pokémon.
+     * @param nameIndex el índice de nombres con el que se sugieren nombres.
+     * @param metrics las métricas del endpoint individual.
+     * @param hotKeys el registro de los nombres más consultados en el endpoint individual.
+     * @param httpCacheProperties la configuración de {@code ETag} y {@code Cache-Control} del endpoint individual.
      */
     @Autowired
-    public PokemonController(PokemonService pokemonService) {
+    public PokemonController(PokemonService pokemonService, PokemonBatchService pokemonBatchService,
+                             PokemonRankingService pokemonRankingService,
+                             PokemonEvolutionService pokemonEvolutionService, PokemonNameIndex nameIndex,
+                             PokemonMetrics metrics, HotKeyTracker hotKeys, HttpCacheProperties httpCacheProperties) {
         this.pokemonService = pokemonService;
+        this.pokemonBatchService = pokemonBatchService;
+        this.pokemonRankingService = pokemonRankingService;
+        this.pokemonEvolutionService = pokemonEvolutionService;
+        this.nameIndex = nameIndex;
+        this.metrics = metrics;
+        this.hotKeys = hotKeys;
+        this.httpCacheEnabled = httpCacheProperties.isEnabled();
+        this.cacheControl = httpCacheProperties.toCacheControl();
     }
 
     /**
      * Endpoint para obtener las estadísticas simplificadas de un Pokémon por su nombre.
      * Responde a las solicitudes GET en /pokemon/{name}.
      *
+     * Si la consulta sigue pendiente (con {@code pokeapi.client-mode=reactive}), la respuesta se
+     * devuelve como un futuro: el hilo del servidor se libera mientras se espera a la PokeAPI y la
+     * respuesta se escribe al completarse. Si ya está resuelta (modo bloqueante, caché o
+     * instantánea) se devuelve directamente, sin el despacho asíncrono que costaría el futuro.
+     *
+     * Según la cabecera {@code Accept}, la respuesta se serializa en JSON, CBOR
+     * ({@code application/cbor}) o Smile ({@code application/x-jackson-smile}), y con
+     * {@code fields=nombre,hp} solo incluye las propiedades indicadas.
+     *
+     * La respuesta lleva un {@code ETag} calculado a partir de su contenido (distinto por formato
+     * y proyección) y el {@code Cache-Control} configurado en {@code pokemon.http-cache}. Si la
+     * solicitud trae un {@code If-None-Match} que coincide, Spring responde 304 sin cuerpo y sin
+     * serializar la respuesta.
+     *
      * @param name el nombre del Pokémon a buscar (pasado como parte de la URL).
-     * @return un objeto {@link PokemonStatsResponse} con las estadísticas del Pokémon,
-     *         que se serializa automáticamente a JSON.
+     * @param fields las propiedades a incluir, separadas por comas; todas si se omite.
+     * @param accept la cabecera {@code Accept}, con la que se distingue el {@code ETag} de cada formato.
+     * @return el {@link ResponseEntity} con el objeto {@link PokemonStatsResponse} con las
+     *         estadísticas del Pokémon (o su {@link StatsProjection} si se indicó {@code fields}), o
+     *         un futuro con él si la consulta sigue pendiente.
      */
     @GetMapping("/{name}")
-    public PokemonStatsResponse getPokemonStats(@PathVariable String name) {
-        return pokemonService.getPokemonStats(name);
+    public Object getPokemonStats(
+            @PathVariable String name,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        hotKeys.record(name);
+        int mask = StatsField.parse(fields);
+        StatsFormat format = StatsFormat.negotiate(accept);
+        Timer.Sample sample = metrics.start();
+        CompletableFuture<ResponseEntity<Object>> response = pokemonService.getPokemonStatsAsync(name)
+                .whenComplete((stats, ex) -> metrics.recordRequest(sample, ex))
+                .thenApply(stats -> withValidators(stats, mask, format));
+        if (!response.isDone()) {
+            return response;
+        }
+        try {
+            return response.join();
+        } catch (CompletionException ex) {
+            // Se relanza la excepción original para que la atienda su manejador
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    private ResponseEntity<Object> withValidators(PokemonStatsResponse response, int fields, StatsFormat format) {
+        Object body = fields == StatsField.ALL ? response : new StatsProjection(response, fields);
+        if (!httpCacheEnabled) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok().eTag(etag(response, fields, format)).cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT).body(body);
+    }
+
+    /**
+     * {@code ETag} de una representación: el de la respuesta para el JSON completo y, para otro
+     * formato o una proyección, el mismo con el formato y la máscara de campos como sufijo.
+     */
+    private static String etag(PokemonStatsResponse response, int fields, StatsFormat format) {
+        String etag = response.etag();
+        if (format == StatsFormat.JSON && fields == StatsField.ALL) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + format.getId() + "-" + Integer.toHexString(fields) + "\"";
+    }
+
+    /**
+     * Endpoint para obtener el ranking de los Pokémon de un tipo según una estadística.
+     * Responde a las solicitudes GET en /pokemon/ranking?type=fire&amp;by=velocidad&amp;k=10.
+     *
+     * @param type el tipo de Pokémon (e.g., {@code fire}).
+     * @param by el criterio: {@code hp}, {@code ataque}, {@code defensa}, {@code velocidad} o {@code suma}.
+     * @param k el número de posiciones del ranking.
+     * @return las {@code k} primeras posiciones, de mayor a menor valor.
+     */
+    @GetMapping("/ranking")
+    public RankingResponse getRanking(@RequestParam String type,
+                                      @RequestParam(defaultValue = "suma") String by,
+                                      @RequestParam(defaultValue = "10") int k) {
+        return pokemonRankingService.rank(type, by, k);
+    }
+
+    /**
+     * Endpoint para obtener la línea evolutiva de un Pokémon con las estadísticas de cada miembro.
+     * Responde a las solicitudes GET en /pokemon/{name}/evolution.
+     *
+     * @param name el nombre del Pokémon (pasado como parte de la URL).
+     * @return el árbol de la cadena evolutiva desde su primera especie, con el resultado de cada
+     *         miembro y su propio estado.
+     */
+    @GetMapping("/{name}/evolution")
+    public EvolutionResponse getEvolution(@PathVariable String name) {
+        return pokemonEvolutionService.getEvolution(name);
+    }
+
+    /**
+     * Endpoint de autocompletado para el buscador: sugiere nombres de Pokémon sin llamar a la
+     * PokeAPI. Responde a las solicitudes GET en /pokemon/suggest?q=pika&amp;limit=10.
+     *
+     * @param q el texto escrito hasta el momento.
+     * @param limit el número máximo de sugerencias.
+     * @return los nombres que empiezan por {@code q} o, si no hay ninguno, los más parecidos.
+     */
+    @GetMapping("/suggest")
+    public SuggestionResponse suggest(@RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        return nameIndex.suggest(q, limit);
+    }
+
+    /**
+     * Endpoint para obtener las estadísticas de varios Pokémon en una sola solicitud.
+     * Responde a las solicitudes GET en /pokemon?names=a,b,c.
+     *
+     * @param names los nombres de los Pokémon, separados por comas.
+     * @return un resultado por nombre, en el orden solicitado, con su propio estado.
+     */
+    @GetMapping(params = "names")
+    public List<BatchItemResponse> getPokemonStatsBatch(@RequestParam List<String> names) {
+        return pokemonBatchService.getPokemonStatsBatch(names);
+    }
+
+    /**
+     * Variante del endpoint por lotes que recibe los nombres en el cuerpo de la solicitud,
+     * útil cuando la lista no cabe cómodamente en la URL.
+     * Responde a las solicitudes POST en /pokemon con un arreglo JSON de nombres.
+     *
+     * @param names los nombres de los Pokémon.
+     * @return un resultado por nombre, en el orden solicitado, con su propio estado.
+     */
+    @PostMapping
+    public List<BatchItemResponse> postPokemonStatsBatch(@RequestBody List<String> names) {
+        return pokemonBatchService.getPokemonStatsBatch(names);
     }
 }
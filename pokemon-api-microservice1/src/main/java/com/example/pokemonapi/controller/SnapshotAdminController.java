@@ -0,0 +1,54 @@
+package com.example.pokemonapi.controller;
+
+import com.example.pokemonapi.model.SnapshotStatusResponse;
+import com.example.pokemonapi.snapshot.PokemonSnapshotStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Controlador REST de administración de la instantánea binaria de Pokémon.
+ */
+@RestController
+@RequestMapping("/admin/snapshot")
+public class SnapshotAdminController {
+
+    private final PokemonSnapshotStore snapshotStore;
+
+    /**
+     * Constructor que inyecta el almacén de la instantánea.
+     *
+     * @param snapshotStore el almacén que mantiene la instantánea activa.
+     */
+    @Autowired
+    public SnapshotAdminController(PokemonSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    /**
+     * Endpoint para consultar la instantánea activa.
+     * Responde a las solicitudes GET en /admin/snapshot.
+     *
+     * @return el estado de la instantánea (ruta, registros y fecha de carga).
+     */
+    @GetMapping
+    public SnapshotStatusResponse getStatus() {
+        return snapshotStore.status();
+    }
+
+    /**
+     * Endpoint para forzar la recarga en caliente de la instantánea desde disco.
+     * Responde a las solicitudes POST en /admin/snapshot/reload.
+     *
+     * @return el estado de la instantánea recién cargada.
+     * @throws IOException si el archivo no se puede abrir; la instantánea anterior sigue activa.
+     */
+    @PostMapping("/reload")
+    public SnapshotStatusResponse reload() throws IOException {
+        return snapshotStore.reload();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.pokemonapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción que se lanza cuando se agota el plazo de una solicitud (de la cabecera
+ * {@code X-Request-Timeout} o de {@code pokemon.deadline.default-timeout}) antes de obtener la
+ * respuesta de la PokeAPI. Las llamadas en curso se abortan al lanzarla.
+ *
+ * Es capturada por el {@link GlobalExceptionHandler} para generar una respuesta HTTP 504
+ * (Gateway Timeout).
+ */
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * Construye una nueva excepción con el mensaje de detalle especificado.
+     *
+     * @param message el mensaje de detalle.
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
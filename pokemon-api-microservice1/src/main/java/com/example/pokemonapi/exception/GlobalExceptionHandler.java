@@ -1,13 +1,21 @@
 package com.example.pokemonapi.exception;
 
+import com.example.pokemonapi.metrics.PokemonMetrics;
+import com.example.pokemonapi.names.PokemonNameIndex;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -22,9 +30,28 @@ public class GlobalExceptionHandler {
     // Formato de fecha y hora para las respuestas
     private static final DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
 
+    private final PokemonMetrics metrics;
+    private final PokemonNameIndex nameIndex;
+    // Fecha formateada del último segundo en que se respondió un nombre rechazado
+    private volatile FormattedSecond lastSecond = new FormattedSecond(Long.MIN_VALUE, null);
+
+    /**
+     * Constructor que inyecta las métricas donde se cuentan las excepciones manejadas y el
+     * índice de nombres con el que se sugieren alternativas a un Pokémon no encontrado.
+     *
+     * @param metrics las métricas de la aplicación.
+     * @param nameIndex el índice de nombres de Pokémon.
+     */
+    @Autowired
+    public GlobalExceptionHandler(PokemonMetrics metrics, PokemonNameIndex nameIndex) {
+        this.metrics = metrics;
+        this.nameIndex = nameIndex;
+    }
+
     /**
      * Maneja las excepciones de tipo {@link PokemonNotFoundException}.
-     * Se activa cuando un Pokémon solicitado no se encuentra en la PokeAPI.
+     * Se activa cuando un Pokémon solicitado no se encuentra en la PokeAPI. Si la ruta incluye
+     * el nombre, el cuerpo lleva los nombres más parecidos en {@code sugerencias}.
      *
      * @param ex la excepción {@link PokemonNotFoundException} lanzada.
      * @param request el objeto WebRequest asociado a la solicitud actual.
@@ -34,16 +61,133 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Object> handlePokemonNotFoundException(
             PokemonNotFoundException ex, WebRequest request) {
 
+        metrics.countHandledException("not_found", HttpStatus.NOT_FOUND.value());
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("fecha", dtf.format(LocalDateTime.now()));
         body.put("estado", HttpStatus.NOT_FOUND.value());
         body.put("error", "Pokemon no encontrado");
         body.put("mensaje", ex.getMessage());
         body.put("ruta", request.getDescription(false).replace("uri=", ""));
+        body.put("sugerencias", nameIndex.suggestionsFor(requestedName(request)));
 
         return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Maneja las excepciones de tipo {@link PokemonNameRejectedException}, la ruta rápida del
+     * "no encontrado": el índice de nombres rechazó el nombre sin consultar la PokeAPI.
+     * El cuerpo tiene el mismo formato que el de {@link #handlePokemonNotFoundException}, pero
+     * solo la fecha (reutilizada dentro del mismo segundo), la ruta y las sugerencias varían
+     * entre solicitudes; el resto del contenido es constante y no se construye un mapa por
+     * respuesta. Es la ruta por la que llegan casi todos los nombres mal escritos, así que lleva
+     * hasta {@code pokemon.names.not-found-suggestions} sugerencias ({@code 0} para omitirlas).
+     *
+     * @param ex la excepción {@link PokemonNameRejectedException} lanzada.
+     * @param request el objeto WebRequest asociado a la solicitud actual.
+     * @return un {@link ResponseEntity} con el cuerpo de error y un estado HTTP 404 (Not Found).
+     */
+    @ExceptionHandler(PokemonNameRejectedException.class)
+    public ResponseEntity<Object> handlePokemonNameRejectedException(
+            PokemonNameRejectedException ex, WebRequest request) {
+
+        metrics.countHandledException("name_rejected", HttpStatus.NOT_FOUND.value());
+        return new ResponseEntity<>(new NameRejectedBody(currentDate(),
+                request.getDescription(false).replace("uri=", ""),
+                nameIndex.suggestionsFor(requestedName(request))), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Maneja las excepciones de tipo {@link PokeApiUnavailableException}.
+     * Se activa cuando una llamada a la PokeAPI se rechaza sin intentarla (circuito abierto,
+     * demasiadas llamadas en curso o sin turno en el límite de tasa), de modo que el cliente recibe la respuesta de inmediato.
+     *
+     * @param ex la excepción {@link PokeApiUnavailableException} lanzada.
+     * @param request el objeto WebRequest asociado a la solicitud actual.
+     * @return un {@link ResponseEntity} con un cuerpo de error detallado, un estado HTTP 503
+     *         (Service Unavailable) y la cabecera {@code Retry-After} en segundos.
+     */
+    @ExceptionHandler(PokeApiUnavailableException.class)
+    public ResponseEntity<Object> handlePokeApiUnavailableException(
+            PokeApiUnavailableException ex, WebRequest request) {
+
+        metrics.countHandledException("upstream_unavailable", HttpStatus.SERVICE_UNAVAILABLE.value());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("fecha", dtf.format(LocalDateTime.now()));
+        body.put("estado", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("error", "Servicio no disponible");
+        body.put("mensaje", ex.getMessage());
+        body.put("ruta", request.getDescription(false).replace("uri=", ""));
+
+        // Retry-After se expresa en segundos enteros; se redondea hacia arriba
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(body);
+    }
+
+    /**
+     * Maneja las excepciones de tipo {@link DeadlineExceededException}.
+     * Se activa cuando vence el plazo de la solicitud (cabecera o valor por defecto) antes de
+     * obtener la respuesta de la PokeAPI; la llamada en curso ya se abortó.
+     *
+     * @param ex la excepción {@link DeadlineExceededException} lanzada.
+     * @param request el objeto WebRequest asociado a la solicitud actual.
+     * @return un {@link ResponseEntity} con un cuerpo de error detallado y un estado HTTP 504 (Gateway Timeout).
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<Object> handleDeadlineExceededException(
+            DeadlineExceededException ex, WebRequest request) {
+
+        metrics.countHandledException("deadline_exceeded", HttpStatus.GATEWAY_TIMEOUT.value());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("fecha", dtf.format(LocalDateTime.now()));
+        body.put("estado", HttpStatus.GATEWAY_TIMEOUT.value());
+        body.put("error", "Plazo agotado");
+        body.put("mensaje", ex.getMessage());
+        body.put("ruta", request.getDescription(false).replace("uri=", ""));
+
+        return new ResponseEntity<>(body, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    /**
+     * Maneja las excepciones de tipo {@link RequestCancelledException}.
+     * Se activa cuando el cliente se desconecta antes de la respuesta: no hay a quién enviar un
+     * cuerpo, así que solo se cuenta con el código 499 (convención de "client closed request").
+     *
+     * @param ex la excepción {@link RequestCancelledException} lanzada.
+     * @return un {@link ResponseEntity} sin cuerpo y con estado 499.
+     */
+    @ExceptionHandler(RequestCancelledException.class)
+    public ResponseEntity<Object> handleRequestCancelledException(RequestCancelledException ex) {
+        metrics.countHandledException("cancelled", RequestCancelledException.STATUS);
+        return ResponseEntity.status(RequestCancelledException.STATUS).build();
+    }
+
+    /**
+     * Maneja las excepciones de tipo {@link InvalidRequestException}.
+     * Se activa cuando los parámetros de la solicitud no son válidos (e.g., un lote vacío
+     * o con demasiados nombres). Cualquier otra {@link IllegalArgumentException} es un error
+     * interno y la atiende {@link #handleAllUncaughtException}.
+     *
+     * @param ex la excepción {@link InvalidRequestException} lanzada.
+     * @param request el objeto WebRequest asociado a la solicitud actual.
+     * @return un {@link ResponseEntity} con un cuerpo de error detallado y un estado HTTP 400 (Bad Request).
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Object> handleInvalidRequestException(
+            InvalidRequestException ex, WebRequest request) {
+
+        metrics.countHandledException("invalid_request", HttpStatus.BAD_REQUEST.value());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("fecha", dtf.format(LocalDateTime.now()));
+        body.put("estado", HttpStatus.BAD_REQUEST.value());
+        body.put("error", "Solicitud inválida");
+        body.put("mensaje", ex.getMessage());
+        body.put("ruta", request.getDescription(false).replace("uri=", ""));
+
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Manejador genérico para todas las demás excepciones no capturadas.
      * Actúa como una red de seguridad para evitar que errores inesperados expongan
@@ -57,6 +201,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Object> handleAllUncaughtException(
             Exception ex, WebRequest request) {
 
+        metrics.countHandledException("unexpected", HttpStatus.INTERNAL_SERVER_ERROR.value());
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("fecha", dtf.format(LocalDateTime.now()));
         body.put("estado", HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -66,4 +211,63 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    /**
+     * Obtiene el nombre solicitado de la variable {@code {name}} de la ruta, si la tiene.
+     */
+    private static String requestedName(WebRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return variables instanceof Map<?, ?> map && map.get("name") instanceof String name ? name : null;
+    }
+
+    private String currentDate() {
+        long second = System.currentTimeMillis() / 1000;
+        FormattedSecond cached = lastSecond;
+        if (cached.second != second) {
+            cached = new FormattedSecond(second, dtf.format(LocalDateTime.now()));
+            lastSecond = cached;
+        }
+        return cached.text;
+    }
+
+    /**
+     * Fecha formateada junto con el segundo al que corresponde.
+     */
+    private static final class FormattedSecond {
+        private final long second;
+        private final String text;
+
+        private FormattedSecond(long second, String text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Cuerpo de la respuesta a un nombre rechazado, con los mismos campos y en el mismo orden
+     * que el de {@link #handlePokemonNotFoundException}. Los campos constantes son estáticos.
+     */
+    @JsonPropertyOrder({"fecha", "estado", "error", "mensaje", "ruta", "sugerencias"})
+    static final class NameRejectedBody {
+        private static final int ESTADO = HttpStatus.NOT_FOUND.value();
+        private static final String ERROR = "Pokemon no encontrado";
+
+        private final String fecha;
+        private final String ruta;
+        private final List<String> sugerencias;
+
+        NameRejectedBody(String fecha, String ruta, List<String> sugerencias) {
+            this.fecha = fecha;
+            this.ruta = ruta;
+            this.sugerencias = sugerencias;
+        }
+
+        public String getFecha() { return fecha; }
+        public int getEstado() { return ESTADO; }
+        public String getError() { return ERROR; }
+        public String getMensaje() { return PokemonNameRejectedException.MESSAGE; }
+        public String getRuta() { return ruta; }
+        public List<String> getSugerencias() { return sugerencias; }
+    }
 }
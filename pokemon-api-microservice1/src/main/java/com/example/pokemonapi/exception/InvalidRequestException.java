@@ -0,0 +1,26 @@
+package com.example.pokemonapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción que se lanza cuando los parámetros de una solicitud no son válidos (e.g., un lote
+ * vacío, un criterio de ranking desconocido o una cabecera {@code X-Request-Timeout} que no es un
+ * número).
+ *
+ * Es capturada por el {@link GlobalExceptionHandler} para generar una respuesta HTTP 400
+ * (Bad Request) con su mensaje. Las demás {@link IllegalArgumentException} se consideran errores
+ * internos y no se exponen al cliente.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+
+    /**
+     * Construye una nueva excepción con el mensaje de detalle especificado.
+     *
+     * @param message el mensaje de detalle.
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
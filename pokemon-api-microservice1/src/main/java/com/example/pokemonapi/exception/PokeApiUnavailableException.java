@@ -0,0 +1,47 @@
+package com.example.pokemonapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+/**
+ * Excepción que se lanza cuando una llamada a la PokeAPI se rechaza sin intentarla, porque el
+ * circuito está abierto, porque ya hay demasiadas llamadas en curso o porque el límite de tasa
+ * no le daría turno a tiempo.
+ *
+ * Es capturada por el {@link GlobalExceptionHandler} para generar una respuesta HTTP 503
+ * (Service Unavailable) inmediata con la cabecera {@code Retry-After}.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PokeApiUnavailableException extends RuntimeException {
+
+    /** La llamada se rechazó porque el circuito está abierto. */
+    public static final String CIRCUIT_OPEN = "circuit_open";
+    /** La llamada se rechazó porque se alcanzó el límite de llamadas concurrentes. */
+    public static final String LIMIT_REACHED = "limit_reached";
+    /** La llamada se rechazó porque la cola del límite de tasa está llena. */
+    public static final String RATE_QUEUE_FULL = "rate_queue_full";
+    /** La llamada se rechazó porque el límite de tasa no le daría turno antes de su plazo. */
+    public static final String RATE_DEADLINE = "rate_deadline";
+
+    private final String reason;
+    private final Duration retryAfter;
+
+    /**
+     * Construye una nueva excepción.
+     *
+     * @param reason el motivo del rechazo: {@link #CIRCUIT_OPEN}, {@link #LIMIT_REACHED},
+     *               {@link #RATE_QUEUE_FULL} o {@link #RATE_DEADLINE}.
+     * @param message el mensaje de detalle.
+     * @param retryAfter el tiempo sugerido al cliente antes de reintentar.
+     */
+    public PokeApiUnavailableException(String reason, String message, Duration retryAfter) {
+        super(message);
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getReason() { return reason; }
+    public Duration getRetryAfter() { return retryAfter; }
+}
@@ -0,0 +1,26 @@
+package com.example.pokemonapi.exception;
+
+/**
+ * Excepción que se lanza cuando el índice de nombres determina, sin consultar la PokeAPI, que
+ * el nombre solicitado no corresponde a ningún Pokémon.
+ *
+ * Es una {@link PokemonNotFoundException}, por lo que quien ya la maneja (e.g., las consultas por
+ * lotes) no necesita cambios. Se lanza siempre la misma instancia, creada sin traza de la pila:
+ * el rechazo no reserva memoria ni recorre la pila, y el mensaje no incluye el nombre.
+ */
+public final class PokemonNameRejectedException extends PokemonNotFoundException {
+
+    /**
+     * Mensaje común a todos los rechazos.
+     */
+    public static final String MESSAGE = "El nombre solicitado no corresponde a ningún Pokémon conocido.";
+
+    /**
+     * La única instancia de la excepción.
+     */
+    public static final PokemonNameRejectedException INSTANCE = new PokemonNameRejectedException();
+
+    private PokemonNameRejectedException() {
+        super(MESSAGE, false);
+    }
+}
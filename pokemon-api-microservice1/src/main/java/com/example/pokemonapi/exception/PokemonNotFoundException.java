@@ -24,4 +24,15 @@ public class PokemonNotFoundException extends RuntimeException {
     public PokemonNotFoundException(String message) {
         super(message);
     }
+
+    /**
+     * Construye una excepción sin supresión y, opcionalmente, sin traza de la pila, para las
+     * subclases que se lanzan como instancia única.
+     *
+     * @param message el mensaje de detalle.
+     * @param writableStackTrace si se captura la traza de la pila.
+     */
+    protected PokemonNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
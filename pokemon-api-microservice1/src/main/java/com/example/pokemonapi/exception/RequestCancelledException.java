@@ -0,0 +1,24 @@
+package com.example.pokemonapi.exception;
+
+/**
+ * Excepción con la que termina una solicitud cuyo cliente se desconectó antes de recibir la
+ * respuesta: el trabajo pendiente (incluida la llamada a la PokeAPI, si nadie más la espera) se
+ * cancela y la respuesta ya no se puede entregar.
+ *
+ * Es capturada por el {@link GlobalExceptionHandler}, que la registra con el estado 499
+ * ("Client Closed Request") sin cuerpo.
+ */
+public class RequestCancelledException extends RuntimeException {
+
+    /** Estado HTTP no estándar "Client Closed Request". */
+    public static final int STATUS = 499;
+
+    /**
+     * Construye una nueva excepción con el mensaje de detalle especificado.
+     *
+     * @param message el mensaje de detalle.
+     */
+    public RequestCancelledException(String message) {
+        super(message);
+    }
+}
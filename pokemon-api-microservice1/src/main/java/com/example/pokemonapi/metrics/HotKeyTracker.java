@@ -0,0 +1,211 @@
+package com.example.pokemonapi.metrics;
+
+import com.example.pokemonapi.config.HotKeyProperties;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.model.HotKeyResponse;
+import com.example.pokemonapi.service.PokemonService;
+import com.example.pokemonapi.util.CountMinSketch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro aproximado de los nombres más consultados en {@code GET /pokemon/{name}}, para
+ * dimensionar la caché y planificar capacidad sin un contador exacto por nombre, que crecería
+ * sin límite con nombres inventados.
+ *
+ * Cada consulta incrementa un {@link CountMinSketch} con franjas, sin bloqueos, con el hash del
+ * nombre normalizado calculado en una pasada y sin crear la cadena normalizada. Un conjunto
+ * acotado de candidatos guarda los nombres que superan en un octavo la estimación del menos
+ * consultado (el margen evita que los nombres de popularidad parecida se desplacen entre sí sin
+ * parar); solo se revisa cada {@value #ADMISSION_SAMPLE} apariciones de un nombre en una franja,
+ * de modo que un nombre popular ya seguido no cuesta más que el incremento. Cada
+ * {@code pokemon.hot-keys.decay-interval} los contadores se dividen entre dos.
+ *
+ * Con el decaimiento, en régimen estable la estimación de un nombre con {@code r} consultas por
+ * segundo vale {@code r·(T + t)}, siendo {@code T} el intervalo y {@code t} el tiempo desde el
+ * último decaimiento; de ahí se obtiene la tasa.
+ */
+@Component
+public class HotKeyTracker {
+
+    static final int ADMISSION_SAMPLE = 8;
+
+    private static final int MAX_AUTO_STRIPES = 16;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final long decayIntervalNanos;
+    private final CountMinSketch sketch;
+    private final int stripeShift;
+    private final Set<String> candidates = ConcurrentHashMap.newKeySet();
+    // Estimación mínima en una franja para revisar un nombre: la del candidato más débil repartida entre franjas
+    private volatile long admissionThreshold;
+    // Estimación global que hay que superar para desplazar al candidato más débil, o 0 si hay sitio
+    private volatile long displacementThreshold;
+    private volatile long lastDecayNanos = System.nanoTime();
+    private volatile boolean decayed;
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param properties la configuración del registro.
+     */
+    @Autowired
+    public HotKeyTracker(HotKeyProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.capacity = properties.getCandidates();
+        this.decayIntervalNanos = properties.getDecayInterval().toNanos();
+        int stripes = properties.getStripes() > 0 ? properties.getStripes()
+                : Math.min(MAX_AUTO_STRIPES, Runtime.getRuntime().availableProcessors());
+        this.sketch = new CountMinSketch(properties.getCountersPerRow(), stripes);
+        this.stripeShift = Integer.numberOfTrailingZeros(sketch.getStripes());
+    }
+
+    /**
+     * Cuenta una consulta de un nombre.
+     *
+     * @param pokemonName el nombre tal como llegó en la solicitud.
+     */
+    public void record(String pokemonName) {
+        if (!enabled) {
+            return;
+        }
+        long hash = CountMinSketch.spread(normalizedHashCode(pokemonName));
+        long count = sketch.increment(hash);
+        if ((count & (ADMISSION_SAMPLE - 1)) == 0 && count >= admissionThreshold
+                && sketch.estimate(hash) > displacementThreshold) {
+            String key = PokemonService.normalizeName(pokemonName);
+            if (!candidates.contains(key)) {
+                admit(key, hash);
+            }
+        }
+    }
+
+    /**
+     * {@code hashCode} de {@link PokemonService#normalizeName(String)} sin crear la cadena: omite
+     * los espacios de los extremos y pasa a minúsculas cada carácter (igual que la normalización
+     * para los nombres de la PokeAPI, que son ASCII).
+     */
+    static int normalizedHashCode(String name) {
+        int start = 0;
+        int end = name.length();
+        while (start < end && name.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && name.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            h = 31 * h + (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c < 0x80 ? c : Character.toLowerCase(c));
+        }
+        return h;
+    }
+
+    /**
+     * Devuelve los nombres más consultados según las estimaciones actuales.
+     *
+     * @param limit el número de nombres a devolver.
+     * @return hasta {@code limit} nombres, de más a menos consultado.
+     * @throws InvalidRequestException si {@code limit} no está entre 1 y {@code pokemon.hot-keys.candidates}.
+     */
+    public List<HotKeyResponse> top(int limit) {
+        if (limit < 1 || limit > capacity) {
+            throw new InvalidRequestException("limit debe estar entre 1 y " + capacity + ".");
+        }
+        double windowSeconds = ((decayed ? decayIntervalNanos : 0) + System.nanoTime() - lastDecayNanos) / 1e9;
+        List<HotKeyResponse> top = new ArrayList<>();
+        for (String key : candidates) {
+            long estimate = sketch.estimate(CountMinSketch.hash(key));
+            if (estimate > 0) {
+                top.add(new HotKeyResponse(key, estimate, estimate / windowSeconds));
+            }
+        }
+        top.sort(Comparator.comparingLong(HotKeyResponse::getSolicitudes).reversed()
+                .thenComparing(HotKeyResponse::getNombre));
+        return top.size() > limit ? List.copyOf(top.subList(0, limit)) : top;
+    }
+
+    /**
+     * Divide todos los contadores entre dos y descarta los candidatos que quedan a cero.
+     */
+    @Scheduled(fixedDelayString = "${pokemon.hot-keys.decay-interval:1m}",
+            initialDelayString = "${pokemon.hot-keys.decay-interval:1m}")
+    public synchronized void decay() {
+        if (!enabled) {
+            return;
+        }
+        sketch.halve();
+        lastDecayNanos = System.nanoTime();
+        decayed = true;
+        candidates.removeIf(key -> sketch.estimate(CountMinSketch.hash(key)) == 0);
+        updateThresholds(candidates.size() < capacity ? null : weakest());
+    }
+
+    /**
+     * Admite un nombre entre los candidatos: directamente si hay sitio, o en lugar del candidato
+     * con menor estimación si la suya es mayor. Solo se llega aquí cuando el nombre supera el
+     * umbral de admisión, por lo que el recorrido de los candidatos es poco frecuente.
+     */
+    private synchronized void admit(String key, long hash) {
+        if (candidates.contains(key)) {
+            return;
+        }
+        if (candidates.size() < capacity) {
+            candidates.add(key);
+            if (candidates.size() == capacity) {
+                updateThresholds(weakest());
+            }
+            return;
+        }
+        Candidate weakest = weakest();
+        if (sketch.estimate(hash) > withMargin(weakest.estimate)) {
+            candidates.remove(weakest.key);
+            candidates.add(key);
+            weakest = weakest();
+        }
+        updateThresholds(weakest);
+    }
+
+    /**
+     * Recalcula los umbrales de admisión a partir del candidato más débil ({@code null} si hay sitio).
+     */
+    private void updateThresholds(Candidate weakest) {
+        long displacement = weakest == null ? 0 : withMargin(weakest.estimate);
+        displacementThreshold = displacement;
+        admissionThreshold = displacement >> stripeShift;
+    }
+
+    private static long withMargin(long estimate) {
+        return estimate + (estimate >> 3);
+    }
+
+    private Candidate weakest() {
+        Candidate weakest = null;
+        for (String key : candidates) {
+            long estimate = sketch.estimate(CountMinSketch.hash(key));
+            if (weakest == null || estimate < weakest.estimate) {
+                weakest = new Candidate(key, estimate);
+            }
+        }
+        return weakest != null ? weakest : new Candidate(null, 0);
+    }
+
+    private static final class Candidate {
+        private final String key;
+        private final long estimate;
+
+        private Candidate(String key, long estimate) {
+            this.key = key;
+            this.estimate = estimate;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.pokemonapi.metrics;
+
+import com.example.pokemonapi.exception.DeadlineExceededException;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import com.example.pokemonapi.exception.PokemonNotFoundException;
+import com.example.pokemonapi.exception.RequestCancelledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Métricas del camino de {@code GET /pokemon/{name}}: tiempo total de la solicitud, tiempo de la
+ * llamada a la PokeAPI, tiempo de construcción de la respuesta y tiempo del refresco en segundo
+ * plano de la caché, más los errores manejados y las respuestas obsoletas servidas.
+ *
+ * Los temporizadores publican histogramas de percentiles para Prometheus. Las etiquetas solo
+ * toman valores de un conjunto fijo ({@code outcome}: ok, not_found, rejected,
+ * cancelled, deadline_exceeded, error); nunca se etiqueta
+ * por nombre de Pokémon para mantener acotada la cardinalidad.
+ */
+@Component
+public class PokemonMetrics {
+
+    public static final String OUTCOME_OK = "ok";
+    public static final String OUTCOME_NOT_FOUND = "not_found";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_CANCELLED = "cancelled";
+    public static final String OUTCOME_DEADLINE_EXCEEDED = "deadline_exceeded";
+
+    /** Respuesta obsoleta servida mientras se refresca en segundo plano. */
+    public static final String STALE_REVALIDATE = "revalidate";
+    /** Respuesta expirada servida porque la PokeAPI falló. */
+    public static final String STALE_UPSTREAM_ERROR = "upstream_error";
+
+    private final MeterRegistry registry;
+    private final OutcomeTimers requestTimers;
+    private final OutcomeTimers upstreamTimers;
+    private final Timer responseBuildTimer;
+    private final OutcomeTimers refreshTimers;
+    private final Counter upstreamRevalidated;
+    private final Counter staleRevalidate;
+    private final Counter staleUpstreamError;
+    // Un contador por manejador (cada uno devuelve siempre el mismo código), registrado en su primer uso
+    private final Map<String, Counter> handledExceptions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param registry el registro de métricas de Micrometer.
+     */
+    @Autowired
+    public PokemonMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.requestTimers = new OutcomeTimers(registry, "pokemon.request",
+                "Tiempo total de GET /pokemon/{name}");
+        this.upstreamTimers = new OutcomeTimers(registry, "pokemon.upstream",
+                "Tiempo de la llamada a la PokeAPI, incluida la lectura de la respuesta");
+        this.responseBuildTimer = Timer.builder("pokemon.response.build")
+                .description("Tiempo de transformación del modelo Pokemon en PokemonStatsResponse")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.refreshTimers = new OutcomeTimers(registry, "pokemon.cache.refresh",
+                "Tiempo del refresco en segundo plano de una entrada obsoleta de la caché");
+        this.upstreamRevalidated = Counter.builder("pokemon.upstream.revalidated")
+                .description("Consultas condicionales a la PokeAPI respondidas con 304")
+                .register(registry);
+        this.staleRevalidate = staleCounter(registry, STALE_REVALIDATE);
+        this.staleUpstreamError = staleCounter(registry, STALE_UPSTREAM_ERROR);
+    }
+
+    /**
+     * Inicia la medición de una solicitud o de una llamada a la PokeAPI.
+     *
+     * @return la muestra a detener con {@link #recordRequest} o {@link #recordUpstream}.
+     */
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Registra el fin de una solicitud a {@code GET /pokemon/{name}}.
+     *
+     * @param sample la muestra iniciada con {@link #start()}.
+     * @param failure la excepción con la que terminó, o {@code null} si fue exitosa.
+     */
+    public void recordRequest(Timer.Sample sample, Throwable failure) {
+        sample.stop(requestTimers.forOutcome(outcomeOf(failure)));
+    }
+
+    /**
+     * Registra el fin de una llamada a la PokeAPI.
+     *
+     * @param sample la muestra iniciada con {@link #start()}.
+     * @param outcome el resultado: {@link #OUTCOME_OK}, {@link #OUTCOME_NOT_FOUND} o {@link #OUTCOME_ERROR}.
+     */
+    public void recordUpstream(Timer.Sample sample, String outcome) {
+        sample.stop(upstreamTimers.forOutcome(outcome));
+    }
+
+    /**
+     * Registra el fin del refresco en segundo plano de una entrada de la caché.
+     *
+     * @param sample la muestra iniciada con {@link #start()}.
+     * @param failure la excepción con la que terminó, o {@code null} si fue exitoso.
+     */
+    public void recordRefresh(Timer.Sample sample, Throwable failure) {
+        sample.stop(refreshTimers.forOutcome(outcomeOf(failure)));
+    }
+
+    /**
+     * Cuenta una consulta condicional a la PokeAPI respondida con 304, que reutilizó la
+     * respuesta almacenada sin descargar el cuerpo.
+     */
+    public void countUpstreamRevalidated() {
+        upstreamRevalidated.increment();
+    }
+
+    /**
+     * Cuenta una respuesta servida desde la caché después de su {@code soft-ttl}.
+     *
+     * @param reason {@link #STALE_REVALIDATE} o {@link #STALE_UPSTREAM_ERROR}.
+     */
+    public void countStaleServed(String reason) {
+        (STALE_REVALIDATE.equals(reason) ? staleRevalidate : staleUpstreamError).increment();
+    }
+
+    /**
+     * Mide la construcción de la respuesta simplificada.
+     *
+     * @param build la construcción a medir.
+     * @param <T> el tipo de la respuesta.
+     * @return la respuesta construida.
+     */
+    public <T> T timeResponseBuild(Supplier<T> build) {
+        return responseBuildTimer.record(build);
+    }
+
+    /**
+     * Cuenta una excepción traducida a respuesta HTTP por el manejador global.
+     *
+     * @param handler el tipo de error manejado (un valor fijo por manejador).
+     * @param status el código HTTP devuelto, siempre el mismo para un mismo {@code handler}.
+     */
+    public void countHandledException(String handler, int status) {
+        Counter counter = handledExceptions.get(handler);
+        if (counter == null) {
+            counter = handledExceptions.computeIfAbsent(handler, h -> Counter.builder("pokemon.exceptions.handled")
+                    .description("Excepciones traducidas a respuesta HTTP por el manejador global")
+                    .tag("handler", h)
+                    .tag("status", Integer.toString(status))
+                    .register(registry));
+        }
+        counter.increment();
+    }
+
+    /**
+     * Clasifica el resultado de una operación según la excepción con la que terminó.
+     *
+     * @param failure la excepción, o {@code null} si la operación fue exitosa.
+     * @return {@link #OUTCOME_OK}, {@link #OUTCOME_NOT_FOUND}, {@link #OUTCOME_REJECTED},
+     *         {@link #OUTCOME_CANCELLED} (el cliente se desconectó), {@link #OUTCOME_DEADLINE_EXCEEDED}
+     *         u {@link #OUTCOME_ERROR}.
+     */
+    public static String outcomeOf(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure == null) {
+            return OUTCOME_OK;
+        }
+        if (failure instanceof PokemonNotFoundException) {
+            return OUTCOME_NOT_FOUND;
+        }
+        if (failure instanceof DeadlineExceededException) {
+            return OUTCOME_DEADLINE_EXCEEDED;
+        }
+        if (failure instanceof RequestCancelledException || failure instanceof CancellationException) {
+            return OUTCOME_CANCELLED;
+        }
+        return failure instanceof PokeApiUnavailableException ? OUTCOME_REJECTED : OUTCOME_ERROR;
+    }
+
+    private static Counter staleCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("pokemon.cache.stale.served")
+                .description("Respuestas obsoletas servidas desde la caché")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * Un temporizador por cada valor de {@code outcome}, registrados de antemano.
+     */
+    private static final class OutcomeTimers {
+        private final Timer ok;
+        private final Timer notFound;
+        private final Timer rejected;
+        private final Timer cancelled;
+        private final Timer deadlineExceeded;
+        private final Timer error;
+
+        private OutcomeTimers(MeterRegistry registry, String name, String description) {
+            this.ok = timer(registry, name, description, OUTCOME_OK);
+            this.notFound = timer(registry, name, description, OUTCOME_NOT_FOUND);
+            this.rejected = timer(registry, name, description, OUTCOME_REJECTED);
+            this.cancelled = timer(registry, name, description, OUTCOME_CANCELLED);
+            this.deadlineExceeded = timer(registry, name, description, OUTCOME_DEADLINE_EXCEEDED);
+            this.error = timer(registry, name, description, OUTCOME_ERROR);
+        }
+
+        private Timer forOutcome(String outcome) {
+            switch (outcome) {
+                case OUTCOME_OK: return ok;
+                case OUTCOME_NOT_FOUND: return notFound;
+                case OUTCOME_REJECTED: return rejected;
+                case OUTCOME_CANCELLED: return cancelled;
+                case OUTCOME_DEADLINE_EXCEEDED: return deadlineExceeded;
+                default: return error;
+            }
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String description, String outcome) {
+            return Timer.builder(name)
+                    .description(description)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
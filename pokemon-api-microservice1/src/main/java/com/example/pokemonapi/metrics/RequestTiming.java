@@ -0,0 +1,248 @@
+package com.example.pokemonapi.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Desglose por fases del tiempo de una solicitud a {@code GET /pokemon/{name}}: adquisición de la
+ * conexión a la PokeAPI, tiempo hasta el primer byte, lectura del cuerpo, deserialización,
+ * construcción de la respuesta y serialización.
+ *
+ * Se crea una instancia por solicitud y se asocia al hilo que la atiende con
+ * {@link #attach(RequestTiming)}; el código que mide una fase la obtiene con {@link #current()},
+ * que fuera de una solicitud (e.g., un refresco en segundo plano) devuelve una instancia inactiva
+ * que ignora las mediciones. Solo guarda contadores en un arreglo fijo, sin crear objetos por
+ * fase, de modo que puede quedar habilitado en producción.
+ *
+ * No es seguro entre hilos: lo usa el hilo de la solicitud o, en el cliente no bloqueante, la
+ * cadena de callbacks de su llamada, que se ejecutan uno tras otro. Los reintentos y las
+ * solicitudes de cobertura que corren en otros hilos no se desglosan.
+ */
+public final class RequestTiming {
+
+    /** Nombre de la cabecera estándar con el desglose. */
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final RequestTiming NONE = new RequestTiming(0, false);
+
+    private final long startNanos;
+    private final boolean active;
+    private final long[] nanos = new long[PHASES.length];
+    // Bit por fase medida, para omitir en el desglose las que no ocurrieron
+    private int recorded;
+    private long markNanos;
+    // Lectura del cuerpo acumulada desde la última marca, que se descuenta de la fase siguiente
+    private long readSinceMark;
+
+    private RequestTiming(long startNanos, boolean active) {
+        this.startNanos = startNanos;
+        this.active = active;
+    }
+
+    /**
+     * Inicia el desglose de una solicitud.
+     *
+     * @return el desglose, con el instante actual como inicio.
+     */
+    public static RequestTiming start() {
+        return new RequestTiming(System.nanoTime(), true);
+    }
+
+    /**
+     * Devuelve el desglose asociado al hilo actual.
+     *
+     * @return el desglose de la solicitud en curso, o una instancia inactiva si no hay ninguna.
+     */
+    public static RequestTiming current() {
+        RequestTiming timing = CURRENT.get();
+        return timing != null ? timing : NONE;
+    }
+
+    /**
+     * Asocia un desglose al hilo actual.
+     *
+     * @param timing el desglose, o {@code null} para quitar el asociado.
+     */
+    public static void attach(RequestTiming timing) {
+        if (timing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timing);
+        }
+    }
+
+    /** Indica si las mediciones se registran (hay una solicitud en curso). */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Suma una duración a una fase.
+     *
+     * @param phase la fase.
+     * @param durationNanos la duración en nanosegundos.
+     */
+    public void add(Phase phase, long durationNanos) {
+        if (active) {
+            nanos[phase.ordinal()] += durationNanos;
+            recorded |= 1 << phase.ordinal();
+        }
+    }
+
+    /**
+     * Marca el inicio de una secuencia de fases medidas con {@link #lap(Phase)}.
+     */
+    public void mark() {
+        if (active) {
+            markNanos = System.nanoTime();
+            readSinceMark = 0;
+        }
+    }
+
+    /**
+     * Asigna a una fase el tiempo transcurrido desde la marca anterior, descontando la lectura
+     * del cuerpo medida entretanto con {@link #timeReads(InputStream)}, y mueve la marca.
+     *
+     * @param phase la fase que acaba de terminar.
+     */
+    public void lap(Phase phase) {
+        if (active) {
+            long now = System.nanoTime();
+            add(phase, now - markNanos - readSinceMark);
+            markNanos = now;
+            readSinceMark = 0;
+        }
+    }
+
+    /**
+     * Envuelve el cuerpo de una respuesta de la PokeAPI para sumar a {@link Phase#READ} el tiempo
+     * bloqueado en cada lectura. El resto del tiempo de quien lo consume (e.g., el análisis del
+     * JSON) corresponde a la fase que cierre {@link #lap(Phase)}.
+     *
+     * @param body el cuerpo de la respuesta.
+     * @return el cuerpo medido, o el mismo si el desglose está inactivo.
+     */
+    public InputStream timeReads(InputStream body) {
+        return active ? new TimedInputStream(body) : body;
+    }
+
+    /**
+     * Devuelve la duración acumulada de una fase.
+     *
+     * @param phase la fase.
+     * @return la duración en nanosegundos.
+     */
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * Devuelve el tiempo transcurrido desde el inicio de la solicitud.
+     *
+     * @return la duración en nanosegundos.
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Formatea el desglose como valor de la cabecera {@code Server-Timing}, con las fases medidas
+     * en milisegundos y el total hasta el momento (e.g., {@code conn;dur=0.412, ttfb;dur=35.1,
+     * total;dur=38.7}).
+     *
+     * @return el valor de la cabecera.
+     */
+    public String toServerTiming() {
+        StringBuilder value = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            if ((recorded & (1 << phase.ordinal())) != 0) {
+                appendMetric(value, phase.getMetric(), nanos[phase.ordinal()]);
+                value.append(", ");
+            }
+        }
+        appendMetric(value, "total", elapsedNanos());
+        return value.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toServerTiming();
+    }
+
+    // Milisegundos con tres decimales, sin pasar por String.format
+    private static void appendMetric(StringBuilder value, String metric, long durationNanos) {
+        long micros = Math.max(durationNanos, 0) / 1_000;
+        value.append(metric).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            value.append('0');
+        }
+        if (fraction < 10) {
+            value.append('0');
+        }
+        value.append(fraction);
+    }
+
+    /**
+     * Fases del desglose, en el orden en que ocurren y se publican.
+     */
+    public enum Phase {
+        /** Espera de una conexión del pool (y su apertura, si no había una libre). */
+        CONNECT("conn"),
+        /** Desde el envío de la solicitud a la PokeAPI hasta recibir sus cabeceras. */
+        TTFB("ttfb"),
+        /** Lectura del cuerpo de la respuesta de la PokeAPI. */
+        READ("read"),
+        /** Análisis del JSON de la PokeAPI (con la lectura en streaming, incluye la extracción). */
+        DESERIALIZE("deser"),
+        /** Transformación del modelo {@code Pokemon} en la respuesta simplificada. */
+        BUILD("build"),
+        /** Serialización de la respuesta en el formato negociado. */
+        SERIALIZE("ser");
+
+        private final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+
+        /** Nombre de la métrica en la cabecera {@code Server-Timing}. */
+        public String getMetric() { return metric; }
+    }
+
+    private final class TimedInputStream extends FilterInputStream {
+
+        private TimedInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            long start = System.nanoTime();
+            try {
+                return super.read();
+            } finally {
+                recordRead(start);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return super.read(b, off, len);
+            } finally {
+                recordRead(start);
+            }
+        }
+
+        private void recordRead(long start) {
+            long duration = System.nanoTime() - start;
+            add(Phase.READ, duration);
+            readSinceMark += duration;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.pokemonapi.metrics;
+
+import com.example.pokemonapi.config.TimingProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Interceptor de Spring MVC que inicia el {@link RequestTiming} de cada solicitud y lo asocia al
+ * hilo que la atiende, tanto en el despacho inicial como en el despacho asíncrono que escribe la
+ * respuesta. Al terminar, si {@code pokemon.timing.slow-request-log=true} y el tiempo total supera
+ * {@code pokemon.timing.slow-request-threshold}, registra el desglose en el log.
+ */
+public class RequestTimingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestTimingInterceptor.class);
+
+    private static final String ATTRIBUTE = RequestTiming.class.getName();
+
+    private final boolean slowRequestLog;
+    private final long slowRequestThresholdNanos;
+
+    /**
+     * Crea el interceptor con la configuración del desglose.
+     *
+     * @param properties la configuración del desglose.
+     */
+    public RequestTimingInterceptor(TimingProperties properties) {
+        this.slowRequestLog = properties.isSlowRequestLog();
+        this.slowRequestThresholdNanos = properties.getSlowRequestThreshold().toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // En el despacho asíncrono se continúa el desglose iniciado en el despacho inicial
+        RequestTiming timing = (RequestTiming) request.getAttribute(ATTRIBUTE);
+        if (timing == null) {
+            timing = RequestTiming.start();
+            request.setAttribute(ATTRIBUTE, timing);
+        }
+        RequestTiming.attach(timing);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTiming.attach(null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTiming.attach(null);
+        RequestTiming timing = (RequestTiming) request.getAttribute(ATTRIBUTE);
+        if (slowRequestLog && timing != null && timing.elapsedNanos() > slowRequestThresholdNanos) {
+            log.warn("Solicitud lenta {} {} ({}): {}", request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), timing);
+        }
+    }
+}
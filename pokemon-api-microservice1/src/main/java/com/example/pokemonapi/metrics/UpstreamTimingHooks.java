@@ -0,0 +1,89 @@
+package com.example.pokemonapi.metrics;
+
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClientInfos;
+import reactor.util.context.Context;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Puntos de enganche en los dos clientes HTTP de la PokeAPI con los que se miden las fases
+ * {@link RequestTiming.Phase#CONNECT} y {@link RequestTiming.Phase#TTFB} de la solicitud en curso.
+ *
+ * Quien llama a la PokeAPI marca el inicio con {@link RequestTiming#mark()}; el enganche cierra
+ * la adquisición de la conexión cuando la solicitud está a punto de enviarse y el tiempo hasta el
+ * primer byte cuando llegan las cabeceras de la respuesta.
+ */
+public final class UpstreamTimingHooks {
+
+    /**
+     * Manejador de la cadena de ejecución de Apache HttpClient, a registrar justo después de
+     * {@code CONNECT}: cuando se invoca, la conexión ya está asignada y abierta. Envuelve además
+     * el cuerpo de la respuesta para medir su lectura. Obtiene el desglose del hilo actual.
+     */
+    public static final ExecChainHandler EXEC_HANDLER = UpstreamTimingHooks::execute;
+
+    private UpstreamTimingHooks() {
+    }
+
+    private static ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain)
+            throws IOException, HttpException {
+        RequestTiming timing = RequestTiming.current();
+        if (!timing.isActive()) {
+            return chain.proceed(request, scope);
+        }
+        timing.lap(RequestTiming.Phase.CONNECT);
+        ClassicHttpResponse response = chain.proceed(request, scope);
+        timing.lap(RequestTiming.Phase.TTFB);
+        HttpEntity entity = response.getEntity();
+        if (entity != null) {
+            response.setEntity(new HttpEntityWrapper(entity) {
+                @Override
+                public InputStream getContent() throws IOException {
+                    return timing.timeReads(super.getContent());
+                }
+            });
+        }
+        return response;
+    }
+
+    /**
+     * Asocia un desglose a la suscripción de una llamada no bloqueante, para que los enganches
+     * de Reactor Netty lo encuentren en su contexto.
+     *
+     * @param timing el desglose de la solicitud.
+     * @return el contexto a añadir con {@code contextWrite}.
+     */
+    public static Context context(RequestTiming timing) {
+        return Context.of(RequestTiming.class, timing);
+    }
+
+    /**
+     * Enganche {@code doOnRequest} de Reactor Netty: la conexión ya se obtuvo del pool.
+     */
+    public static void onRequest(HttpClientInfos request, Connection connection) {
+        lap(request, RequestTiming.Phase.CONNECT);
+    }
+
+    /**
+     * Enganche {@code doOnResponse} de Reactor Netty: llegaron las cabeceras de la respuesta.
+     */
+    public static void onResponse(HttpClientInfos response, Connection connection) {
+        lap(response, RequestTiming.Phase.TTFB);
+    }
+
+    private static void lap(HttpClientInfos infos, RequestTiming.Phase phase) {
+        RequestTiming timing = infos.currentContextView().getOrDefault(RequestTiming.class, null);
+        if (timing != null) {
+            timing.lap(phase);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.pokemonapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO que representa el resultado de un nombre dentro de una consulta por lotes.
+ * Cada nombre tiene su propio estado, de modo que un Pokémon inexistente o un error
+ * puntual no hace fallar el lote completo. Es inmutable.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResponse {
+
+    /** Estado de un resultado exitoso. */
+    public static final String OK = "ok";
+    /** Estado de un Pokémon que no existe en la PokeAPI. */
+    public static final String NO_ENCONTRADO = "no_encontrado";
+    /** Estado de un nombre que no terminó dentro del plazo del lote. */
+    public static final String TIEMPO_AGOTADO = "tiempo_agotado";
+    /** Estado de un nombre no consultado porque la PokeAPI está protegida (circuito abierto o límite). */
+    public static final String NO_DISPONIBLE = "no_disponible";
+    /** Estado de cualquier otro error al consultar la PokeAPI. */
+    public static final String ERROR = "error";
+
+    private final String nombre;
+    private final String estado;
+    private final PokemonStatsResponse datos;
+    private final String mensaje;
+
+    private BatchItemResponse(String nombre, String estado, PokemonStatsResponse datos, String mensaje) {
+        this.nombre = nombre;
+        this.estado = estado;
+        this.datos = datos;
+        this.mensaje = mensaje;
+    }
+
+    public static BatchItemResponse ok(String nombre, PokemonStatsResponse datos) {
+        return new BatchItemResponse(nombre, OK, datos, null);
+    }
+
+    public static BatchItemResponse failure(String nombre, String estado, String mensaje) {
+        return new BatchItemResponse(nombre, estado, null, mensaje);
+    }
+
+    // Getters públicos
+    public String getNombre() { return nombre; }
+    public String getEstado() { return estado; }
+    public PokemonStatsResponse getDatos() { return datos; }
+    public String getMensaje() { return mensaje; }
+}
@@ -0,0 +1,32 @@
+package com.example.pokemonapi.model;
+
+/**
+ * DTO con las estadísticas de uso de la caché de Pokémon, expuesto por el endpoint
+ * de administración. Es inmutable.
+ */
+public class CacheStatsResponse {
+    private final long entradas;
+    private final long aciertos;
+    private final long aciertosNegativos;
+    private final long fallos;
+    private final long desalojos;
+    private final double tasaAciertos;
+
+    public CacheStatsResponse(long entradas, long aciertos, long aciertosNegativos, long fallos, long desalojos) {
+        this.entradas = entradas;
+        this.aciertos = aciertos;
+        this.aciertosNegativos = aciertosNegativos;
+        this.fallos = fallos;
+        this.desalojos = desalojos;
+        long total = aciertos + fallos;
+        this.tasaAciertos = total == 0 ? 0.0 : (double) aciertos / total;
+    }
+
+    // Getters públicos
+    public long getEntradas() { return entradas; }
+    public long getAciertos() { return aciertos; }
+    public long getAciertosNegativos() { return aciertosNegativos; }
+    public long getFallos() { return fallos; }
+    public long getDesalojos() { return desalojos; }
+    public double getTasaAciertos() { return tasaAciertos; }
+}
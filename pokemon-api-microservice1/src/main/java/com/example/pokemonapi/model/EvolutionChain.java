@@ -0,0 +1,43 @@
+package com.example.pokemonapi.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Representa la respuesta de {@code /evolution-chain/{id}} de la PokeAPI: un árbol de especies
+ * cuya raíz es la primera de la línea evolutiva. Las condiciones de cada evolución se ignoran.
+ */
+public class EvolutionChain {
+
+    /**
+     * El identificador de la cadena.
+     */
+    private int id;
+
+    /**
+     * La especie inicial de la cadena, de la que cuelgan sus evoluciones.
+     */
+    private ChainLink chain;
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public ChainLink getChain() { return chain; }
+    public void setChain(ChainLink chain) { this.chain = chain; }
+
+    /**
+     * Representa un eslabón de la cadena: una especie y las especies en las que evoluciona.
+     */
+    public static class ChainLink {
+        private Pokemon.NamedApiResource species;
+        @JsonProperty("evolves_to")
+        private List<ChainLink> evolvesTo;
+
+        public Pokemon.NamedApiResource getSpecies() { return species; }
+        public void setSpecies(Pokemon.NamedApiResource species) { this.species = species; }
+
+        public List<ChainLink> getEvolvesTo() { return evolvesTo; }
+        public void setEvolvesTo(List<ChainLink> evolvesTo) { this.evolvesTo = evolvesTo; }
+    }
+}
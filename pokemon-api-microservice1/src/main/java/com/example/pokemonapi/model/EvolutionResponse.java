@@ -0,0 +1,43 @@
+package com.example.pokemonapi.model;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+
+/**
+ * DTO que representa la línea evolutiva de un Pokémon como árbol, con las estadísticas de cada
+ * miembro. Es inmutable.
+ */
+public class EvolutionResponse {
+
+    private final String nombre;
+    private final Node cadena;
+
+    public EvolutionResponse(String nombre, Node cadena) {
+        this.nombre = nombre;
+        this.cadena = cadena;
+    }
+
+    // Getters públicos
+    public String getNombre() { return nombre; }
+    public Node getCadena() { return cadena; }
+
+    /**
+     * Un miembro de la cadena: su resultado, con los mismos campos y estados que un elemento de
+     * una consulta por lotes (un miembro que falla no hace fallar la cadena), y los miembros en
+     * los que evoluciona.
+     */
+    public static class Node {
+        private final BatchItemResponse resultado;
+        private final List<Node> evolucionaA;
+
+        public Node(BatchItemResponse resultado, List<Node> evolucionaA) {
+            this.resultado = resultado;
+            this.evolucionaA = List.copyOf(evolucionaA);
+        }
+
+        @JsonUnwrapped
+        public BatchItemResponse getResultado() { return resultado; }
+        public List<Node> getEvolucionaA() { return evolucionaA; }
+    }
+}
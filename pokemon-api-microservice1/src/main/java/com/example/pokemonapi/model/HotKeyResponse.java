@@ -0,0 +1,23 @@
+package com.example.pokemonapi.model;
+
+/**
+ * DTO con un nombre de Pokémon entre los más consultados, expuesto por el endpoint de
+ * administración. {@code solicitudes} es la estimación con decaimiento (las consultas antiguas
+ * pesan menos) y {@code solicitudesPorSegundo} la tasa reciente derivada de ella. Es inmutable.
+ */
+public class HotKeyResponse {
+    private final String nombre;
+    private final long solicitudes;
+    private final double solicitudesPorSegundo;
+
+    public HotKeyResponse(String nombre, long solicitudes, double solicitudesPorSegundo) {
+        this.nombre = nombre;
+        this.solicitudes = solicitudes;
+        this.solicitudesPorSegundo = solicitudesPorSegundo;
+    }
+
+    // Getters públicos
+    public String getNombre() { return nombre; }
+    public long getSolicitudes() { return solicitudes; }
+    public double getSolicitudesPorSegundo() { return solicitudesPorSegundo; }
+}
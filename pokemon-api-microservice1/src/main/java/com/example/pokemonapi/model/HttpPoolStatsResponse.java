@@ -0,0 +1,28 @@
+package com.example.pokemonapi.model;
+
+/**
+ * DTO con la ocupación del pool de conexiones HTTP hacia la PokeAPI, expuesto por el
+ * endpoint de administración. Es inmutable.
+ */
+public class HttpPoolStatsResponse {
+    private final int enUso;
+    private final int disponibles;
+    private final int enEspera;
+    private final int maximo;
+    private final double utilizacion;
+
+    public HttpPoolStatsResponse(int enUso, int disponibles, int enEspera, int maximo) {
+        this.enUso = enUso;
+        this.disponibles = disponibles;
+        this.enEspera = enEspera;
+        this.maximo = maximo;
+        this.utilizacion = maximo == 0 ? 0.0 : (double) enUso / maximo;
+    }
+
+    // Getters públicos
+    public int getEnUso() { return enUso; }
+    public int getDisponibles() { return disponibles; }
+    public int getEnEspera() { return enEspera; }
+    public int getMaximo() { return maximo; }
+    public double getUtilizacion() { return utilizacion; }
+}
@@ -34,6 +34,12 @@ public class Pokemon {
      */
     private List<PokemonAbility> abilities;
 
+    /**
+     * La especie a la que pertenece el Pokémon, que enlaza con su cadena evolutiva.
+     * Mapeado desde la clave "species" en el JSON.
+     */
+    private NamedApiResource species;
+
     // Getters y Setters necesarios para que Jackson pueda acceder a los campos.
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
@@ -47,6 +53,9 @@ public class Pokemon {
     public List<PokemonAbility> getAbilities() { return abilities; }
     public void setAbilities(List<PokemonAbility> abilities) { this.abilities = abilities; }
 
+    public NamedApiResource getSpecies() { return species; }
+    public void setSpecies(NamedApiResource species) { this.species = species; }
+
 
     // --- Clases Estáticas Anidadas para Deserialización ---
 
@@ -0,0 +1,50 @@
+package com.example.pokemonapi.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Representa la respuesta de {@code /pokemon-species/{name}} de la PokeAPI. Solo se incluye el
+ * enlace a la cadena evolutiva de la especie; el resto (descripciones, hábitat, etc.) se ignora.
+ */
+public class PokemonSpecies {
+
+    /**
+     * El nombre de la especie (e.g., "bulbasaur").
+     */
+    private String name;
+
+    /**
+     * El enlace a la cadena evolutiva, mapeado desde la clave "evolution_chain" en el JSON.
+     */
+    @JsonProperty("evolution_chain")
+    private ApiResource evolutionChain;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public ApiResource getEvolutionChain() { return evolutionChain; }
+    public void setEvolutionChain(ApiResource evolutionChain) { this.evolutionChain = evolutionChain; }
+
+    /**
+     * Identificador de la cadena evolutiva, tomado del final de su URL (e.g., {@code 1} en
+     * {@code https://pokeapi.co/api/v2/evolution-chain/1/}), de modo que se consulta en la URL
+     * base configurada y no en la que devuelve la PokeAPI.
+     *
+     * @return el identificador de la cadena.
+     */
+    public String evolutionChainId() {
+        String url = evolutionChain.getUrl();
+        int end = url.endsWith("/") ? url.length() - 1 : url.length();
+        return url.substring(url.lastIndexOf('/', end - 1) + 1, end);
+    }
+
+    /**
+     * Representa un enlace sin nombre a otro recurso de la PokeAPI.
+     */
+    public static class ApiResource {
+        private String url;
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+    }
+}
@@ -9,6 +9,9 @@ import java.util.List;
  * Esta clase es inmutable y se construye utilizando el Patrón Builder.
  */
 public class PokemonStatsResponse {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     private final String nombre;
     private final int hp;
     private final int ataque;
@@ -16,6 +19,8 @@ public class PokemonStatsResponse {
     private final int velocidad;
     private final List<String> tipos;
     private final List<String> habilidades;
+    // Calculado al primer uso. Sin getter, para que no se serialice.
+    private String etag;
 
     /**
      * Constructor privado que se utiliza exclusivamente por la clase Builder interna.
@@ -27,8 +32,9 @@ public class PokemonStatsResponse {
         this.ataque = builder.ataque;
         this.defensa = builder.defensa;
         this.velocidad = builder.velocidad;
-        this.tipos = builder.tipos;
-        this.habilidades = builder.habilidades;
+        // Copias inmutables: una misma instancia puede compartirse desde la caché entre solicitudes.
+        this.tipos = List.copyOf(builder.tipos);
+        this.habilidades = List.copyOf(builder.habilidades);
     }
 
     // Getters públicos
@@ -40,6 +46,57 @@ public class PokemonStatsResponse {
     public List<String> getTipos() { return tipos; }
     public List<String> getHabilidades() { return habilidades; }
 
+    /**
+     * Validador HTTP ({@code ETag}) fuerte de esta respuesta: un hash FNV-1a de 64 bits de todos
+     * los campos. Depende solo del contenido, por lo que es el mismo en cualquier instancia del
+     * servicio y no cambia al refrescar la caché si la PokeAPI devuelve los mismos datos.
+     *
+     * @return el ETag entre comillas, listo para la cabecera.
+     */
+    public String etag() {
+        String value = etag;
+        if (value == null) {
+            long hash = FNV_OFFSET_BASIS;
+            hash = mix(hash, nombre);
+            hash = mix(hash, hp);
+            hash = mix(hash, ataque);
+            hash = mix(hash, defensa);
+            hash = mix(hash, velocidad);
+            hash = mix(hash, tipos);
+            hash = mix(hash, habilidades);
+            value = "\"" + Long.toHexString(hash) + "\"";
+            // Carrera benigna: todos los hilos calculan el mismo valor
+            etag = value;
+        }
+        return value;
+    }
+
+    private static long mix(long hash, List<String> values) {
+        hash = mix(hash, values.size());
+        for (String value : values) {
+            hash = mix(hash, value);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, -1);
+        }
+        hash = mix(hash, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
     /**
      * Clase estática anidada que implementa el Patrón Builder para construir
      * un objeto {@link PokemonStatsResponse} de forma segura y paso a paso.
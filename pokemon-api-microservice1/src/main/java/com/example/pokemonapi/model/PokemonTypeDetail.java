@@ -0,0 +1,40 @@
+package com.example.pokemonapi.model;
+
+import java.util.List;
+
+/**
+ * Representa la respuesta de {@code /type/{name}} de la PokeAPI. Solo se incluye la lista de
+ * Pokémon del tipo; el resto de la respuesta (relaciones de daño, movimientos, etc.) se ignora.
+ */
+public class PokemonTypeDetail {
+
+    /**
+     * El nombre del tipo (e.g., "fire").
+     */
+    private String name;
+
+    /**
+     * Los Pokémon que tienen este tipo, mapeados desde la clave "pokemon" en el JSON.
+     */
+    private List<TypeMember> pokemon;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public List<TypeMember> getPokemon() { return pokemon; }
+    public void setPokemon(List<TypeMember> pokemon) { this.pokemon = pokemon; }
+
+    /**
+     * Representa una entrada de la lista "pokemon": el Pokémon y la posición del tipo en él.
+     */
+    public static class TypeMember {
+        private Pokemon.NamedApiResource pokemon;
+        private int slot;
+
+        public Pokemon.NamedApiResource getPokemon() { return pokemon; }
+        public void setPokemon(Pokemon.NamedApiResource pokemon) { this.pokemon = pokemon; }
+
+        public int getSlot() { return slot; }
+        public void setSlot(int slot) { this.slot = slot; }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.pokemonapi.model;
+
+import java.util.List;
+
+/**
+ * DTO que representa el ranking de los Pokémon de un tipo según una estadística.
+ * Informa cuántos Pokémon del tipo se evaluaron y cuántos se omitieron (no encontrados,
+ * errores o fuera de plazo). Es inmutable.
+ */
+public class RankingResponse {
+
+    private final String tipo;
+    private final String criterio;
+    private final int evaluados;
+    private final int omitidos;
+    private final List<Entry> resultados;
+
+    public RankingResponse(String tipo, String criterio, int evaluados, int omitidos, List<Entry> resultados) {
+        this.tipo = tipo;
+        this.criterio = criterio;
+        this.evaluados = evaluados;
+        this.omitidos = omitidos;
+        this.resultados = List.copyOf(resultados);
+    }
+
+    // Getters públicos
+    public String getTipo() { return tipo; }
+    public String getCriterio() { return criterio; }
+    public int getEvaluados() { return evaluados; }
+    public int getOmitidos() { return omitidos; }
+    public List<Entry> getResultados() { return resultados; }
+
+    /**
+     * Una posición del ranking.
+     */
+    public static class Entry {
+        private final int posicion;
+        private final String nombre;
+        private final int valor;
+
+        public Entry(int posicion, String nombre, int valor) {
+            this.posicion = posicion;
+            this.nombre = nombre;
+            this.valor = valor;
+        }
+
+        public int getPosicion() { return posicion; }
+        public String getNombre() { return nombre; }
+        public int getValor() { return valor; }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.pokemonapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO con el estado de la instantánea de Pokémon cargada, expuesto por el endpoint
+ * de administración. Es inmutable.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SnapshotStatusResponse {
+    private final boolean cargada;
+    private final String ruta;
+    private final int registros;
+    private final String cargadaEn;
+
+    public SnapshotStatusResponse(boolean cargada, String ruta, int registros, String cargadaEn) {
+        this.cargada = cargada;
+        this.ruta = ruta;
+        this.registros = registros;
+        this.cargadaEn = cargadaEn;
+    }
+
+    // Getters públicos
+    public boolean isCargada() { return cargada; }
+    public String getRuta() { return ruta; }
+    public int getRegistros() { return registros; }
+    public String getCargadaEn() { return cargadaEn; }
+}
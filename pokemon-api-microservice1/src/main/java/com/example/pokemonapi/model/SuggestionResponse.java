@@ -0,0 +1,30 @@
+package com.example.pokemonapi.model;
+
+import java.util.List;
+
+/**
+ * DTO que representa las sugerencias de nombres para una búsqueda. {@code coincidencia} indica
+ * si se encontraron nombres que empiezan por la consulta ({@code prefijo}), nombres parecidos
+ * ({@code aproximada}) o ninguno ({@code ninguna}). Es inmutable.
+ */
+public class SuggestionResponse {
+
+    public static final String PREFIX = "prefijo";
+    public static final String SIMILAR = "aproximada";
+    public static final String NONE = "ninguna";
+
+    private final String consulta;
+    private final String coincidencia;
+    private final List<String> sugerencias;
+
+    public SuggestionResponse(String consulta, String coincidencia, List<String> sugerencias) {
+        this.consulta = consulta;
+        this.coincidencia = coincidencia;
+        this.sugerencias = List.copyOf(sugerencias);
+    }
+
+    // Getters públicos
+    public String getConsulta() { return consulta; }
+    public String getCoincidencia() { return coincidencia; }
+    public List<String> getSugerencias() { return sugerencias; }
+}
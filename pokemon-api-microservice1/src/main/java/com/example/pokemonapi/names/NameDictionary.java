@@ -0,0 +1,180 @@
+package com.example.pokemonapi.names;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Diccionario inmutable de nombres de Pokémon para autocompletar y sugerir correcciones.
+ *
+ * Los nombres se guardan en un arreglo ordenado: las coincidencias por prefijo son una búsqueda
+ * binaria seguida de un recorrido de las posiciones contiguas. Para las sugerencias aproximadas
+ * se indexan los trigramas de cada nombre (con un espacio como relleno en los extremos) en un
+ * arreglo ordenado de trigramas empaquetados en {@code long}, cada uno con la lista de posiciones
+ * de los nombres que lo contienen; los candidatos que comparten trigramas con la consulta se
+ * ordenan por distancia de edición. No se crea ningún objeto por nombre además del propio
+ * {@code String}.
+ */
+public final class NameDictionary {
+
+    private final String[] names;
+    private final long[] trigrams;
+    private final int[][] postings;
+
+    /**
+     * Construye el diccionario. Los nombres repetidos se descartan.
+     *
+     * @param names los nombres normalizados.
+     */
+    public NameDictionary(Collection<String> names) {
+        this.names = names.stream().distinct().sorted().toArray(String[]::new);
+
+        // Trigramas de todos los nombres, empaquetados junto con la posición del nombre
+        List<long[]> pairs = new ArrayList<>();
+        for (int i = 0; i < this.names.length; i++) {
+            long[] nameTrigrams = trigramsOf(this.names[i]);
+            for (long trigram : nameTrigrams) {
+                pairs.add(new long[] {trigram, i});
+            }
+        }
+        pairs.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        long[] keys = new long[pairs.size()];
+        int[][] lists = new int[pairs.size()][];
+        int distinct = 0;
+        for (int start = 0; start < pairs.size(); ) {
+            int end = start;
+            while (end < pairs.size() && pairs.get(end)[0] == pairs.get(start)[0]) {
+                end++;
+            }
+            int[] list = new int[end - start];
+            for (int j = start; j < end; j++) {
+                list[j - start] = (int) pairs.get(j)[1];
+            }
+            keys[distinct] = pairs.get(start)[0];
+            lists[distinct++] = list;
+            start = end;
+        }
+        this.trigrams = Arrays.copyOf(keys, distinct);
+        this.postings = Arrays.copyOf(lists, distinct);
+    }
+
+    /**
+     * Devuelve los nombres que empiezan por el prefijo indicado, en orden alfabético.
+     *
+     * @param prefix el prefijo normalizado.
+     * @param limit el número máximo de nombres.
+     * @return los nombres encontrados, como máximo {@code limit}.
+     */
+    public List<String> withPrefix(String prefix, int limit) {
+        int index = Arrays.binarySearch(names, prefix);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        List<String> matches = new ArrayList<>(Math.min(limit, 16));
+        for (int i = index; i < names.length && matches.size() < limit && names[i].startsWith(prefix); i++) {
+            matches.add(names[i]);
+        }
+        return matches;
+    }
+
+    /**
+     * Devuelve los nombres más parecidos a la consulta: los que comparten algún trigrama con
+     * ella y están a una distancia de edición de como máximo un tercio de su longitud (al menos
+     * 1), ordenados por distancia, después por trigramas compartidos y después alfabéticamente.
+     *
+     * @param query la consulta normalizada.
+     * @param limit el número máximo de nombres.
+     * @return los nombres sugeridos, como máximo {@code limit}.
+     */
+    public List<String> similarTo(String query, int limit) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        int[] shared = new int[names.length];
+        for (long trigram : trigramsOf(query)) {
+            int index = Arrays.binarySearch(trigrams, trigram);
+            if (index >= 0) {
+                for (int name : postings[index]) {
+                    shared[name]++;
+                }
+            }
+        }
+
+        int maxDistance = Math.max(1, query.length() / 3);
+        // Candidatos empaquetados: distancia, trigramas compartidos (invertidos) y posición
+        long[] candidates = new long[16];
+        int count = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (shared[i] == 0 || Math.abs(names[i].length() - query.length()) > maxDistance) {
+                continue;
+            }
+            int distance = editDistance(query, names[i], maxDistance);
+            if (distance <= maxDistance) {
+                if (count == candidates.length) {
+                    candidates = Arrays.copyOf(candidates, count * 2);
+                }
+                candidates[count++] = ((long) distance << 48) | ((long) (0xFFFF - shared[i]) << 32) | i;
+            }
+        }
+        Arrays.sort(candidates, 0, count);
+        List<String> similar = new ArrayList<>(Math.min(limit, count));
+        for (int i = 0; i < count && similar.size() < limit; i++) {
+            similar.add(names[(int) candidates[i]]);
+        }
+        return similar;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Distancia de Levenshtein entre dos cadenas, con corte: devuelve {@code max + 1} en cuanto
+     * toda una fila supera {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] tmp = previous;
+            previous = current;
+            current = tmp;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Trigramas distintos de un nombre con un espacio de relleno en cada extremo, cada uno
+     * empaquetado en un {@code long} (16 bits por carácter).
+     */
+    private static long[] trigramsOf(String name) {
+        String padded = " " + name + " ";
+        long[] result = new long[Math.max(0, padded.length() - 2)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        Arrays.sort(result);
+        int distinct = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (i == 0 || result[i] != result[i - 1]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, distinct);
+    }
+}
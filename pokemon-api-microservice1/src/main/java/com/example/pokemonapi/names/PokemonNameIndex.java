@@ -0,0 +1,249 @@
+package com.example.pokemonapi.names;
+
+import com.example.pokemonapi.config.NameIndexProperties;
+import com.example.pokemonapi.config.PokeApiProperties;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.model.SuggestionResponse;
+import com.example.pokemonapi.util.BloomFilter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Índice de los nombres de Pokémon válidos, con el que se rechazan los nombres inexistentes
+ * sin ninguna llamada a la PokeAPI y se sugieren nombres (autocompletado y "¿quisiste decir?").
+ *
+ * Al arrancar, y después cada {@code pokemon.names.refresh-interval}, descarga el listado de
+ * nombres de la PokeAPI y construye un {@link BloomFilter} y un {@link NameDictionary} nuevos
+ * que reemplazan a los anteriores de forma atómica. Mientras no hay ningún listado cargado (o si la descarga falla la primera vez)
+ * todos los nombres se dan por posibles. Los identificadores numéricos no están en el listado y
+ * siempre se dan por posibles.
+ *
+ * Cuenta los nombres rechazados, los admitidos y los falsos positivos (admitidos a los que la
+ * PokeAPI respondió 404), de los que se obtiene la tasa de falsos positivos observada.
+ */
+@Component
+public class PokemonNameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonNameIndex.class);
+
+    private final RestTemplate restTemplate;
+    private final NameIndexProperties properties;
+    private final String listingUrl;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private volatile Loaded current;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param restTemplate el cliente HTTP con el que se descarga el listado de nombres.
+     * @param pokeApiProperties la configuración del cliente de la PokeAPI (URL base).
+     * @param properties la configuración del índice de nombres.
+     */
+    @Autowired
+    public PokemonNameIndex(RestTemplate restTemplate, PokeApiProperties pokeApiProperties,
+                            NameIndexProperties properties) {
+        this.restTemplate = restTemplate;
+        this.properties = properties;
+        this.listingUrl = pokeApiProperties.getBaseUrl() + "/pokemon?limit=100000&offset=0";
+    }
+
+    /**
+     * Descarga el listado de nombres y reemplaza el filtro activo. Si la descarga falla, se
+     * conserva el filtro anterior. Se ejecuta al arrancar y periódicamente según
+     * {@code pokemon.names.refresh-interval}.
+     */
+    @Scheduled(fixedDelayString = "${pokemon.names.refresh-interval:6h}")
+    public void refresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            load(restTemplate.execute(listingUrl, HttpMethod.GET, null, response -> readNames(response.getBody())));
+        } catch (RuntimeException ex) {
+            log.warn("No se pudo descargar el listado de nombres de Pokémon: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Construye el filtro y el diccionario con los nombres indicados y los activa. Un listado vacío se ignora para
+     * no rechazar todas las consultas.
+     *
+     * @param names los nombres normalizados de todos los Pokémon.
+     */
+    public void load(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            log.warn("El listado de nombres de Pokémon está vacío; se conserva el índice anterior");
+            return;
+        }
+        BloomFilter filter = new BloomFilter(names.size(), properties.getFalsePositiveRate());
+        names.forEach(filter::put);
+        current = new Loaded(filter, new NameDictionary(names));
+        log.info("Índice de nombres de Pokémon cargado con {} nombres ({} bits, {} funciones hash)",
+                names.size(), filter.getBitCount(), filter.getHashCount());
+    }
+
+    /**
+     * Indica si un nombre puede corresponder a un Pokémon. Un resultado {@code false} es
+     * definitivo: la PokeAPI respondería 404.
+     *
+     * @param normalizedName el nombre normalizado.
+     * @return {@code false} solo si el nombre seguro que no existe.
+     */
+    public boolean mightExist(String normalizedName) {
+        Loaded loaded = current;
+        if (loaded == null || isNumeric(normalizedName)) {
+            return true;
+        }
+        if (loaded.filter.mightContain(normalizedName)) {
+            admitted.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Registra que la PokeAPI respondió 404 a un nombre que el filtro había admitido.
+     *
+     * @param normalizedName el nombre normalizado.
+     */
+    public void recordFalsePositive(String normalizedName) {
+        if (current != null && !isNumeric(normalizedName)) {
+            falsePositives.increment();
+        }
+    }
+
+    public boolean isLoaded() { return current != null; }
+    public long getRejected() { return rejected.sum(); }
+    public long getAdmitted() { return admitted.sum(); }
+    public long getFalsePositives() { return falsePositives.sum(); }
+
+    /**
+     * Tasa de falsos positivos observada: de los nombres inexistentes consultados, la fracción
+     * que el filtro admitió y llegó a la PokeAPI.
+     *
+     * @return la tasa observada, o {@code NaN} si todavía no se consultó ningún nombre inexistente.
+     */
+    public double getObservedFalsePositiveRate() {
+        long fp = falsePositives.sum();
+        long negatives = fp + rejected.sum();
+        return negatives == 0 ? Double.NaN : (double) fp / negatives;
+    }
+
+    /**
+     * Tasa de falsos positivos esperada según el tamaño del filtro activo.
+     *
+     * @return la tasa esperada, o {@code NaN} si no hay ningún listado cargado.
+     */
+    public double getExpectedFalsePositiveRate() {
+        Loaded loaded = current;
+        return loaded == null ? Double.NaN : loaded.filter.expectedFalsePositiveRate();
+    }
+
+    public int getSize() {
+        Loaded loaded = current;
+        return loaded == null ? 0 : loaded.dictionary.size();
+    }
+
+    /**
+     * Sugiere nombres para una búsqueda: los que empiezan por la consulta y, si no hay
+     * ninguno, los más parecidos (trigramas compartidos y distancia de edición).
+     *
+     * @param query la consulta, tal como llega en la solicitud.
+     * @param limit el número máximo de sugerencias.
+     * @return las sugerencias y el tipo de coincidencia; vacías si no hay listado cargado.
+     * @throws InvalidRequestException si la consulta está vacía o {@code limit} está fuera de rango.
+     */
+    public SuggestionResponse suggest(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Se debe indicar el texto a buscar (q).");
+        }
+        if (limit < 1 || limit > properties.getMaxSuggestions()) {
+            throw new InvalidRequestException("limit debe estar entre 1 y " + properties.getMaxSuggestions() + ".");
+        }
+        String key = query.trim().toLowerCase(Locale.ROOT);
+        Loaded loaded = current;
+        if (loaded == null) {
+            return new SuggestionResponse(key, SuggestionResponse.NONE, List.of());
+        }
+        List<String> prefixed = loaded.dictionary.withPrefix(key, limit);
+        if (!prefixed.isEmpty()) {
+            return new SuggestionResponse(key, SuggestionResponse.PREFIX, prefixed);
+        }
+        List<String> similar = loaded.dictionary.similarTo(key, limit);
+        return new SuggestionResponse(key, similar.isEmpty() ? SuggestionResponse.NONE : SuggestionResponse.SIMILAR, similar);
+    }
+
+    /**
+     * Sugerencias para la respuesta de un Pokémon no encontrado: como {@link #suggest}, con
+     * {@code pokemon.names.not-found-suggestions} como máximo y sin validar la consulta.
+     *
+     * @param name el nombre solicitado, o {@code null} si la ruta no incluye ninguno.
+     * @return las sugerencias, vacías si no hay nombre o listado cargado.
+     */
+    public List<String> suggestionsFor(String name) {
+        int limit = properties.getNotFoundSuggestions();
+        if (name == null || name.isBlank() || limit < 1 || current == null) {
+            return List.of();
+        }
+        return suggest(name, Math.min(limit, properties.getMaxSuggestions())).getSugerencias();
+    }
+
+    private List<String> readNames(InputStream body) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            // Solo interesan los campos "name" de las entradas de "results"
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() == JsonToken.FIELD_NAME && "name".equals(parser.currentName())
+                        && parser.nextToken() == JsonToken.VALUE_STRING) {
+                    names.add(parser.getText());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static boolean isNumeric(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) < '0' || name.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Filtro y diccionario construidos a partir del mismo listado.
+     */
+    private static final class Loaded {
+        private final BloomFilter filter;
+        private final NameDictionary dictionary;
+
+        private Loaded(BloomFilter filter, NameDictionary dictionary) {
+            this.filter = filter;
+            this.dictionary = dictionary;
+        }
+    }
+}
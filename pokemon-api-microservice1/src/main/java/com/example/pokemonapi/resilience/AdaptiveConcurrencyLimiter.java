@@ -0,0 +1,114 @@
+package com.example.pokemonapi.resilience;
+
+import java.time.Duration;
+
+/**
+ * Límite de llamadas concurrentes que se ajusta con la latencia observada (AIMD: aumento
+ * aditivo, disminución multiplicativa).
+ *
+ * Una llamada que termina por encima de la latencia objetivo reduce el límite multiplicándolo
+ * por el factor de retroceso, como mucho una vez por ventana: las llamadas que ya estaban en curso
+ * al reducirlo no vuelven a reducirlo al terminar, de modo que una oleada de llamadas lentas
+ * simultáneas cuenta como una sola señal.
+ * Cada llamada rápida lo aumenta en {@code 1/límite} (en uno por ventana completa), solo si el
+ * límite se está usando (al menos la mitad ocupado), para que no crezca sin carga. El límite se mantiene entre
+ * el mínimo y el máximo configurados; el máximo actúa como compartimento ("bulkhead") fijo.
+ * Las llamadas por encima del límite se rechazan de inmediato, sin cola.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    // Llamadas en curso en la última reducción que aún no han terminado
+    private int inFlightAtDecrease;
+
+    /**
+     * Crea el limitador.
+     *
+     * @param initialLimit el límite inicial.
+     * @param minLimit el límite mínimo.
+     * @param maxLimit el límite máximo (compartimento).
+     * @param latencyThreshold la latencia a partir de la cual se considera que la PokeAPI está saturada.
+     * @param backoffRatio el factor, entre 0 y 1, aplicado al límite tras una llamada lenta.
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                      double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * Crea un limitador fijo, que solo actúa como compartimento.
+     *
+     * @param maxConcurrentCalls el número máximo de llamadas concurrentes.
+     * @return el limitador.
+     */
+    public static AdaptiveConcurrencyLimiter fixed(int maxConcurrentCalls) {
+        return new AdaptiveConcurrencyLimiter(maxConcurrentCalls, maxConcurrentCalls, maxConcurrentCalls,
+                Duration.ofNanos(Long.MAX_VALUE), 1.0);
+    }
+
+    /**
+     * Solicita permiso para una llamada.
+     *
+     * @return {@code true} si hay capacidad; en ese caso debe llamarse a {@link #onComplete} o a
+     *         {@link #onCancelled()} al terminar.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Registra el fin de una llamada y ajusta el límite con su latencia.
+     *
+     * @param latencyNanos la duración de la llamada.
+     */
+    public synchronized void onComplete(long latencyNanos) {
+        boolean saturated = inFlight * 2 >= limit;
+        inFlight--;
+        boolean sameWindow = inFlightAtDecrease > 0;
+        if (sameWindow) {
+            inFlightAtDecrease--;
+        }
+        if (latencyNanos > latencyThresholdNanos) {
+            if (!sameWindow) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                inFlightAtDecrease = inFlight;
+            }
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    /**
+     * Libera un permiso sin ajustar el límite (la llamada no llegó a realizarse).
+     */
+    public synchronized void onCancelled() {
+        inFlight--;
+        if (inFlightAtDecrease > inFlight) {
+            inFlightAtDecrease = inFlight;
+        }
+    }
+
+    /** Límite actual de llamadas concurrentes. */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /** Llamadas en curso. */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
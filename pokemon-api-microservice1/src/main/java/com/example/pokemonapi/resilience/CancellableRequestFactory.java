@@ -0,0 +1,85 @@
+package com.example.pokemonapi.resilience;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * Fábrica de solicitudes de Apache HttpClient que permite abortar desde otro hilo una llamada
+ * bloqueante del {@code RestTemplate} en curso.
+ *
+ * El hilo que realiza la llamada la ejecuta dentro de {@link #callWith(Handle, Supplier)}; la
+ * solicitud creada en ese hilo queda asociada al {@link Handle}, y {@link Handle#cancel()} cierra
+ * su conexión, de modo que la lectura bloqueada termina de inmediato con un error.
+ */
+public class CancellableRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private static final ThreadLocal<Handle> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Crea la fábrica sobre el cliente HTTP dado.
+     *
+     * @param httpClient el cliente HTTP con pool de conexiones.
+     */
+    public CancellableRequestFactory(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * Ejecuta una llamada asociando a {@code handle} las solicitudes que cree en este hilo.
+     *
+     * @param handle el manejador con el que se podrá abortar la llamada.
+     * @param call la llamada bloqueante.
+     * @param <T> el tipo del resultado.
+     * @return el resultado de la llamada.
+     */
+    public static <T> T callWith(Handle handle, Supplier<T> call) {
+        CURRENT.set(handle);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    protected void postProcessHttpRequest(ClassicHttpRequest request) {
+        Handle handle = CURRENT.get();
+        if (handle != null && request instanceof Cancellable cancellable) {
+            handle.bind(cancellable);
+        }
+    }
+
+    /**
+     * Permite abortar la solicitud asociada, incluso si aún no se ha creado.
+     */
+    public static final class Handle {
+        private Cancellable request;
+        private boolean cancelled;
+
+        private synchronized void bind(Cancellable request) {
+            this.request = request;
+            if (cancelled) {
+                request.cancel();
+            }
+        }
+
+        /**
+         * Aborta la solicitud asociada, o la siguiente que se asocie.
+         */
+        public synchronized void cancel() {
+            cancelled = true;
+            if (request != null) {
+                request.cancel();
+            }
+        }
+
+        /** Indica si se pidió abortar la solicitud. */
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
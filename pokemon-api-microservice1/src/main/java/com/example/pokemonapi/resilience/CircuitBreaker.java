@@ -0,0 +1,177 @@
+package com.example.pokemonapi.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Cortocircuito ("circuit breaker") basado en una ventana de las últimas llamadas.
+ *
+ * <ul>
+ *   <li>{@code CLOSED}: las llamadas pasan. Si en la ventana la proporción de fallos o de
+ *       llamadas lentas alcanza su umbral (con un mínimo de llamadas registradas), se abre.</li>
+ *   <li>{@code OPEN}: las llamadas se rechazan sin intentarlas hasta que transcurre el tiempo de
+ *       apertura.</li>
+ *   <li>{@code HALF_OPEN}: se permite un número fijo de llamadas de prueba; si sus resultados
+ *       superan los umbrales vuelve a abrirse y, si no, se cierra con la ventana vacía.</li>
+ * </ul>
+ *
+ * Los métodos están sincronizados: el coste es despreciable frente a una llamada HTTP.
+ */
+public class CircuitBreaker {
+
+    /**
+     * Estados del cortocircuito.
+     */
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final byte[] window;
+    private int position;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+
+    /**
+     * Crea el cortocircuito.
+     *
+     * @param windowSize número de llamadas recientes consideradas.
+     * @param minimumCalls llamadas registradas necesarias antes de evaluar los umbrales.
+     * @param failureRateThreshold proporción de fallos, entre 0 y 1, que abre el circuito.
+     * @param slowCallRateThreshold proporción de llamadas lentas, entre 0 y 1, que abre el circuito.
+     * @param slowCallDuration duración a partir de la cual una llamada se considera lenta.
+     * @param openDuration tiempo que el circuito permanece abierto antes de las llamadas de prueba.
+     * @param halfOpenCalls número de llamadas de prueba en estado semiabierto.
+     * @param nanoClock la fuente de tiempo, en nanosegundos.
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, double slowCallRateThreshold,
+                          Duration slowCallDuration, Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+        this.window = new byte[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Solicita permiso para una llamada.
+     *
+     * @return {@code true} si la llamada puede realizarse; en ese caso debe informarse su
+     *         resultado con {@link #onResult} o, si finalmente no se realiza, con {@link #onCancelled()}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * Registra el resultado de una llamada permitida.
+     *
+     * @param failed si la llamada falló.
+     * @param durationNanos la duración de la llamada.
+     */
+    public synchronized void onResult(boolean failed, long durationNanos) {
+        if (state == State.OPEN) {
+            // Llamada iniciada antes de abrirse el circuito
+            return;
+        }
+        byte outcome = (byte) ((failed ? FAILED : 0) | (durationNanos >= slowCallNanos ? SLOW : 0));
+        record(outcome);
+        if (state == State.HALF_OPEN) {
+            if (recorded >= halfOpenCalls) {
+                transitionTo(exceedsThresholds() ? State.OPEN : State.CLOSED);
+            }
+        } else if (recorded >= minimumCalls && exceedsThresholds()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Devuelve un permiso obtenido con {@link #tryAcquire()} que no llegó a usarse.
+     */
+    public synchronized void onCancelled() {
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * Obtiene el estado actual.
+     *
+     * @return el estado del cortocircuito.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Tiempo que falta para permitir llamadas de prueba.
+     *
+     * @return el tiempo restante de apertura, o cero si el circuito no está abierto.
+     */
+    public synchronized Duration remainingOpenTime() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openNanos - (nanoClock.getAsLong() - openedAt)));
+    }
+
+    private void record(byte outcome) {
+        if (recorded == window.length) {
+            byte evicted = window[position];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        window[position] = outcome;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+        position = (position + 1) % window.length;
+    }
+
+    private boolean exceedsThresholds() {
+        return (double) failures / recorded >= failureRateThreshold
+                || (double) slowCalls / recorded >= slowCallRateThreshold;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        } else if (next == State.HALF_OPEN) {
+            halfOpenPermits = halfOpenCalls;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.pokemonapi.resilience;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Temporizador compartido de los plazos de las solicitudes y de los reintentos y las coberturas
+ * de {@link UpstreamRetrier}.
+ *
+ * Un solo hilo vigila todos los temporizadores y se limita a entregar cada acción al pool
+ * indicado. A diferencia de {@link CompletableFuture#delayedExecutor}, cada temporizador se
+ * cancela cuando termina el futuro al que pertenece y sale de la cola al momento, de modo que no
+ * retiene ese futuro ni lo que referencia su acción hasta vencer.
+ */
+final class DelayScheduler {
+
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+    private DelayScheduler() {
+    }
+
+    /**
+     * Programa una acción que deja de ser necesaria cuando termina un futuro.
+     *
+     * @param delayNanos la espera antes de la acción.
+     * @param executor el pool en el que se ejecuta la acción.
+     * @param action la acción.
+     * @param owner el futuro al que pertenece la acción; al terminar se cancela el temporizador.
+     * @param onRejected lo que se hace, en el hilo del temporizador, si el pool rechaza la acción.
+     */
+    static void schedule(long delayNanos, Executor executor, Runnable action, CompletableFuture<?> owner,
+                         Runnable onRejected) {
+        ScheduledFuture<?> timer = TIMER.schedule(() -> {
+            try {
+                executor.execute(action);
+            } catch (RejectedExecutionException ex) {
+                onRejected.run();
+            }
+        }, Math.max(0, delayNanos), TimeUnit.NANOSECONDS);
+        owner.whenComplete((result, ex) -> timer.cancel(false));
+    }
+
+    /** Temporizadores pendientes, para las pruebas. */
+    static int pending() {
+        return TIMER.getQueue().size();
+    }
+
+    private static ScheduledThreadPoolExecutor timer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "upstream-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+}
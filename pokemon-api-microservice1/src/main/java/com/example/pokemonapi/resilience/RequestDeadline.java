@@ -0,0 +1,172 @@
+package com.example.pokemonapi.resilience;
+
+import com.example.pokemonapi.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Plazo de una solicitud y aviso de que su cliente se desconectó.
+ *
+ * {@link RequestDeadlineInterceptor} crea uno por solicitud y lo asocia al hilo que la atiende,
+ * de modo que {@code PokemonService} lo obtiene con {@link #current()} sin pasarlo por cada
+ * método. Quien continúa el trabajo en otro hilo (e.g., los reintentos o el cliente no
+ * bloqueante) debe capturarlo antes y pasarlo de forma explícita. Sin solicitud asociada (e.g.,
+ * el refresco en segundo plano o las consultas por lotes en su pool) se usa {@link #NONE}, sin
+ * plazo ni aviso.
+ */
+public final class RequestDeadline {
+
+    /** Sin plazo ni aviso de desconexión. */
+    public static final RequestDeadline NONE = new RequestDeadline(0, false, null);
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final boolean bounded;
+    // Se completa cuando el cliente se desconecta; null en NONE
+    private final CompletableFuture<Void> abandoned;
+
+    private RequestDeadline(long deadlineNanos, boolean bounded, CompletableFuture<Void> abandoned) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+        this.abandoned = abandoned;
+    }
+
+    /**
+     * Crea el plazo de una solicitud que acaba de llegar.
+     *
+     * @param timeout el tiempo disponible desde ahora, o {@code null} para no acotarla (solo se
+     *                avisa de la desconexión del cliente).
+     * @return el plazo.
+     */
+    public static RequestDeadline start(Duration timeout) {
+        return timeout == null
+                ? new RequestDeadline(0, false, new CompletableFuture<>())
+                : new RequestDeadline(System.nanoTime() + timeout.toNanos(), true, new CompletableFuture<>());
+    }
+
+    /**
+     * Plazo de la solicitud que atiende el hilo actual.
+     *
+     * @return el plazo asociado, o {@link #NONE} si no hay ninguno.
+     */
+    public static RequestDeadline current() {
+        RequestDeadline deadline = CURRENT.get();
+        return deadline != null ? deadline : NONE;
+    }
+
+    /**
+     * Asocia un plazo al hilo actual, o lo desasocia con {@code null}.
+     *
+     * @param deadline el plazo de la solicitud que pasa a atender el hilo.
+     */
+    public static void attach(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /** Indica si la solicitud tiene un plazo. */
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * Tiempo que queda hasta el plazo.
+     *
+     * @return los nanosegundos restantes (negativo si ya venció), o {@link Long#MAX_VALUE} sin plazo.
+     */
+    public long remainingNanos() {
+        return bounded ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    /** Indica si el plazo ya venció. */
+    public boolean isExpired() {
+        return bounded && remainingNanos() <= 0;
+    }
+
+    /**
+     * El primero de los dos plazos, en la escala de {@link System#nanoTime()}.
+     *
+     * @param otherDeadlineNanos otro plazo.
+     * @return el plazo de la solicitud si vence antes; si no, {@code otherDeadlineNanos}.
+     */
+    public long earliest(long otherDeadlineNanos) {
+        return bounded && deadlineNanos - otherDeadlineNanos < 0 ? deadlineNanos : otherDeadlineNanos;
+    }
+
+    /**
+     * Crea la excepción con la que termina una operación cuyo plazo venció.
+     *
+     * @return la excepción.
+     */
+    public DeadlineExceededException exceeded() {
+        return new DeadlineExceededException("Se agotó el plazo de la solicitud antes de obtener la respuesta.");
+    }
+
+    /**
+     * Avisa de que el cliente se desconectó: ejecuta las acciones de {@link #onAbandon}. Solo
+     * tiene efecto la primera vez.
+     */
+    public void abandon() {
+        if (abandoned != null) {
+            abandoned.complete(null);
+        }
+    }
+
+    /** Indica si el cliente se desconectó. */
+    public boolean isAbandoned() {
+        return abandoned != null && abandoned.isDone();
+    }
+
+    /**
+     * Registra una acción a ejecutar cuando el cliente se desconecte (de inmediato si ya lo hizo).
+     *
+     * @param action la acción, e.g., cancelar una operación en curso.
+     */
+    public void onAbandon(Runnable action) {
+        if (abandoned != null) {
+            abandoned.thenRun(action);
+        }
+    }
+
+    /**
+     * Acota un futuro a la solicitud: se completa con {@link DeadlineExceededException} si
+     * vence el plazo y se cancela si el cliente se desconecta.
+     *
+     * @param future el futuro, que no debe compartirse con otras solicitudes.
+     * @param <T> el tipo del resultado.
+     * @return el mismo futuro.
+     */
+    public <T> CompletableFuture<T> bind(CompletableFuture<T> future) {
+        if (future.isDone()) {
+            return future;
+        }
+        expire(future, ForkJoinPool.commonPool());
+        onAbandon(() -> future.cancel(false));
+        return future;
+    }
+
+    /**
+     * Completa un futuro con {@link DeadlineExceededException} cuando vence el plazo. El
+     * temporizador se cancela en cuanto el futuro termina, de modo que no retiene el futuro ni
+     * lo que este referencia hasta el vencimiento. Sin plazo no hace nada.
+     *
+     * @param future el futuro a acotar.
+     * @param executor el pool en el que se completa el futuro al vencer, para que sus acciones
+     *                 dependientes no ocupen el hilo de los temporizadores.
+     */
+    public void expire(CompletableFuture<?> future, Executor executor) {
+        if (!bounded || future.isDone()) {
+            return;
+        }
+        Runnable expire = () -> future.completeExceptionally(exceeded());
+        // Con el pool lleno, el plazo vence igualmente en el hilo del temporizador
+        DelayScheduler.schedule(remainingNanos(), executor, expire, future, expire);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.pokemonapi.resilience;
+
+import com.example.pokemonapi.config.DeadlineProperties;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Interceptor de Spring MVC que crea el {@link RequestDeadline} de cada solicitud, a partir de
+ * la cabecera configurada (milisegundos, acotados a {@code max-timeout}) o del plazo por defecto,
+ * y lo asocia al hilo que la atiende.
+ *
+ * Cuando la respuesta se completa de forma asíncrona (e.g., con
+ * {@code pokeapi.client-mode=reactive}), el hilo del servidor queda libre y el contenedor avisa
+ * con {@link AsyncListener#onError} si el cliente se desconecta; el interceptor lo traslada a
+ * {@link RequestDeadline#abandon()} para cancelar el trabajo pendiente.
+ */
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ATTRIBUTE = RequestDeadline.class.getName();
+
+    private final String header;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    /**
+     * Crea el interceptor con la configuración del plazo.
+     *
+     * @param properties la configuración del plazo.
+     */
+    public RequestDeadlineInterceptor(DeadlineProperties properties) {
+        this.header = properties.getHeader();
+        this.defaultTimeout = properties.getDefaultTimeout().isZero() ? null : properties.getDefaultTimeout();
+        this.maxTimeout = properties.getMaxTimeout();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // En el despacho asíncrono se continúa con el plazo del despacho inicial
+        RequestDeadline deadline = (RequestDeadline) request.getAttribute(ATTRIBUTE);
+        if (deadline == null) {
+            // Una cabecera que no es un número de milisegundos responde 400 Bad Request
+            deadline = RequestDeadline.start(timeoutOf(request.getHeader(header)));
+            request.setAttribute(ATTRIBUTE, deadline);
+        }
+        RequestDeadline.attach(deadline);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.attach(null);
+        RequestDeadline deadline = (RequestDeadline) request.getAttribute(ATTRIBUTE);
+        if (deadline != null) {
+            request.getAsyncContext().addListener(new DisconnectListener(deadline));
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.attach(null);
+    }
+
+    private Duration timeoutOf(String value) {
+        if (value == null) {
+            return defaultTimeout;
+        }
+        long millis;
+        try {
+            millis = Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            millis = -1;
+        }
+        if (millis < 0) {
+            throw new InvalidRequestException("La cabecera " + header + " debe ser un número de milisegundos.");
+        }
+        Duration timeout = Duration.ofMillis(millis);
+        return timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+    }
+
+    /**
+     * Avisa al plazo cuando el contenedor informa de un error de la conexión asíncrona.
+     */
+    private static final class DisconnectListener implements AsyncListener {
+        private final RequestDeadline deadline;
+
+        private DisconnectListener(RequestDeadline deadline) {
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            deadline.abandon();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.pokemonapi.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Presupuesto global de llamadas adicionales (reintentos y solicitudes de cobertura) hacia la
+ * PokeAPI, proporcional al tráfico base.
+ *
+ * En una ventana deslizante de segundos, las llamadas adicionales permitidas son
+ * {@code ratio * solicitudes + minPerSecond * segundos de ventana}. Si la PokeAPI falla para
+ * todas las solicitudes, el tráfico hacia ella crece como mucho en esa proporción en lugar de
+ * multiplicarse por el número de reintentos.
+ */
+public class RetryBudget {
+
+    private static final long NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final double ratio;
+    private final long reserve;
+    private final LongSupplier nanoClock;
+
+    // Un contador por segundo de la ventana, indexado por segundo absoluto módulo el tamaño
+    private final long[] bucketSecond;
+    private final long[] requests;
+    private final long[] withdrawals;
+    private long totalRequests;
+    private long totalWithdrawals;
+
+    /**
+     * Crea el presupuesto.
+     *
+     * @param ratio la proporción de llamadas adicionales sobre las solicitudes (e.g., 0.1 = 10 %).
+     * @param minPerSecond llamadas adicionales permitidas por segundo aunque haya poco tráfico.
+     * @param window la duración de la ventana, redondeada a segundos (mínimo uno).
+     * @param nanoClock la fuente de tiempo, en nanosegundos.
+     */
+    public RetryBudget(double ratio, int minPerSecond, Duration window, LongSupplier nanoClock) {
+        int seconds = (int) Math.max(1, window.toSeconds());
+        this.ratio = ratio;
+        this.reserve = (long) minPerSecond * seconds;
+        this.nanoClock = nanoClock;
+        this.bucketSecond = new long[seconds];
+        this.requests = new long[seconds];
+        this.withdrawals = new long[seconds];
+    }
+
+    /**
+     * Registra una solicitud base, que aumenta el presupuesto disponible.
+     */
+    public synchronized void onRequest() {
+        int bucket = currentBucket();
+        requests[bucket]++;
+        totalRequests++;
+    }
+
+    /**
+     * Intenta consumir una llamada adicional del presupuesto.
+     *
+     * @return {@code true} si la llamada adicional está permitida.
+     */
+    public synchronized boolean tryWithdraw() {
+        int bucket = currentBucket();
+        if (totalWithdrawals >= available()) {
+            return false;
+        }
+        withdrawals[bucket]++;
+        totalWithdrawals++;
+        return true;
+    }
+
+    /**
+     * Llamadas adicionales que quedan en la ventana actual.
+     *
+     * @return el presupuesto restante.
+     */
+    public synchronized long remaining() {
+        currentBucket();
+        return Math.max(0, available() - totalWithdrawals);
+    }
+
+    private long available() {
+        return reserve + (long) (ratio * totalRequests);
+    }
+
+    /**
+     * Descarta los segundos que salieron de la ventana y devuelve el del instante actual.
+     */
+    private int currentBucket() {
+        int size = bucketSecond.length;
+        long second = nanoClock.getAsLong() / NANOS_PER_SECOND;
+        int bucket = (int) Math.floorMod(second, (long) size);
+        if (bucketSecond[bucket] != second) {
+            // El reloj avanzó: cada casilla debe corresponder a uno de los últimos segundos
+            for (int i = 0; i < size; i++) {
+                long expected = second - Math.floorMod(bucket - i, size);
+                if (bucketSecond[i] != expected) {
+                    totalRequests -= requests[i];
+                    totalWithdrawals -= withdrawals[i];
+                    requests[i] = 0;
+                    withdrawals[i] = 0;
+                    bucketSecond[i] = expected;
+                }
+            }
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.pokemonapi.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Percentil de las últimas latencias observadas, usado para decidir cuándo enviar una
+ * solicitud de cobertura.
+ *
+ * Guarda las últimas {@code capacity} muestras en un búfer circular y recalcula el percentil
+ * (copia y ordenación) cada {@code recomputeEvery} muestras, de modo que la lectura en cada
+ * solicitud es solo un campo volátil.
+ */
+public class RollingPercentile {
+
+    private final long[] samples;
+    private final double quantile;
+    private final int minSamples;
+    private final int recomputeEvery;
+
+    private int position;
+    private int count;
+    private int sinceRecompute;
+    private volatile long value = -1;
+
+    /**
+     * Crea el estimador.
+     *
+     * @param capacity el número de muestras recientes consideradas.
+     * @param percentile el percentil a estimar, entre 0 y 100.
+     * @param minSamples las muestras necesarias antes de dar un valor.
+     * @param recomputeEvery cada cuántas muestras se recalcula el percentil.
+     */
+    public RollingPercentile(int capacity, double percentile, int minSamples, int recomputeEvery) {
+        this.samples = new long[capacity];
+        this.quantile = percentile / 100;
+        this.minSamples = Math.min(Math.max(1, minSamples), capacity);
+        this.recomputeEvery = Math.max(1, recomputeEvery);
+    }
+
+    /**
+     * Añade una muestra.
+     *
+     * @param nanos la latencia observada, en nanosegundos.
+     */
+    public synchronized void record(long nanos) {
+        samples[position] = nanos;
+        position = (position + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRecompute >= recomputeEvery && count >= minSamples) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            // Método del rango más cercano
+            int rank = (int) Math.ceil(quantile * count);
+            value = sorted[Math.max(0, Math.min(count, rank) - 1)];
+        }
+    }
+
+    /**
+     * Último percentil calculado.
+     *
+     * @return la latencia del percentil en nanosegundos, o -1 si aún no hay suficientes muestras.
+     */
+    public long get() {
+        return value;
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.pokemonapi.resilience;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de tasa de tipo "token bucket": concede hasta {@code permitsPerSecond} permisos por
+ * segundo de media, con ráfagas de hasta {@code burst} permisos acumulados.
+ *
+ * Sin permisos disponibles, la solicitud espera en una cola acotada ordenada por plazo, de modo
+ * que los permisos se conceden primero a las solicitudes con menos tiempo restante. Una solicitud
+ * que no recibiría su permiso antes de su plazo (según su posición en la cola y la tasa) se
+ * rechaza de inmediato en lugar de esperar para agotar el plazo. Una solicitud con un plazo más
+ * corto puede adelantar a otras ya encoladas; si con ello alguna deja de llegar a tiempo, se
+ * rechaza en cuanto pasa a la cabeza de la cola.
+ *
+ * Los permisos se reparten al ritmo de la tasa en el pool común con
+ * {@link CompletableFuture#delayedExecutor}. Los métodos están sincronizados: el coste es
+ * despreciable frente a una llamada HTTP.
+ */
+public class TokenBucketRateLimiter {
+
+    /**
+     * Motivos de rechazo de una solicitud.
+     */
+    public enum Rejection {
+        /** La cola de espera está llena. */
+        QUEUE_FULL,
+        /** El permiso no llegaría antes del plazo de la solicitud. */
+        DEADLINE
+    }
+
+    private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final int maxQueueSize;
+    private final LongSupplier nanoClock;
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>();
+
+    private double tokens;
+    private long refilledAt;
+    private long sequence;
+    private boolean dispatchScheduled;
+
+    private final LongAdder granted = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder queueFullRejections = new LongAdder();
+    private final LongAdder deadlineRejections = new LongAdder();
+
+    /**
+     * Crea el limitador con todos los permisos de la ráfaga disponibles.
+     *
+     * @param permitsPerSecond permisos por segundo concedidos de media.
+     * @param burst permisos que se pueden acumular y conceder de golpe.
+     * @param maxQueueSize solicitudes que pueden esperar un permiso a la vez.
+     * @param nanoClock la fuente de tiempo, en nanosegundos.
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxQueueSize, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxQueueSize < 0) {
+            throw new IllegalArgumentException("La tasa y la ráfaga deben ser positivas y la cola no negativa.");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.maxQueueSize = maxQueueSize;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Solicita un permiso que debe concederse antes de {@code deadlineNanos}.
+     *
+     * @param deadlineNanos el plazo de la solicitud, en la escala de la fuente de tiempo.
+     * @param rejection crea la excepción de un rechazo, lanzada directamente o con la que se completa el futuro.
+     * @return un futuro ya completado si hay un permiso disponible; si no, uno que se completa
+     *         al concederse el permiso o, con la excepción de {@code rejection}, si el plazo deja
+     *         de poder cumplirse. Cancelarlo retira la solicitud de la cola.
+     * @throws RuntimeException la excepción de {@code rejection} si la cola está llena o el
+     *         permiso no llegaría a tiempo.
+     */
+    public CompletableFuture<Void> acquire(long deadlineNanos, Function<Rejection, ? extends RuntimeException> rejection) {
+        Waiter waiter;
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            if (queue.isEmpty() && tokens >= 1) {
+                tokens--;
+                granted.increment();
+                return GRANTED;
+            }
+            if (queue.size() >= maxQueueSize) {
+                queueFullRejections.increment();
+                throw rejection.apply(Rejection.QUEUE_FULL);
+            }
+            if (projectedGrantNanos(now, deadlineNanos) - deadlineNanos > 0) {
+                deadlineRejections.increment();
+                throw rejection.apply(Rejection.DEADLINE);
+            }
+            waiter = new Waiter(deadlineNanos, sequence++, now, rejection);
+            queue.add(waiter);
+            scheduleDispatch();
+        }
+        waiter.future.whenComplete((result, ex) -> {
+            if (waiter.future.isCancelled()) {
+                remove(waiter);
+            }
+        });
+        return waiter.future;
+    }
+
+    /**
+     * Concede los permisos acumulados a las solicitudes en cola, de menor a mayor plazo, y
+     * rechaza la cabeza de la cola si su plazo vence antes del siguiente permiso. Visible en el
+     * paquete para las pruebas.
+     */
+    void dispatch() {
+        List<Waiter> grants = new ArrayList<>();
+        List<Waiter> expired = new ArrayList<>();
+        long now;
+        synchronized (this) {
+            dispatchScheduled = false;
+            now = nanoClock.getAsLong();
+            refill(now);
+            while (!queue.isEmpty()) {
+                Waiter head = queue.peek();
+                if (head.deadlineNanos - now < nanosUntilNextToken()) {
+                    expired.add(queue.poll());
+                } else if (tokens >= 1) {
+                    tokens--;
+                    grants.add(queue.poll());
+                } else {
+                    break;
+                }
+            }
+            if (!queue.isEmpty()) {
+                scheduleDispatch();
+            }
+        }
+        for (Waiter waiter : grants) {
+            if (waiter.future.complete(null)) {
+                granted.increment();
+                waitNanos.add(now - waiter.enqueuedNanos);
+            } else {
+                // Se canceló tras salir de la cola: el permiso no se usó
+                refund();
+            }
+        }
+        for (Waiter waiter : expired) {
+            if (waiter.future.completeExceptionally(waiter.rejection.apply(Rejection.DEADLINE))) {
+                deadlineRejections.increment();
+            }
+        }
+    }
+
+    /** Solicitudes esperando un permiso. */
+    public synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    /** Permisos concedidos, con o sin espera. */
+    public long getGranted() {
+        return granted.sum();
+    }
+
+    /** Tiempo total esperado en la cola por los permisos concedidos, en nanosegundos. */
+    public long getWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    /** Solicitudes rechazadas con la cola llena. */
+    public long getQueueFullRejections() {
+        return queueFullRejections.sum();
+    }
+
+    /** Solicitudes rechazadas porque su permiso no llegaría antes de su plazo. */
+    public long getDeadlineRejections() {
+        return deadlineRejections.sum();
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+    }
+
+    private long nanosUntilNextToken() {
+        return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / permitsPerNano);
+    }
+
+    /**
+     * Instante en que se concedería el permiso a una nueva solicitud con el plazo dado: tras las
+     * encoladas con un plazo menor o igual.
+     */
+    private long projectedGrantNanos(long now, long deadlineNanos) {
+        int ahead = 0;
+        for (Waiter waiter : queue) {
+            if (waiter.deadlineNanos - deadlineNanos <= 0) {
+                ahead++;
+            }
+        }
+        double missing = ahead + 1 - tokens;
+        return missing <= 0 ? now : now + (long) Math.ceil(missing / permitsPerNano);
+    }
+
+    private void scheduleDispatch() {
+        if (dispatchScheduled) {
+            return;
+        }
+        dispatchScheduled = true;
+        CompletableFuture.delayedExecutor(nanosUntilNextToken(), TimeUnit.NANOSECONDS).execute(this::dispatch);
+    }
+
+    private synchronized void remove(Waiter waiter) {
+        queue.remove(waiter);
+    }
+
+    private synchronized void refund() {
+        tokens = Math.min(burst, tokens + 1);
+        if (!queue.isEmpty()) {
+            scheduleDispatch();
+        }
+    }
+
+    /**
+     * Solicitud en espera, ordenada por plazo y, a igual plazo, por llegada.
+     */
+    private static final class Waiter implements Comparable<Waiter> {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final long deadlineNanos;
+        private final long sequence;
+        private final long enqueuedNanos;
+        private final Function<Rejection, ? extends RuntimeException> rejection;
+
+        private Waiter(long deadlineNanos, long sequence, long enqueuedNanos,
+                       Function<Rejection, ? extends RuntimeException> rejection) {
+            this.deadlineNanos = deadlineNanos;
+            this.sequence = sequence;
+            this.enqueuedNanos = enqueuedNanos;
+            this.rejection = rejection;
+        }
+
+        @Override
+        public int compareTo(Waiter other) {
+            int byDeadline = Long.compare(deadlineNanos - other.deadlineNanos, 0);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+    }
+}
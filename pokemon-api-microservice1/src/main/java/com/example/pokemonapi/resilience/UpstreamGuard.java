@@ -0,0 +1,224 @@
+package com.example.pokemonapi.resilience;
+
+import com.example.pokemonapi.config.ResilienceProperties;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Protege las llamadas a la PokeAPI con un {@link TokenBucketRateLimiter}, un
+ * {@link CircuitBreaker} y un {@link AdaptiveConcurrencyLimiter}. Cada llamada espera primero su
+ * turno en el límite de tasa ({@link #admit(String, RequestDeadline)}) y después obtiene un {@link Permit} antes de
+ * realizarse, que libera con su resultado; si no hay permiso, se lanza de inmediato
+ * {@link PokeApiUnavailableException} en lugar de esperar a una PokeAPI lenta.
+ */
+@Component
+public class UpstreamGuard {
+
+    // Sugerencia de reintento cuando el rechazo se debe al límite de concurrencia
+    private static final Duration LIMIT_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final CompletableFuture<Void> ADMITTED = CompletableFuture.completedFuture(null);
+
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final long maxRateWaitNanos;
+    private final LongSupplier nanoClock;
+    private final LongAdder circuitOpenRejections = new LongAdder();
+    private final LongAdder limitRejections = new LongAdder();
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param properties la configuración de las protecciones.
+     */
+    @Autowired
+    public UpstreamGuard(ResilienceProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    /**
+     * Constructor que permite sustituir el reloj, usado en las pruebas.
+     *
+     * @param properties la configuración de las protecciones.
+     * @param nanoClock la fuente de tiempo, en nanosegundos.
+     */
+    UpstreamGuard(ResilienceProperties properties, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        ResilienceProperties.CircuitBreaker breaker = properties.getCircuitBreaker();
+        this.circuitBreaker = breaker.isEnabled()
+                ? new CircuitBreaker(breaker.getSlidingWindowSize(), breaker.getMinimumCalls(),
+                        breaker.getFailureRateThreshold() / 100, breaker.getSlowCallRateThreshold() / 100,
+                        breaker.getSlowCallDuration(), breaker.getOpenDuration(), breaker.getHalfOpenCalls(), nanoClock)
+                : null;
+        ResilienceProperties.Limiter limits = properties.getLimiter();
+        this.limiter = limits.isAdaptive()
+                ? new AdaptiveConcurrencyLimiter(limits.getInitialLimit(), limits.getMinLimit(),
+                        limits.getMaxConcurrentCalls(), limits.getLatencyThreshold(), limits.getBackoffRatio())
+                : AdaptiveConcurrencyLimiter.fixed(limits.getMaxConcurrentCalls());
+        ResilienceProperties.RateLimit rate = properties.getRateLimit();
+        this.rateLimiter = rate.isEnabled()
+                ? new TokenBucketRateLimiter(rate.getPermitsPerSecond(), rate.getBurst(), rate.getMaxQueueSize(), nanoClock)
+                : null;
+        this.maxRateWaitNanos = rate.getMaxWait().toNanos();
+    }
+
+    /**
+     * Espera el turno de una llamada a la PokeAPI en el límite de tasa, con un plazo de
+     * {@code rate-limit.max-wait} o el de la solicitud si vence antes. Se invoca antes de
+     * {@link #acquire(String)}, para no ocupar un permiso de concurrencia mientras se espera.
+     *
+     * @param pokemonName el nombre consultado, solo para el mensaje de error.
+     * @param deadline el plazo de la solicitud que origina la llamada.
+     * @return un futuro ya completado si la llamada puede realizarse ya (o el límite está
+     *         deshabilitado); si no, uno que se completa al llegar su turno o con
+     *         {@link PokeApiUnavailableException} si su plazo deja de poder cumplirse. Cancelarlo
+     *         retira la llamada de la cola.
+     * @throws PokeApiUnavailableException si la cola está llena o el turno no llegaría a tiempo.
+     */
+    public CompletableFuture<Void> admit(String pokemonName, RequestDeadline deadline) {
+        if (rateLimiter == null) {
+            return ADMITTED;
+        }
+        long queueDeadline = deadline.earliest(nanoClock.getAsLong() + maxRateWaitNanos);
+        return rateLimiter.acquire(queueDeadline, rejection -> rateRejection(rejection, pokemonName));
+    }
+
+    /**
+     * Obtiene permiso para una llamada a la PokeAPI.
+     *
+     * @param pokemonName el nombre consultado, solo para el mensaje de error.
+     * @return el permiso, que debe liberarse con {@link Permit#release(boolean)}.
+     * @throws PokeApiUnavailableException si el circuito está abierto o no queda capacidad.
+     */
+    public Permit acquire(String pokemonName) {
+        if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+            circuitOpenRejections.increment();
+            Duration retryAfter = circuitBreaker.remainingOpenTime();
+            throw new PokeApiUnavailableException(PokeApiUnavailableException.CIRCUIT_OPEN,
+                    "La PokeAPI no está disponible temporalmente; no se consultó '" + pokemonName + "'.",
+                    retryAfter.isZero() ? LIMIT_RETRY_AFTER : retryAfter);
+        }
+        if (!limiter.tryAcquire()) {
+            if (circuitBreaker != null) {
+                circuitBreaker.onCancelled();
+            }
+            limitRejections.increment();
+            throw new PokeApiUnavailableException(PokeApiUnavailableException.LIMIT_REACHED,
+                    "Demasiadas consultas en curso a la PokeAPI; no se consultó '" + pokemonName + "'.",
+                    LIMIT_RETRY_AFTER);
+        }
+        return new Permit(nanoClock.getAsLong());
+    }
+
+    /** Estado actual del cortocircuito ({@code CLOSED} si está deshabilitado). */
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker == null ? CircuitBreaker.State.CLOSED : circuitBreaker.getState();
+    }
+
+    /** Límite actual de llamadas concurrentes. */
+    public int getConcurrencyLimit() {
+        return limiter.getLimit();
+    }
+
+    /** Llamadas a la PokeAPI en curso. */
+    public int getInFlight() {
+        return limiter.getInFlight();
+    }
+
+    /** Llamadas esperando turno en el límite de tasa. */
+    public int getRateQueueSize() {
+        return rateLimiter == null ? 0 : rateLimiter.getQueueSize();
+    }
+
+    /** Llamadas a las que el límite de tasa dio turno, con o sin espera. */
+    public long getRateGranted() {
+        return rateLimiter == null ? 0 : rateLimiter.getGranted();
+    }
+
+    /** Tiempo total esperado en el límite de tasa por las llamadas con turno, en nanosegundos. */
+    public long getRateWaitNanos() {
+        return rateLimiter == null ? 0 : rateLimiter.getWaitNanos();
+    }
+
+    /** Llamadas rechazadas con la cola del límite de tasa llena. */
+    public long getRateQueueFullRejections() {
+        return rateLimiter == null ? 0 : rateLimiter.getQueueFullRejections();
+    }
+
+    /** Llamadas rechazadas porque el límite de tasa no les daría turno a tiempo. */
+    public long getRateDeadlineRejections() {
+        return rateLimiter == null ? 0 : rateLimiter.getDeadlineRejections();
+    }
+
+    /** Llamadas rechazadas con el circuito abierto. */
+    public long getCircuitOpenRejections() {
+        return circuitOpenRejections.sum();
+    }
+
+    /** Llamadas rechazadas por el límite de concurrencia. */
+    public long getLimitRejections() {
+        return limitRejections.sum();
+    }
+
+    private static PokeApiUnavailableException rateRejection(TokenBucketRateLimiter.Rejection rejection,
+                                                             String pokemonName) {
+        if (rejection == TokenBucketRateLimiter.Rejection.QUEUE_FULL) {
+            return new PokeApiUnavailableException(PokeApiUnavailableException.RATE_QUEUE_FULL,
+                    "Demasiadas consultas a la PokeAPI esperando turno; no se consultó '" + pokemonName + "'.",
+                    LIMIT_RETRY_AFTER);
+        }
+        return new PokeApiUnavailableException(PokeApiUnavailableException.RATE_DEADLINE,
+                "Demasiadas consultas por segundo a la PokeAPI; no se consultó '" + pokemonName + "'.",
+                LIMIT_RETRY_AFTER);
+    }
+
+    /**
+     * Permiso para una llamada en curso.
+     */
+    public final class Permit {
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Libera el permiso registrando el resultado de la llamada. Solo tiene efecto la primera vez.
+         *
+         * @param failed si la llamada falló (un 404 no es un fallo de la PokeAPI).
+         */
+        public synchronized void release(boolean failed) {
+            if (released) {
+                return;
+            }
+            released = true;
+            long duration = nanoClock.getAsLong() - startNanos;
+            limiter.onComplete(duration);
+            if (circuitBreaker != null) {
+                circuitBreaker.onResult(failed, duration);
+            }
+        }
+
+        /**
+         * Libera el permiso de una llamada abortada (e.g., la perdedora de una solicitud de
+         * cobertura), sin registrarla como éxito ni como fallo. Solo tiene efecto la primera vez.
+         */
+        public synchronized void cancel() {
+            if (released) {
+                return;
+            }
+            released = true;
+            limiter.onCancelled();
+            if (circuitBreaker != null) {
+                circuitBreaker.onCancelled();
+            }
+        }
+    }
+}
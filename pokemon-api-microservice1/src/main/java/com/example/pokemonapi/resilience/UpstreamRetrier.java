@@ -0,0 +1,368 @@
+package com.example.pokemonapi.resilience;
+
+import com.example.pokemonapi.config.ResilienceProperties;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Reintentos y solicitudes de cobertura ("hedging") de las llamadas a la PokeAPI, acotados
+ * por un {@link RetryBudget} global.
+ *
+ * <ul>
+ *   <li>Reintento: si un intento falla con un error transitorio y no queda otro en curso, se
+ *       repite tras una espera exponencial con variación aleatoria completa ("full jitter").</li>
+ *   <li>Cobertura: si el primer intento no ha respondido tras el percentil configurado de la
+ *       latencia reciente, se lanza un segundo; el primero que termina bien gana y el otro se
+ *       cancela.</li>
+ * </ul>
+ *
+ * Cada reintento o cobertura consume una unidad del presupuesto; sin presupuesto la solicitud
+ * termina con el error obtenido, de modo que una caída de la PokeAPI no se amplifica. Si la
+ * solicitud tiene un {@link RequestDeadline}, al vencer la llamada termina con
+ * {@link com.example.pokemonapi.exception.DeadlineExceededException} y los intentos en curso se
+ * abortan.
+ */
+@Component
+public class UpstreamRetrier {
+
+    /**
+     * Un intento de llamada a la PokeAPI.
+     *
+     * @param <T> el tipo del resultado.
+     */
+    @FunctionalInterface
+    public interface Attempt<T> {
+        /**
+         * Inicia el intento, que debe completar {@code target} con su resultado o su error. Si
+         * {@code target} se cancela, el intento debe abortarse. Puede ejecutarse de forma
+         * bloqueante en el hilo que lo invoca.
+         *
+         * @param target el futuro del intento.
+         */
+        void start(CompletableFuture<T> target);
+    }
+
+    private final RetryBudget budget;
+    private final RollingPercentile latencies;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final int maxRetries;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final boolean hedgingEnabled;
+    private final long minHedgeDelayNanos;
+    private final long maxHedgeDelayNanos;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param properties la configuración de las protecciones.
+     * @param executor el pool en el que se lanzan los reintentos y las coberturas.
+     */
+    @Autowired
+    public UpstreamRetrier(ResilienceProperties properties, @Qualifier("pokeApiCallExecutor") Executor executor) {
+        this(properties, executor, System::nanoTime);
+    }
+
+    /**
+     * Constructor que permite sustituir el reloj, usado en las pruebas.
+     *
+     * @param properties la configuración de las protecciones.
+     * @param executor el pool en el que se lanzan los reintentos y las coberturas.
+     * @param nanoClock la fuente de tiempo, en nanosegundos.
+     */
+    UpstreamRetrier(ResilienceProperties properties, Executor executor, LongSupplier nanoClock) {
+        ResilienceProperties.Retry retry = properties.getRetry();
+        ResilienceProperties.Hedging hedging = properties.getHedging();
+        ResilienceProperties.RetryBudget retryBudget = properties.getRetryBudget();
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+        this.budget = new RetryBudget(retryBudget.getPercent() / 100, retryBudget.getMinPerSecond(),
+                retryBudget.getWindow(), nanoClock);
+        this.latencies = new RollingPercentile(hedging.getSampleSize(), hedging.getPercentile(),
+                hedging.getMinSamples(), 16);
+        this.maxRetries = retry.getMaxRetries();
+        this.initialBackoffNanos = retry.getInitialBackoff().toNanos();
+        this.maxBackoffNanos = retry.getMaxBackoff().toNanos();
+        this.hedgingEnabled = hedging.isEnabled();
+        this.minHedgeDelayNanos = hedging.getMinDelay().toNanos();
+        this.maxHedgeDelayNanos = hedging.getMaxDelay().toNanos();
+    }
+
+    /**
+     * Ejecuta una llamada con reintentos y, si está habilitada, cobertura. El primer intento se
+     * inicia en el hilo que invoca este método; los demás, en el pool de llamadas.
+     *
+     * @param attempt el intento a ejecutar (una vez por reintento o cobertura).
+     * @param transientFailure indica qué errores se pueden reintentar.
+     * @param <T> el tipo del resultado.
+     * @return un futuro con el resultado del primer intento exitoso o el error final. Cancelarlo
+     *         cancela los intentos en curso.
+     */
+    public <T> CompletableFuture<T> execute(Attempt<T> attempt, Predicate<Throwable> transientFailure) {
+        return execute(attempt, transientFailure, RequestDeadline.NONE);
+    }
+
+    /**
+     * Variante de {@link #execute(Attempt, Predicate)} acotada al plazo de una solicitud: al
+     * vencer, el futuro termina con {@link com.example.pokemonapi.exception.DeadlineExceededException}
+     * y se cancelan los intentos en curso y los reintentos pendientes.
+     *
+     * @param attempt el intento a ejecutar (una vez por reintento o cobertura).
+     * @param transientFailure indica qué errores se pueden reintentar.
+     * @param deadline el plazo de la solicitud; si ya venció, no se inicia ningún intento.
+     * @param <T> el tipo del resultado.
+     * @return un futuro con el resultado del primer intento exitoso o el error final.
+     */
+    public <T> CompletableFuture<T> execute(Attempt<T> attempt, Predicate<Throwable> transientFailure,
+                                            RequestDeadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.failedFuture(deadline.exceeded());
+        }
+        budget.onRequest();
+        Call<T> call = new Call<>(attempt, transientFailure);
+        // Como la cobertura, se programa antes de lanzar un intento que puede bloquear este hilo
+        deadline.expire(call.result, executor);
+        if (hedgingEnabled) {
+            // Se programa antes de lanzar el intento, que puede bloquear este hilo hasta terminar
+            // Sin hilos libres no hay cobertura: el primer intento sigue su curso
+            DelayScheduler.schedule(hedgeDelayNanos(), executor, call::hedge, call.result, () -> { });
+        }
+        call.launch(false);
+        return call.result;
+    }
+
+    /**
+     * Espera el resultado de {@link #execute} y relanza su excepción original.
+     *
+     * @param future el futuro devuelto por {@link #execute}.
+     * @param <T> el tipo del resultado.
+     * @return el resultado.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /** Espera actual antes de una solicitud de cobertura. */
+    public Duration getHedgeDelay() {
+        return Duration.ofNanos(hedgeDelayNanos());
+    }
+
+    /** Reintentos realizados. */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /** Solicitudes de cobertura realizadas. */
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /** Solicitudes de cobertura que terminaron antes que el intento original. */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /** Reintentos o coberturas descartados por falta de presupuesto. */
+    public long getBudgetExhausted() {
+        return budgetExhausted.sum();
+    }
+
+    /** Llamadas adicionales que quedan en el presupuesto. */
+    public long getBudgetRemaining() {
+        return budget.remaining();
+    }
+
+    private long hedgeDelayNanos() {
+        long percentile = latencies.get();
+        if (percentile < 0) {
+            return maxHedgeDelayNanos;
+        }
+        return Math.max(minHedgeDelayNanos, Math.min(maxHedgeDelayNanos, percentile));
+    }
+
+    /**
+     * Espera aleatoria entre cero y la espera exponencial del reintento, acotada al máximo.
+     */
+    private long backoffNanos(int retry) {
+        long cap = initialBackoffNanos;
+        for (int i = 1; i < retry && cap < maxBackoffNanos; i++) {
+            cap *= 2;
+        }
+        cap = Math.min(cap, maxBackoffNanos);
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    /**
+     * Estado de una llamada: intentos en curso, reintentos realizados y último error.
+     */
+    private final class Call<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Attempt<T> attempt;
+        private final Predicate<Throwable> transientFailure;
+        private final List<CompletableFuture<T>> running = new ArrayList<>();
+        private int retryCount;
+        private boolean retryPending;
+        private Throwable lastFailure;
+
+        private Call(Attempt<T> attempt, Predicate<Throwable> transientFailure) {
+            this.attempt = attempt;
+            this.transientFailure = transientFailure;
+            // Si termina antes que sus intentos (cancelada o con el plazo vencido), se abortan
+            result.whenComplete((value, ex) -> cancelAll(drainRunning()));
+        }
+
+        private void launch(boolean hedge) {
+            CompletableFuture<T> target = new CompletableFuture<>();
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+                running.add(target);
+            }
+            long start = nanoClock.getAsLong();
+            target.whenComplete((value, ex) -> onAttemptComplete(target, hedge, start, value, ex));
+            try {
+                attempt.start(target);
+            } catch (RuntimeException ex) {
+                target.completeExceptionally(ex);
+            }
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                if (result.isDone() || running.isEmpty() || retryPending) {
+                    return;
+                }
+                if (!budget.tryWithdraw()) {
+                    budgetExhausted.increment();
+                    return;
+                }
+            }
+            hedges.increment();
+            launch(true);
+        }
+
+        private void onAttemptComplete(CompletableFuture<T> target, boolean hedge, long start, T value, Throwable ex) {
+            if (target.isCancelled()) {
+                return;
+            }
+            Throwable failure = unwrap(ex);
+            List<CompletableFuture<T>> losers = List.of();
+            long retryDelay = -1;
+            synchronized (this) {
+                running.remove(target);
+                if (result.isDone()) {
+                    return;
+                }
+                if (failure == null) {
+                    if (hedgingEnabled) {
+                        latencies.record(nanoClock.getAsLong() - start);
+                    }
+                    if (hedge) {
+                        hedgeWins.increment();
+                    }
+                    losers = drainRunning();
+                } else if (failure instanceof PokeApiUnavailableException) {
+                    // El intento no llegó a realizarse: prevalece el error de un intento anterior
+                    if (lastFailure == null) {
+                        lastFailure = failure;
+                    }
+                    if (!running.isEmpty() || retryPending) {
+                        return;
+                    }
+                    failure = lastFailure;
+                } else if (!transientFailure.test(failure)) {
+                    losers = drainRunning();
+                } else {
+                    lastFailure = failure;
+                    if (!running.isEmpty() || retryPending) {
+                        return;
+                    }
+                    if (retryCount < maxRetries) {
+                        if (budget.tryWithdraw()) {
+                            retryCount++;
+                            retryPending = true;
+                            retryDelay = backoffNanos(retryCount);
+                        } else {
+                            budgetExhausted.increment();
+                        }
+                    }
+                }
+            }
+            if (retryDelay >= 0) {
+                retries.increment();
+                DelayScheduler.schedule(retryDelay, executor, () -> {
+                    synchronized (this) {
+                        retryPending = false;
+                    }
+                    launch(false);
+                }, result, this::abandonRetry);
+                return;
+            }
+            cancelAll(losers);
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        }
+
+        /**
+         * El pool rechazó el reintento: la llamada termina con el error del último intento, salvo
+         * que quede una cobertura en curso, que decide el resultado.
+         */
+        private void abandonRetry() {
+            Throwable failure;
+            synchronized (this) {
+                retryPending = false;
+                if (result.isDone() || !running.isEmpty()) {
+                    return;
+                }
+                failure = lastFailure;
+            }
+            result.completeExceptionally(failure);
+        }
+
+        private synchronized List<CompletableFuture<T>> drainRunning() {
+            List<CompletableFuture<T>> drained = new ArrayList<>(running);
+            running.clear();
+            return drained;
+        }
+
+        private void cancelAll(List<CompletableFuture<T>> attempts) {
+            for (CompletableFuture<T> other : attempts) {
+                other.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * {@link StatsWriter} CBOR (RFC 8949). La respuesta es un mapa de longitud definida con claves
+ * de texto; los números van como enteros de 1 a 5 bytes según su magnitud y las listas como
+ * arreglos de longitud definida.
+ */
+public class CborStatsWriter implements StatsWriter {
+
+    private static final int UNSIGNED = 0;
+    private static final int NEGATIVE = 1 << 5;
+    private static final int TEXT = 3 << 5;
+    private static final int ARRAY = 4 << 5;
+    private static final int MAP = 5 << 5;
+    private static final int NULL = 0xF6;
+
+    @Override
+    public byte[] write(PokemonStatsResponse response, int fields) {
+        ByteArrayBuilder out = new ByteArrayBuilder(128);
+        head(out, MAP, Integer.bitCount(fields & StatsField.ALL));
+        for (StatsField field : StatsField.VALUES) {
+            if (!field.isIn(fields)) {
+                continue;
+            }
+            byte[] key = field.getKeyBytes();
+            head(out, TEXT, key.length);
+            out.write(key, 0, key.length);
+            switch (field.getKind()) {
+                case TEXT -> text(out, field.text(response));
+                case NUMBER -> {
+                    int value = field.number(response);
+                    if (value >= 0) {
+                        head(out, UNSIGNED, value);
+                    } else {
+                        head(out, NEGATIVE, -1L - value);
+                    }
+                }
+                case LIST -> {
+                    List<String> values = field.list(response);
+                    head(out, ARRAY, values.size());
+                    for (String value : values) {
+                        text(out, value);
+                    }
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void text(ByteArrayBuilder out, String value) {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        head(out, TEXT, utf8.length);
+        out.write(utf8, 0, utf8.length);
+    }
+
+    /**
+     * Cabecera de un elemento: tipo mayor en los 3 bits altos y el argumento en los 5 bajos
+     * (hasta 23) o en los 1, 2 o 4 bytes siguientes.
+     */
+    private static void head(ByteArrayBuilder out, int majorType, long argument) {
+        if (argument < 24) {
+            out.write(majorType | (int) argument);
+        } else if (argument < 0x100) {
+            out.write(majorType | 24);
+            out.write((int) argument);
+        } else if (argument < 0x10000) {
+            out.write(majorType | 25);
+            out.write((int) (argument >>> 8));
+            out.write((int) argument);
+        } else {
+            out.write(majorType | 26);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                out.write((int) (argument >>> shift));
+            }
+        }
+    }
+}
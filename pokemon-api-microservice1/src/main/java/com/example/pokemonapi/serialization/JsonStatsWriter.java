@@ -0,0 +1,57 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * {@link StatsWriter} JSON sobre el generador en streaming de Jackson. Con todos los campos
+ * produce el mismo documento que el mapeo de Jackson de {@link PokemonStatsResponse}.
+ */
+public class JsonStatsWriter implements StatsWriter {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    // Nombres con el escapado y la codificación calculados una sola vez
+    private final SerializedString[] keys = new SerializedString[StatsField.VALUES.length];
+
+    public JsonStatsWriter() {
+        for (StatsField field : StatsField.VALUES) {
+            keys[field.ordinal()] = new SerializedString(field.getKey());
+        }
+    }
+
+    @Override
+    public byte[] write(PokemonStatsResponse response, int fields) {
+        ByteArrayBuilder bytes = new ByteArrayBuilder(256);
+        try (JsonGenerator generator = jsonFactory.createGenerator(bytes, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            for (StatsField field : StatsField.VALUES) {
+                if (!field.isIn(fields)) {
+                    continue;
+                }
+                generator.writeFieldName(keys[field.ordinal()]);
+                switch (field.getKind()) {
+                    case TEXT -> generator.writeString(field.text(response));
+                    case NUMBER -> generator.writeNumber(field.number(response));
+                    case LIST -> {
+                        generator.writeStartArray();
+                        for (String value : field.list(response)) {
+                            generator.writeString(value);
+                        }
+                        generator.writeEndArray();
+                    }
+                }
+            }
+            generator.writeEndObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.metrics.RequestTiming;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Convertidor de las respuestas de {@code GET /pokemon/{name}} ({@link PokemonStatsResponse} y
+ * {@link StatsProjection}) a JSON, CBOR o Smile según el tipo de contenido negociado.
+ *
+ * Se registra delante de los convertidores de Jackson, por lo que también escribe el JSON de
+ * este endpoint. Solo escribe: las solicitudes no llevan estos cuerpos.
+ *
+ * La respuesta se serializa completa antes de escribirla, por lo que la serialización se suma
+ * al {@link RequestTiming} de la solicitud y, si está habilitada, la cabecera
+ * {@code Server-Timing} se añade con el desglose completo antes de enviar las cabeceras.
+ */
+public class PokemonStatsMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final boolean serverTimingHeader;
+
+    /**
+     * Crea el convertidor.
+     *
+     * @param serverTimingHeader si las respuestas llevan la cabecera {@code Server-Timing}.
+     */
+    public PokemonStatsMessageConverter(boolean serverTimingHeader) {
+        super(StatsFormat.JSON.getMediaType(), StatsFormat.CBOR.getMediaType(), StatsFormat.SMILE.getMediaType());
+        this.serverTimingHeader = serverTimingHeader;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PokemonStatsResponse.class == clazz || StatsProjection.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Solo se admite la escritura de " + clazz.getSimpleName(), inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        StatsFormat format = StatsFormat.of(outputMessage.getHeaders().getContentType());
+        long start = System.nanoTime();
+        byte[] bytes = body instanceof StatsProjection projection
+                ? format.getWriter().write(projection.getResponse(), projection.getFields())
+                : format.getWriter().write((PokemonStatsResponse) body, StatsField.ALL);
+        RequestTiming timing = RequestTiming.current();
+        timing.add(RequestTiming.Phase.SERIALIZE, System.nanoTime() - start);
+        if (serverTimingHeader && timing.isActive()) {
+            outputMessage.getHeaders().set(RequestTiming.SERVER_TIMING, timing.toServerTiming());
+        }
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+}
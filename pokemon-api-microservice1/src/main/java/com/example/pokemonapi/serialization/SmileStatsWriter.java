@@ -0,0 +1,108 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * {@link StatsWriter} Smile (el JSON binario de Jackson, legible con {@code SmileFactory}).
+ *
+ * Escribe la cabecera {@code :)\n} sin referencias a nombres ni valores ya emitidos (cada
+ * documento es un único objeto pequeño, así que no compensan). Los nombres y cadenas cortos
+ * llevan la longitud en el propio byte de tipo, los enteros entre -16 y 15 ocupan un byte y el
+ * resto se codifican en zigzag como enteros de longitud variable.
+ */
+public class SmileStatsWriter implements StatsWriter {
+
+    private static final byte[] HEADER = {':', ')', '\n', 0x00};
+    private static final int START_OBJECT = 0xFA;
+    private static final int END_OBJECT = 0xFB;
+    private static final int START_ARRAY = 0xF8;
+    private static final int END_ARRAY = 0xF9;
+    private static final int END_STRING = 0xFC;
+    private static final int EMPTY_STRING = 0x20;
+    private static final int NULL = 0x21;
+    private static final int INT32 = 0x24;
+
+    @Override
+    public byte[] write(PokemonStatsResponse response, int fields) {
+        ByteArrayBuilder out = new ByteArrayBuilder(128);
+        out.write(HEADER, 0, HEADER.length);
+        out.write(START_OBJECT);
+        for (StatsField field : StatsField.VALUES) {
+            if (!field.isIn(fields)) {
+                continue;
+            }
+            key(out, field.getKeyBytes());
+            switch (field.getKind()) {
+                case TEXT -> text(out, field.text(response));
+                case NUMBER -> number(out, field.number(response));
+                case LIST -> {
+                    List<String> values = field.list(response);
+                    out.write(START_ARRAY);
+                    for (String value : values) {
+                        text(out, value);
+                    }
+                    out.write(END_ARRAY);
+                }
+            }
+        }
+        out.write(END_OBJECT);
+        return out.toByteArray();
+    }
+
+    /**
+     * Nombre de propiedad ASCII corto (1 a 64 bytes): {@code 0x80 + (longitud - 1)}.
+     */
+    private static void key(ByteArrayBuilder out, byte[] ascii) {
+        out.write(0x80 + ascii.length - 1);
+        out.write(ascii, 0, ascii.length);
+    }
+
+    private static void text(ByteArrayBuilder out, String value) {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        if (value.isEmpty()) {
+            out.write(EMPTY_STRING);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        int length = utf8.length;
+        // Solo ASCII si cada carácter ocupa un byte
+        boolean ascii = length == value.length();
+        if (ascii && length <= 32) {
+            out.write(0x40 + length - 1);
+        } else if (ascii && length <= 64) {
+            out.write(0x60 + length - 33);
+        } else if (!ascii && length <= 33) {
+            out.write(0x80 + length - 2);
+        } else if (!ascii && length <= 65) {
+            out.write(0xA0 + length - 34);
+        } else {
+            out.write(ascii ? 0xE0 : 0xE4);
+            out.write(utf8, 0, length);
+            out.write(END_STRING);
+            return;
+        }
+        out.write(utf8, 0, length);
+    }
+
+    private static void number(ByteArrayBuilder out, int value) {
+        int zigzag = (value << 1) ^ (value >> 31);
+        if (value >= -16 && value <= 15) {
+            out.write(0xC0 + zigzag);
+            return;
+        }
+        out.write(INT32);
+        // Grupos de 7 bits de mayor a menor; el último lleva 6 bits y el bit alto activo
+        int rest = zigzag >>> 6;
+        for (int groups = (38 - Integer.numberOfLeadingZeros(rest)) / 7; groups > 0; groups--) {
+            out.write((rest >>> (7 * (groups - 1))) & 0x7F);
+        }
+        out.write(0x80 | (zigzag & 0x3F));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Propiedades de {@link PokemonStatsResponse} que se pueden seleccionar con {@code fields=}, en
+ * el orden en que se serializan. Cada una ocupa un bit de la máscara de campos, de modo que una
+ * proyección es un simple {@code int}.
+ */
+public enum StatsField {
+
+    NOMBRE("nombre", Kind.TEXT),
+    HP("hp", Kind.NUMBER),
+    ATAQUE("ataque", Kind.NUMBER),
+    DEFENSA("defensa", Kind.NUMBER),
+    VELOCIDAD("velocidad", Kind.NUMBER),
+    TIPOS("tipos", Kind.LIST),
+    HABILIDADES("habilidades", Kind.LIST);
+
+    /**
+     * Máscara con todos los campos: la respuesta completa.
+     */
+    public static final int ALL = (1 << values().length) - 1;
+
+    static final StatsField[] VALUES = values();
+
+    private final String key;
+    // Nombre ya codificado (ASCII), para no codificarlo en cada respuesta
+    private final byte[] keyBytes;
+    private final Kind kind;
+
+    StatsField(String key, Kind kind) {
+        this.key = key;
+        this.keyBytes = key.getBytes(StandardCharsets.US_ASCII);
+        this.kind = kind;
+    }
+
+    public String getKey() { return key; }
+    byte[] getKeyBytes() { return keyBytes; }
+    Kind getKind() { return kind; }
+
+    /**
+     * Indica si el campo está incluido en una máscara.
+     *
+     * @param fields la máscara de campos.
+     * @return {@code true} si el bit del campo está activo.
+     */
+    public boolean isIn(int fields) {
+        return (fields & (1 << ordinal())) != 0;
+    }
+
+    /**
+     * Convierte el parámetro {@code fields} (nombres separados por comas, sin distinguir
+     * mayúsculas) en una máscara de campos.
+     *
+     * @param fields el valor del parámetro, o {@code null} si no se indicó.
+     * @return la máscara; {@link #ALL} si no se indicó el parámetro.
+     * @throws InvalidRequestException si el parámetro está vacío o contiene un campo desconocido.
+     */
+    public static int parse(String fields) {
+        if (fields == null) {
+            return ALL;
+        }
+        int mask = 0;
+        for (String name : fields.split(",")) {
+            String key = name.trim().toLowerCase(Locale.ROOT);
+            if (key.isEmpty()) {
+                continue;
+            }
+            StatsField field = byKey(key);
+            if (field == null) {
+                throw new InvalidRequestException("Campo desconocido en fields: '" + key
+                        + "'. Campos válidos: nombre, hp, ataque, defensa, velocidad, tipos, habilidades.");
+            }
+            mask |= 1 << field.ordinal();
+        }
+        if (mask == 0) {
+            throw new InvalidRequestException("Se debe indicar al menos un campo en fields.");
+        }
+        return mask;
+    }
+
+    String text(PokemonStatsResponse response) {
+        return response.getNombre();
+    }
+
+    int number(PokemonStatsResponse response) {
+        return switch (this) {
+            case HP -> response.getHp();
+            case ATAQUE -> response.getAtaque();
+            case DEFENSA -> response.getDefensa();
+            case VELOCIDAD -> response.getVelocidad();
+            default -> throw new IllegalStateException("El campo " + key + " no es numérico");
+        };
+    }
+
+    List<String> list(PokemonStatsResponse response) {
+        return this == TIPOS ? response.getTipos() : response.getHabilidades();
+    }
+
+    private static StatsField byKey(String key) {
+        for (StatsField field : VALUES) {
+            if (field.key.equals(key)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tipo de valor de un campo.
+     */
+    enum Kind { TEXT, NUMBER, LIST }
+}
@@ -0,0 +1,77 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.exception.InvalidRequestException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * Formatos en los que se puede servir una {@link com.example.pokemonapi.model.PokemonStatsResponse},
+ * elegidos por la cabecera {@code Accept}.
+ */
+public enum StatsFormat {
+
+    JSON("json", MediaType.APPLICATION_JSON, new JsonStatsWriter()),
+    CBOR("cbor", MediaType.APPLICATION_CBOR, new CborStatsWriter()),
+    SMILE("smile", new MediaType("application", "x-jackson-smile"), new SmileStatsWriter());
+
+    private final String id;
+    private final MediaType mediaType;
+    private final StatsWriter writer;
+
+    StatsFormat(String id, MediaType mediaType, StatsWriter writer) {
+        this.id = id;
+        this.mediaType = mediaType;
+        this.writer = writer;
+    }
+
+    public String getId() { return id; }
+    public MediaType getMediaType() { return mediaType; }
+    public StatsWriter getWriter() { return writer; }
+
+    /**
+     * Formato que corresponde a un tipo de contenido concreto.
+     *
+     * @param contentType el tipo de contenido elegido para la respuesta.
+     * @return el formato, o {@link #JSON} si el tipo no es CBOR ni Smile.
+     */
+    public static StatsFormat of(MediaType contentType) {
+        for (StatsFormat format : values()) {
+            if (contentType != null && format.mediaType.includes(contentType)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Elige el formato preferido por una cabecera {@code Accept}, con las mismas reglas que la
+     * negociación de Spring (especificidad y calidad, y JSON ante comodines).
+     *
+     * @param accept el valor de la cabecera, o {@code null} si no se envió.
+     * @return el formato preferido, o {@link #JSON} si ninguno es aceptable.
+     * @throws InvalidRequestException si la cabecera no es una lista de tipos de contenido válida.
+     */
+    public static StatsFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            throw new InvalidRequestException("Cabecera Accept no válida: " + ex.getMessage());
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            for (StatsFormat format : values()) {
+                if (mediaType.isCompatibleWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+
+/**
+ * Cuerpo de {@code GET /pokemon/{name}?fields=...}: la respuesta completa (compartida con la
+ * caché) y la máscara de los campos que se deben serializar.
+ */
+public final class StatsProjection {
+
+    private final PokemonStatsResponse response;
+    private final int fields;
+
+    /**
+     * @param response la respuesta completa.
+     * @param fields la máscara de campos ({@link StatsField}).
+     */
+    public StatsProjection(PokemonStatsResponse response, int fields) {
+        this.response = response;
+        this.fields = fields;
+    }
+
+    public PokemonStatsResponse getResponse() { return response; }
+    public int getFields() { return fields; }
+}
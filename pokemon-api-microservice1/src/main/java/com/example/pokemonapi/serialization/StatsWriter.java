@@ -0,0 +1,20 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+
+/**
+ * Serializa una {@link PokemonStatsResponse} en un formato concreto, escribiendo solo los campos
+ * de una máscara ({@link StatsField}) directamente desde los getters, sin mapas ni árboles
+ * intermedios.
+ */
+public interface StatsWriter {
+
+    /**
+     * Serializa la respuesta.
+     *
+     * @param response la respuesta.
+     * @param fields la máscara de campos a incluir ({@link StatsField#ALL} para todos).
+     * @return los bytes serializados.
+     */
+    byte[] write(PokemonStatsResponse response, int fields);
+}
@@ -0,0 +1,133 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.config.BatchProperties;
+import com.example.pokemonapi.exception.DeadlineExceededException;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import com.example.pokemonapi.exception.PokemonNotFoundException;
+import com.example.pokemonapi.model.BatchItemResponse;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Servicio que resuelve varias consultas de Pokémon en una sola solicitud.
+ * Reparte las búsquedas en paralelo sobre un pool de hilos acotado, aplica un plazo total
+ * al lote y devuelve un resultado por nombre, respetando el orden de entrada.
+ */
+@Service
+public class PokemonBatchService {
+
+    private final PokemonService pokemonService;
+    private final Executor lookupExecutor;
+    private final BatchProperties properties;
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param pokemonService el servicio que resuelve cada Pokémon individual (con caché).
+     * @param lookupExecutor el pool de hilos acotado para las consultas en paralelo.
+     * @param properties la configuración de los lotes.
+     */
+    @Autowired
+    public PokemonBatchService(PokemonService pokemonService,
+                               @Qualifier("pokemonLookupExecutor") Executor lookupExecutor,
+                               BatchProperties properties) {
+        this.pokemonService = pokemonService;
+        this.lookupExecutor = lookupExecutor;
+        this.properties = properties;
+    }
+
+    /**
+     * Obtiene las estadísticas de varios Pokémon. Los nombres repetidos (sin distinguir
+     * mayúsculas ni espacios) se consultan una sola vez y comparten su resultado.
+     *
+     * @param names los nombres solicitados, en el orden en que deben devolverse.
+     * @return un resultado por cada nombre de entrada, en el mismo orden.
+     * @throws InvalidRequestException si la lista está vacía, contiene nombres vacíos o supera el máximo.
+     */
+    public List<BatchItemResponse> getPokemonStatsBatch(List<String> names) {
+        validate(names);
+        // Una sola operación sobre la caché compartida para todo el lote
+        pokemonService.prefetch(names);
+
+        Map<String, CompletableFuture<PokemonStatsResponse>> lookups = new LinkedHashMap<>();
+        for (String name : names) {
+            lookups.computeIfAbsent(PokemonService.normalizeName(name), key ->
+                    CompletableFuture.supplyAsync(() -> pokemonService.getPokemonStats(key), lookupExecutor));
+        }
+
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        Map<String, BatchItemResponse> resolved = new LinkedHashMap<>();
+        lookups.forEach((key, future) -> resolved.put(key, await(key, future, deadline,
+                "La consulta de '" + key + "' no terminó dentro del plazo del lote.")));
+
+        List<BatchItemResponse> results = new ArrayList<>(names.size());
+        for (String name : names) {
+            results.add(resolved.get(PokemonService.normalizeName(name)));
+        }
+        return results;
+    }
+
+    /**
+     * Espera el resultado de una consulta sin sobrepasar el plazo total del lote y lo
+     * convierte en un resultado individual; una consulta que termina con
+     * {@link DeadlineExceededException} también cuenta como fuera de plazo. La usa también {@link PokemonEvolutionService} para
+     * cada miembro de una cadena evolutiva.
+     *
+     * @param timeoutMessage el mensaje del resultado si no termina a tiempo.
+     */
+    static BatchItemResponse await(String name, CompletableFuture<PokemonStatsResponse> future, long deadline,
+                                   String timeoutMessage) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return BatchItemResponse.ok(name, future.get(remaining, TimeUnit.NANOSECONDS));
+        } catch (TimeoutException ex) {
+            // Si la consulta aún no empezó, se evita ejecutarla.
+            future.cancel(false);
+            return BatchItemResponse.failure(name, BatchItemResponse.TIEMPO_AGOTADO, timeoutMessage);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof PokemonNotFoundException notFound) {
+                return BatchItemResponse.failure(name, BatchItemResponse.NO_ENCONTRADO, notFound.getMessage());
+            }
+            if (ex.getCause() instanceof PokeApiUnavailableException unavailable) {
+                return BatchItemResponse.failure(name, BatchItemResponse.NO_DISPONIBLE, unavailable.getMessage());
+            }
+            if (ex.getCause() instanceof DeadlineExceededException) {
+                // Venció el plazo de la solicitud antes que el del lote
+                return BatchItemResponse.failure(name, BatchItemResponse.TIEMPO_AGOTADO, timeoutMessage);
+            }
+            return BatchItemResponse.failure(name, BatchItemResponse.ERROR,
+                    "Error al consultar '" + name + "': " + ex.getCause().getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return BatchItemResponse.failure(name, BatchItemResponse.ERROR, "Consulta interrumpida.");
+        }
+    }
+
+    private void validate(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            throw new InvalidRequestException("Se debe indicar al menos un nombre de Pokémon.");
+        }
+        if (names.size() > properties.getMaxNames()) {
+            throw new InvalidRequestException("Se admiten como máximo " + properties.getMaxNames()
+                    + " nombres por solicitud.");
+        }
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                throw new InvalidRequestException("Los nombres de Pokémon no pueden estar vacíos.");
+            }
+        }
+    }
+}
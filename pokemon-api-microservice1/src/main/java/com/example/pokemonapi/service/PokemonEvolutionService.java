@@ -0,0 +1,141 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.config.EvolutionProperties;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.model.BatchItemResponse;
+import com.example.pokemonapi.model.EvolutionChain;
+import com.example.pokemonapi.model.EvolutionResponse;
+import com.example.pokemonapi.model.PokemonSpecies;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.resilience.RequestDeadline;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Servicio que obtiene la línea evolutiva de un Pokémon con las estadísticas de cada miembro.
+ *
+ * Resuelve la especie del Pokémon, su cadena evolutiva y, en paralelo en el pool de las
+ * consultas por lotes, las estadísticas de todos los miembros con
+ * {@link PokemonService#getPokemonStats(String)} (con su caché y sus protecciones). La especie de
+ * cada nombre y las cadenas se reutilizan durante {@code pokemon.evolution.chain-ttl}; las
+ * solicitudes concurrentes de la misma cadena esperan a una sola consulta de cada recurso, y las
+ * de las estadísticas de un mismo miembro se agrupan en {@link PokemonService}.
+ */
+@Service
+public class PokemonEvolutionService {
+
+    private final PokemonService pokemonService;
+    private final Executor lookupExecutor;
+    private final EvolutionProperties properties;
+    // Caffeine carga cada clave una sola vez aunque la pidan varios hilos a la vez
+    private final Cache<String, PokemonSpecies> species;
+    private final Cache<String, EvolutionChain> chains;
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param pokemonService el servicio que resuelve la especie, la cadena y cada Pokémon (con caché).
+     * @param lookupExecutor el pool de hilos acotado de las consultas por lotes.
+     * @param properties la configuración de la línea evolutiva.
+     */
+    @Autowired
+    public PokemonEvolutionService(PokemonService pokemonService,
+                                   @Qualifier("pokemonLookupExecutor") Executor lookupExecutor,
+                                   EvolutionProperties properties) {
+        this.pokemonService = pokemonService;
+        this.lookupExecutor = lookupExecutor;
+        this.properties = properties;
+        this.species = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getChainTtl())
+                .maximumSize(2_000)
+                .build();
+        this.chains = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getChainTtl())
+                .maximumSize(1_000)
+                .build();
+    }
+
+    /**
+     * Obtiene la línea evolutiva completa de un Pokémon, desde la primera especie de la cadena.
+     * Cada miembro se consulta por el nombre de su especie, salvo el de la especie solicitada,
+     * que se consulta por el nombre recibido (que puede ser una forma, e.g., {@code raichu-alola}).
+     *
+     * @param pokemonName el nombre del Pokémon.
+     * @return el árbol de la cadena, con el resultado de cada miembro y su propio estado.
+     * @throws InvalidRequestException si el nombre está vacío.
+     * @throws com.example.pokemonapi.exception.PokemonNotFoundException si la PokeAPI no reconoce el Pokémon.
+     * @throws com.example.pokemonapi.exception.PokeApiUnavailableException si la PokeAPI está
+     *         protegida y no se pudo resolver la cadena.
+     */
+    public EvolutionResponse getEvolution(String pokemonName) {
+        if (pokemonName == null || pokemonName.isBlank()) {
+            throw new InvalidRequestException("Se debe indicar el nombre del Pokémon.");
+        }
+        String key = PokemonService.normalizeName(pokemonName);
+        PokemonSpecies own = species.get(key, pokemonService::getSpecies);
+        EvolutionChain chain = chains.get(own.evolutionChainId(), pokemonService::getEvolutionChain);
+
+        // Los miembros se consultan en otros hilos con el plazo de esta solicitud
+        RequestDeadline deadline = RequestDeadline.current();
+        Map<String, CompletableFuture<PokemonStatsResponse>> lookups = new LinkedHashMap<>();
+        collect(chain.getChain(), own.getName(), key, lookups, deadline);
+
+        long waitUntil = deadline.earliest(System.nanoTime() + properties.getTimeout().toNanos());
+        return new EvolutionResponse(key, node(chain.getChain(), own.getName(), key, lookups, waitUntil));
+    }
+
+    /**
+     * Inicia la consulta de las estadísticas de cada miembro del subárbol.
+     */
+    private void collect(EvolutionChain.ChainLink link, String ownSpecies, String key,
+                         Map<String, CompletableFuture<PokemonStatsResponse>> lookups, RequestDeadline deadline) {
+        lookups.computeIfAbsent(memberName(link, ownSpecies, key), name ->
+                CompletableFuture.supplyAsync(() -> fetch(name, deadline), lookupExecutor));
+        for (EvolutionChain.ChainLink next : evolutionsOf(link)) {
+            collect(next, ownSpecies, key, lookups, deadline);
+        }
+    }
+
+    /**
+     * Construye el nodo de un miembro esperando su consulta, sin sobrepasar {@code waitUntil}.
+     */
+    private EvolutionResponse.Node node(EvolutionChain.ChainLink link, String ownSpecies, String key,
+                                        Map<String, CompletableFuture<PokemonStatsResponse>> lookups, long waitUntil) {
+        String name = memberName(link, ownSpecies, key);
+        BatchItemResponse result = PokemonBatchService.await(name, lookups.get(name), waitUntil,
+                "La consulta de '" + name + "' no terminó dentro del plazo de la línea evolutiva.");
+        List<EvolutionResponse.Node> evolutions = new ArrayList<>();
+        for (EvolutionChain.ChainLink next : evolutionsOf(link)) {
+            evolutions.add(node(next, ownSpecies, key, lookups, waitUntil));
+        }
+        return new EvolutionResponse.Node(result, evolutions);
+    }
+
+    private PokemonStatsResponse fetch(String name, RequestDeadline deadline) {
+        RequestDeadline.attach(deadline);
+        try {
+            return pokemonService.getPokemonStats(name);
+        } finally {
+            RequestDeadline.attach(null);
+        }
+    }
+
+    private static String memberName(EvolutionChain.ChainLink link, String ownSpecies, String key) {
+        String name = link.getSpecies().getName();
+        return name.equals(ownSpecies) ? key : name;
+    }
+
+    private static List<EvolutionChain.ChainLink> evolutionsOf(EvolutionChain.ChainLink link) {
+        return link.getEvolvesTo() != null ? link.getEvolvesTo() : List.of();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.config.RankingProperties;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import com.example.pokemonapi.model.RankingResponse;
+import com.example.pokemonapi.util.TopK;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Servicio que calcula el ranking de los Pokémon de un tipo según una estadística
+ * (e.g., los 10 Pokémon de fuego más rápidos).
+ *
+ * Obtiene la lista de Pokémon del tipo (reutilizada durante {@code pokemon.ranking.type-members-ttl}),
+ * consulta cada uno con {@link PokemonService#getPokemonStats(String)} (con su caché) en el pool de
+ * las consultas por lotes, con como máximo {@code pokemon.ranking.max-concurrency} consultas en
+ * curso por ranking, y solo conserva el valor del criterio en un montículo {@link TopK} de tamaño
+ * {@code k}: las respuestas de los demás Pokémon no se retienen.
+ */
+@Service
+public class PokemonRankingService {
+
+    private final PokemonService pokemonService;
+    private final Executor lookupExecutor;
+    private final RankingProperties properties;
+    private final Cache<String, List<String>> typeMembers;
+
+    /**
+     * Constructor para la inyección de dependencias de Spring.
+     *
+     * @param pokemonService el servicio que resuelve la lista del tipo y cada Pokémon (con caché).
+     * @param lookupExecutor el pool de hilos acotado de las consultas por lotes.
+     * @param properties la configuración del ranking.
+     */
+    @Autowired
+    public PokemonRankingService(PokemonService pokemonService,
+                                 @Qualifier("pokemonLookupExecutor") Executor lookupExecutor,
+                                 RankingProperties properties) {
+        this.pokemonService = pokemonService;
+        this.lookupExecutor = lookupExecutor;
+        this.properties = properties;
+        this.typeMembers = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTypeMembersTtl())
+                .maximumSize(100)
+                .build();
+    }
+
+    /**
+     * Calcula los {@code k} Pokémon de un tipo con mayor valor del criterio indicado. A igual
+     * valor, se mantiene el orden de la lista de la PokeAPI.
+     *
+     * @param type el nombre del tipo (e.g., {@code fire}).
+     * @param by el criterio: {@code hp}, {@code ataque}, {@code defensa}, {@code velocidad} o {@code suma}.
+     * @param k el número de posiciones del ranking.
+     * @return el ranking, con el número de Pokémon evaluados y omitidos.
+     * @throws InvalidRequestException si el tipo está vacío, el criterio no existe o {@code k} está fuera de rango.
+     * @throws com.example.pokemonapi.exception.PokemonNotFoundException si la PokeAPI no reconoce el tipo.
+     * @throws PokeApiUnavailableException si la PokeAPI está protegida y no se pudo evaluar ningún Pokémon.
+     */
+    public RankingResponse rank(String type, String by, int k) {
+        if (type == null || type.isBlank()) {
+            throw new InvalidRequestException("Se debe indicar el tipo de Pokémon.");
+        }
+        RankingCriterion criterion = RankingCriterion.of(by);
+        if (k < 1 || k > properties.getMaxK()) {
+            throw new InvalidRequestException("k debe estar entre 1 y " + properties.getMaxK() + ".");
+        }
+        String key = PokemonService.normalizeName(type);
+        List<String> members = typeMembers.get(key, pokemonService::getTypeMembers);
+        pokemonService.prefetch(members);
+
+        TopK top = new TopK(k);
+        AtomicInteger evaluated = new AtomicInteger();
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        Semaphore window = new Semaphore(properties.getMaxConcurrency());
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        List<CompletableFuture<Void>> lookups = new ArrayList<>(members.size());
+        try {
+            for (int i = 0; i < members.size(); i++) {
+                if (!window.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                String name = members.get(i);
+                int id = i;
+                CompletableFuture<Void> lookup = CompletableFuture.runAsync(() -> {
+                    top.offer(criterion.score(pokemonService.getPokemonStats(name)), id);
+                    evaluated.incrementAndGet();
+                }, lookupExecutor);
+                lookup.whenComplete((ignored, ex) -> {
+                    window.release();
+                    if (ex != null) {
+                        firstFailure.compareAndSet(null, ex.getCause() != null ? ex.getCause() : ex);
+                    }
+                });
+                lookups.add(lookup);
+            }
+            CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+                    .get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            // Los Pokémon que fallaron o no terminaron a tiempo se informan como omitidos
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        // Si la consulta aún no empezó, se evita ejecutarla.
+        lookups.forEach(lookup -> lookup.cancel(false));
+
+        long[] best = top.sortedDescending();
+        int done = evaluated.get();
+        if (done == 0 && firstFailure.get() instanceof PokeApiUnavailableException unavailable) {
+            throw unavailable;
+        }
+        List<RankingResponse.Entry> entries = new ArrayList<>(best.length);
+        for (int i = 0; i < best.length; i++) {
+            entries.add(new RankingResponse.Entry(i + 1, members.get(TopK.idOf(best[i])), TopK.scoreOf(best[i])));
+        }
+        return new RankingResponse(key, criterion.label(), done, members.size() - done, entries);
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+}
@@ -1,17 +1,64 @@
 package com.example.pokemonapi.service;
 
+import com.example.pokemonapi.cache.CacheRefresher;
+import com.example.pokemonapi.cache.CachedLookup;
+import com.example.pokemonapi.cache.PokemonStatsCache;
+import com.example.pokemonapi.config.PokeApiProperties;
+import com.example.pokemonapi.exception.DeadlineExceededException;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import com.example.pokemonapi.exception.PokemonNameRejectedException;
 import com.example.pokemonapi.exception.PokemonNotFoundException;
+import com.example.pokemonapi.exception.RequestCancelledException;
+import com.example.pokemonapi.metrics.PokemonMetrics;
+import com.example.pokemonapi.metrics.RequestTiming;
+import com.example.pokemonapi.metrics.UpstreamTimingHooks;
+import com.example.pokemonapi.model.EvolutionChain;
 import com.example.pokemonapi.model.Pokemon;
+import com.example.pokemonapi.model.PokemonSpecies;
 import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.model.PokemonTypeDetail;
+import com.example.pokemonapi.names.PokemonNameIndex;
+import com.example.pokemonapi.resilience.CancellableRequestFactory;
+import com.example.pokemonapi.resilience.RequestDeadline;
+import com.example.pokemonapi.resilience.UpstreamGuard;
+import com.example.pokemonapi.resilience.UpstreamRetrier;
+import com.example.pokemonapi.snapshot.PokemonSnapshotStore;
+import com.example.pokemonapi.util.SingleFlight;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpMessageConverterExtractor;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -22,38 +69,610 @@ import java.util.stream.Stream;
 public class PokemonService {
 
     private final RestTemplate restTemplate;
-    private static final String POKEAPI_BASE_URL = "https://pokeapi.co/api/v2/pokemon/";
+    private final WebClient webClient;
+    private final PokemonStatsCache cache;
+    private final PokemonSnapshotStore snapshotStore;
+    private final PokemonMetrics metrics;
+    private final UpstreamGuard upstreamGuard;
+    private final UpstreamRetrier retrier;
+    private final CacheRefresher refresher;
+    private final PokemonNameIndex nameIndex;
+    // Agrupa las consultas concurrentes del mismo nombre en una sola llamada a la PokeAPI.
+    private final SingleFlight<String, PokemonStatsResponse> inFlightLookups = new SingleFlight<>();
+    private final String pokemonBaseUrl;
+    private final String typeBaseUrl;
+    private final String speciesBaseUrl;
+    private final String evolutionChainBaseUrl;
+    private final boolean streamingParser;
+    private final boolean reactiveClient;
+    private final int maxResponseBytes;
+    private final PokemonStatsExtractor extractor = new PokemonStatsExtractor();
 
     /**
      * Constructor para la inyección de dependencias de Spring.
      *
      * @param restTemplate el cliente HTTP para comunicarse con la PokeAPI.
+     * @param cache la caché en memoria de resultados, consultada antes de llamar a la PokeAPI.
+     * @param properties la configuración del cliente de la PokeAPI (URL base).
+     * @param snapshotStore la instantánea local, consultada antes que la caché y la PokeAPI.
+     * @param webClient el cliente HTTP no bloqueante, usado cuando {@code pokeapi.client-mode=reactive}.
+     * @param metrics las métricas de la llamada a la PokeAPI y de la construcción de la respuesta.
+     * @param upstreamGuard el cortocircuito y el límite de concurrencia de las llamadas a la PokeAPI.
+     * @param retrier los reintentos y las solicitudes de cobertura de las llamadas a la PokeAPI.
+     * @param refresher el refresco en segundo plano de las entradas obsoletas de la caché.
+     * @param nameIndex el índice de nombres válidos, con el que se rechazan los inexistentes sin consultar la PokeAPI.
      */
     @Autowired
-    public PokemonService(RestTemplate restTemplate) {
+    public PokemonService(RestTemplate restTemplate, PokemonStatsCache cache, PokeApiProperties properties,
+                          PokemonSnapshotStore snapshotStore, WebClient webClient, PokemonMetrics metrics,
+                          UpstreamGuard upstreamGuard, UpstreamRetrier retrier, CacheRefresher refresher,
+                          PokemonNameIndex nameIndex) {
         this.restTemplate = restTemplate;
+        this.webClient = webClient;
+        this.cache = cache;
+        this.snapshotStore = snapshotStore;
+        this.metrics = metrics;
+        this.upstreamGuard = upstreamGuard;
+        this.retrier = retrier;
+        this.refresher = refresher;
+        this.nameIndex = nameIndex;
+        this.pokemonBaseUrl = properties.getBaseUrl() + "/pokemon/";
+        this.typeBaseUrl = properties.getBaseUrl() + "/type/";
+        this.speciesBaseUrl = properties.getBaseUrl() + "/pokemon-species/";
+        this.evolutionChainBaseUrl = properties.getBaseUrl() + "/evolution-chain/";
+        this.streamingParser = properties.getResponseParser() == PokeApiProperties.ResponseParser.STREAMING;
+        this.reactiveClient = properties.getClientMode() == PokeApiProperties.ClientMode.REACTIVE;
+        this.maxResponseBytes = (int) properties.getHttp().getMaxResponseSize().toBytes();
     }
 
     /**
      * Orquesta la obtención de estadísticas de un Pokémon por su nombre.
+     * Si hay una instantánea local cargada y contiene el nombre, responde desde ella sin
+     * ninguna llamada externa. Un nombre que el índice de nombres descarta se rechaza sin más
+     * trabajo. En otro caso consulta la caché (incluidos los resultados "no encontrado" recientes) y solo
+     * en caso de fallo llama a la PokeAPI, almacenando el resultado para solicitudes posteriores.
+     * Las solicitudes concurrentes del mismo nombre comparten una única llamada en curso y
+     * reciben su resultado o su excepción. Antes de llamar a la PokeAPI se consulta la caché
+     * compartida entre réplicas, si está habilitada.
+     * Una entrada que superó {@code soft-ttl} se devuelve igualmente y se refresca en segundo
+     * plano. Si la PokeAPI falla (salvo un 404), se devuelve la última respuesta conocida que
+     * siga dentro de {@code stale-if-error} en lugar del error.
      *
      * @param pokemonName el nombre del Pokémon a buscar.
      * @return un DTO {@link PokemonStatsResponse} con los datos simplificados y en español.
-     * @throws PokemonNotFoundException si el Pokémon no se encuentra en la PokeAPI.
+     * @throws PokemonNotFoundException si el Pokémon no se encuentra en la PokeAPI, o
+     *         {@link PokemonNameRejectedException} si el índice de nombres lo descarta.
      */
     public PokemonStatsResponse getPokemonStats(String pokemonName) {
-        Pokemon pokemon = callPokeApi(pokemonName);
-        return buildResponseFromPokemon(pokemon);
+        String key = normalizeName(pokemonName);
+        PokemonStatsResponse fromSnapshot = snapshotStore.find(key);
+        if (fromSnapshot != null) {
+            return fromSnapshot;
+        }
+        if (!nameIndex.mightExist(key)) {
+            throw PokemonNameRejectedException.INSTANCE;
+        }
+        CachedLookup cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return serveCached(key, cached);
+        }
+        try {
+            return loadCoalesced(key, pokemonName, RequestDeadline.current());
+        } catch (RuntimeException ex) {
+            return staleOrThrow(key, ex);
+        }
     }
 
     /**
-     * Transforma un objeto {@link Pokemon} completo en un DTO {@link PokemonStatsResponse} simplificado.
-     * Utiliza el patrón Builder para construir la respuesta paso a paso.
+     * Consulta la PokeAPI agrupándose con la consulta en curso del mismo nombre. La consulta la
+     * ejecuta el hilo que la inicia, acotada a su plazo; quien se une la espera como mucho hasta
+     * el suyo y, si la consulta terminó porque venció el plazo de otra solicitud, la repite.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param pokemonName el nombre tal como llegó en la solicitud.
+     * @param deadline el plazo de la solicitud.
+     * @return el DTO de respuesta.
+     */
+    private PokemonStatsResponse loadCoalesced(String key, String pokemonName, RequestDeadline deadline) {
+        while (true) {
+            try {
+                return inFlightLookups.execute(key, () -> loadAndCache(key, pokemonName),
+                        deadline.remainingNanos(), deadline::exceeded);
+            } catch (DeadlineExceededException ex) {
+                if (deadline.isExpired()) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Variante asíncrona de {@link #getPokemonStats(String)} con la misma instantánea, caché y
+     * agrupación de consultas concurrentes. Con {@code pokeapi.client-mode=reactive} la llamada a la
+     * PokeAPI se hace con {@link WebClient} y ningún hilo queda bloqueado esperando la respuesta;
+     * con {@code blocking} se resuelve de forma síncrona y se devuelve un futuro ya completado.
+     *
+     * El futuro queda acotado al {@link RequestDeadline} de la solicitud: si el cliente se
+     * desconecta se completa con {@link RequestCancelledException}, y la consulta compartida se
+     * cancela cuando ya no la espera ninguna solicitud. La consulta compartida no tiene plazo
+     * propio, para que el de la solicitud que la inicia no se imponga a las que se unen a ella.
+     *
+     * @param pokemonName el nombre del Pokémon a buscar.
+     * @return un futuro con el DTO de respuesta, o completado con {@link PokemonNotFoundException}
+     *         si el Pokémon no se encuentra en la PokeAPI.
+     */
+    public CompletableFuture<PokemonStatsResponse> getPokemonStatsAsync(String pokemonName) {
+        try {
+            if (!reactiveClient) {
+                return CompletableFuture.completedFuture(getPokemonStats(pokemonName));
+            }
+            String key = normalizeName(pokemonName);
+            PokemonStatsResponse fromSnapshot = snapshotStore.find(key);
+            if (fromSnapshot != null) {
+                return CompletableFuture.completedFuture(fromSnapshot);
+            }
+            if (!nameIndex.mightExist(key)) {
+                return CompletableFuture.failedFuture(PokemonNameRejectedException.INSTANCE);
+            }
+            CachedLookup cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(serveCached(key, cached));
+            }
+            RequestDeadline deadline = RequestDeadline.current();
+            return deadline.bind(inFlightLookups.executeAsync(key, () -> loadAndCacheAsync(key, pokemonName)))
+                    .exceptionally(ex -> {
+                        Throwable failure = unwrap(ex);
+                        if (failure instanceof CancellationException) {
+                            throw new RequestCancelledException("El cliente abandonó la solicitud de '" + key + "'.");
+                        }
+                        return staleOrThrow(key, failure);
+                    });
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * Resuelve una entrada de la caché y, si es obsoleta, programa su refresco sin esperarlo.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param cached la entrada encontrada.
+     * @return la respuesta almacenada.
+     * @throws PokemonNotFoundException si la entrada es un resultado "no encontrado".
+     */
+    private PokemonStatsResponse serveCached(String key, CachedLookup cached) {
+        if (cache.isStale(cached)) {
+            metrics.countStaleServed(PokemonMetrics.STALE_REVALIDATE);
+            refresher.schedule(key, () -> refresh(key));
+        }
+        return cached.resolve();
+    }
+
+    /**
+     * Vuelve a consultar la PokeAPI para una entrada obsoleta, agrupándose con cualquier
+     * consulta en curso del mismo nombre. Se ejecuta en un hilo de {@link CacheRefresher}.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     */
+    private void refresh(String key) {
+        if (reactiveClient) {
+            inFlightLookups.executeAsync(key, () -> loadAndCacheAsync(key, key)).join();
+        } else {
+            inFlightLookups.execute(key, () -> loadAndCache(key, key));
+        }
+    }
+
+    /**
+     * Devuelve la última respuesta conocida de un Pokémon cuando la PokeAPI falla, o relanza
+     * el error si no hay ninguna o si la PokeAPI respondió que el Pokémon no existe.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param failure el error de la consulta a la PokeAPI.
+     * @return la respuesta conservada en la caché.
+     */
+    private PokemonStatsResponse staleOrThrow(String key, Throwable failure) {
+        CachedLookup stale = failure instanceof PokemonNotFoundException ? null : cache.getLastKnown(key);
+        if (stale == null) {
+            throw failure instanceof RuntimeException runtime ? runtime : new CompletionException(failure);
+        }
+        metrics.countStaleServed(PokemonMetrics.STALE_UPSTREAM_ERROR);
+        return stale.getResponse();
+    }
+
+    /**
+     * Obtiene los nombres de los Pokémon de un tipo (e.g., {@code fire}) desde la PokeAPI, en
+     * el orden en que ésta los lista. Aplica las mismas protecciones y reintentos que la
+     * consulta de un Pokémon, pero no usa la caché de estadísticas.
+     *
+     * @param type el nombre del tipo.
+     * @return los nombres de los Pokémon del tipo.
+     * @throws PokemonNotFoundException si la PokeAPI no reconoce el tipo.
+     */
+    public List<String> getTypeMembers(String type) {
+        String key = normalizeName(type);
+        PokemonTypeDetail detail = callPokeApi(typeBaseUrl + key, key, "Tipo de Pokémon '" + key + "' no encontrado.",
+                url -> restTemplate.getForObject(url, PokemonTypeDetail.class));
+        return toStream(detail != null ? detail.getPokemon() : null)
+                .map(member -> member.getPokemon().getName())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene la especie de un Pokémon desde la PokeAPI, con el enlace a su cadena evolutiva.
+     * Casi todos los Pokémon se llaman como su especie, así que se consulta directamente
+     * {@code /pokemon-species/{name}}, mucho más ligera que {@code /pokemon/{name}}; solo si no
+     * existe (e.g., una forma como {@code raichu-alola}) se consulta el Pokémon para obtener el
+     * nombre de su especie. Aplica las mismas protecciones y reintentos que la consulta de un
+     * Pokémon, pero no usa la caché de estadísticas.
+     *
+     * @param pokemonName el nombre del Pokémon.
+     * @return la especie del Pokémon.
+     * @throws PokemonNameRejectedException si el índice de nombres descarta el nombre.
+     * @throws PokemonNotFoundException si la PokeAPI no reconoce el Pokémon.
+     */
+    public PokemonSpecies getSpecies(String pokemonName) {
+        String key = normalizeName(pokemonName);
+        if (!nameIndex.mightExist(key)) {
+            throw PokemonNameRejectedException.INSTANCE;
+        }
+        String notFoundMessage = "Pokémon '" + key + "' no encontrado.";
+        try {
+            return callPokeApi(speciesBaseUrl + key, key, notFoundMessage,
+                    url -> restTemplate.getForObject(url, PokemonSpecies.class));
+        } catch (PokemonNotFoundException ex) {
+            Pokemon pokemon = callPokeApi(pokemonBaseUrl + key, key, notFoundMessage,
+                    url -> restTemplate.getForObject(url, Pokemon.class));
+            String species = pokemon.getSpecies().getName();
+            return callPokeApi(speciesBaseUrl + species, key, notFoundMessage,
+                    url -> restTemplate.getForObject(url, PokemonSpecies.class));
+        }
+    }
+
+    /**
+     * Obtiene una cadena evolutiva desde la PokeAPI, con las mismas protecciones y reintentos
+     * que la consulta de un Pokémon.
+     *
+     * @param chainId el identificador de la cadena, de {@link PokemonSpecies#evolutionChainId()}.
+     * @return la cadena evolutiva.
+     * @throws PokemonNotFoundException si la PokeAPI no reconoce la cadena.
+     */
+    public EvolutionChain getEvolutionChain(String chainId) {
+        return callPokeApi(evolutionChainBaseUrl + chainId, chainId, "Cadena evolutiva '" + chainId + "' no encontrada.",
+                url -> restTemplate.getForObject(url, EvolutionChain.class));
+    }
+
+    /**
+     * Consulta la PokeAPI y almacena en caché el resultado, sea exitoso o "no encontrado".
+     * Los demás errores no se almacenan para que la siguiente solicitud reintente.
+     * Si la caché conserva una respuesta anterior con el {@code ETag} de la PokeAPI, la consulta
+     * es condicional y un 304 reutiliza esa respuesta sin descargar ni leer el cuerpo.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param pokemonName el nombre tal como llegó en la solicitud.
+     * @return el DTO de respuesta construido.
+     */
+    private PokemonStatsResponse loadAndCache(String key, String pokemonName) {
+        CachedLookup fromShared = fresh(cache.getShared(key));
+        if (fromShared != null) {
+            return fromShared.resolve();
+        }
+        CachedLookup previous = cache.getLastKnown(key);
+        try {
+            return store(key, previous, fetchPokemonStats(pokemonName, validatorOf(previous)));
+        } catch (PokemonNotFoundException ex) {
+            nameIndex.recordFalsePositive(key);
+            cache.putNotFound(key, ex.getMessage());
+            throw ex;
+        }
+    }
+
+    /**
+     * Equivalente no bloqueante de {@link #loadAndCache(String, String)}. Cancelar el futuro
+     * devuelto cancela la consulta a la PokeAPI. La lectura de la caché compartida se hace en el
+     * pool de la caché, y el resultado se almacena en el hilo que completa la consulta (el event
+     * loop de {@link WebClient}): la caché en memoria no bloquea y la escritura en la compartida
+     * no se espera.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param pokemonName el nombre tal como llegó en la solicitud.
+     * @return un futuro con el DTO de respuesta construido.
+     */
+    private CompletableFuture<PokemonStatsResponse> loadAndCacheAsync(String key, String pokemonName) {
+        CompletableFuture<PokemonStatsResponse> loaded = new CompletableFuture<>();
+        cache.getSharedAsync(key).whenComplete((shared, sharedEx) -> {
+            if (loaded.isDone()) {
+                return;
+            }
+            CachedLookup fromShared = fresh(shared);
+            if (fromShared != null) {
+                if (fromShared.isFound()) {
+                    loaded.complete(fromShared.getResponse());
+                } else {
+                    loaded.completeExceptionally(new PokemonNotFoundException(fromShared.getNotFoundMessage()));
+                }
+                return;
+            }
+            CachedLookup previous = cache.getLastKnown(key);
+            CompletableFuture<Fetched> fetch;
+            try {
+                // Sin plazo: la consulta es compartida y cada solicitud acota su propia copia
+                fetch = fetchPokemonStatsAsync(pokemonName, validatorOf(previous), RequestDeadline.NONE);
+            } catch (RuntimeException ex) {
+                loaded.completeExceptionally(ex);
+                return;
+            }
+            loaded.whenComplete((response, ex) -> {
+                if (loaded.isCancelled()) {
+                    fetch.cancel(false);
+                }
+            });
+            fetch.whenComplete((fetched, ex) -> {
+                if (ex == null) {
+                    try {
+                        loaded.complete(store(key, previous, fetched));
+                    } catch (RuntimeException storeEx) {
+                        loaded.completeExceptionally(storeEx);
+                    }
+                    return;
+                }
+                Throwable failure = unwrap(ex);
+                if (failure instanceof PokemonNotFoundException notFound) {
+                    nameIndex.recordFalsePositive(key);
+                    cache.putNotFound(key, notFound.getMessage());
+                }
+                loaded.completeExceptionally(failure);
+            });
+        });
+        return loaded;
+    }
+
+    /**
+     * Filtra una entrada leída de la caché compartida (que otra réplica pudo llenar). Una
+     * respuesta que ya superó {@code soft-ttl} no se usa tal cual: queda en memoria como validador
+     * de la consulta condicional a la PokeAPI y para "stale-if-error".
+     *
+     * @param shared la entrada de {@link PokemonStatsCache#getShared(String)}, o {@code null}.
+     * @return la entrada compartida vigente, o {@code null} si hay que consultar la PokeAPI.
+     */
+    private CachedLookup fresh(CachedLookup shared) {
+        return shared != null && !cache.isStale(shared) ? shared : null;
+    }
+
+    /**
+     * Trae a memoria desde la caché compartida, con una sola operación, los Pokémon indicados
+     * que no estén ya en memoria, antes de consultarlos uno a uno (e.g., en un lote o un ranking).
+     * No hace nada si la caché compartida está deshabilitada.
+     *
+     * @param pokemonNames los nombres, tal como llegan en la solicitud.
+     */
+    public void prefetch(Collection<String> pokemonNames) {
+        cache.loadShared(pokemonNames.stream().map(PokemonService::normalizeName).distinct().collect(Collectors.toList()));
+    }
+
+    private static String validatorOf(CachedLookup previous) {
+        return previous != null ? previous.getUpstreamEtag() : null;
+    }
+
+    /**
+     * Almacena el resultado de una consulta a la PokeAPI. Tras un 304, vuelve a almacenar la
+     * respuesta anterior para reiniciar su edad en la caché.
+     *
+     * @param key el nombre normalizado del Pokémon.
+     * @param previous la entrada revalidada, o {@code null} si la consulta no fue condicional.
+     * @param fetched el resultado de la consulta.
+     * @return el DTO de respuesta vigente.
+     */
+    private PokemonStatsResponse store(String key, CachedLookup previous, Fetched fetched) {
+        if (fetched.isNotModified()) {
+            if (previous == null) {
+                throw new IllegalStateException("La PokeAPI respondió 304 a una consulta no condicional para '" + key + "'");
+            }
+            metrics.countUpstreamRevalidated();
+            cache.putFound(key, previous.getResponse(), previous.getUpstreamEtag());
+            return previous.getResponse();
+        }
+        cache.putFound(key, fetched.stats, fetched.etag);
+        return fetched.stats;
+    }
+
+    /**
+     * Normaliza el nombre de un Pokémon para usarlo como clave (caché, URL de la PokeAPI).
+     *
+     * @param pokemonName el nombre tal como llega en la solicitud.
+     * @return el nombre sin espacios en los extremos y en minúsculas.
+     */
+    public static String normalizeName(String pokemonName) {
+        return pokemonName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Obtiene la respuesta simplificada desde la PokeAPI con la estrategia de lectura configurada:
+     * extracción en streaming directamente al Builder, o mapeo completo al modelo {@link Pokemon}
+     * seguido de {@link #buildResponseFromPokemon(Pokemon)}. Ambas estrategias envían el
+     * validador, así que las dos revalidan con un 304 en lugar de descargar de nuevo el cuerpo.
+     *
+     * @param pokemonName el nombre del Pokémon.
+     * @param validator el {@code ETag} de la respuesta anterior, o {@code null} para una consulta normal.
+     * @return el DTO de respuesta simplificado con su {@code ETag}, o "no modificado".
+     */
+    private Fetched fetchPokemonStats(String pokemonName, String validator) {
+        RequestCallback conditional = request -> {
+            if (validator != null) {
+                request.getHeaders().setIfNoneMatch(validator);
+            }
+        };
+        if (streamingParser) {
+            return callPokeApi(pokemonName, url -> restTemplate.execute(url, HttpMethod.GET, conditional,
+                    response -> isNotModified(response.getStatusCode()) ? Fetched.NOT_MODIFIED
+                            : new Fetched(extractor.extract(response.getBody()), response.getHeaders().getETag())));
+        }
+        ResponseEntity<Pokemon> entity = callPokeApi(pokemonName, url -> restTemplate.execute(url, HttpMethod.GET,
+                conditional, this::readPokemon));
+        return isNotModified(entity.getStatusCode()) ? Fetched.NOT_MODIFIED
+                : new Fetched(buildResponseFromPokemon(entity.getBody()), entity.getHeaders().getETag());
+    }
+
+    /**
+     * Lee la respuesta al modelo {@link Pokemon} con los conversores del {@link RestTemplate}, como
+     * lo haría {@code getForObject}; un 304 no tiene cuerpo y se devuelve sin leer.
+     */
+    private ResponseEntity<Pokemon> readPokemon(ClientHttpResponse response) throws IOException {
+        Pokemon pokemon = isNotModified(response.getStatusCode()) ? null
+                : new HttpMessageConverterExtractor<>(Pokemon.class, restTemplate.getMessageConverters())
+                        .extractData(response);
+        return new ResponseEntity<>(pokemon, response.getHeaders(), response.getStatusCode());
+    }
+
+    /**
+     * Equivalente no bloqueante de {@link #fetchPokemonStats(String, String)}. En modo streaming el cuerpo
+     * se acumula en buffers de Netty (hasta {@code pokeapi.http.max-response-size}) y se extrae
+     * directamente de ellos, sin copiarlo a un {@code String}. Los reintentos y las solicitudes de
+     * cobertura se aplican igual que en {@link #callPokeApi(String, Function)}. Ambas estrategias
+     * de lectura envían el validador.
+     *
+     * @param pokemonName el nombre del Pokémon.
+     * @param validator el {@code ETag} de la respuesta anterior, o {@code null} para una consulta normal.
+     * @param deadline el plazo que acota los intentos y la espera en el límite de tasa.
+     * @return un futuro con el DTO de respuesta simplificado con su {@code ETag}, o "no modificado".
+     */
+    private CompletableFuture<Fetched> fetchPokemonStatsAsync(String pokemonName, String validator,
+                                                              RequestDeadline deadline) {
+        return retrier.execute(target -> callPokeApiAsync(pokemonName, validator, target, deadline),
+                PokemonService::isTransientFailure, deadline);
+    }
+
+    /**
+     * Realiza un intento de llamada no bloqueante a la PokeAPI y completa {@code target} con su
+     * resultado. Si el límite de tasa no le da turno aún, la llamada se inicia cuando llega. Si
+     * {@code target} se cancela, se retira de la cola o se cancela la suscripción y con ella la conexión.
+     *
+     * @param pokemonName el nombre del Pokémon.
+     * @param validator el {@code ETag} para {@code If-None-Match}, o {@code null}.
+     * @param target el futuro del intento.
+     * @param deadline el plazo de la solicitud.
+     * @throws PokeApiUnavailableException si la llamada se rechaza sin intentarla.
+     */
+    private void callPokeApiAsync(String pokemonName, String validator, CompletableFuture<Fetched> target,
+                                  RequestDeadline deadline) {
+        CompletableFuture<Void> admission = upstreamGuard.admit(pokemonName, deadline);
+        // Los callbacks corren en hilos de Netty: el desglose del hilo de la solicitud se captura aquí
+        RequestTiming timing = RequestTiming.current();
+        if (admission.isDone()) {
+            startPokeApiCallAsync(pokemonName, validator, target, timing);
+            return;
+        }
+        // Sin turno en el límite de tasa, la llamada se inicia cuando llega, sin bloquear este hilo
+        target.whenComplete((result, ex) -> {
+            if (target.isCancelled()) {
+                admission.cancel(false);
+            }
+        });
+        admission.whenComplete((admitted, ex) -> {
+            if (ex != null) {
+                target.completeExceptionally(unwrap(ex));
+                return;
+            }
+            try {
+                startPokeApiCallAsync(pokemonName, validator, target, timing);
+            } catch (RuntimeException startEx) {
+                target.completeExceptionally(startEx);
+            }
+        });
+    }
+
+    private void startPokeApiCallAsync(String pokemonName, String validator, CompletableFuture<Fetched> target,
+                                       RequestTiming timing) {
+        String url = pokemonBaseUrl + normalizeName(pokemonName);
+        UpstreamGuard.Permit permit = upstreamGuard.acquire(pokemonName);
+        Timer.Sample sample = metrics.start();
+        timing.mark();
+        WebClient.ResponseSpec response = webClient.get().uri(url)
+                .headers(headers -> {
+                    if (validator != null) {
+                        headers.setIfNoneMatch(validator);
+                    }
+                })
+                .retrieve();
+        Mono<Fetched> stats = streamingParser
+                ? response.toEntityFlux(DataBuffer.class).flatMap(entity -> readStreaming(entity, timing))
+                : response.toEntity(Pokemon.class).map(entity -> {
+                    timing.lap(RequestTiming.Phase.DESERIALIZE);
+                    return isNotModified(entity.getStatusCode()) ? Fetched.NOT_MODIFIED
+                            : new Fetched(buildResponseFromPokemon(entity.getBody(), timing), entity.getHeaders().getETag());
+                });
+        if (timing.isActive()) {
+            stats = stats.contextWrite(UpstreamTimingHooks.context(timing));
+        }
+        // Una respuesta sin cuerpo completa el Mono vacío; se trata como un error de la PokeAPI
+        Disposable subscription = stats
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "La PokeAPI respondió sin cuerpo para '" + pokemonName + "'")))
+                .onErrorMap(ex -> translateAsyncError(pokemonName, ex))
+                .subscribe(target::complete, target::completeExceptionally);
+        target.whenComplete((result, ex) -> {
+            String outcome;
+            if (target.isCancelled()) {
+                subscription.dispose();
+                outcome = PokemonMetrics.OUTCOME_CANCELLED;
+                permit.cancel();
+            } else {
+                outcome = PokemonMetrics.outcomeOf(ex);
+                permit.release(PokemonMetrics.OUTCOME_ERROR.equals(outcome));
+            }
+            metrics.recordUpstream(sample, outcome);
+        });
+    }
+
+    private Mono<Fetched> readStreaming(ResponseEntity<Flux<DataBuffer>> entity, RequestTiming timing) {
+        if (isNotModified(entity.getStatusCode())) {
+            return entity.getBody().doOnNext(DataBufferUtils::release).then(Mono.just(Fetched.NOT_MODIFIED));
+        }
+        String etag = entity.getHeaders().getETag();
+        return DataBufferUtils.join(entity.getBody(), maxResponseBytes).map(buffer -> {
+            timing.lap(RequestTiming.Phase.READ);
+            PokemonStatsResponse stats = extract(buffer);
+            timing.lap(RequestTiming.Phase.DESERIALIZE);
+            return new Fetched(stats, etag);
+        });
+    }
+
+    private static boolean isNotModified(HttpStatusCode status) {
+        return status.value() == HttpStatus.NOT_MODIFIED.value();
+    }
+
+    private PokemonStatsResponse extract(DataBuffer buffer) {
+        try (InputStream body = buffer.asInputStream(true)) {
+            return extractor.extract(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Transforma un objeto {@link Pokemon} completo en un DTO {@link PokemonStatsResponse} simplificado,
+     * midiendo el tiempo de la transformación. Visible en el paquete para los benchmarks JMH.
      *
      * @param pokemon el objeto Pokémon deserializado de la PokeAPI.
      * @return el DTO de respuesta simplificado.
      */
-    private PokemonStatsResponse buildResponseFromPokemon(Pokemon pokemon) {
+    PokemonStatsResponse buildResponseFromPokemon(Pokemon pokemon) {
+        return buildResponseFromPokemon(pokemon, RequestTiming.current());
+    }
+
+    private PokemonStatsResponse buildResponseFromPokemon(Pokemon pokemon, RequestTiming timing) {
+        long start = System.nanoTime();
+        try {
+            return metrics.timeResponseBuild(() -> toStatsResponse(pokemon));
+        } finally {
+            timing.add(RequestTiming.Phase.BUILD, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Construye el DTO {@link PokemonStatsResponse} a partir del modelo {@link Pokemon}.
+     * Utiliza el patrón Builder para construir la respuesta paso a paso.
+     */
+    private PokemonStatsResponse toStatsResponse(Pokemon pokemon) {
         PokemonStatsResponse.Builder builder = new PokemonStatsResponse.Builder()
                 .nombre(pokemon.getName());
 
@@ -78,27 +697,156 @@ public class PokemonService {
     }
 
     /**
-     * Realiza la llamada HTTP a la PokeAPI para obtener los datos de un Pokémon.
+     * Realiza la llamada HTTP a la PokeAPI para obtener los datos de un Pokémon, con reintentos
+     * ante errores transitorios y, si está habilitada, una solicitud de cobertura cuando la
+     * primera tarda más que el percentil configurado. El primer intento se ejecuta en este hilo.
      *
      * @param pokemonName el nombre del Pokémon.
-     * @return un objeto {@link Pokemon} con la respuesta deserializada.
+     * @param request la solicitud a ejecutar sobre la URL del Pokémon, que lee la respuesta.
+     * @param <T> el tipo del resultado leído de la respuesta.
+     * @return el resultado de la solicitud.
      * @throws PokemonNotFoundException si la API devuelve un 404.
+     * @throws PokeApiUnavailableException si la llamada se rechaza sin intentarla.
+     * @throws RuntimeException para otros errores de comunicación, tras agotar los reintentos.
+     */
+    private <T> T callPokeApi(String pokemonName, Function<String, T> request) {
+        return callPokeApi(pokemonBaseUrl + normalizeName(pokemonName), pokemonName,
+                "Pokémon '" + pokemonName + "' no encontrado.", request);
+    }
+
+    /**
+     * Variante de {@link #callPokeApi(String, Function)} para cualquier recurso de la PokeAPI.
+     *
+     * @param url la URL del recurso.
+     * @param name el nombre consultado, para los mensajes de error.
+     * @param notFoundMessage el mensaje de la {@link PokemonNotFoundException} ante un 404.
+     * @param request la solicitud a ejecutar sobre la URL, que lee la respuesta.
+     * @param <T> el tipo del resultado leído de la respuesta.
+     * @return el resultado de la solicitud.
+     * @throws com.example.pokemonapi.exception.DeadlineExceededException si vence el plazo de la
+     *         solicitud; el intento en curso se aborta.
+     */
+    private <T> T callPokeApi(String url, String name, String notFoundMessage, Function<String, T> request) {
+        RequestDeadline deadline = RequestDeadline.current();
+        return UpstreamRetrier.await(retrier.execute(target -> {
+            CancellableRequestFactory.Handle handle = new CancellableRequestFactory.Handle();
+            // Sin turno en el límite de tasa, el intento espera en la cola antes de ocupar un permiso
+            CompletableFuture<Void> admission = upstreamGuard.admit(name, deadline);
+            target.whenComplete((result, ex) -> {
+                if (target.isCancelled()) {
+                    admission.cancel(false);
+                    handle.cancel();
+                }
+            });
+            try {
+                UpstreamRetrier.await(admission);
+                target.complete(callPokeApiOnce(url, name, notFoundMessage, request, handle));
+            } catch (RuntimeException ex) {
+                target.completeExceptionally(ex);
+            }
+        }, PokemonService::isTransientFailure, deadline));
+    }
+
+    /**
+     * Realiza un intento de la llamada HTTP a la PokeAPI.
+     *
+     * @param url la URL del recurso.
+     * @param pokemonName el nombre consultado, para los mensajes de error.
+     * @param notFoundMessage el mensaje de la {@link PokemonNotFoundException} ante un 404.
+     * @param request la solicitud a ejecutar sobre la URL, que lee la respuesta.
+     * @param handle el manejador con el que se puede abortar el intento desde otro hilo.
+     * @param <T> el tipo del resultado leído de la respuesta.
+     * @return el resultado de la solicitud.
+     * @throws PokemonNotFoundException si la API devuelve un 404.
+     * @throws PokeApiUnavailableException si la llamada se rechaza sin intentarla (circuito
+     *         abierto o límite de concurrencia alcanzado).
      * @throws RuntimeException para otros errores de comunicación.
      */
-    private Pokemon callPokeApi(String pokemonName) {
-        String url = POKEAPI_BASE_URL + pokemonName.toLowerCase();
+    private <T> T callPokeApiOnce(String url, String pokemonName, String notFoundMessage,
+                                  Function<String, T> request, CancellableRequestFactory.Handle handle) {
+        // Fuera del try: el rechazo no es un error de la PokeAPI y se propaga tal cual
+        UpstreamGuard.Permit permit = upstreamGuard.acquire(pokemonName);
+        Timer.Sample sample = metrics.start();
+        // La conexión y el primer byte los cierra UpstreamTimingHooks; el resto es deserialización
+        RequestTiming timing = RequestTiming.current();
+        timing.mark();
+        String outcome = PokemonMetrics.OUTCOME_ERROR;
         try {
-            return restTemplate.getForObject(url, Pokemon.class);
+            T result = CancellableRequestFactory.callWith(handle, () -> request.apply(url));
+            timing.lap(RequestTiming.Phase.DESERIALIZE);
+            outcome = PokemonMetrics.OUTCOME_OK;
+            return result;
         } catch (HttpClientErrorException ex) {
             if (ex.getStatusCode() == HttpStatus.NOT_FOUND) {
-                throw new PokemonNotFoundException("Pokémon '" + pokemonName + "' no encontrado.");
+                outcome = PokemonMetrics.OUTCOME_NOT_FOUND;
+                throw new PokemonNotFoundException(notFoundMessage);
             }
             throw new RuntimeException("Error al consumir la PokeAPI para '" + pokemonName + "': " + ex.getStatusCode(), ex);
         } catch (Exception ex) {
             throw new RuntimeException("Error inesperado al consumir la PokeAPI para '" + pokemonName + "'", ex);
+        } finally {
+            if (handle.isCancelled()) {
+                outcome = PokemonMetrics.OUTCOME_CANCELLED;
+                permit.cancel();
+            } else {
+                permit.release(PokemonMetrics.OUTCOME_ERROR.equals(outcome));
+            }
+            metrics.recordUpstream(sample, outcome);
         }
     }
 
+    /**
+     * Indica si un error de la PokeAPI es transitorio y la consulta, idempotente, puede
+     * reintentarse: respuestas 5xx y errores de conexión o de lectura de cualquiera de los dos
+     * clientes. Los 404, los demás 4xx y los rechazos propios no se reintentan.
+     *
+     * @param ex el error traducido por {@link #callPokeApiOnce} o {@link #translateAsyncError}.
+     * @return {@code true} si se puede reintentar.
+     */
+    static boolean isTransientFailure(Throwable ex) {
+        Throwable cause = ex.getCause();
+        return cause instanceof HttpServerErrorException
+                || cause instanceof ResourceAccessException
+                || cause instanceof WebClientResponseException responseEx && responseEx.getStatusCode().is5xxServerError()
+                || cause instanceof WebClientRequestException;
+    }
+
+    /**
+     * Traduce los errores del cliente no bloqueante a las mismas excepciones que
+     * {@link #callPokeApi(String, Function)}.
+     */
+    private Throwable translateAsyncError(String pokemonName, Throwable ex) {
+        if (ex instanceof WebClientResponseException responseEx && responseEx.getStatusCode().is4xxClientError()) {
+            if (responseEx.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                return new PokemonNotFoundException("Pokémon '" + pokemonName + "' no encontrado.");
+            }
+            return new RuntimeException("Error al consumir la PokeAPI para '" + pokemonName + "': " + responseEx.getStatusCode(), ex);
+        }
+        return new RuntimeException("Error inesperado al consumir la PokeAPI para '" + pokemonName + "'", ex);
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    /**
+     * Resultado de una consulta a la PokeAPI: la respuesta construida con el {@code ETag} que
+     * envió la PokeAPI, o {@link #NOT_MODIFIED} si respondió 304 a una consulta condicional.
+     */
+    private static final class Fetched {
+        private static final Fetched NOT_MODIFIED = new Fetched(null, null);
+
+        private final PokemonStatsResponse stats;
+        private final String etag;
+
+        private Fetched(PokemonStatsResponse stats, String etag) {
+            this.stats = stats;
+            this.etag = etag;
+        }
+
+        private boolean isNotModified() { return stats == null; }
+    }
+
     /**
      * Método de utilidad para convertir una lista potencialmente nula en un Stream.
      * Esto evita {@link NullPointerException} y simplifica el código.
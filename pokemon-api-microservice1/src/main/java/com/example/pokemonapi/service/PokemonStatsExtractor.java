@@ -0,0 +1,168 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Extrae las estadísticas de un Pokémon leyendo la respuesta de la PokeAPI token a token.
+ *
+ * A diferencia del mapeo completo al modelo {@link com.example.pokemonapi.model.Pokemon},
+ * no crea objetos intermedios: solo recorre {@code name}, {@code stats}, {@code types} y
+ * {@code abilities}, y salta sin materializar los subárboles irrelevantes (e.g., {@code moves},
+ * {@code sprites}, {@code game_indices}), que son la mayor parte del documento. Los valores
+ * se escriben directamente en un {@link PokemonStatsResponse.Builder}.
+ *
+ * Es seguro usar una misma instancia desde varios hilos.
+ */
+public class PokemonStatsExtractor {
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Crea un extractor con una fábrica de parsers de Jackson propia.
+     */
+    public PokemonStatsExtractor() {
+        this(new JsonFactory());
+    }
+
+    /**
+     * Crea un extractor que reutiliza una fábrica de parsers existente.
+     *
+     * @param jsonFactory la fábrica de parsers de Jackson.
+     */
+    public PokemonStatsExtractor(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Lee el documento JSON de un Pokémon y construye la respuesta simplificada.
+     *
+     * @param body el flujo con el cuerpo de la respuesta de {@code /pokemon/{name}}.
+     * @return el DTO de respuesta simplificado.
+     * @throws IOException si el flujo no se puede leer o no contiene un objeto JSON.
+     */
+    public PokemonStatsResponse extract(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Se esperaba un objeto JSON de Pokémon");
+            }
+            PokemonStatsResponse.Builder builder = new PokemonStatsResponse.Builder();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "name": builder.nombre(parser.getValueAsString()); break;
+                    case "stats": readStats(parser, builder); break;
+                    case "types": readNamedEntries(parser, "type", builder::addTipo); break;
+                    case "abilities": readNamedEntries(parser, "ability", builder::addHabilidad); break;
+                    default: parser.skipChildren();
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Recorre el arreglo {@code stats}. Cada entrada tiene la forma
+     * {@code {"base_stat": 35, "effort": 0, "stat": {"name": "hp", ...}}}, en cualquier orden.
+     */
+    private void readStats(JsonParser parser, PokemonStatsResponse.Builder builder) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (nextArrayObject(parser)) {
+            int baseStat = 0;
+            String statName = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("base_stat".equals(field)) {
+                    baseStat = parser.getValueAsInt();
+                } else if ("stat".equals(field)) {
+                    statName = readResourceName(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (statName != null) {
+                switch (statName) {
+                    case "hp": builder.hp(baseStat); break;
+                    case "attack": builder.ataque(baseStat); break;
+                    case "defense": builder.defensa(baseStat); break;
+                    case "speed": builder.velocidad(baseStat); break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Recorre un arreglo de entradas que contienen un recurso con nombre bajo la clave dada
+     * (e.g., {@code types[].type.name} o {@code abilities[].ability.name}) y entrega cada nombre.
+     */
+    private void readNamedEntries(JsonParser parser, String resourceField, Consumer<String> sink) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (nextArrayObject(parser)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (resourceField.equals(field)) {
+                    String name = readResourceName(parser);
+                    if (name != null) {
+                        sink.accept(name);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * Avanza al siguiente objeto de un arreglo, saltando los elementos que no son objetos.
+     *
+     * @return {@code true} si el parser quedó al inicio de un objeto; {@code false} al final del arreglo.
+     */
+    private boolean nextArrayObject(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Lee el campo {@code name} de un recurso {@code {"name": ..., "url": ...}} y deja el
+     * parser al final del objeto.
+     */
+    private String readResourceName(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                name = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+
+/**
+ * Criterios de ordenación del ranking de Pokémon (patrón Strategy): cada criterio extrae un
+ * valor entero de las estadísticas. {@link #SUMA} sigue la estrategia de comparación del
+ * microservicio 3 ({@code SumOfBaseStatsStrategy}): hp + ataque + defensa + velocidad.
+ */
+public enum RankingCriterion {
+
+    HP(PokemonStatsResponse::getHp),
+    ATAQUE(PokemonStatsResponse::getAtaque),
+    DEFENSA(PokemonStatsResponse::getDefensa),
+    VELOCIDAD(PokemonStatsResponse::getVelocidad),
+    SUMA(stats -> stats.getHp() + stats.getAtaque() + stats.getDefensa() + stats.getVelocidad());
+
+    private final ToIntFunction<PokemonStatsResponse> extractor;
+
+    RankingCriterion(ToIntFunction<PokemonStatsResponse> extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * Calcula el valor del criterio para un Pokémon.
+     *
+     * @param stats las estadísticas del Pokémon.
+     * @return el valor por el que se ordena.
+     */
+    public int score(PokemonStatsResponse stats) {
+        return extractor.applyAsInt(stats);
+    }
+
+    /**
+     * Obtiene el criterio por su nombre en la solicitud (e.g., {@code velocidad}).
+     *
+     * @param name el nombre del criterio, sin distinguir mayúsculas.
+     * @return el criterio.
+     * @throws InvalidRequestException si el nombre no corresponde a ningún criterio.
+     */
+    public static RankingCriterion of(String name) {
+        for (RankingCriterion criterion : values()) {
+            if (criterion.name().equalsIgnoreCase(name.trim())) {
+                return criterion;
+            }
+        }
+        throw new InvalidRequestException("Criterio de ranking no soportado: '" + name
+                + "'. Valores admitidos: hp, ataque, defensa, velocidad, suma.");
+    }
+
+    /**
+     * @return el nombre del criterio tal como se usa en la solicitud y en la respuesta.
+     */
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.pokemonapi.snapshot;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.example.pokemonapi.snapshot.PokemonSnapshotFormat.*;
+
+/**
+ * Instantánea de estadísticas de Pokémon mapeada en memoria, de solo lectura.
+ *
+ * El archivo se proyecta con {@link FileChannel#map} y las búsquedas se resuelven con una
+ * búsqueda binaria sobre el índice de nombres, comparando bytes directamente en el mapeo.
+ * Solo el diccionario de tipos y habilidades (unos cientos de cadenas) se decodifica al abrir.
+ * Es seguro consultar una misma instancia desde varios hilos.
+ */
+public class PokemonSnapshot {
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final int recordCount;
+    private final int indexOffset;
+    private final int recordsOffset;
+    private final int stringsOffset;
+    private final String[] dictionary;
+
+    private PokemonSnapshot(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("El archivo '" + path + "' no es una instantánea de Pokémon.");
+        }
+        if (buffer.getShort(4) != VERSION) {
+            throw new IOException("Versión de instantánea no soportada: " + buffer.getShort(4));
+        }
+        this.recordCount = buffer.getInt(8);
+        int dictionaryCount = buffer.getInt(12);
+        int dictionaryOffset = buffer.getInt(16);
+        this.indexOffset = buffer.getInt(20);
+        this.recordsOffset = buffer.getInt(24);
+        this.stringsOffset = buffer.getInt(28);
+        if (stringsOffset > buffer.limit() || recordsOffset + (long) recordCount * RECORD_SIZE > stringsOffset) {
+            throw new IOException("La instantánea '" + path + "' está truncada o corrupta.");
+        }
+        this.dictionary = new String[dictionaryCount];
+        for (int i = 0; i < dictionaryCount; i++) {
+            dictionary[i] = readString(dictionaryOffset + i * STRING_REF_SIZE);
+        }
+    }
+
+    /**
+     * Abre y mapea en memoria un archivo de instantánea.
+     *
+     * @param path la ruta del archivo.
+     * @return la instantánea lista para consultas.
+     * @throws IOException si el archivo no existe o no tiene el formato esperado.
+     */
+    public static PokemonSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // El mapeo sigue siendo válido después de cerrar el canal.
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new PokemonSnapshot(path, mapped);
+        }
+    }
+
+    /**
+     * Busca las estadísticas de un Pokémon.
+     *
+     * @param normalizedName el nombre normalizado (minúsculas, sin espacios en los extremos).
+     * @return la respuesta construida desde la instantánea, o {@code null} si el nombre no está.
+     */
+    public PokemonStatsResponse find(String normalizedName) {
+        int record = indexOf(normalizedName.getBytes(StandardCharsets.UTF_8));
+        if (record < 0) {
+            return null;
+        }
+        int offset = recordsOffset + record * RECORD_SIZE;
+        PokemonStatsResponse.Builder builder = new PokemonStatsResponse.Builder()
+                .nombre(normalizedName)
+                .hp(buffer.getShort(offset) & 0xFFFF)
+                .ataque(buffer.getShort(offset + 2) & 0xFFFF)
+                .defensa(buffer.getShort(offset + 4) & 0xFFFF)
+                .velocidad(buffer.getShort(offset + 6) & 0xFFFF);
+        int slot = offset + STATS_SIZE;
+        for (int i = 0; i < MAX_TYPES; i++, slot += Short.BYTES) {
+            int id = buffer.getShort(slot) & 0xFFFF;
+            if (id != EMPTY_SLOT) {
+                builder.addTipo(dictionary[id]);
+            }
+        }
+        for (int i = 0; i < MAX_ABILITIES; i++, slot += Short.BYTES) {
+            int id = buffer.getShort(slot) & 0xFFFF;
+            if (id != EMPTY_SLOT) {
+                builder.addHabilidad(dictionary[id]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Número de Pokémon incluidos en la instantánea.
+     *
+     * @return el número de registros.
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * Ruta del archivo de origen.
+     *
+     * @return la ruta desde la que se abrió la instantánea.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Búsqueda binaria del nombre en el índice ordenado.
+     *
+     * @return la posición del registro, o -1 si no existe.
+     */
+    private int indexOf(byte[] name) {
+        int low = 0;
+        int high = recordCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareName(mid, name);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compara, sin copiar, el nombre almacenado en la posición dada del índice con el buscado.
+     */
+    private int compareName(int entry, byte[] name) {
+        int refOffset = indexOffset + entry * STRING_REF_SIZE;
+        int start = stringsOffset + buffer.getInt(refOffset);
+        int length = buffer.getShort(refOffset + 4) & 0xFFFF;
+        int common = Math.min(length, name.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(buffer.get(start + i) & 0xFF, name[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, name.length);
+    }
+
+    private String readString(int refOffset) {
+        int start = stringsOffset + buffer.getInt(refOffset);
+        int length = buffer.getShort(refOffset + 4) & 0xFFFF;
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
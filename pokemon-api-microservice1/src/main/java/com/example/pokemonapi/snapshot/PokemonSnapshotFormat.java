@@ -0,0 +1,45 @@
+package com.example.pokemonapi.snapshot;
+
+/**
+ * Constantes del formato binario de la instantánea de Pokémon (versión 1). Todos los
+ * enteros se escriben en orden big-endian.
+ *
+ * <pre>
+ * Cabecera (32 bytes)
+ *   int   magic            'PKSN'
+ *   short version          1
+ *   short reservado
+ *   int   recordCount      número de Pokémon
+ *   int   dictionaryCount  número de nombres de tipos y habilidades
+ *   int   dictionaryOffset posición de la tabla del diccionario
+ *   int   indexOffset      posición del índice de nombres
+ *   int   recordsOffset    posición de los registros de estadísticas
+ *   int   stringsOffset    posición del bloque de cadenas UTF-8
+ * Diccionario: dictionaryCount x (int offset, short longitud, short relleno)
+ * Índice de nombres, ordenado por los bytes UTF-8 del nombre:
+ *   recordCount x (int offset, short longitud, short relleno)
+ * Registros de ancho fijo (20 bytes), en el mismo orden que el índice:
+ *   short hp, ataque, defensa, velocidad
+ *   short tipos[2], habilidades[4]   identificadores del diccionario, 0xFFFF = vacío
+ * Bloque de cadenas: los bytes UTF-8 referenciados por el diccionario y el índice.
+ * </pre>
+ */
+final class PokemonSnapshotFormat {
+
+    static final int MAGIC = 0x504B534E;
+    static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 32;
+    static final int STRING_REF_SIZE = 8;
+
+    static final int MAX_TYPES = 2;
+    static final int MAX_ABILITIES = 4;
+    static final int STATS_SIZE = 4 * Short.BYTES;
+    static final int RECORD_SIZE = STATS_SIZE + (MAX_TYPES + MAX_ABILITIES) * Short.BYTES;
+
+    static final int EMPTY_SLOT = 0xFFFF;
+    static final int MAX_DICTIONARY_SIZE = EMPTY_SLOT;
+
+    private PokemonSnapshotFormat() {
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.pokemonapi.snapshot;
+
+import com.example.pokemonapi.config.SnapshotProperties;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.model.SnapshotStatusResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mantiene la instantánea de Pokémon activa y permite reemplazarla en caliente.
+ *
+ * La instantánea se abre al arrancar si {@code pokemon.snapshot.path} está configurada. Una
+ * tarea periódica detecta cuando el archivo se reemplaza en disco (el escritor lo mueve de forma
+ * atómica) y abre la nueva versión; el cambio de referencia es atómico, por lo que las consultas
+ * en curso terminan con la instantánea anterior y las nuevas usan la recién cargada.
+ */
+@Component
+public class PokemonSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonSnapshotStore.class);
+
+    private final Path path;
+    private final AtomicReference<Loaded> current = new AtomicReference<>();
+
+    /**
+     * Constructor para la inyección de dependencias de Spring. Intenta cargar la instantánea
+     * configurada; si no existe o no es válida, el servicio sigue funcionando contra la PokeAPI.
+     *
+     * @param properties la configuración de la instantánea.
+     */
+    @Autowired
+    public PokemonSnapshotStore(SnapshotProperties properties) {
+        this.path = properties.getPath() == null || properties.getPath().isBlank()
+                ? null : Path.of(properties.getPath());
+        if (path != null) {
+            try {
+                reload();
+            } catch (IOException ex) {
+                log.warn("No se pudo cargar la instantánea de Pokémon '{}': {}", path, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Busca un Pokémon en la instantánea activa.
+     *
+     * @param normalizedName el nombre normalizado.
+     * @return la respuesta almacenada, o {@code null} si no hay instantánea o el nombre no está.
+     */
+    public PokemonStatsResponse find(String normalizedName) {
+        Loaded loaded = current.get();
+        return loaded == null ? null : loaded.snapshot.find(normalizedName);
+    }
+
+    /**
+     * Abre de nuevo el archivo configurado y lo activa en sustitución del anterior.
+     *
+     * @return el estado de la instantánea recién activada.
+     * @throws IOException si el archivo no se puede abrir o no es válido; la anterior sigue activa.
+     * @throws IllegalStateException si no hay ninguna ruta de instantánea configurada.
+     */
+    public synchronized SnapshotStatusResponse reload() throws IOException {
+        if (path == null) {
+            throw new IllegalStateException("No hay una instantánea configurada (pokemon.snapshot.path).");
+        }
+        FileTime modified = Files.getLastModifiedTime(path);
+        PokemonSnapshot snapshot = PokemonSnapshot.open(path);
+        current.set(new Loaded(snapshot, modified, Instant.now()));
+        log.info("Instantánea de Pokémon cargada desde '{}' con {} registros", path, snapshot.size());
+        return status();
+    }
+
+    /**
+     * Recarga la instantánea si el archivo cambió desde la última carga. Se ejecuta
+     * periódicamente según {@code pokemon.snapshot.check-interval}.
+     */
+    @Scheduled(fixedDelayString = "${pokemon.snapshot.check-interval:30s}")
+    public void checkForUpdates() {
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        try {
+            Loaded loaded = current.get();
+            if (loaded == null || !Files.getLastModifiedTime(path).equals(loaded.modified)) {
+                reload();
+            }
+        } catch (IOException ex) {
+            log.warn("No se pudo recargar la instantánea de Pokémon '{}': {}", path, ex.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene el estado de la instantánea activa.
+     *
+     * @return el estado, con {@code cargada=false} si no hay instantánea activa.
+     */
+    public SnapshotStatusResponse status() {
+        Loaded loaded = current.get();
+        if (loaded == null) {
+            return new SnapshotStatusResponse(false, path == null ? null : path.toString(), 0, null);
+        }
+        return new SnapshotStatusResponse(true, loaded.snapshot.getPath().toString(),
+                loaded.snapshot.size(), loaded.loadedAt.toString());
+    }
+
+    /**
+     * Instantánea activa junto con la fecha de modificación del archivo al cargarla.
+     */
+    private static final class Loaded {
+        private final PokemonSnapshot snapshot;
+        private final FileTime modified;
+        private final Instant loadedAt;
+
+        private Loaded(PokemonSnapshot snapshot, FileTime modified, Instant loadedAt) {
+            this.snapshot = snapshot;
+            this.modified = modified;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
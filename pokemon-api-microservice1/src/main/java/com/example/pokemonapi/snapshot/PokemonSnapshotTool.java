@@ -0,0 +1,120 @@
+package com.example.pokemonapi.snapshot;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.service.PokemonStatsExtractor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Herramienta de línea de comandos que recorre una sola vez los endpoints de Pokémon de la
+ * PokeAPI y genera el archivo de instantánea binaria que consume {@link PokemonSnapshotStore}.
+ *
+ * Uso:
+ * <pre>
+ * mvn -q compile exec:java -Dexec.mainClass=com.example.pokemonapi.snapshot.PokemonSnapshotTool \
+ *     -Dexec.args="pokemon.snapshot [https://pokeapi.co/api/v2] [concurrencia]"
+ * </pre>
+ */
+public class PokemonSnapshotTool {
+
+    private static final String DEFAULT_BASE_URL = "https://pokeapi.co/api/v2";
+    private static final int DEFAULT_CONCURRENCY = 8;
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PokemonStatsExtractor extractor = new PokemonStatsExtractor();
+
+    /**
+     * Crea la herramienta para una PokeAPI concreta.
+     *
+     * @param baseUrl la URL base de la PokeAPI, sin barra final.
+     * @param concurrency el número de descargas simultáneas.
+     */
+    public PokemonSnapshotTool(String baseUrl, int concurrency) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Uso: PokemonSnapshotTool <archivo-salida> [url-base] [concurrencia]");
+            System.exit(1);
+        }
+        Path output = Path.of(args[0]);
+        String baseUrl = args.length > 1 ? args[1] : DEFAULT_BASE_URL;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CONCURRENCY;
+
+        List<PokemonStatsResponse> pokemons = new PokemonSnapshotTool(baseUrl, concurrency).crawl();
+        new PokemonSnapshotWriter().write(pokemons, output);
+        System.out.printf("Instantánea escrita en %s con %d Pokémon%n", output, pokemons.size());
+    }
+
+    /**
+     * Descarga la lista completa de nombres y las estadísticas de cada Pokémon.
+     *
+     * @return las estadísticas de todos los Pokémon listados.
+     * @throws IOException si falla alguna descarga; la instantánea debe ser completa.
+     */
+    public List<PokemonStatsResponse> crawl() throws IOException, InterruptedException {
+        List<String> names = listNames();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<PokemonStatsResponse>> futures = new ArrayList<>(names.size());
+            for (String name : names) {
+                futures.add(executor.submit(() -> fetch(name)));
+            }
+            List<PokemonStatsResponse> pokemons = new ArrayList<>(names.size());
+            for (Future<PokemonStatsResponse> future : futures) {
+                pokemons.add(future.get());
+            }
+            return pokemons;
+        } catch (ExecutionException ex) {
+            throw new IOException("Error al descargar un Pokémon: " + ex.getCause().getMessage(), ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> listNames() throws IOException, InterruptedException {
+        try (InputStream body = get(baseUrl + "/pokemon?limit=100000&offset=0")) {
+            JsonNode results = objectMapper.readTree(body).path("results");
+            List<String> names = new ArrayList<>(results.size());
+            results.forEach(entry -> names.add(entry.path("name").asText()));
+            return names;
+        }
+    }
+
+    private PokemonStatsResponse fetch(String name) throws IOException, InterruptedException {
+        try (InputStream body = get(baseUrl + "/pokemon/" + name)) {
+            return extractor.extract(body);
+        }
+    }
+
+    private InputStream get(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("La PokeAPI respondió " + response.statusCode() + " para " + url);
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.pokemonapi.snapshot;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.pokemonapi.snapshot.PokemonSnapshotFormat.*;
+
+/**
+ * Escribe una instantánea binaria de estadísticas de Pokémon con el formato descrito en
+ * {@link PokemonSnapshotFormat}. Los nombres de tipos y habilidades se codifican una sola vez
+ * en un diccionario y cada registro los referencia por su identificador.
+ */
+public class PokemonSnapshotWriter {
+
+    /**
+     * Escribe la instantánea de forma atómica: primero en un archivo temporal del mismo
+     * directorio y luego lo mueve sobre el destino, de modo que un lector nunca vea un
+     * archivo a medio escribir.
+     *
+     * @param pokemons las estadísticas a incluir; los nombres repetidos conservan la última entrada.
+     * @param target la ruta del archivo de instantánea.
+     * @throws IOException si no se puede escribir el archivo.
+     * @throws IllegalArgumentException si un Pokémon tiene más tipos o habilidades de los que admite el formato.
+     */
+    public void write(Collection<PokemonStatsResponse> pokemons, Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                write(pokemons, out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Escribe la instantánea en un flujo de salida.
+     *
+     * @param pokemons las estadísticas a incluir.
+     * @param output el flujo de destino; no se cierra.
+     * @throws IOException si no se puede escribir.
+     */
+    public void write(Collection<PokemonStatsResponse> pokemons, OutputStream output) throws IOException {
+        Map<String, PokemonStatsResponse> byName = new LinkedHashMap<>();
+        for (PokemonStatsResponse pokemon : pokemons) {
+            byName.put(pokemon.getNombre(), pokemon);
+        }
+        List<byte[]> names = new ArrayList<>();
+        for (String name : byName.keySet()) {
+            names.add(name.getBytes(StandardCharsets.UTF_8));
+        }
+        names.sort(Arrays::compareUnsigned);
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (PokemonStatsResponse pokemon : byName.values()) {
+            validate(pokemon);
+            pokemon.getTipos().forEach(tipo -> dictionary.putIfAbsent(tipo, dictionary.size()));
+            pokemon.getHabilidades().forEach(habilidad -> dictionary.putIfAbsent(habilidad, dictionary.size()));
+        }
+        if (dictionary.size() >= MAX_DICTIONARY_SIZE) {
+            throw new IllegalArgumentException("El diccionario de tipos y habilidades supera el máximo del formato.");
+        }
+
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        ByteArrayOutputStream dictionaryTable = new ByteArrayOutputStream();
+        DataOutputStream dictionaryOut = new DataOutputStream(dictionaryTable);
+        for (String entry : dictionary.keySet()) {
+            writeStringRef(dictionaryOut, strings, entry.getBytes(StandardCharsets.UTF_8));
+        }
+
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream indexOut = new DataOutputStream(index);
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream recordsOut = new DataOutputStream(records);
+        for (byte[] name : names) {
+            writeStringRef(indexOut, strings, name);
+            writeRecord(recordsOut, byName.get(new String(name, StandardCharsets.UTF_8)), dictionary);
+        }
+
+        int dictionaryOffset = HEADER_SIZE;
+        int indexOffset = dictionaryOffset + dictionaryTable.size();
+        int recordsOffset = indexOffset + index.size();
+        int stringsOffset = recordsOffset + records.size();
+
+        DataOutputStream out = new DataOutputStream(output);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(0);
+        out.writeInt(names.size());
+        out.writeInt(dictionary.size());
+        out.writeInt(dictionaryOffset);
+        out.writeInt(indexOffset);
+        out.writeInt(recordsOffset);
+        out.writeInt(stringsOffset);
+        dictionaryTable.writeTo(out);
+        index.writeTo(out);
+        records.writeTo(out);
+        strings.writeTo(out);
+        out.flush();
+    }
+
+    private void validate(PokemonStatsResponse pokemon) {
+        if (pokemon.getTipos().size() > MAX_TYPES || pokemon.getHabilidades().size() > MAX_ABILITIES) {
+            throw new IllegalArgumentException("El Pokémon '" + pokemon.getNombre()
+                    + "' tiene más tipos o habilidades de los que admite la instantánea.");
+        }
+    }
+
+    private void writeStringRef(DataOutputStream table, ByteArrayOutputStream strings, byte[] value) throws IOException {
+        table.writeInt(strings.size());
+        table.writeShort(value.length);
+        table.writeShort(0);
+        strings.write(value);
+    }
+
+    private void writeRecord(DataOutputStream out, PokemonStatsResponse pokemon, Map<String, Integer> dictionary)
+            throws IOException {
+        out.writeShort(pokemon.getHp());
+        out.writeShort(pokemon.getAtaque());
+        out.writeShort(pokemon.getDefensa());
+        out.writeShort(pokemon.getVelocidad());
+        writeSlots(out, pokemon.getTipos(), MAX_TYPES, dictionary);
+        writeSlots(out, pokemon.getHabilidades(), MAX_ABILITIES, dictionary);
+    }
+
+    private void writeSlots(DataOutputStream out, List<String> values, int slots, Map<String, Integer> dictionary)
+            throws IOException {
+        for (int i = 0; i < slots; i++) {
+            out.writeShort(i < values.size() ? dictionary.get(values.get(i)) : EMPTY_SLOT);
+        }
+    }
+}
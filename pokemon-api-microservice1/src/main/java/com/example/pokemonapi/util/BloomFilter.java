@@ -0,0 +1,101 @@
+package com.example.pokemonapi.util;
+
+/**
+ * Filtro de Bloom de cadenas sobre un arreglo de {@code long}: responde "seguro que no está"
+ * o "puede que esté" con una tasa de falsos positivos acotada, en memoria constante
+ * (unos 10 bits por elemento para un 1 %).
+ *
+ * Cada cadena se resume en un hash de 64 bits (FNV-1a seguido de una mezcla final) del que se
+ * derivan las {@code k} posiciones por doble hash ({@code h1 + i·h2}), sin recorrer la cadena
+ * {@code k} veces. Se construye una vez y después solo se lee, por lo que es seguro publicarlo
+ * a otros hilos mediante un campo {@code volatile}.
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+    private int insertions;
+
+    /**
+     * Dimensiona el filtro para el número de elementos y la tasa de falsos positivos indicados.
+     *
+     * @param expectedInsertions el número de elementos que se insertarán; debe ser positivo.
+     * @param falsePositiveRate la tasa de falsos positivos objetivo, entre 0 y 1 (exclusivos).
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("El número de elementos debe ser positivo: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("La tasa de falsos positivos debe estar entre 0 y 1: " + falsePositiveRate);
+        }
+        // m = -n·ln(p) / ln(2)², k = (m / n)·ln(2)
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) Math.max(1, (optimalBits + 63) >>> 6)];
+        this.bitCount = (long) bits.length << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Inserta una cadena.
+     *
+     * @param value la cadena a insertar.
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+        insertions++;
+    }
+
+    /**
+     * Indica si una cadena puede estar en el filtro.
+     *
+     * @param value la cadena a consultar.
+     * @return {@code false} si seguro que no se insertó; {@code true} si puede que sí.
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tasa de falsos positivos esperada con los elementos insertados: {@code (1 - e^(-k·n/m))^k}.
+     *
+     * @return la probabilidad de que una cadena no insertada se informe como presente.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions / bitCount), hashCount);
+    }
+
+    public int getInsertions() { return insertions; }
+    public long getBitCount() { return bitCount; }
+    public int getHashCount() { return hashCount; }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // Mezcla final (splitmix64) para repartir los bits altos, que FNV deja poco mezclados
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.pokemonapi.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Sketch count-min de frecuencias sin bloqueos: estima cuántas veces se vio cada clave en memoria
+ * constante, sin quedar por debajo del valor real.
+ *
+ * Tiene {@value #DEPTH} filas de contadores de 32 bits. Los cuatro contadores de una clave están
+ * en el mismo bloque de 64 bytes (una línea de caché), uno por fila, de modo que un incremento
+ * toca una sola línea. Para que los hilos que cuentan la misma clave popular compitan lo menos
+ * posible por esa línea, la tabla se reparte en franjas: cada hilo incrementa la de su
+ * identificador y las estimaciones suman todas las franjas, que juntas equivalen a un único sketch.
+ *
+ * Hay muchos menos franjas que hilos (e.g., los 200 de Tomcat sobre 16 franjas), así que varios
+ * hilos comparten cada una: cada contador se incrementa con una suma atómica sobre su propio
+ * entero, que no pierde incrementos ni afecta a los contadores vecinos.
+ *
+ * {@link #halve()} divide todos los contadores entre dos para que las frecuencias decaigan con el
+ * tiempo. Un contador desborda tras {@code 2^32} incrementos sin decaer.
+ */
+public class CountMinSketch {
+
+    /** Filas (funciones de hash) del sketch. */
+    public static final int DEPTH = 4;
+
+    // Un bloque son 16 contadores de 32 bits (64 bytes): 4 por fila
+    private static final int BLOCK_INTS = 16;
+    private static final int LANES_PER_ROW = 4;
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final int[][] stripes;
+    private final int stripeMask;
+    private final int blockMask;
+
+    /**
+     * @param countersPerRow los contadores de cada fila; se redondea a una potencia de dos de al
+     *                       menos {@value #LANES_PER_ROW}.
+     * @param stripes las franjas; se redondea a una potencia de dos.
+     */
+    public CountMinSketch(int countersPerRow, int stripes) {
+        if (countersPerRow <= 0 || stripes <= 0) {
+            throw new IllegalArgumentException("Los contadores por fila y las franjas deben ser positivos.");
+        }
+        int blocks = ceilingPowerOfTwo(Math.max(1, countersPerRow / LANES_PER_ROW));
+        int stripeCount = ceilingPowerOfTwo(stripes);
+        this.blockMask = blocks - 1;
+        this.stripeMask = stripeCount - 1;
+        this.stripes = new int[stripeCount][blocks * BLOCK_INTS];
+    }
+
+    /**
+     * Resume una cadena en el hash de 64 bits que usan {@link #increment} y {@link #estimate}.
+     * Parte de {@link String#hashCode()}, que la cadena calcula una sola vez.
+     *
+     * @param value la cadena.
+     * @return el hash.
+     */
+    public static long hash(String value) {
+        return spread(value.hashCode());
+    }
+
+    /**
+     * Extiende un hash de 32 bits a 64 bits bien repartidos, para quien calcula el hash de la
+     * clave por su cuenta (e.g., sin crear la cadena normalizada).
+     *
+     * @param hashCode el hash de 32 bits, calculado como {@link String#hashCode()}.
+     * @return el hash.
+     */
+    public static long spread(int hashCode) {
+        long h = hashCode * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * Cuenta una aparición de una clave en la franja del hilo actual.
+     *
+     * @param hash el hash de la clave, de {@link #hash(String)}.
+     * @return la estimación de la clave en esa franja tras el incremento (una cota inferior de la
+     *         estimación global), que se obtiene sin lecturas adicionales.
+     */
+    public long increment(long hash) {
+        int[] table = stripes[stripeOfCurrentThread()];
+        int base = block(hash);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int previous = (int) COUNTERS.getAndAdd(table, base + lane(hash, row), 1);
+            min = Math.min(min, Integer.toUnsignedLong(previous));
+        }
+        return min + 1;
+    }
+
+    /**
+     * Estima las apariciones de una clave: para cada fila suma su contador en todas las franjas y
+     * se queda con el menor.
+     *
+     * @param hash el hash de la clave, de {@link #hash(String)}.
+     * @return la estimación, mayor o igual que el número real (salvo por el decaimiento).
+     */
+    public long estimate(long hash) {
+        int base = block(hash);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = base + lane(hash, row);
+            long sum = 0;
+            for (int[] table : stripes) {
+                sum += Integer.toUnsignedLong((int) COUNTERS.getOpaque(table, index));
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    /**
+     * Divide todos los contadores entre dos. Cada división es atómica: no descarta incrementos
+     * concurrentes ni la deshacen.
+     */
+    public void halve() {
+        for (int[] table : stripes) {
+            for (int i = 0; i < table.length; i++) {
+                int value;
+                do {
+                    value = (int) COUNTERS.getOpaque(table, i);
+                } while (value != 0 && !COUNTERS.compareAndSet(table, i, value, value >>> 1));
+            }
+        }
+    }
+
+    /** Número de franjas. */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    private int block(long hash) {
+        return ((int) (hash >>> 40) & blockMask) * BLOCK_INTS;
+    }
+
+    // Cada fila usa sus propios 4 contadores del bloque, elegidos con 2 bits distintos del hash
+    private static int lane(long hash, int row) {
+        return row * LANES_PER_ROW + (int) ((hash >>> (row << 3)) & (LANES_PER_ROW - 1));
+    }
+
+    // Los hilos de un pool tienen identificadores consecutivos, que así caen en franjas distintas
+    private int stripeOfCurrentThread() {
+        return (int) Thread.currentThread().getId() & stripeMask;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
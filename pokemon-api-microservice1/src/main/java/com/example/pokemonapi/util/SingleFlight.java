@@ -0,0 +1,248 @@
+package com.example.pokemonapi.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa ("coalesce") ejecuciones concurrentes de una misma operación identificada por una clave.
+ *
+ * El primer hilo que solicita una clave ejecuta la operación; los hilos que llegan mientras
+ * esa ejecución está en curso esperan y reciben el mismo resultado o la misma excepción.
+ * La entrada se elimina al terminar, tanto si la operación tuvo éxito como si falló, de modo
+ * que una llamada posterior vuelve a ejecutar la operación.
+ *
+ * Los llamadores pueden tener plazos distintos, así que ninguno debe imponer el suyo a la
+ * operación compartida. En la variante bloqueante quien se une espera como mucho su propio plazo
+ * y, mientras espera, cuenta como un llamador más de la operación, aunque esta sea asíncrona.
+ * En la asíncrona cada llamador recibe su propia copia del resultado: cancelar una copia (o
+ * completarla antes con un error, e.g., al vencer su plazo) no afecta a los demás, y cuando todos
+ * han abandonado la suya se cancela la operación, que ya nadie espera.
+ *
+ * @param <K> el tipo de la clave.
+ * @param <V> el tipo del resultado.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Ejecuta la operación para la clave dada, o se une a la ejecución en curso para esa clave.
+     *
+     * @param key la clave que identifica la operación.
+     * @param loader la operación a ejecutar si no hay otra en curso.
+     * @return el resultado de la operación.
+     * @throws RuntimeException la misma excepción lanzada por la operación compartida.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        return execute(key, loader, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Variante de {@link #execute(Object, Supplier)} con una espera acotada para quien se une a
+     * una ejecución en curso: al agotarse deja de esperarla, sin afectar a la ejecución ni a los
+     * demás llamadores. Quien inicia la operación la ejecuta en su propio hilo y no se acota.
+     *
+     * @param key la clave que identifica la operación.
+     * @param loader la operación a ejecutar si no hay otra en curso.
+     * @param maxWaitNanos la espera máxima en una ejecución en curso, o {@link Long#MAX_VALUE}
+     *                     para esperarla sin límite.
+     * @param onTimeout crea la excepción que se lanza al agotarse la espera.
+     * @return el resultado de la operación.
+     * @throws RuntimeException la misma excepción lanzada por la operación compartida, o la de
+     *         {@code onTimeout}.
+     */
+    public V execute(K key, Supplier<V> loader, long maxWaitNanos, Supplier<? extends RuntimeException> onTimeout) {
+        Flight<V> created = new Flight<>(true);
+        while (true) {
+            Flight<V> existing = inFlight.putIfAbsent(key, created);
+            if (existing == null) {
+                break;
+            }
+            // Como las copias asíncronas, cuenta como llamador para que no se cancele mientras espera
+            if (existing.addWaiter()) {
+                try {
+                    return await(existing.result, maxWaitNanos, onTimeout);
+                } finally {
+                    if (!existing.result.isDone() && existing.removeWaiter()) {
+                        inFlight.remove(key, existing);
+                    }
+                }
+            }
+            // Todos sus llamadores la abandonaron: se inicia otra
+            inFlight.remove(key, existing);
+        }
+        try {
+            V value = loader.get();
+            created.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            created.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Variante asíncrona de {@link #execute}: inicia la operación para la clave dada, o devuelve
+     * un futuro que se completa con la ejecución en curso para esa clave (iniciada de forma
+     * síncrona o asíncrona). La clave se libera cuando el futuro de la operación termina o cuando
+     * todos los llamadores abandonan su copia; en ese caso se cancela el futuro de la operación.
+     * La operación no debe acotarse al plazo de quien la inicia: cada llamador acota su copia.
+     *
+     * @param key la clave que identifica la operación.
+     * @param loader la operación asíncrona a iniciar si no hay otra en curso.
+     * @return un futuro con el resultado de la operación compartida, propio de este llamador.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        Flight<V> created = new Flight<>(false);
+        while (true) {
+            Flight<V> existing = inFlight.putIfAbsent(key, created);
+            if (existing == null) {
+                break;
+            }
+            CompletableFuture<V> joined = join(key, existing);
+            if (joined != null) {
+                return joined;
+            }
+            // Todos sus llamadores la abandonaron: se inicia otra
+            inFlight.remove(key, existing);
+        }
+        CompletableFuture<V> copy = join(key, created);
+        CompletableFuture<V> started;
+        try {
+            started = loader.get();
+        } catch (RuntimeException | Error ex) {
+            started = CompletableFuture.failedFuture(ex);
+        }
+        created.start(started);
+        started.whenComplete((value, ex) -> {
+            if (ex != null) {
+                created.result.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause() : ex);
+            } else {
+                created.result.complete(value);
+            }
+            inFlight.remove(key, created);
+        });
+        return copy;
+    }
+
+    /**
+     * Entrega a un llamador su copia del resultado y la cuenta hasta que la abandone.
+     *
+     * @return la copia, o {@code null} si la operación ya fue abandonada.
+     */
+    private CompletableFuture<V> join(K key, Flight<V> flight) {
+        CompletableFuture<V> copy = flight.result.copy();
+        if (!flight.addWaiter()) {
+            return null;
+        }
+        copy.whenComplete((value, ex) -> {
+            // Una copia que falla antes que la operación es un llamador que la abandona
+            if (ex != null && flight.removeWaiter()) {
+                inFlight.remove(key, flight);
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * Número de claves con una ejecución en curso.
+     *
+     * @return el número de operaciones en vuelo.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Una ejecución en curso: su resultado, los llamadores que aún la esperan y, en la variante
+     * asíncrona, el futuro de la operación. Una ejecución síncrona la lleva a término el hilo que
+     * la inició, que no la abandona, así que nunca se cancela ni se libera antes de terminar.
+     */
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final boolean synchronous;
+        private CompletableFuture<V> operation;
+        private int waiters;
+        private boolean abandoned;
+
+        private Flight(boolean synchronous) {
+            this.synchronous = synchronous;
+        }
+
+        private synchronized boolean addWaiter() {
+            if (abandoned) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        /**
+         * Descuenta un llamador que abandonó su copia y, si era el último, cancela la operación.
+         *
+         * @return {@code true} si la operación quedó abandonada.
+         */
+        private boolean removeWaiter() {
+            CompletableFuture<V> toCancel;
+            synchronized (this) {
+                if (--waiters > 0 || result.isDone() || synchronous) {
+                    return false;
+                }
+                abandoned = true;
+                toCancel = operation;
+            }
+            if (toCancel != null) {
+                toCancel.cancel(true);
+            }
+            return true;
+        }
+
+        private void start(CompletableFuture<V> started) {
+            boolean cancel;
+            synchronized (this) {
+                operation = started;
+                cancel = abandoned;
+            }
+            if (cancel) {
+                started.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Espera el resultado de una ejecución compartida, como mucho {@code maxWaitNanos}, y relanza
+     * su excepción original.
+     */
+    private V await(CompletableFuture<V> future, long maxWaitNanos,
+                    Supplier<? extends RuntimeException> onTimeout) {
+        try {
+            if (maxWaitNanos == Long.MAX_VALUE) {
+                return future.join();
+            }
+            return future.get(Math.max(0, maxWaitNanos), TimeUnit.NANOSECONDS);
+        } catch (CompletionException | ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        } catch (TimeoutException ex) {
+            throw onTimeout.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando la ejecución compartida", ex);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.pokemonapi.util;
+
+import java.util.Arrays;
+
+/**
+ * Conserva los {@code k} mayores valores de un flujo de pares (puntuación, identificador) en un
+ * montículo mínimo de tamaño fijo sobre un arreglo de {@code long}, sin crear un objeto por
+ * elemento. Cada par se empaqueta en un {@code long}: la puntuación en los 32 bits altos y el
+ * identificador invertido en los bajos, de modo que a igual puntuación gana el menor identificador.
+ *
+ * Es seguro para uso concurrente: {@link #offer} y {@link #sortedDescending()} se sincronizan
+ * sobre la instancia, y cada oferta cuesta O(log k).
+ */
+public class TopK {
+
+    private final long[] heap;
+    private int size;
+
+    /**
+     * @param k el número de elementos a conservar; debe ser positivo.
+     */
+    public TopK(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k debe ser positivo: " + k);
+        }
+        this.heap = new long[k];
+    }
+
+    /**
+     * Ofrece un elemento. Si el montículo está lleno, solo se conserva si supera al menor.
+     *
+     * @param score la puntuación; debe ser mayor o igual que cero.
+     * @param id el identificador del elemento; debe ser mayor o igual que cero.
+     */
+    public synchronized void offer(int score, int id) {
+        long packed = pack(score, id);
+        if (size < heap.length) {
+            heap[size] = packed;
+            siftUp(size++);
+        } else if (packed > heap[0]) {
+            heap[0] = packed;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Devuelve los elementos conservados, de mayor a menor. Usar {@link #scoreOf(long)} e
+     * {@link #idOf(long)} para leerlos.
+     *
+     * @return una copia ordenada de los elementos empaquetados.
+     */
+    public synchronized long[] sortedDescending() {
+        long[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted);
+        for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+            long tmp = sorted[i];
+            sorted[i] = sorted[j];
+            sorted[j] = tmp;
+        }
+        return sorted;
+    }
+
+    public static int scoreOf(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    public static int idOf(long packed) {
+        return Integer.MAX_VALUE - (int) packed;
+    }
+
+    private static long pack(int score, int id) {
+        if (score < 0 || id < 0) {
+            throw new IllegalArgumentException("La puntuación y el identificador no pueden ser negativos.");
+        }
+        return ((long) score << 32) | (Integer.MAX_VALUE - id);
+    }
+
+    private void siftUp(int index) {
+        long value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown(int index) {
+        long value = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (value <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.pokemonapi;
+
+import com.example.pokemonapi.support.PokeApiStubServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comparación de rendimiento de {@code GET /pokemon/{name}} con el cliente bloqueante y el no
+ * bloqueante ({@code pokeapi.client-mode}), bajo alta concurrencia y con una PokeAPI lenta.
+ *
+ * Se arranca la aplicación completa dos veces con pocos hilos de Tomcat y la caché deshabilitada,
+ * contra un servidor local que responde con latencia fija. Cada solicitud usa un nombre distinto
+ * para que ninguna se agrupe con otra. Se informan el rendimiento (solicitudes por segundo) y
+ * las latencias p50 y p99 de cada modo.
+ *
+ * No forma parte de la ejecución normal de pruebas; se ejecuta con {@code mvn test -Pbenchmarks}.
+ */
+@Tag("benchmark")
+public class PokemonClientModeBenchmarkTest {
+
+    private static final int TOMCAT_THREADS = 8;
+    private static final int CONCURRENCY = 128;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int MEASURED_REQUESTS = 4_000;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(50);
+
+    @Test
+    void compareBlockingAndReactive() throws Exception {
+        try (PokeApiStubServer stub = PokeApiStubServer.start(CONCURRENCY)
+                .latency(UPSTREAM_LATENCY)
+                .fallbackFixture("pikachu")) {
+            Result blocking = run("blocking", stub);
+            Result reactive = run("reactive", stub);
+
+            System.out.printf("Tomcat: %d hilos, concurrencia: %d, latencia PokeAPI: %d ms%n",
+                    TOMCAT_THREADS, CONCURRENCY, UPSTREAM_LATENCY.toMillis());
+            System.out.println(blocking);
+            System.out.println(reactive);
+            System.out.printf("Relación reactive/blocking: %.2fx rendimiento%n",
+                    reactive.throughput / blocking.throughput);
+        }
+    }
+
+    private Result run(String clientMode, PokeApiStubServer stub) throws Exception {
+        // Como argumentos de línea de comandos, para que prevalezcan sobre application.properties
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PokemonApiApplication.class)
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--pokemon.cache.enabled=false",
+                        "--pokeapi.base-url=" + stub.baseUrl(),
+                        "--pokeapi.client-mode=" + clientMode,
+                        "--pokeapi.http.max-connections-total=" + CONCURRENCY,
+                        "--pokeapi.http.max-connections-per-route=" + CONCURRENCY)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://127.0.0.1:" + port + "/pokemon/" + clientMode + "-";
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+            drive(client, baseUrl + "warmup-", WARMUP_REQUESTS);
+            long start = System.nanoTime();
+            long[] latencies = drive(client, baseUrl, MEASURED_REQUESTS);
+            long elapsed = System.nanoTime() - start;
+            return new Result(clientMode, MEASURED_REQUESTS / (elapsed / 1e9), latencies);
+        }
+    }
+
+    /**
+     * Envía las solicitudes manteniendo como máximo {@link #CONCURRENCY} en curso.
+     *
+     * @return la latencia de cada solicitud, en nanosegundos.
+     */
+    private long[] drive(HttpClient client, String baseUrl, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        Semaphore permits = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            permits.acquire();
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + i)).timeout(Duration.ofSeconds(30)).build();
+            long sent = System.nanoTime();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (ex != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        permits.release();
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(ex -> null).join();
+        assertEquals(0, failures.get(), "solicitudes fallidas");
+        return latencies;
+    }
+
+    private static final class Result {
+        private final String name;
+        private final double throughput;
+        private final long[] latencies;
+
+        private Result(String name, double throughput, long[] latencies) {
+            this.name = name;
+            this.throughput = throughput;
+            this.latencies = latencies.clone();
+            Arrays.sort(this.latencies);
+        }
+
+        private double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %8.1f sol/s   p50 %7.1f ms   p99 %7.1f ms",
+                    name, throughput, percentileMillis(0.50), percentileMillis(0.99));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.pokemonapi;
+
+import com.example.pokemonapi.support.LoadTestHarness;
+import com.example.pokemonapi.support.LoadTestScenario;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Prueba de carga de extremo a extremo de {@code GET /pokemon/{name}} con {@link LoadTestHarness}.
+ *
+ * El escenario se configura con propiedades del sistema {@code loadtest.*} (ver
+ * {@link LoadTestScenario#fromSystemProperties()}) y el resultado se escribe en
+ * {@code target/load-test/<escenario>.json}. No forma parte de la ejecución normal de pruebas:
+ * <pre>
+ * mvn test -Pbenchmarks -Dtest=PokemonLoadTest -Dloadtest.rate=500 -Dloadtest.keys=zipf:5000:1.2
+ * </pre>
+ */
+@Tag("benchmark")
+public class PokemonLoadTest {
+
+    @Test
+    void runScenario() throws Exception {
+        LoadTestScenario scenario = LoadTestScenario.fromSystemProperties();
+        Path resultFile = Path.of("target", "load-test", scenario.getName() + ".json");
+
+        Map<String, Object> result = new LoadTestHarness().run(scenario, resultFile);
+
+        System.out.printf("Escenario '%s': rendimiento %s, latencia %s, códigos %s, errores %s%n",
+                scenario.getName(), result.get("rendimiento"), result.get("latenciaMs"),
+                result.get("codigosEstado"), result.get("errores"));
+        System.out.println("Resultado escrito en " + resultFile.toAbsolutePath());
+    }
+}
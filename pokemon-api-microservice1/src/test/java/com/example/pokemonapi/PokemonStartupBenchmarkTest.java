@@ -0,0 +1,146 @@
+package com.example.pokemonapi;
+
+import com.example.pokemonapi.support.PokeApiStubServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Comparación del tiempo hasta la primera respuesta correcta de {@code GET /pokemon/{name}} al
+ * arrancar la aplicación empaquetada en un proceso nuevo, sin y con el arranque rápido (archivo
+ * AppCDS y perfil {@code fast-startup}), contra un servidor local que hace de PokeAPI.
+ *
+ * El tiempo se mide desde que se lanza el proceso {@code java} hasta que la primera solicitud
+ * devuelve 200; se informa también la latencia de esa primera solicitud, que es la que paga la
+ * creación diferida de beans. Cada variante se arranca {@link #RUNS} veces y se informa la mediana.
+ *
+ * No forma parte de la ejecución normal de pruebas y necesita el jar y el archivo AppCDS:
+ * <pre>
+ * mvn -Pcds -DskipTests package
+ * mvn test -Pbenchmarks -Dtest=PokemonStartupBenchmarkTest
+ * </pre>
+ */
+@Tag("benchmark")
+public class PokemonStartupBenchmarkTest {
+
+    private static final int RUNS = 3;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+    private static final Path JAR = Path.of("target", "pokemon-api-0.0.1-SNAPSHOT.jar");
+    private static final Path CDS_DIR = Path.of("target", "cds");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @Test
+    void compareDefaultAndFastStartup() throws Exception {
+        assumeTrue(Files.exists(JAR) && Files.exists(CDS_DIR.resolve("application.jsa")),
+                "Ejecuta antes 'mvn -Pcds -DskipTests package'");
+        try (PokeApiStubServer stub = PokeApiStubServer.start(4).fallbackFixture("pikachu")) {
+            Result standard = measure("por defecto", stub, List.of("-jar", JAR.toAbsolutePath().toString()), List.of());
+            Result fast = measure("fast-startup + AppCDS", stub,
+                    List.of("-XX:SharedArchiveFile=" + CDS_DIR.resolve("application.jsa").toAbsolutePath(),
+                            "-jar", CDS_DIR.resolve(JAR.getFileName()).toAbsolutePath().toString()),
+                    List.of("--spring.profiles.active=fast-startup"));
+
+            System.out.println(standard);
+            System.out.println(fast);
+            System.out.printf("Relación fast/por defecto: %.2fx tiempo hasta la primera respuesta%n",
+                    fast.medianMillis(fast.firstResponse) / standard.medianMillis(standard.firstResponse));
+        }
+    }
+
+    private Result measure(String name, PokeApiStubServer stub, List<String> jvmArgs, List<String> appArgs) throws Exception {
+        Result result = new Result(name);
+        for (int i = 0; i < RUNS; i++) {
+            int port = freePort();
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(jvmArgs);
+            command.add("--server.port=" + port);
+            command.add("--pokeapi.base-url=" + stub.baseUrl());
+            command.addAll(appArgs);
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+            try {
+                URI uri = URI.create("http://127.0.0.1:" + port + "/pokemon/pikachu");
+                long firstRequest = awaitFirstResponse(uri, start, process);
+                long end = System.nanoTime();
+                result.firstResponse[i] = end - start;
+                result.firstRequest[i] = end - firstRequest;
+            } finally {
+                process.destroy();
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reintenta la solicitud hasta que la aplicación responde 200.
+     *
+     * @return el instante en que se envió la solicitud que respondió 200.
+     */
+    private long awaitFirstResponse(URI uri, long start, Process process) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build();
+        while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+            assertTrue(process.isAlive(), "la aplicación terminó antes de responder");
+            long sent = System.nanoTime();
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return sent;
+                }
+            } catch (IOException ex) {
+                // Todavía no escucha
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        throw new AssertionError("la aplicación no respondió en " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static final class Result {
+        private final String name;
+        private final long[] firstResponse = new long[RUNS];
+        private final long[] firstRequest = new long[RUNS];
+
+        private Result(String name) {
+            this.name = name;
+        }
+
+        private double medianMillis(long[] nanos) {
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            return sorted[sorted.length / 2] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-22s primera respuesta: %7.0f ms (mediana de %d), latencia de la primera solicitud: %5.0f ms",
+                    name, medianMillis(firstResponse), RUNS, medianMillis(firstRequest));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.pokemonapi.cache;
+
+import com.example.pokemonapi.config.CacheProperties;
+import com.example.pokemonapi.metrics.PokemonMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link CacheRefresher}, con un solo hilo de refresco que la
+ * prueba mantiene ocupado para controlar la cola.
+ */
+public class CacheRefresherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private CacheRefresher refresher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        refresher.shutdown();
+    }
+
+    /**
+     * Verifica que una clave con un refresco pendiente no se programa de nuevo, que los
+     * refrescos que no caben en la cola se descartan y que cada refresco se mide.
+     */
+    @Test
+    void schedule_shouldDedupeKeys_andDropWhenQueueFull() throws InterruptedException {
+        refresher = newRefresher(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+
+        assertTrue(refresher.schedule("pikachu", () -> {
+            started.countDown();
+            await(release);
+            finished.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertFalse(refresher.schedule("pikachu", finished::countDown));
+
+        assertTrue(refresher.schedule("ditto", finished::countDown));
+        assertEquals(1, refresher.getQueueDepth());
+        assertFalse(refresher.schedule("mewtwo", finished::countDown));
+        assertEquals(1, refresher.getDropped());
+
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        // La clave se libera al terminar: se puede volver a programar
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (!refresher.schedule("pikachu", () -> { })) {
+                Thread.sleep(10);
+            }
+        });
+    }
+
+    /**
+     * Verifica que un refresco fallido se registra con su resultado y no afecta a los siguientes.
+     */
+    @Test
+    void schedule_shouldRecordFailedRefresh() throws InterruptedException {
+        refresher = newRefresher(1, 10);
+        CountDownLatch done = new CountDownLatch(1);
+
+        refresher.schedule("pikachu", () -> {
+            throw new RuntimeException("PokeAPI caída");
+        });
+        refresher.schedule("ditto", done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (meterRegistry.get("pokemon.cache.refresh").tag("outcome", "ok").timer().count() < 1) {
+                Thread.sleep(10);
+            }
+        });
+        assertEquals(1, meterRegistry.get("pokemon.cache.refresh").tag("outcome", "error").timer().count());
+    }
+
+    private CacheRefresher newRefresher(int maxConcurrency, int queueCapacity) {
+        CacheProperties properties = new CacheProperties();
+        properties.getRefresh().setMaxConcurrency(maxConcurrency);
+        properties.getRefresh().setQueueCapacity(queueCapacity);
+        return new CacheRefresher(properties, new PokemonMetrics(meterRegistry));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
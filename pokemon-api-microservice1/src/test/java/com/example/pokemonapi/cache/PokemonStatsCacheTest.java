@@ -0,0 +1,201 @@
+package com.example.pokemonapi.cache;
+
+import com.example.pokemonapi.cache.shared.SharedCacheStore;
+import com.example.pokemonapi.config.CacheProperties;
+import com.example.pokemonapi.exception.PokemonNotFoundException;
+import com.example.pokemonapi.model.CacheStatsResponse;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link PokemonStatsCache}.
+ * Se utiliza un reloj manual para verificar la expiración sin esperas reales.
+ */
+public class PokemonStatsCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private PokemonStatsCache cache;
+
+    /**
+     * Crea una caché con TTL de 10 minutos para respuestas (obsoletas a los 5, conservadas una
+     * hora más para "stale-if-error") y de 30 segundos para "no encontrado".
+     */
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        properties.setTtl(Duration.ofMinutes(10));
+        properties.setSoftTtl(Duration.ofMinutes(5));
+        properties.setStaleIfError(Duration.ofHours(1));
+        properties.setNotFoundTtl(Duration.ofSeconds(30));
+        properties.setMaximumSize(100);
+        cache = new PokemonStatsCache(properties, nanos::get);
+    }
+
+    /**
+     * Verifica que una respuesta exitosa expira al cumplirse su TTL y no antes.
+     */
+    @Test
+    void getIfPresent_shouldExpireFoundEntry_afterTtl() {
+        cache.putFound("pikachu", new PokemonStatsResponse.Builder().nombre("pikachu").build());
+
+        advance(Duration.ofMinutes(9));
+        assertNotNull(cache.getIfPresent("pikachu"));
+
+        advance(Duration.ofMinutes(2));
+        assertNull(cache.getIfPresent("pikachu"));
+    }
+
+    /**
+     * Verifica que un resultado negativo usa el TTL corto y relanza la excepción al resolverse.
+     */
+    @Test
+    void getIfPresent_shouldExpireNotFoundEntry_afterShorterTtl() {
+        cache.putNotFound("aguacate", "Pokémon 'aguacate' no encontrado.");
+
+        CachedLookup lookup = cache.getIfPresent("aguacate");
+        assertNotNull(lookup);
+        PokemonNotFoundException thrown = assertThrows(PokemonNotFoundException.class, lookup::resolve);
+        assertEquals("Pokémon 'aguacate' no encontrado.", thrown.getMessage());
+
+        advance(Duration.ofSeconds(31));
+        assertNull(cache.getIfPresent("aguacate"));
+    }
+
+    /**
+     * Verifica los contadores de aciertos, aciertos negativos y fallos, y la invalidación.
+     */
+    @Test
+    void stats_shouldCountHitsAndMisses() {
+        cache.putFound("pikachu", new PokemonStatsResponse.Builder().nombre("pikachu").build());
+        cache.putNotFound("aguacate", "no encontrado");
+
+        cache.getIfPresent("pikachu");
+        cache.getIfPresent("aguacate");
+        cache.getIfPresent("ditto");
+        cache.invalidate("pikachu");
+        cache.getIfPresent("pikachu");
+
+        CacheStatsResponse stats = cache.stats();
+        assertEquals(2, stats.getAciertos());
+        assertEquals(1, stats.getAciertosNegativos());
+        assertEquals(2, stats.getFallos());
+        assertEquals(0.5, stats.getTasaAciertos());
+    }
+
+    /**
+     * Verifica que una respuesta pasa a ser obsoleta al cumplirse {@code soft-ttl}, sin dejar
+     * de devolverse, y que los resultados negativos nunca se consideran obsoletos.
+     */
+    @Test
+    void isStale_shouldBeTrue_afterSoftTtl() {
+        cache.putFound("pikachu", new PokemonStatsResponse.Builder().nombre("pikachu").build());
+
+        advance(Duration.ofMinutes(4));
+        assertFalse(cache.isStale(cache.getIfPresent("pikachu")));
+
+        advance(Duration.ofMinutes(2));
+        CachedLookup stale = cache.getIfPresent("pikachu");
+        assertNotNull(stale);
+        assertTrue(cache.isStale(stale));
+        cache.putNotFound("aguacate", "no encontrado");
+        assertFalse(cache.isStale(cache.getIfPresent("aguacate")));
+    }
+
+    /**
+     * Verifica que una respuesta expirada se conserva para "stale-if-error" sin contarse como
+     * acierto, y que desaparece al superar {@code ttl} + {@code stale-if-error}.
+     */
+    @Test
+    void getLastKnown_shouldKeepExpiredEntry_untilStaleIfErrorElapses() {
+        cache.putFound("pikachu", new PokemonStatsResponse.Builder().nombre("pikachu").build());
+
+        advance(Duration.ofMinutes(11));
+        assertNull(cache.getIfPresent("pikachu"));
+        assertEquals("pikachu", cache.getLastKnown("pikachu").getResponse().getNombre());
+        assertEquals(0, cache.stats().getAciertos());
+        assertEquals(1, cache.stats().getFallos());
+
+        advance(Duration.ofHours(1));
+        assertNull(cache.getLastKnown("pikachu"));
+    }
+
+    /**
+     * Verifica que la caché deshabilitada nunca devuelve entradas.
+     */
+    @Test
+    void getIfPresent_shouldReturnNull_whenDisabled() {
+        CacheProperties properties = new CacheProperties();
+        properties.setEnabled(false);
+        PokemonStatsCache disabled = new PokemonStatsCache(properties);
+
+        disabled.putFound("pikachu", new PokemonStatsResponse.Builder().nombre("pikachu").build());
+
+        assertNull(disabled.getIfPresent("pikachu"));
+    }
+
+    /**
+     * Verifica que almacenar una entrada no espera a la caché compartida: la escritura se hace
+     * en el pool de la caché, y la lectura asíncrona tampoco ocupa el hilo que la pide.
+     */
+    @Test
+    void putFound_shouldNotWaitForSharedStore() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        AtomicReference<String> writer = new AtomicReference<>();
+        SharedCacheStore slowStore = new SharedCacheStore() {
+            @Override
+            public byte[] get(String key) {
+                awaitQuietly(release);
+                return null;
+            }
+
+            @Override
+            public List<byte[]> getAll(List<String> keys) { return List.of(); }
+
+            @Override
+            public void put(String key, byte[] value, Duration ttl) {
+                writer.set(Thread.currentThread().getName());
+                written.countDown();
+                awaitQuietly(release);
+            }
+
+            @Override
+            public void delete(String key) { }
+        };
+        PokemonStatsCache layered = new PokemonStatsCache(new CacheProperties(), slowStore);
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+                layered.putFound("pikachu", new PokemonStatsResponse.Builder().nombre("pikachu").build());
+                assertFalse(layered.getSharedAsync("mew").isDone());
+            });
+            assertNotNull(layered.getIfPresent("pikachu"));
+            assertTrue(written.await(1, TimeUnit.SECONDS));
+            assertTrue(writer.get().startsWith("shared-cache-"));
+        } finally {
+            release.countDown();
+            layered.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.pokemonapi.cache.shared;
+
+import com.example.pokemonapi.cache.CachedLookup;
+import com.example.pokemonapi.cache.PokemonStatsCache;
+import com.example.pokemonapi.config.CacheProperties;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.support.RespStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la caché compartida: {@link RedisSharedCacheStore} contra un servidor RESP local
+ * ({@link RespStubServer}), el formato de {@link CachedLookupCodec} y dos instancias de
+ * {@link PokemonStatsCache} (como dos réplicas) sobre el mismo almacén.
+ */
+public class RedisSharedCacheStoreTest {
+
+    private RespStubServer server;
+    private CacheProperties properties;
+    private RedisSharedCacheStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = RespStubServer.start();
+        properties = new CacheProperties();
+        properties.getShared().setEnabled(true);
+        properties.getShared().setHost(server.host());
+        properties.getShared().setPort(server.port());
+        properties.getShared().setTimeout(Duration.ofSeconds(2));
+        store = new RedisSharedCacheStore(properties.getShared());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+        server.close();
+    }
+
+    /**
+     * Verifica las operaciones básicas: las claves llevan el prefijo, el tiempo de vida se envía
+     * en milisegundos y las conexiones se reutilizan.
+     */
+    @Test
+    void store_shouldGetPutAndDelete_withPrefixAndTtl() {
+        assertNull(store.get("pikachu"));
+
+        store.put("pikachu", bytes("valor"), Duration.ofMinutes(1));
+        assertEquals("valor", new String(store.get("pikachu"), StandardCharsets.UTF_8));
+        assertNotNull(server.value("pokemon:stats:pikachu"));
+        long ttl = server.ttlMillis("pokemon:stats:pikachu");
+        assertTrue(ttl > 55_000 && ttl <= 60_000, "TTL inesperado: " + ttl);
+
+        store.delete("pikachu");
+        assertNull(store.get("pikachu"));
+        assertEquals(1, server.connections());
+    }
+
+    /**
+     * Verifica que un lote de más de {@value RedisSharedCacheStore#MGET_CHUNK} claves se resuelve
+     * con varios {@code MGET} en un solo envío y conserva el orden, con {@code null} para las
+     * claves ausentes.
+     */
+    @Test
+    void getAll_shouldPipelineChunkedMget_andKeepOrder() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            keys.add("pokemon-" + i);
+            if (i % 2 == 0) {
+                store.put("pokemon-" + i, bytes("v" + i), Duration.ofMinutes(1));
+            }
+        }
+
+        List<byte[]> values = store.getAll(keys);
+
+        assertEquals(250, values.size());
+        assertEquals("v0", new String(values.get(0), StandardCharsets.UTF_8));
+        assertNull(values.get(1));
+        assertEquals("v248", new String(values.get(248), StandardCharsets.UTF_8));
+        assertEquals(3, server.commands().stream().filter("MGET"::equals).count());
+    }
+
+    /**
+     * Verifica que, tras un error de comunicación, las operaciones fallan de inmediato durante
+     * {@code retry-interval} y después se reconecta.
+     */
+    @Test
+    void store_shouldFailFast_afterConnectionError() throws Exception {
+        properties.getShared().setRetryInterval(Duration.ofMillis(200));
+        store.put("pikachu", bytes("valor"), Duration.ofMinutes(1));
+
+        server.dropConnections();
+        assertThrows(UncheckedIOException.class, () -> store.get("pikachu"));
+        int commandsAfterError = server.commands().size();
+        assertThrows(UncheckedIOException.class, () -> store.get("pikachu"));
+        assertEquals(commandsAfterError, server.commands().size());
+
+        TimeUnit.MILLISECONDS.sleep(250);
+        assertEquals("valor", new String(store.get("pikachu"), StandardCharsets.UTF_8));
+        assertEquals(2, server.connections());
+    }
+
+    /**
+     * Verifica que una respuesta que no se puede interpretar cierra la conexión en lugar de
+     * abandonarla, sin suspender las operaciones siguientes.
+     */
+    @Test
+    void store_shouldCloseConnection_whenReplyIsMalformed() throws Exception {
+        store.put("pikachu", bytes("valor"), Duration.ofMinutes(1));
+
+        server.corruptNextReply();
+        assertThrows(NumberFormatException.class, () -> store.get("pikachu"));
+        assertEquals("valor", new String(store.get("pikachu"), StandardCharsets.UTF_8));
+        assertEquals(2, server.connections());
+
+        // El servidor ve el cierre de la primera conexión de forma asíncrona
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (server.openConnections() > 1 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(1, server.openConnections());
+    }
+
+    /**
+     * Verifica que la codificación conserva todos los campos y la edad de la entrada.
+     */
+    @Test
+    void codec_shouldRoundTripEntries_withTheirAge() {
+        PokemonStatsResponse response = new PokemonStatsResponse.Builder()
+                .nombre("pikachu").hp(35).ataque(55).defensa(40).velocidad(90)
+                .addTipo("electric").addHabilidad("static").addHabilidad("lightning-rod").build();
+        long now = TimeUnit.MINUTES.toNanos(10);
+        CachedLookup found = CachedLookup.found(response, "W/\"abc\"", now - TimeUnit.MINUTES.toNanos(2));
+
+        byte[] encoded = CachedLookupCodec.encode(found, 1_000_000, now);
+        // Otra réplica lo lee tres segundos después, con otro reloj monótono
+        CachedLookup decoded = CachedLookupCodec.decode(encoded, 1_003_000, 5L);
+
+        PokemonStatsResponse copy = decoded.getResponse();
+        assertEquals("pikachu", copy.getNombre());
+        assertEquals(List.of(35, 55, 40, 90), List.of(copy.getHp(), copy.getAtaque(), copy.getDefensa(), copy.getVelocidad()));
+        assertEquals(List.of("electric"), copy.getTipos());
+        assertEquals(List.of("static", "lightning-rod"), copy.getHabilidades());
+        assertEquals("W/\"abc\"", decoded.getUpstreamEtag());
+        assertEquals(TimeUnit.SECONDS.toNanos(123), 5L - decoded.getStoredAtNanos());
+
+        CachedLookup notFound = CachedLookupCodec.decode(
+                CachedLookupCodec.encode(CachedLookup.notFound("no encontrado", now), 0, now), 0, now);
+        assertFalse(notFound.isFound());
+        assertEquals("no encontrado", notFound.getNotFoundMessage());
+        assertThrows(IllegalArgumentException.class, () -> CachedLookupCodec.decode(new byte[] {1, 1}, 0, 0));
+    }
+
+    /**
+     * Verifica que una réplica aprovecha las entradas que obtuvo otra, tanto de una en una como
+     * por lotes, y que una caída del almacén solo se cuenta como error.
+     */
+    @Test
+    void statsCache_shouldShareEntriesBetweenReplicas() throws Exception {
+        PokemonStatsCache first = new PokemonStatsCache(properties, store);
+        PokemonStatsCache second = new PokemonStatsCache(properties, store);
+        first.putFound("pikachu", new PokemonStatsResponse.Builder().nombre("pikachu").build(), "\"etag\"");
+        first.putNotFound("aguacate", "no encontrado");
+        first.putFound("ditto", new PokemonStatsResponse.Builder().nombre("ditto").build());
+        // Las escrituras en la caché compartida no se esperan
+        awaitStored("pokemon:stats:pikachu", "pokemon:stats:aguacate", "pokemon:stats:ditto");
+
+        assertNull(second.getIfPresent("pikachu"));
+        CachedLookup shared = second.getShared("pikachu");
+        assertNotNull(shared);
+        assertEquals("\"etag\"", shared.getUpstreamEtag());
+        assertNotNull(second.getIfPresent("pikachu"));
+
+        second.loadShared(List.of("pikachu", "aguacate", "ditto", "mew"));
+        assertFalse(second.getIfPresent("aguacate").isFound());
+        assertEquals("ditto", second.getIfPresent("ditto").getResponse().getNombre());
+        assertEquals(3, second.getSharedHits());
+        assertEquals(1, second.getSharedMisses());
+
+        second.invalidate("ditto");
+        assertNull(first.getShared("ditto"));
+
+        server.close();
+        assertNull(second.getShared("mew"));
+        assertEquals(1, second.getSharedErrors());
+    }
+
+    private void awaitStored(String... keys) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        for (String key : keys) {
+            while (server.value(key) == null && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+            assertNotNull(server.value(key), key);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.pokemonapi.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del cliente HTTP con pool de conexiones definido en {@link AppConfig}.
+ * Se usa un servidor HTTP local del JDK en lugar de la PokeAPI real.
+ */
+public class AppConfigTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/gzip", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            byte[] body = gzip("{\"name\":\"pikachu\"}");
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Verifica que el cliente solicita gzip y entrega el cuerpo ya descomprimido,
+     * y que la conexión vuelve al pool tras la respuesta.
+     */
+    @Test
+    void restTemplate_shouldRequestAndDecompressGzip() throws IOException {
+        PokeApiProperties properties = new PokeApiProperties();
+        AppConfig config = new AppConfig();
+        PoolingHttpClientConnectionManager pool = config.pokeApiConnectionManager(properties);
+        try (CloseableHttpClient client = config.pokeApiHttpClient(pool, properties)) {
+            RestTemplate restTemplate = config.restTemplate(client);
+
+            String body = restTemplate.getForObject(baseUrl + "/gzip", String.class);
+
+            assertEquals("{\"name\":\"pikachu\"}", body);
+            assertNotNull(acceptEncoding.get());
+            assertTrue(acceptEncoding.get().contains("gzip"));
+            assertEquals(0, pool.getTotalStats().getLeased());
+            assertEquals(1, pool.getTotalStats().getAvailable());
+        }
+    }
+
+    /**
+     * Verifica que el tiempo de lectura configurado corta las respuestas lentas.
+     */
+    @Test
+    void restTemplate_shouldFail_whenReadTimeoutExceeded() throws IOException {
+        PokeApiProperties properties = new PokeApiProperties();
+        properties.getHttp().setReadTimeout(Duration.ofMillis(200));
+        AppConfig config = new AppConfig();
+        PoolingHttpClientConnectionManager pool = config.pokeApiConnectionManager(properties);
+        try (CloseableHttpClient client = config.pokeApiHttpClient(pool, properties)) {
+            RestTemplate restTemplate = config.restTemplate(client);
+
+            assertThrows(ResourceAccessException.class,
+                    () -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+        }
+    }
+
+    /**
+     * Verifica que el pool de reintentos y coberturas está acotado a las llamadas simultáneas
+     * más la cola del límite de tasa, y que por encima rechaza la tarea en lugar de crecer.
+     */
+    @Test
+    void pokeApiCallExecutor_shouldBeBounded_byConcurrencyAndRateLimitQueue() throws Exception {
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.getLimiter().setMaxConcurrentCalls(1);
+        properties.getRateLimit().setMaxQueueSize(1);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) new AppConfig().pokeApiCallExecutor(properties);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            assertEquals(2, executor.getMaximumPoolSize());
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -1,17 +1,54 @@
 package com.example.pokemonapi.controller;
 
+import com.example.pokemonapi.config.DeadlineProperties;
+import com.example.pokemonapi.config.HttpCacheProperties;
+import com.example.pokemonapi.config.TimingProperties;
+import com.example.pokemonapi.exception.DeadlineExceededException;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import com.example.pokemonapi.exception.PokemonNameRejectedException;
 import com.example.pokemonapi.exception.PokemonNotFoundException;
+import com.example.pokemonapi.metrics.HotKeyTracker;
+import com.example.pokemonapi.metrics.PokemonMetrics;
+import com.example.pokemonapi.metrics.RequestTiming;
+import com.example.pokemonapi.names.PokemonNameIndex;
+import com.example.pokemonapi.model.BatchItemResponse;
+import com.example.pokemonapi.model.EvolutionResponse;
 import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.model.RankingResponse;
+import com.example.pokemonapi.model.SuggestionResponse;
+import com.example.pokemonapi.service.PokemonBatchService;
+import com.example.pokemonapi.service.PokemonEvolutionService;
+import com.example.pokemonapi.service.PokemonRankingService;
 import com.example.pokemonapi.service.PokemonService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -20,7 +57,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Se utiliza {@link WebMvcTest} para probar la capa web sin levantar un servidor completo.
  * {@link MockMvc} se usa para realizar solicitudes HTTP simuladas y verificar las respuestas.
  */
-@WebMvcTest(PokemonController.class)
+@WebMvcTest(controllers = PokemonController.class, properties = "pokemon.timing.server-timing-header=true")
+@EnableConfigurationProperties({HttpCacheProperties.class, TimingProperties.class, DeadlineProperties.class})
 public class PokemonControllerTest {
 
     @Autowired
@@ -33,6 +71,42 @@ public class PokemonControllerTest {
     @MockBean
     private PokemonService pokemonService;
 
+    /**
+     * Mock de {@link PokemonBatchService} para los endpoints de consultas por lotes.
+     */
+    @MockBean
+    private PokemonBatchService pokemonBatchService;
+
+    /**
+     * Mock de {@link PokemonRankingService} para el endpoint de ranking.
+     */
+    @MockBean
+    private PokemonRankingService pokemonRankingService;
+
+    /**
+     * Mock de {@link PokemonEvolutionService} para el endpoint de la línea evolutiva.
+     */
+    @MockBean
+    private PokemonEvolutionService pokemonEvolutionService;
+
+    /**
+     * Mock de {@link PokemonNameIndex}, requerido por el endpoint de sugerencias y el manejador global de excepciones.
+     */
+    @MockBean
+    private PokemonNameIndex pokemonNameIndex;
+
+    /**
+     * Mock de {@link PokemonMetrics}, requerido por el controlador y el manejador global de excepciones.
+     */
+    @MockBean
+    private PokemonMetrics pokemonMetrics;
+
+    /**
+     * Mock de {@link HotKeyTracker}, requerido por el controlador.
+     */
+    @MockBean
+    private HotKeyTracker hotKeyTracker;
+
     /**
      * Prueba el caso de éxito donde se encuentra un Pokémon.
      * Verifica que el endpoint devuelve un estado HTTP 200 (OK) y que el cuerpo JSON
@@ -53,10 +127,11 @@ public class PokemonControllerTest {
                 .addHabilidad("lightning-rod")
                 .build();
 
-        when(pokemonService.getPokemonStats(anyString())).thenReturn(mockResponse);
+        when(pokemonService.getPokemonStatsAsync(anyString())).thenReturn(CompletableFuture.completedFuture(mockResponse));
 
         // 2. Act & 3. Assert: Ejecutar la solicitud y verificar el resultado
         mockMvc.perform(get("/pokemon/pikachu"))
+                .andExpect(request().asyncNotStarted())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.nombre").value("pikachu"))
                 .andExpect(jsonPath("$.hp").value(35))
@@ -66,6 +141,116 @@ public class PokemonControllerTest {
                 .andExpect(jsonPath("$.tipos[0]").value("electric"))
                 .andExpect(jsonPath("$.habilidades[0]").value("static"))
                 .andExpect(jsonPath("$.habilidades[1]").value("lightning-rod"));
+        verify(hotKeyTracker).record("pikachu");
+    }
+
+    /**
+     * Prueba que, si la consulta sigue pendiente (modo no bloqueante), la respuesta se entrega
+     * como un futuro y se escribe en un despacho asíncrono al completarse.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStats_shouldRespondAsynchronously_whenLookupIsPending() throws Exception {
+        CompletableFuture<PokemonStatsResponse> pending = new CompletableFuture<>();
+        when(pokemonService.getPokemonStatsAsync(anyString())).thenReturn(pending);
+
+        MvcResult result = mockMvc.perform(get("/pokemon/pikachu"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        pending.complete(new PokemonStatsResponse.Builder().nombre("pikachu").hp(35).build());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombre").value("pikachu"));
+    }
+
+    /**
+     * Prueba la caché HTTP: la respuesta lleva {@code ETag} y {@code Cache-Control}, y una
+     * solicitud con {@code If-None-Match} coincidente recibe un 304 sin cuerpo.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStats_shouldReturnNotModified_whenETagMatches() throws Exception {
+        PokemonStatsResponse pikachu = new PokemonStatsResponse.Builder().nombre("pikachu").hp(35).addTipo("electric").build();
+        String etag = new PokemonStatsResponse.Builder().nombre("pikachu").hp(35).addTipo("electric").build().etag();
+        when(pokemonService.getPokemonStatsAsync(anyString())).thenReturn(CompletableFuture.completedFuture(pikachu));
+
+        mockMvc.perform(get("/pokemon/pikachu"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("Cache-Control", "max-age=60, public, stale-while-revalidate=30"));
+
+        mockMvc.perform(get("/pokemon/pikachu").header("If-None-Match", etag))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    /**
+     * Prueba la negociación de formato y la proyección: con {@code Accept: application/cbor} y
+     * {@code fields=nombre,hp} la respuesta es el mapa CBOR de esos dos campos, con un
+     * {@code ETag} propio; un campo desconocido devuelve 400 sin consultar el servicio.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStats_shouldNegotiateCborAndProjectFields() throws Exception {
+        PokemonStatsResponse pikachu = new PokemonStatsResponse.Builder().nombre("pikachu").hp(35).addTipo("electric").build();
+        when(pokemonService.getPokemonStatsAsync(anyString())).thenReturn(CompletableFuture.completedFuture(pikachu));
+
+        String etag = pikachu.etag();
+        mockMvc.perform(get("/pokemon/pikachu").param("fields", "nombre,hp")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", etag.substring(0, etag.length() - 1) + "-cbor-3\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(content().bytes(new byte[] {(byte) 0xA2, 0x66, 'n', 'o', 'm', 'b', 'r', 'e',
+                        0x67, 'p', 'i', 'k', 'a', 'c', 'h', 'u', 0x62, 'h', 'p', 0x18, 0x23}));
+
+        mockMvc.perform(get("/pokemon/pikachu").param("fields", "tipos"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"tipos\":[\"electric\"]}", true));
+
+        mockMvc.perform(get("/pokemon/pikachu").param("fields", "peso"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Prueba que una cabecera {@code Accept} mal formada responde 400 sin consultar el servicio,
+     * en lugar de acabar como un error interno. El cuerpo del error tampoco se puede negociar con
+     * esa cabecera, así que la respuesta va sin él.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStats_shouldReturnBadRequest_whenAcceptHeaderIsMalformed() throws Exception {
+        mockMvc.perform(get("/pokemon/pikachu").header(HttpHeaders.ACCEPT, "cbor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertInstanceOf(InvalidRequestException.class, result.getResolvedException()));
+
+        verify(pokemonService, never()).getPokemonStatsAsync(anyString());
+    }
+
+    /**
+     * Prueba la cabecera {@code Server-Timing}: incluye las fases medidas por el servicio en el
+     * hilo de la solicitud, la serialización y el total.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStats_shouldReportServerTiming() throws Exception {
+        PokemonStatsResponse pikachu = new PokemonStatsResponse.Builder().nombre("pikachu").hp(35).build();
+        when(pokemonService.getPokemonStatsAsync(anyString())).thenAnswer(invocation -> {
+            RequestTiming.current().add(RequestTiming.Phase.BUILD, 1_500_000);
+            return CompletableFuture.completedFuture(pikachu);
+        });
+
+        mockMvc.perform(get("/pokemon/pikachu"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing",
+                        matchesPattern("build;dur=1\\.500, ser;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}")));
     }
 
     /**
@@ -77,10 +262,202 @@ public class PokemonControllerTest {
     @Test
     void getPokemonStats_shouldReturnNotFound_whenPokemonNotFound() throws Exception {
         // 1. Arrange: Configurar el mock para que lance una excepción
-        when(pokemonService.getPokemonStats(anyString())).thenThrow(new PokemonNotFoundException("Pokemon not found"));
+        when(pokemonService.getPokemonStatsAsync(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new PokemonNotFoundException("Pokemon not found")));
 
         // 2. Act & 3. Assert: Ejecutar y verificar que el estado es 404
         mockMvc.perform(get("/pokemon/nonexistent"))
+                .andExpect(request().asyncNotStarted())
                 .andExpect(status().isNotFound());
     }
+
+    /**
+     * Prueba que la respuesta de un Pokémon no encontrado incluye las sugerencias del índice de
+     * nombres para el nombre de la ruta.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStats_shouldIncludeSuggestions_whenPokemonNotFound() throws Exception {
+        when(pokemonService.getPokemonStatsAsync(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new PokemonNotFoundException("Pokémon 'pikachuu' no encontrado.")));
+        when(pokemonNameIndex.suggestionsFor("pikachuu")).thenReturn(List.of("pikachu"));
+
+        mockMvc.perform(get("/pokemon/pikachuu"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.sugerencias[0]").value("pikachu"));
+    }
+
+    /**
+     * Prueba el endpoint de sugerencias: la ruta literal tiene prioridad sobre {@code /pokemon/{name}}.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void suggest_shouldReturnSuggestions() throws Exception {
+        when(pokemonNameIndex.suggest("pika", 10))
+                .thenReturn(new SuggestionResponse("pika", SuggestionResponse.PREFIX, List.of("pikachu")));
+
+        mockMvc.perform(get("/pokemon/suggest").param("q", "pika"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.coincidencia").value("prefijo"))
+                .andExpect(jsonPath("$.sugerencias[0]").value("pikachu"));
+    }
+
+    /**
+     * Prueba la ruta rápida del "no encontrado": un nombre rechazado por el índice de nombres
+     * devuelve un 404 con el mismo formato de cuerpo que el resto de los errores, incluidas las
+     * sugerencias.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStats_shouldReturnNotFound_whenNameRejected() throws Exception {
+        when(pokemonService.getPokemonStatsAsync(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(PokemonNameRejectedException.INSTANCE));
+        when(pokemonNameIndex.suggestionsFor("aguacate")).thenReturn(List.of());
+
+        mockMvc.perform(get("/pokemon/aguacate"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.estado").value(404))
+                .andExpect(jsonPath("$.error").value("Pokemon no encontrado"))
+                .andExpect(jsonPath("$.mensaje").value(PokemonNameRejectedException.MESSAGE))
+                .andExpect(jsonPath("$.ruta").value("/pokemon/aguacate"))
+                .andExpect(jsonPath("$.sugerencias").isEmpty())
+                .andExpect(jsonPath("$.fecha").isNotEmpty());
+        verify(pokemonNameIndex).suggestionsFor("aguacate");
+    }
+
+    /**
+     * Prueba el caso en que la llamada a la PokeAPI se rechaza por estar el circuito abierto.
+     * Verifica que se devuelve un estado HTTP 503 (Service Unavailable) con la cabecera
+     * {@code Retry-After} redondeada a segundos.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStats_shouldReturnServiceUnavailable_whenPokeApiRejected() throws Exception {
+        when(pokemonService.getPokemonStatsAsync(anyString())).thenReturn(CompletableFuture.failedFuture(
+                new PokeApiUnavailableException(PokeApiUnavailableException.CIRCUIT_OPEN,
+                        "La PokeAPI no está disponible temporalmente.", Duration.ofMillis(2300))));
+
+        mockMvc.perform(get("/pokemon/pikachu"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.estado").value(503));
+    }
+
+    /**
+     * Prueba el caso en que vence el plazo de la solicitud antes de la respuesta de la PokeAPI.
+     * Verifica que se devuelve un estado HTTP 504 (Gateway Timeout), y que una cabecera
+     * {@code X-Request-Timeout} que no es un número de milisegundos se rechaza con 400.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStats_shouldReturnGatewayTimeout_whenDeadlineExceeded() throws Exception {
+        when(pokemonService.getPokemonStatsAsync(anyString())).thenReturn(CompletableFuture.failedFuture(
+                new DeadlineExceededException("Se agotó el plazo de la solicitud antes de obtener la respuesta.")));
+
+        mockMvc.perform(get("/pokemon/pikachu").header("X-Request-Timeout", "250"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.estado").value(504));
+
+        mockMvc.perform(get("/pokemon/pikachu").header("X-Request-Timeout", "pronto"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Prueba el endpoint de la línea evolutiva: cada nodo lleva el resultado del miembro (con su
+     * estado, como en las consultas por lotes) y sus evoluciones.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getEvolution_shouldReturnChainTree() throws Exception {
+        PokemonStatsResponse pichu = new PokemonStatsResponse.Builder().nombre("pichu").hp(20).addTipo("electric").build();
+        EvolutionResponse.Node raichu = new EvolutionResponse.Node(BatchItemResponse.failure("raichu",
+                BatchItemResponse.NO_DISPONIBLE, "La PokeAPI no está disponible temporalmente."), List.of());
+        EvolutionResponse.Node pikachu = new EvolutionResponse.Node(BatchItemResponse.ok("pikachu",
+                new PokemonStatsResponse.Builder().nombre("pikachu").hp(35).addTipo("electric").build()), List.of(raichu));
+        when(pokemonEvolutionService.getEvolution("pikachu")).thenReturn(new EvolutionResponse("pikachu",
+                new EvolutionResponse.Node(BatchItemResponse.ok("pichu", pichu), List.of(pikachu))));
+
+        mockMvc.perform(get("/pokemon/pikachu/evolution"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombre").value("pikachu"))
+                .andExpect(jsonPath("$.cadena.nombre").value("pichu"))
+                .andExpect(jsonPath("$.cadena.estado").value("ok"))
+                .andExpect(jsonPath("$.cadena.datos.hp").value(20))
+                .andExpect(jsonPath("$.cadena.evolucionaA[0].datos.hp").value(35))
+                .andExpect(jsonPath("$.cadena.evolucionaA[0].evolucionaA[0].estado").value("no_disponible"))
+                .andExpect(jsonPath("$.cadena.evolucionaA[0].evolucionaA[0].datos").doesNotExist());
+    }
+
+    /**
+     * Prueba el endpoint de ranking: la ruta literal tiene prioridad sobre {@code /pokemon/{name}}
+     * y los parámetros omitidos toman sus valores por defecto.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getRanking_shouldReturnRanking_withDefaults() throws Exception {
+        when(pokemonRankingService.rank("fire", "suma", 10)).thenReturn(new RankingResponse("fire", "suma", 2, 0,
+                List.of(new RankingResponse.Entry(1, "charizard", 534), new RankingResponse.Entry(2, "vulpix", 299))));
+
+        mockMvc.perform(get("/pokemon/ranking").param("type", "fire"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criterio").value("suma"))
+                .andExpect(jsonPath("$.resultados[0].nombre").value("charizard"))
+                .andExpect(jsonPath("$.resultados[0].valor").value(534))
+                .andExpect(jsonPath("$.resultados[1].posicion").value(2));
+    }
+
+    /**
+     * Prueba el endpoint por lotes con parámetro de consulta. Verifica que se devuelve un
+     * resultado por nombre, en orden, con los estados individuales.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void getPokemonStatsBatch_shouldReturnPerNameResults() throws Exception {
+        PokemonStatsResponse pikachu = new PokemonStatsResponse.Builder().nombre("pikachu").hp(35).build();
+        when(pokemonBatchService.getPokemonStatsBatch(eq(List.of("pikachu", "aguacate")))).thenReturn(List.of(
+                BatchItemResponse.ok("pikachu", pikachu),
+                BatchItemResponse.failure("aguacate", BatchItemResponse.NO_ENCONTRADO, "Pokémon 'aguacate' no encontrado.")));
+
+        mockMvc.perform(get("/pokemon").param("names", "pikachu,aguacate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].nombre").value("pikachu"))
+                .andExpect(jsonPath("$[0].estado").value("ok"))
+                .andExpect(jsonPath("$[0].datos.hp").value(35))
+                .andExpect(jsonPath("$[1].nombre").value("aguacate"))
+                .andExpect(jsonPath("$[1].estado").value("no_encontrado"))
+                .andExpect(jsonPath("$[1].datos").doesNotExist());
+    }
+
+    /**
+     * Prueba que el endpoint por lotes devuelve 400 (Bad Request) cuando el lote no es válido.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void postPokemonStatsBatch_shouldReturnBadRequest_whenBatchInvalid() throws Exception {
+        when(pokemonBatchService.getPokemonStatsBatch(anyList()))
+                .thenThrow(new InvalidRequestException("Se debe indicar al menos un nombre de Pokémon."));
+
+        mockMvc.perform(post("/pokemon").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.estado").value(400));
+    }
+
+    /**
+     * Prueba que una {@link IllegalArgumentException} inesperada se trata como un error interno
+     * (500) y no como una solicitud inválida.
+     * @throws Exception si ocurre un error durante la ejecución de MockMvc.
+     */
+    @Test
+    void postPokemonStatsBatch_shouldReturnInternalServerError_whenUnexpectedIllegalArgument() throws Exception {
+        when(pokemonBatchService.getPokemonStatsBatch(anyList()))
+                .thenThrow(new IllegalArgumentException("La tasa de falsos positivos debe estar entre 0 y 1: 2.0"));
+
+        mockMvc.perform(post("/pokemon").contentType(MediaType.APPLICATION_JSON).content("[\"pikachu\"]"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.estado").value(500));
+    }
 }
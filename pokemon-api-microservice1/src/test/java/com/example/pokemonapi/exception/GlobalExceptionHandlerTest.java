@@ -0,0 +1,84 @@
+package com.example.pokemonapi.exception;
+
+import com.example.pokemonapi.cache.CacheRefresher;
+import com.example.pokemonapi.cache.PokemonStatsCache;
+import com.example.pokemonapi.config.CacheProperties;
+import com.example.pokemonapi.config.HotKeyProperties;
+import com.example.pokemonapi.config.HttpCacheProperties;
+import com.example.pokemonapi.config.NameIndexProperties;
+import com.example.pokemonapi.config.PokeApiProperties;
+import com.example.pokemonapi.config.ResilienceProperties;
+import com.example.pokemonapi.config.SnapshotProperties;
+import com.example.pokemonapi.controller.PokemonController;
+import com.example.pokemonapi.metrics.HotKeyTracker;
+import com.example.pokemonapi.metrics.PokemonMetrics;
+import com.example.pokemonapi.names.PokemonNameIndex;
+import com.example.pokemonapi.resilience.UpstreamGuard;
+import com.example.pokemonapi.resilience.UpstreamRetrier;
+import com.example.pokemonapi.service.PokemonBatchService;
+import com.example.pokemonapi.service.PokemonEvolutionService;
+import com.example.pokemonapi.service.PokemonRankingService;
+import com.example.pokemonapi.service.PokemonService;
+import com.example.pokemonapi.snapshot.PokemonSnapshotStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas de la clase {@link GlobalExceptionHandler} con el controlador, el servicio y un
+ * {@link PokemonNameIndex} cargado reales; solo la PokeAPI se simula con Mockito.
+ */
+public class GlobalExceptionHandlerTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private PokemonNameIndex nameIndex;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        nameIndex = new PokemonNameIndex(null, new PokeApiProperties(), new NameIndexProperties());
+        nameIndex.load(List.of("pikachu", "pichu", "raichu", "bulbasaur", "charmander", "squirtle"));
+        PokemonMetrics metrics = new PokemonMetrics(new SimpleMeterRegistry());
+        PokeApiProperties pokeApiProperties = new PokeApiProperties();
+        pokeApiProperties.setResponseParser(PokeApiProperties.ResponseParser.BINDING);
+        PokemonService pokemonService = new PokemonService(restTemplate, new PokemonStatsCache(new CacheProperties()),
+                pokeApiProperties, new PokemonSnapshotStore(new SnapshotProperties()), WebClient.create(), metrics,
+                new UpstreamGuard(new ResilienceProperties()), new UpstreamRetrier(new ResilienceProperties(), Runnable::run),
+                new CacheRefresher(new CacheProperties(), metrics), nameIndex);
+        PokemonController controller = new PokemonController(pokemonService, mock(PokemonBatchService.class),
+                mock(PokemonRankingService.class), mock(PokemonEvolutionService.class), nameIndex, metrics,
+                new HotKeyTracker(new HotKeyProperties()), new HttpCacheProperties());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(metrics, nameIndex))
+                .build();
+    }
+
+    /**
+     * Verifica que un nombre mal escrito que el filtro de Bloom rechaza sin consultar la PokeAPI
+     * responde 404 con las sugerencias del índice de nombres.
+     */
+    @Test
+    void handlePokemonNameRejectedException_shouldIncludeSuggestions_forMisspelledName() throws Exception {
+        mockMvc.perform(get("/pokemon/pikachuu"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.mensaje").value(PokemonNameRejectedException.MESSAGE))
+                .andExpect(jsonPath("$.ruta").value("/pokemon/pikachuu"))
+                .andExpect(jsonPath("$.sugerencias[0]").value("pikachu"));
+
+        assertEquals(1, nameIndex.getRejected());
+        verifyNoInteractions(restTemplate);
+    }
+}
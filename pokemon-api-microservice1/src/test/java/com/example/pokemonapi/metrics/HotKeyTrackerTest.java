@@ -0,0 +1,74 @@
+package com.example.pokemonapi.metrics;
+
+import com.example.pokemonapi.config.HotKeyProperties;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.model.HotKeyResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link HotKeyTracker}.
+ */
+public class HotKeyTrackerTest {
+
+    /**
+     * Verifica que, con un tráfico sesgado y muchos nombres poco consultados que llenan los
+     * candidatos, los nombres más consultados se informan en orden y con tasas positivas.
+     */
+    @Test
+    void top_shouldReportHeavyHitters_inOrder() {
+        HotKeyTracker tracker = new HotKeyTracker(properties(8));
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            double r = random.nextDouble();
+            String name = r < 0.30 ? "Pikachu" : r < 0.45 ? "eevee" : r < 0.55 ? " charizard " : "raro-" + random.nextInt(5_000);
+            tracker.record(name);
+        }
+
+        List<HotKeyResponse> top = tracker.top(3);
+
+        assertEquals(List.of("pikachu", "eevee", "charizard"), top.stream().map(HotKeyResponse::getNombre).toList());
+        assertTrue(Math.abs(top.get(0).getSolicitudes() - 30_000) < 1_500, "estimación: " + top.get(0).getSolicitudes());
+        assertTrue(top.get(0).getSolicitudesPorSegundo() > 0);
+        assertThrows(InvalidRequestException.class, () -> tracker.top(9));
+    }
+
+    /**
+     * Verifica que el decaimiento reduce a la mitad las estimaciones y deja que un nombre que
+     * empieza a consultarse desplace a uno que dejó de consultarse.
+     */
+    @Test
+    void decay_shouldLetNewHotKeysReplaceOldOnes() {
+        HotKeyTracker tracker = new HotKeyTracker(properties(1));
+        for (int i = 0; i < 1_000; i++) {
+            tracker.record("mew");
+        }
+        assertEquals(1_000, tracker.top(1).get(0).getSolicitudes());
+
+        tracker.decay();
+        assertEquals(500, tracker.top(1).get(0).getSolicitudes());
+        for (int i = 0; i < 5; i++) {
+            tracker.decay();
+        }
+        for (int i = 0; i < 200; i++) {
+            tracker.record("ditto");
+        }
+
+        HotKeyResponse hottest = tracker.top(1).get(0);
+        assertEquals("ditto", hottest.getNombre());
+        assertEquals(200, hottest.getSolicitudes());
+    }
+
+    private static HotKeyProperties properties(int candidates) {
+        HotKeyProperties properties = new HotKeyProperties();
+        properties.setCandidates(candidates);
+        properties.setStripes(1);
+        properties.setDecayInterval(Duration.ofMinutes(1));
+        return properties;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.pokemonapi.metrics;
+
+import com.example.pokemonapi.config.AppConfig;
+import com.example.pokemonapi.config.PokeApiProperties;
+import com.example.pokemonapi.support.PokeApiStubServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del desglose por fases: el formato de {@code Server-Timing}, el descuento de la lectura
+ * del cuerpo y las fases medidas por {@link UpstreamTimingHooks} en los dos clientes HTTP contra
+ * un servidor local que hace de PokeAPI con un retardo fijo.
+ */
+public class RequestTimingTest {
+
+    private static final Duration LATENCY = Duration.ofMillis(50);
+
+    private PokeApiStubServer stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = PokeApiStubServer.start(2).fallbackFixture("pikachu").latency(LATENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.attach(null);
+        stub.close();
+    }
+
+    /**
+     * Verifica que el valor de la cabecera solo incluye las fases medidas, en milisegundos con
+     * tres decimales, y que fuera de una solicitud las mediciones se ignoran.
+     */
+    @Test
+    void toServerTiming_shouldListRecordedPhasesAndTotal() {
+        RequestTiming timing = RequestTiming.start();
+        timing.add(RequestTiming.Phase.CONNECT, 412_345);
+        timing.add(RequestTiming.Phase.SERIALIZE, 2_005_000);
+        timing.add(RequestTiming.Phase.SERIALIZE, 1_000_000);
+
+        String value = timing.toServerTiming();
+
+        assertTrue(value.startsWith("conn;dur=0.412, ser;dur=3.005, total;dur="), value);
+        assertFalse(value.contains("ttfb"));
+
+        RequestTiming none = RequestTiming.current();
+        assertFalse(none.isActive());
+        none.add(RequestTiming.Phase.BUILD, 1_000);
+        assertEquals(0, none.nanos(RequestTiming.Phase.BUILD));
+    }
+
+    /**
+     * Verifica que {@link RequestTiming#lap} descuenta de la fase el tiempo bloqueado leyendo el
+     * cuerpo, que se asigna a la lectura.
+     */
+    @Test
+    void lap_shouldExcludeTimeSpentReadingTheBody() throws Exception {
+        RequestTiming timing = RequestTiming.start();
+        InputStream slow = new ByteArrayInputStream(new byte[16]) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                sleep(30);
+                return super.read(b, off, len);
+            }
+        };
+
+        timing.mark();
+        try (InputStream body = timing.timeReads(slow)) {
+            body.readAllBytes();
+        }
+        sleep(10);
+        timing.lap(RequestTiming.Phase.DESERIALIZE);
+
+        long read = timing.nanos(RequestTiming.Phase.READ);
+        long deserialize = timing.nanos(RequestTiming.Phase.DESERIALIZE);
+        assertTrue(read >= TimeUnit.MILLISECONDS.toNanos(30), "lectura: " + read);
+        assertTrue(deserialize >= TimeUnit.MILLISECONDS.toNanos(10) && deserialize < read, "deserialización: " + deserialize);
+    }
+
+    /**
+     * Verifica que el cliente bloqueante mide la conexión, el primer byte (que incluye el retardo
+     * de la PokeAPI) y la lectura del cuerpo de la solicitud asociada al hilo.
+     */
+    @Test
+    void blockingClient_shouldRecordUpstreamPhases() throws IOException {
+        PokeApiProperties properties = new PokeApiProperties();
+        AppConfig config = new AppConfig();
+        PoolingHttpClientConnectionManager pool = config.pokeApiConnectionManager(properties);
+        try (CloseableHttpClient client = config.pokeApiHttpClient(pool, properties)) {
+            RestTemplate restTemplate = config.restTemplate(client);
+            RequestTiming timing = RequestTiming.start();
+            RequestTiming.attach(timing);
+
+            timing.mark();
+            String body = restTemplate.getForObject(stub.baseUrl() + "/pokemon/pikachu", String.class);
+            timing.lap(RequestTiming.Phase.DESERIALIZE);
+
+            assertTrue(body.contains("pikachu"));
+            assertTrue(timing.nanos(RequestTiming.Phase.CONNECT) > 0);
+            assertTrue(timing.nanos(RequestTiming.Phase.TTFB) >= LATENCY.toNanos());
+            assertTrue(timing.nanos(RequestTiming.Phase.READ) > 0);
+            assertTrue(timing.toServerTiming().startsWith("conn;dur="));
+        }
+    }
+
+    /**
+     * Verifica que el cliente no bloqueante mide la conexión y el primer byte de la llamada
+     * cuyo contexto lleva el desglose.
+     */
+    @Test
+    void reactiveClient_shouldRecordUpstreamPhases() {
+        PokeApiProperties properties = new PokeApiProperties();
+        AppConfig config = new AppConfig();
+        ConnectionProvider provider = config.pokeApiConnectionProvider(properties);
+        try {
+            WebClient webClient = config.pokeApiWebClient(WebClient.builder(), provider, properties);
+            RequestTiming timing = RequestTiming.start();
+
+            timing.mark();
+            String body = webClient.get().uri(stub.baseUrl() + "/pokemon/pikachu").retrieve().bodyToMono(String.class)
+                    .contextWrite(UpstreamTimingHooks.context(timing))
+                    .block(Duration.ofSeconds(5));
+
+            assertTrue(body.contains("pikachu"));
+            assertTrue(timing.nanos(RequestTiming.Phase.CONNECT) > 0);
+            assertTrue(timing.nanos(RequestTiming.Phase.TTFB) >= LATENCY.toNanos());
+        } finally {
+            provider.dispose();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
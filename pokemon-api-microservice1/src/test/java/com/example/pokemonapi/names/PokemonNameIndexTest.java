@@ -0,0 +1,70 @@
+package com.example.pokemonapi.names;
+
+import com.example.pokemonapi.config.NameIndexProperties;
+import com.example.pokemonapi.config.PokeApiProperties;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.model.SuggestionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para las sugerencias de la clase {@link PokemonNameIndex}.
+ */
+public class PokemonNameIndexTest {
+
+    private PokemonNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        nameIndex = new PokemonNameIndex(null, new PokeApiProperties(), new NameIndexProperties());
+        nameIndex.load(List.of("pikachu", "pidgey", "pidgeotto", "pidgeot", "charmander", "charmeleon",
+                "charizard", "bulbasaur", "pichu", "raichu"));
+    }
+
+    /**
+     * Verifica que las coincidencias por prefijo se devuelven en orden alfabético, sin
+     * distinguir mayúsculas, y respetando el límite.
+     */
+    @Test
+    void suggest_shouldReturnPrefixMatches_inAlphabeticalOrder() {
+        SuggestionResponse response = nameIndex.suggest(" PID", 2);
+
+        assertEquals("pid", response.getConsulta());
+        assertEquals(SuggestionResponse.PREFIX, response.getCoincidencia());
+        assertEquals(List.of("pidgeot", "pidgeotto"), response.getSugerencias());
+    }
+
+    /**
+     * Verifica que, sin coincidencias por prefijo, se sugieren los nombres más parecidos,
+     * el más cercano primero.
+     */
+    @Test
+    void suggest_shouldFallBackToSimilarNames_whenNoPrefixMatches() {
+        SuggestionResponse typo = nameIndex.suggest("charzard", 5);
+        assertEquals(SuggestionResponse.SIMILAR, typo.getCoincidencia());
+        assertEquals("charizard", typo.getSugerencias().get(0));
+
+        SuggestionResponse missing = nameIndex.suggest("aguacate", 5);
+        assertEquals(SuggestionResponse.NONE, missing.getCoincidencia());
+        assertTrue(missing.getSugerencias().isEmpty());
+    }
+
+    /**
+     * Verifica la validación de la consulta y del límite, y que sin listado cargado no hay sugerencias.
+     */
+    @Test
+    void suggest_shouldValidateArguments_andReturnNothing_whenNotLoaded() {
+        assertThrows(InvalidRequestException.class, () -> nameIndex.suggest(" ", 5));
+        assertThrows(InvalidRequestException.class, () -> nameIndex.suggest("pika", 0));
+        assertThrows(InvalidRequestException.class, () -> nameIndex.suggest("pika", 21));
+
+        PokemonNameIndex empty = new PokemonNameIndex(null, new PokeApiProperties(), new NameIndexProperties());
+        assertTrue(empty.suggest("pika", 5).getSugerencias().isEmpty());
+        assertEquals(List.of("pikachu"), nameIndex.suggestionsFor("pikahcu"));
+        assertTrue(nameIndex.suggestionsFor(null).isEmpty());
+    }
+}
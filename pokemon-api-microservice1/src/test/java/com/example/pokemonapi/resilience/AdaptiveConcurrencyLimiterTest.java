@@ -0,0 +1,95 @@
+package com.example.pokemonapi.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link AdaptiveConcurrencyLimiter}.
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(20).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    /**
+     * Verifica que las llamadas por encima del límite se rechazan sin esperar y que el
+     * permiso liberado vuelve a estar disponible.
+     */
+    @Test
+    void tryAcquire_shouldReject_whenLimitReached() {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.fixed(2);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.onCancelled();
+        assertTrue(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(2, limiter.getLimit());
+    }
+
+    /**
+     * Verifica la disminución multiplicativa tras llamadas lentas sucesivas, sin bajar del mínimo.
+     */
+    @Test
+    void onComplete_shouldDecreaseLimit_whenCallsAreSlow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, Duration.ofMillis(500), 0.5);
+
+        limiter.tryAcquire();
+        limiter.onComplete(SLOW);
+        assertEquals(5, limiter.getLimit());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.onComplete(SLOW);
+        }
+        assertEquals(2, limiter.getLimit());
+    }
+
+    /**
+     * Verifica que una oleada de llamadas lentas que estaban en curso a la vez reduce el límite
+     * una sola vez, en lugar de llevarlo al mínimo.
+     */
+    @Test
+    void onComplete_shouldDecreaseOnce_forWaveOfSlowCalls() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, Duration.ofMillis(500), 0.9);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < 20; i++) {
+            limiter.onComplete(SLOW);
+        }
+        assertEquals(18, limiter.getLimit());
+    }
+
+    /**
+     * Verifica el aumento aditivo con llamadas rápidas solo mientras el límite se está usando,
+     * y que nunca supera el máximo.
+     */
+    @Test
+    void onComplete_shouldIncreaseLimit_onlyUnderLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 5, Duration.ofMillis(500), 0.5);
+
+        // Una sola llamada en curso sobre un límite de 4: no hay carga
+        limiter.tryAcquire();
+        limiter.onComplete(FAST);
+        assertEquals(4, limiter.getLimit());
+
+        // Cada ronda suma 1/límite con la primera llamada (la única con el límite medio ocupado)
+        for (int round = 0; round < 6; round++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.onComplete(FAST);
+            limiter.onComplete(FAST);
+            limiter.onComplete(FAST);
+        }
+        assertEquals(5, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.pokemonapi.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link CircuitBreaker}, con un reloj controlado por la prueba.
+ */
+public class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(50).toNanos();
+    private static final long SLOW = Duration.ofSeconds(3).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Verifica que el circuito no se abre antes del mínimo de llamadas y que se abre al
+     * alcanzar el umbral de fallos, rechazando las llamadas siguientes.
+     */
+    @Test
+    void onResult_shouldOpen_whenFailureRateReached() {
+        CircuitBreaker breaker = breaker();
+
+        for (int i = 0; i < 3; i++) {
+            call(breaker, true, FAST);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        call(breaker, true, FAST);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(Duration.ofSeconds(10), breaker.remainingOpenTime());
+    }
+
+    /**
+     * Verifica que las llamadas lentas, aunque terminen bien, también abren el circuito.
+     */
+    @Test
+    void onResult_shouldOpen_whenSlowCallRateReached() {
+        CircuitBreaker breaker = breaker();
+
+        call(breaker, false, FAST);
+        for (int i = 0; i < 3; i++) {
+            call(breaker, false, SLOW);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    /**
+     * Verifica que, pasado el tiempo de apertura, se permiten solo las llamadas de prueba y que
+     * el circuito se cierra si estas terminan bien.
+     */
+    @Test
+    void halfOpen_shouldClose_whenTrialCallsSucceed() {
+        CircuitBreaker breaker = openedBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onResult(false, FAST);
+        breaker.onResult(false, FAST);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    /**
+     * Verifica que el circuito vuelve a abrirse si las llamadas de prueba fallan, y que un
+     * permiso devuelto sin usar queda disponible para otra llamada de prueba.
+     */
+    @Test
+    void halfOpen_shouldReopen_whenTrialCallsFail() {
+        CircuitBreaker breaker = openedBreaker();
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onCancelled();
+        call(breaker, true, FAST);
+        call(breaker, false, FAST);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker(10, 4, 0.5, 0.75, Duration.ofSeconds(2), Duration.ofSeconds(10), 2, clock::get);
+    }
+
+    private CircuitBreaker openedBreaker() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            call(breaker, true, FAST);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    private static void call(CircuitBreaker breaker, boolean failed, long durationNanos) {
+        assertTrue(breaker.tryAcquire());
+        breaker.onResult(failed, durationNanos);
+    }
+}
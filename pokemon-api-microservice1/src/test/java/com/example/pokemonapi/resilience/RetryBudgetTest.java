@@ -0,0 +1,74 @@
+package com.example.pokemonapi.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link RetryBudget}, con un reloj controlado por la prueba.
+ */
+public class RetryBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Verifica que las llamadas adicionales se limitan a la proporción del tráfico base más
+     * la reserva mínima.
+     */
+    @Test
+    void tryWithdraw_shouldAllowRatioOfRequests_plusReserve() {
+        RetryBudget budget = new RetryBudget(0.1, 1, Duration.ofSeconds(10), clock::get);
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+        }
+
+        // 10 % de 100 solicitudes + 1 por segundo durante 10 segundos
+        for (int i = 0; i < 20; i++) {
+            assertTrue(budget.tryWithdraw(), "llamada adicional " + i);
+        }
+        assertFalse(budget.tryWithdraw());
+        assertEquals(0, budget.remaining());
+    }
+
+    /**
+     * Verifica que sin tráfico ni reserva no se permite ninguna llamada adicional.
+     */
+    @Test
+    void tryWithdraw_shouldDeny_whenNoTrafficAndNoReserve() {
+        RetryBudget budget = new RetryBudget(0.5, 0, Duration.ofSeconds(5), clock::get);
+
+        assertFalse(budget.tryWithdraw());
+        budget.onRequest();
+        budget.onRequest();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    /**
+     * Verifica que las solicitudes y llamadas adicionales salen de la ventana al pasar el tiempo.
+     */
+    @Test
+    void remaining_shouldExpireOldSeconds() {
+        RetryBudget budget = new RetryBudget(0.5, 0, Duration.ofSeconds(3), clock::get);
+        for (int i = 0; i < 10; i++) {
+            budget.onRequest();
+        }
+        assertTrue(budget.tryWithdraw());
+        assertEquals(4, budget.remaining());
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        budget.onRequest();
+        budget.onRequest();
+        assertEquals(5, budget.remaining());
+
+        // Salen de la ventana las 10 solicitudes y la llamada adicional del primer segundo
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(1, budget.remaining());
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(0, budget.remaining());
+    }
+}
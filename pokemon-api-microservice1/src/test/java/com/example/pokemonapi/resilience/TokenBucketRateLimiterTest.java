@@ -0,0 +1,97 @@
+package com.example.pokemonapi.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link TokenBucketRateLimiter}, con un reloj controlado por la
+ * prueba y 10 permisos por segundo (uno cada 100 ms).
+ */
+public class TokenBucketRateLimiterTest {
+
+    private static final long TOKEN = Duration.ofMillis(100).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Verifica que la ráfaga se concede de inmediato y que, sin permisos, las solicitudes en cola
+     * los reciben al ritmo de la tasa y por orden de plazo, no de llegada.
+     */
+    @Test
+    void acquire_shouldGrantBurst_thenQueueByDeadline() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, 5, clock::get);
+
+        assertTrue(acquire(limiter, 0).isDone());
+        assertTrue(acquire(limiter, 0).isDone());
+        CompletableFuture<Void> relaxed = acquire(limiter, Duration.ofSeconds(1).toNanos());
+        CompletableFuture<Void> urgent = acquire(limiter, Duration.ofMillis(500).toNanos());
+        assertEquals(2, limiter.getQueueSize());
+
+        clock.addAndGet(TOKEN);
+        limiter.dispatch();
+        assertTrue(urgent.isDone());
+        assertFalse(relaxed.isDone());
+
+        clock.addAndGet(TOKEN);
+        limiter.dispatch();
+        assertTrue(relaxed.isDone());
+        assertEquals(0, limiter.getQueueSize());
+        assertEquals(4, limiter.getGranted());
+        assertEquals(3 * TOKEN, limiter.getWaitNanos());
+    }
+
+    /**
+     * Verifica que se rechazan de inmediato las solicitudes que no recibirían su permiso antes de
+     * su plazo y las que llegan con la cola llena.
+     */
+    @Test
+    void acquire_shouldRejectImmediately_whenDeadlineUnreachableOrQueueFull() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, 1, clock::get);
+        acquire(limiter, 0);
+
+        IllegalStateException tooSoon = assertThrows(IllegalStateException.class,
+                () -> acquire(limiter, Duration.ofMillis(50).toNanos()));
+        assertEquals("DEADLINE", tooSoon.getMessage());
+
+        acquire(limiter, Duration.ofSeconds(1).toNanos());
+        IllegalStateException full = assertThrows(IllegalStateException.class,
+                () -> acquire(limiter, Duration.ofSeconds(1).toNanos()));
+        assertEquals("QUEUE_FULL", full.getMessage());
+        assertEquals(1, limiter.getDeadlineRejections());
+        assertEquals(1, limiter.getQueueFullRejections());
+    }
+
+    /**
+     * Verifica que una solicitud adelantada por otra con un plazo más corto se rechaza en cuanto
+     * deja de poder recibir su permiso a tiempo, y que cancelar una solicitud la retira de la cola.
+     */
+    @Test
+    void dispatch_shouldRejectOvertakenWaiter_andCancelRemovesFromQueue() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, 5, clock::get);
+        acquire(limiter, 0);
+        CompletableFuture<Void> overtaken = acquire(limiter, Duration.ofMillis(150).toNanos());
+        CompletableFuture<Void> urgent = acquire(limiter, Duration.ofMillis(120).toNanos());
+        CompletableFuture<Void> abandoned = acquire(limiter, Duration.ofSeconds(1).toNanos());
+
+        abandoned.cancel(false);
+        assertEquals(2, limiter.getQueueSize());
+
+        clock.addAndGet(TOKEN);
+        limiter.dispatch();
+        assertTrue(urgent.isDone() && !urgent.isCompletedExceptionally());
+        CompletionException rejected = assertThrows(CompletionException.class, overtaken::join);
+        assertEquals("DEADLINE", rejected.getCause().getMessage());
+        assertEquals(0, limiter.getQueueSize());
+        assertEquals(1, limiter.getDeadlineRejections());
+    }
+
+    private CompletableFuture<Void> acquire(TokenBucketRateLimiter limiter, long deadlineNanos) {
+        return limiter.acquire(deadlineNanos, rejection -> new IllegalStateException(rejection.name()));
+    }
+}
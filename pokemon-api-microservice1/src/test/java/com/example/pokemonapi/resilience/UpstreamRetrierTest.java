@@ -0,0 +1,221 @@
+package com.example.pokemonapi.resilience;
+
+import com.example.pokemonapi.config.ResilienceProperties;
+import com.example.pokemonapi.exception.DeadlineExceededException;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link UpstreamRetrier}. Los intentos se simulan con futuros
+ * que la prueba completa a voluntad.
+ */
+public class UpstreamRetrierTest {
+
+    private static final IllegalStateException TRANSIENT = new IllegalStateException("503");
+    private static final IllegalArgumentException PERMANENT = new IllegalArgumentException("400");
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifica que un error transitorio se reintenta hasta obtener una respuesta.
+     */
+    @Test
+    void execute_shouldRetryTransientFailures_untilSuccess() throws Exception {
+        UpstreamRetrier retrier = new UpstreamRetrier(properties(2, false), executor);
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = retrier.execute(target -> {
+            if (attempts.incrementAndGet() < 3) {
+                target.completeExceptionally(TRANSIENT);
+            } else {
+                target.complete("pikachu");
+            }
+        }, TRANSIENT::equals);
+
+        assertEquals("pikachu", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+        assertEquals(2, retrier.getRetries());
+    }
+
+    /**
+     * Verifica que los errores no transitorios y los rechazos propios no se reintentan.
+     */
+    @Test
+    void execute_shouldNotRetry_permanentFailuresOrRejections() {
+        UpstreamRetrier retrier = new UpstreamRetrier(properties(2, false), executor);
+        AtomicInteger attempts = new AtomicInteger();
+        PokeApiUnavailableException rejected = new PokeApiUnavailableException(
+                PokeApiUnavailableException.CIRCUIT_OPEN, "circuito abierto", Duration.ofSeconds(1));
+
+        RuntimeException permanent = assertThrows(RuntimeException.class, () -> UpstreamRetrier.await(
+                retrier.<String>execute(target -> {
+                    attempts.incrementAndGet();
+                    target.completeExceptionally(PERMANENT);
+                }, TRANSIENT::equals)));
+        RuntimeException unavailable = assertThrows(RuntimeException.class, () -> UpstreamRetrier.await(
+                retrier.<String>execute(target -> {
+                    attempts.incrementAndGet();
+                    throw rejected;
+                }, TRANSIENT::equals)));
+
+        assertSame(PERMANENT, permanent);
+        assertSame(rejected, unavailable);
+        assertEquals(2, attempts.get());
+        assertEquals(0, retrier.getRetries());
+    }
+
+    /**
+     * Verifica que sin presupuesto no se reintenta y la solicitud termina con el error obtenido.
+     */
+    @Test
+    void execute_shouldStopRetrying_whenBudgetExhausted() {
+        ResilienceProperties properties = properties(2, false);
+        properties.getRetryBudget().setPercent(0);
+        properties.getRetryBudget().setMinPerSecond(0);
+        UpstreamRetrier retrier = new UpstreamRetrier(properties, executor);
+        AtomicInteger attempts = new AtomicInteger();
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> UpstreamRetrier.await(
+                retrier.<String>execute(target -> {
+                    attempts.incrementAndGet();
+                    target.completeExceptionally(TRANSIENT);
+                }, TRANSIENT::equals)));
+
+        assertSame(TRANSIENT, thrown);
+        assertEquals(1, attempts.get());
+        assertEquals(1, retrier.getBudgetExhausted());
+    }
+
+    /**
+     * Verifica la cobertura: si el primer intento no responde, se lanza un segundo, se usa su
+     * resultado y se cancela el primero.
+     */
+    @Test
+    void execute_shouldHedgeSlowAttempt_andCancelLoser() throws Exception {
+        UpstreamRetrier retrier = new UpstreamRetrier(properties(0, true), executor);
+        List<CompletableFuture<String>> targets = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = retrier.execute(target -> {
+            targets.add(target);
+            if (targets.size() == 2) {
+                target.complete("cobertura");
+            }
+        }, TRANSIENT::equals);
+
+        assertEquals("cobertura", result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, targets.size());
+        assertTrue(targets.get(0).isCancelled());
+        assertEquals(1, retrier.getHedges());
+        assertEquals(1, retrier.getHedgeWins());
+    }
+
+    /**
+     * Verifica que cancelar el resultado cancela los intentos en curso.
+     */
+    @Test
+    void execute_shouldCancelAttempts_whenResultCancelled() {
+        UpstreamRetrier retrier = new UpstreamRetrier(properties(0, false), executor);
+        List<CompletableFuture<String>> targets = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = retrier.execute(targets::add, TRANSIENT::equals);
+        result.cancel(true);
+
+        assertTrue(targets.get(0).isCancelled());
+    }
+
+    /**
+     * Verifica que al vencer el plazo de la solicitud el resultado falla con
+     * {@link DeadlineExceededException} y el intento en curso se cancela, y que con el plazo ya
+     * vencido no se inicia ningún intento.
+     */
+    @Test
+    void execute_shouldCancelAttempt_whenDeadlineExpires() {
+        UpstreamRetrier retrier = new UpstreamRetrier(properties(2, false), executor);
+        List<CompletableFuture<String>> targets = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = retrier.execute(targets::add, TRANSIENT::equals,
+                RequestDeadline.start(Duration.ofMillis(50)));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, thrown.getCause());
+        assertTrue(targets.get(0).isCancelled());
+
+        CompletableFuture<String> expired = retrier.execute(targets::add, TRANSIENT::equals,
+                RequestDeadline.start(Duration.ZERO));
+        assertTrue(expired.isCompletedExceptionally());
+        assertEquals(1, targets.size());
+    }
+
+    /**
+     * Verifica que si el pool de llamadas rechaza el reintento, la llamada termina con el error
+     * del último intento en lugar de quedar pendiente.
+     */
+    @Test
+    void execute_shouldFailWithLastError_whenRetryIsRejected() {
+        Executor full = task -> {
+            throw new RejectedExecutionException("pool lleno");
+        };
+        UpstreamRetrier retrier = new UpstreamRetrier(properties(2, false), full);
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = retrier.execute(target -> {
+            attempts.incrementAndGet();
+            target.completeExceptionally(TRANSIENT);
+        }, TRANSIENT::equals);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertSame(TRANSIENT, thrown.getCause());
+        assertEquals(1, attempts.get());
+    }
+
+    /**
+     * Verifica que una llamada que termina antes de su cobertura y de su plazo no deja
+     * temporizadores pendientes que la retengan hasta vencer.
+     */
+    @Test
+    void execute_shouldCancelTimers_whenCallCompletesEarly() throws Exception {
+        ResilienceProperties properties = properties(0, true);
+        properties.getHedging().setMinDelay(Duration.ofHours(1));
+        properties.getHedging().setMaxDelay(Duration.ofHours(1));
+        UpstreamRetrier retrier = new UpstreamRetrier(properties, executor);
+        int pending = DelayScheduler.pending();
+
+        for (int i = 0; i < 100; i++) {
+            CompletableFuture<String> result = retrier.execute(target -> target.complete("pikachu"),
+                    TRANSIENT::equals, RequestDeadline.start(Duration.ofHours(1)));
+            assertEquals("pikachu", result.get(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(DelayScheduler.pending() <= pending, "temporizadores pendientes: " + DelayScheduler.pending());
+    }
+
+    private static ResilienceProperties properties(int maxRetries, boolean hedging) {
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.getRetry().setMaxRetries(maxRetries);
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(5));
+        properties.getHedging().setEnabled(hedging);
+        properties.getHedging().setMaxDelay(Duration.ofMillis(20));
+        return properties;
+    }
+}
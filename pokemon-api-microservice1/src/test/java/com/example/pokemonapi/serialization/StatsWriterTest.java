@@ -0,0 +1,99 @@
+package com.example.pokemonapi.serialization;
+
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias de los {@link StatsWriter} y de la máscara de campos de {@link StatsField}.
+ * Los bytes esperados de CBOR y Smile se derivan de RFC 8949 y de la especificación de Smile.
+ */
+public class StatsWriterTest {
+
+    private final PokemonStatsResponse pikachu = new PokemonStatsResponse.Builder()
+            .nombre("pikachu").hp(35).ataque(55).defensa(40).velocidad(90)
+            .addTipo("electric").addHabilidad("static").addHabilidad("lightning-rod").build();
+
+    /**
+     * Verifica que el JSON completo es idéntico al que produce Jackson con el mapeo de la clase
+     * y que la proyección solo incluye los campos pedidos, en el orden de la respuesta.
+     */
+    @Test
+    void json_shouldMatchJackson_andProjectFields() throws Exception {
+        String full = new String(new JsonStatsWriter().write(pikachu, StatsField.ALL), StandardCharsets.UTF_8);
+        assertEquals(new ObjectMapper().writeValueAsString(pikachu), full);
+
+        String projected = new String(new JsonStatsWriter().write(pikachu, StatsField.parse("tipos, HP")), StandardCharsets.UTF_8);
+        assertEquals("{\"hp\":35,\"tipos\":[\"electric\"]}", projected);
+    }
+
+    /**
+     * Verifica la codificación CBOR de una proyección: mapa de 2 pares, cadenas de texto con la
+     * longitud en la cabecera y 35 como entero de un byte ({@code 0x18 0x23}).
+     */
+    @Test
+    void cbor_shouldEncodeDefiniteLengthMap() {
+        byte[] expected = concat(new byte[] {(byte) 0xA2, 0x66}, "nombre", new byte[] {0x67}, "pikachu",
+                new byte[] {0x62}, "hp", new byte[] {0x18, 0x23});
+
+        assertArrayEquals(expected, new CborStatsWriter().write(pikachu, StatsField.parse("nombre,hp")));
+        // La respuesta completa ocupa bastante menos que su JSON
+        assertTrue(new CborStatsWriter().write(pikachu, StatsField.ALL).length
+                < new JsonStatsWriter().write(pikachu, StatsField.ALL).length * 0.8);
+    }
+
+    /**
+     * Verifica la codificación Smile de una proyección: cabecera, nombre ASCII corto, cadena
+     * ASCII corta y 35 como entero zigzag de longitud variable ({@code 0x24 0x01 0x86}).
+     */
+    @Test
+    void smile_shouldEncodeHeaderShortStringsAndVarInts() {
+        byte[] expected = concat(new byte[] {':', ')', '\n', 0x00, (byte) 0xFA, (byte) 0x85}, "nombre",
+                new byte[] {0x46}, "pikachu", new byte[] {(byte) 0x81}, "hp",
+                new byte[] {0x24, 0x01, (byte) 0x86, (byte) 0xFB});
+
+        assertArrayEquals(expected, new SmileStatsWriter().write(pikachu, StatsField.parse("nombre,hp")));
+
+        PokemonStatsResponse small = new PokemonStatsResponse.Builder().nombre("flabébé").hp(-3).build();
+        byte[] unicode = new SmileStatsWriter().write(small, StatsField.parse("nombre,hp"));
+        // "flabébé" ocupa 9 bytes en UTF-8: cadena Unicode corta (0x80 + 9 - 2)
+        assertEquals((byte) 0x87, unicode[12]);
+        // -3 es un entero pequeño: 0xC0 + zigzag(-3)
+        assertEquals((byte) 0xC5, unicode[unicode.length - 2]);
+    }
+
+    /**
+     * Verifica que un campo desconocido o un parámetro vacío se rechazan.
+     */
+    @Test
+    void parse_shouldRejectUnknownOrEmptyFields() {
+        assertEquals(StatsField.ALL, StatsField.parse(null));
+        assertThrows(InvalidRequestException.class, () -> StatsField.parse("nombre,peso"));
+        assertThrows(InvalidRequestException.class, () -> StatsField.parse(" , "));
+    }
+
+    /**
+     * Verifica que la negociación respeta la calidad de cada tipo y que los comodines eligen JSON.
+     */
+    @Test
+    void negotiate_shouldHonourQualityAndWildcards() {
+        assertEquals(StatsFormat.CBOR, StatsFormat.negotiate("application/cbor"));
+        assertEquals(StatsFormat.SMILE, StatsFormat.negotiate("application/json;q=0.5, application/x-jackson-smile"));
+        assertEquals(StatsFormat.JSON, StatsFormat.negotiate("*/*"));
+        assertEquals(StatsFormat.JSON, StatsFormat.negotiate(null));
+    }
+
+    private static byte[] concat(Object... parts) {
+        java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+        for (Object part : parts) {
+            byte[] bytes = part instanceof String text ? text.getBytes(StandardCharsets.UTF_8) : (byte[]) part;
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.config.BatchProperties;
+import com.example.pokemonapi.exception.DeadlineExceededException;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.exception.PokemonNotFoundException;
+import com.example.pokemonapi.model.BatchItemResponse;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para la clase {@link PokemonBatchService}.
+ * Se simula {@link PokemonService} con Mockito y se usa un pool de hilos real.
+ */
+public class PokemonBatchServiceTest {
+
+    @Mock
+    private PokemonService pokemonService;
+
+    private ExecutorService executor;
+    private BatchProperties properties;
+    private PokemonBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        executor = Executors.newFixedThreadPool(4);
+        properties = new BatchProperties();
+        properties.setTimeout(Duration.ofMillis(500));
+        properties.setMaxNames(5);
+        batchService = new PokemonBatchService(pokemonService, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifica que los resultados respetan el orden de entrada, que cada nombre tiene su
+     * propio estado y que los nombres repetidos se consultan una sola vez.
+     */
+    @Test
+    void getPokemonStatsBatch_shouldKeepOrder_andDeduplicate() {
+        PokemonStatsResponse pikachu = new PokemonStatsResponse.Builder().nombre("pikachu").build();
+        when(pokemonService.getPokemonStats("pikachu")).thenReturn(pikachu);
+        when(pokemonService.getPokemonStats("aguacate"))
+                .thenThrow(new PokemonNotFoundException("Pokémon 'aguacate' no encontrado."));
+        when(pokemonService.getPokemonStats("ditto")).thenThrow(new RuntimeException("fallo de red"));
+
+        List<BatchItemResponse> results = batchService.getPokemonStatsBatch(
+                List.of("pikachu", "aguacate", "Pikachu", "ditto"));
+
+        assertEquals(4, results.size());
+        assertEquals(BatchItemResponse.OK, results.get(0).getEstado());
+        assertSame(pikachu, results.get(0).getDatos());
+        assertEquals(BatchItemResponse.NO_ENCONTRADO, results.get(1).getEstado());
+        assertEquals(BatchItemResponse.OK, results.get(2).getEstado());
+        assertEquals(BatchItemResponse.ERROR, results.get(3).getEstado());
+        verify(pokemonService, times(1)).getPokemonStats("pikachu");
+    }
+
+    /**
+     * Verifica que una consulta lenta se informa como tiempo agotado sin retrasar el lote
+     * más allá del plazo configurado.
+     */
+    @Test
+    void getPokemonStatsBatch_shouldReportTimeout_whenLookupExceedsDeadline() {
+        PokemonStatsResponse pikachu = new PokemonStatsResponse.Builder().nombre("pikachu").build();
+        when(pokemonService.getPokemonStats("pikachu")).thenReturn(pikachu);
+        when(pokemonService.getPokemonStats("slowpoke")).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        });
+
+        long start = System.nanoTime();
+        List<BatchItemResponse> results = batchService.getPokemonStatsBatch(List.of("slowpoke", "pikachu"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(BatchItemResponse.TIEMPO_AGOTADO, results.get(0).getEstado());
+        assertEquals(BatchItemResponse.OK, results.get(1).getEstado());
+        assertTrue(elapsedMillis < 2_000, "El lote debe respetar su plazo total");
+    }
+
+    /**
+     * Verifica que una consulta que termina porque venció el plazo de la solicitud se informa
+     * como tiempo agotado y no como un error genérico.
+     */
+    @Test
+    void getPokemonStatsBatch_shouldReportTimeout_whenLookupDeadlineExpires() {
+        when(pokemonService.getPokemonStats("slowpoke"))
+                .thenThrow(new DeadlineExceededException("Se agotó el plazo de la solicitud."));
+
+        List<BatchItemResponse> results = batchService.getPokemonStatsBatch(List.of("slowpoke"));
+
+        assertEquals(BatchItemResponse.TIEMPO_AGOTADO, results.get(0).getEstado());
+        assertEquals("La consulta de 'slowpoke' no terminó dentro del plazo del lote.", results.get(0).getMensaje());
+    }
+
+    /**
+     * Verifica que se rechazan los lotes vacíos o que superan el máximo de nombres.
+     */
+    @Test
+    void getPokemonStatsBatch_shouldRejectInvalidBatches() {
+        assertThrows(InvalidRequestException.class, () -> batchService.getPokemonStatsBatch(List.of()));
+        assertThrows(InvalidRequestException.class,
+                () -> batchService.getPokemonStatsBatch(List.of("a", "b", "c", "d", "e", "f")));
+        assertThrows(InvalidRequestException.class, () -> batchService.getPokemonStatsBatch(List.of("pikachu", " ")));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.cache.CacheRefresher;
+import com.example.pokemonapi.cache.PokemonStatsCache;
+import com.example.pokemonapi.config.CacheProperties;
+import com.example.pokemonapi.config.EvolutionProperties;
+import com.example.pokemonapi.config.NameIndexProperties;
+import com.example.pokemonapi.config.PokeApiProperties;
+import com.example.pokemonapi.config.ResilienceProperties;
+import com.example.pokemonapi.config.SnapshotProperties;
+import com.example.pokemonapi.exception.PokemonNotFoundException;
+import com.example.pokemonapi.metrics.PokemonMetrics;
+import com.example.pokemonapi.model.BatchItemResponse;
+import com.example.pokemonapi.model.EvolutionResponse;
+import com.example.pokemonapi.names.PokemonNameIndex;
+import com.example.pokemonapi.resilience.UpstreamGuard;
+import com.example.pokemonapi.resilience.UpstreamRetrier;
+import com.example.pokemonapi.snapshot.PokemonSnapshotStore;
+import com.example.pokemonapi.support.PokeApiStubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link PokemonEvolutionService}, con un {@link PokemonService}
+ * real que consulta un servidor local con las respuestas grabadas de la cadena de Bulbasaur.
+ */
+public class PokemonEvolutionServiceTest {
+
+    private final ExecutorService lookupExecutor = Executors.newFixedThreadPool(4);
+    private final ExecutorService callers = Executors.newFixedThreadPool(6);
+    private PokeApiStubServer stub;
+    private PokemonEvolutionService evolutionService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = PokeApiStubServer.start(4).latency(Duration.ofMillis(100));
+        PokeApiProperties properties = new PokeApiProperties();
+        properties.setBaseUrl(stub.baseUrl());
+        PokemonMetrics metrics = new PokemonMetrics(new SimpleMeterRegistry());
+        PokemonService pokemonService = new PokemonService(new RestTemplate(), new PokemonStatsCache(new CacheProperties()),
+                properties, new PokemonSnapshotStore(new SnapshotProperties()), WebClient.create(), metrics,
+                new UpstreamGuard(new ResilienceProperties()), new UpstreamRetrier(new ResilienceProperties(), Runnable::run),
+                new CacheRefresher(new CacheProperties(), metrics),
+                new PokemonNameIndex(null, new PokeApiProperties(), new NameIndexProperties()));
+        evolutionService = new PokemonEvolutionService(pokemonService, lookupExecutor, new EvolutionProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        lookupExecutor.shutdownNow();
+        stub.close();
+    }
+
+    /**
+     * Verifica el árbol de la cadena con las estadísticas de cada miembro, y que las solicitudes
+     * concurrentes de miembros distintos de la misma cadena comparten la consulta de la cadena y
+     * la de las estadísticas de cada miembro.
+     */
+    @Test
+    void getEvolution_shouldReturnChainTree_andShareFetches_acrossConcurrentRequests() throws Exception {
+        List<Future<EvolutionResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String name = i % 2 == 0 ? "Bulbasaur" : "venusaur";
+            responses.add(callers.submit(() -> evolutionService.getEvolution(name)));
+        }
+
+        for (Future<EvolutionResponse> future : responses) {
+            EvolutionResponse response = future.get(5, TimeUnit.SECONDS);
+            EvolutionResponse.Node bulbasaur = response.getCadena();
+            assertEquals("bulbasaur", bulbasaur.getResultado().getNombre());
+            assertEquals(BatchItemResponse.OK, bulbasaur.getResultado().getEstado());
+            assertEquals(45, bulbasaur.getResultado().getDatos().getHp());
+            EvolutionResponse.Node ivysaur = bulbasaur.getEvolucionaA().get(0);
+            assertEquals(60, ivysaur.getResultado().getDatos().getHp());
+            EvolutionResponse.Node venusaur = ivysaur.getEvolucionaA().get(0);
+            assertEquals(80, venusaur.getResultado().getDatos().getVelocidad());
+            assertTrue(venusaur.getEvolucionaA().isEmpty());
+        }
+        assertEquals("venusaur", responses.get(1).get().getNombre());
+        assertEquals(1, stub.evolutionChainRequests());
+        assertEquals(2, stub.speciesRequests());
+        assertEquals(3, stub.pokemonRequests());
+    }
+
+    /**
+     * Verifica que un Pokémon sin especie ni Pokémon en la PokeAPI se informa como no encontrado.
+     */
+    @Test
+    void getEvolution_shouldThrowNotFound_whenPokemonUnknown() {
+        PokemonNotFoundException ex = assertThrows(PokemonNotFoundException.class,
+                () -> evolutionService.getEvolution("aguacate"));
+        assertEquals("Pokémon 'aguacate' no encontrado.", ex.getMessage());
+        assertEquals(0, stub.evolutionChainRequests());
+    }
+}
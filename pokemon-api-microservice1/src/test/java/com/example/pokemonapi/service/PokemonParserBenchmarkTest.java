@@ -0,0 +1,85 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.model.Pokemon;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comparación de latencia y memoria asignada entre el lector en streaming
+ * ({@link PokemonStatsExtractor}) y el mapeo completo al modelo {@link Pokemon}.
+ *
+ * No forma parte de la ejecución normal de pruebas; se ejecuta con {@code mvn test -Pbenchmarks}.
+ * La memoria asignada se mide por hilo con {@code com.sun.management.ThreadMXBean}.
+ */
+@Tag("benchmark")
+public class PokemonParserBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 10_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final PokemonStatsExtractor extractor = new PokemonStatsExtractor();
+
+    @Test
+    void compareStreamingAndBinding() throws IOException {
+        byte[] payload = new ClassPathResource("fixtures/pokeapi/pokemon/pikachu.json").getContentAsByteArray();
+
+        Result binding = measure("binding", () -> objectMapper.readValue(new ByteArrayInputStream(payload), Pokemon.class).getName());
+        Result streaming = measure("streaming", () -> extractor.extract(new ByteArrayInputStream(payload)).getNombre());
+
+        System.out.printf("Payload: %d bytes%n", payload.length);
+        System.out.println(binding);
+        System.out.println(streaming);
+        System.out.printf("Relación binding/streaming: %.2fx latencia, %.2fx memoria asignada%n",
+                binding.nanosPerOp / streaming.nanosPerOp, binding.bytesPerOp / streaming.bytesPerOp);
+    }
+
+    private Result measure(String name, Operation operation) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals("pikachu", operation.run());
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Result(name, (double) elapsed / MEASURED_ITERATIONS, (double) allocated / MEASURED_ITERATIONS);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        String run() throws IOException;
+    }
+
+    private static final class Result {
+        private final String name;
+        private final double nanosPerOp;
+        private final double bytesPerOp;
+
+        private Result(String name, double nanosPerOp, double bytesPerOp) {
+            this.name = name;
+            this.nanosPerOp = nanosPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %10.1f us/op %12.0f B/op", name, nanosPerOp / 1_000, bytesPerOp);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.config.RankingProperties;
+import com.example.pokemonapi.exception.InvalidRequestException;
+import com.example.pokemonapi.exception.PokeApiUnavailableException;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.model.RankingResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para la clase {@link PokemonRankingService}.
+ * Se simula {@link PokemonService} con Mockito y se usa un pool de hilos real.
+ */
+public class PokemonRankingServiceTest {
+
+    @Mock
+    private PokemonService pokemonService;
+
+    private ExecutorService executor;
+    private RankingProperties properties;
+    private PokemonRankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        executor = Executors.newFixedThreadPool(4);
+        properties = new RankingProperties();
+        properties.setMaxConcurrency(2);
+        properties.setTimeout(Duration.ofSeconds(2));
+        rankingService = new PokemonRankingService(pokemonService, executor, properties);
+        when(pokemonService.getTypeMembers("fire")).thenReturn(List.of("charmander", "vulpix", "charizard", "ponyta"));
+        when(pokemonService.getPokemonStats("charmander")).thenReturn(stats("charmander", 39, 52, 43, 65));
+        when(pokemonService.getPokemonStats("vulpix")).thenReturn(stats("vulpix", 38, 41, 40, 65));
+        when(pokemonService.getPokemonStats("charizard")).thenReturn(stats("charizard", 78, 84, 78, 100));
+        when(pokemonService.getPokemonStats("ponyta")).thenThrow(new RuntimeException("fallo de red"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifica el orden por velocidad (con empate resuelto por el orden del tipo), que los
+     * fallos se informan como omitidos y que la lista del tipo se reutiliza.
+     */
+    @Test
+    void rank_shouldReturnTopK_bySpeed() {
+        RankingResponse ranking = rankingService.rank("Fire", "velocidad", 3);
+
+        assertEquals("fire", ranking.getTipo());
+        assertEquals("velocidad", ranking.getCriterio());
+        assertEquals(3, ranking.getEvaluados());
+        assertEquals(1, ranking.getOmitidos());
+        assertEquals(List.of("charizard", "charmander", "vulpix"),
+                ranking.getResultados().stream().map(RankingResponse.Entry::getNombre).toList());
+        assertEquals(100, ranking.getResultados().get(0).getValor());
+
+        rankingService.rank("fire", "hp", 1);
+        verify(pokemonService, times(1)).getTypeMembers("fire");
+    }
+
+    /**
+     * Verifica que la suma usa las cuatro estadísticas, como la estrategia del microservicio 3.
+     */
+    @Test
+    void rank_shouldSumBaseStats() {
+        RankingResponse ranking = rankingService.rank("fire", "suma", 1);
+
+        assertEquals("charizard", ranking.getResultados().get(0).getNombre());
+        assertEquals(78 + 84 + 78 + 100, ranking.getResultados().get(0).getValor());
+    }
+
+    /**
+     * Verifica la validación del criterio y de {@code k}, y que sin ningún Pokémon evaluado por
+     * estar la PokeAPI protegida se propaga el rechazo.
+     */
+    @Test
+    void rank_shouldRejectInvalidArguments_andPropagateUnavailable() {
+        assertThrows(InvalidRequestException.class, () -> rankingService.rank("fire", "peso", 3));
+        assertThrows(InvalidRequestException.class, () -> rankingService.rank("fire", "hp", 0));
+        assertThrows(InvalidRequestException.class, () -> rankingService.rank("fire", "hp", properties.getMaxK() + 1));
+
+        when(pokemonService.getPokemonStats(anyString())).thenThrow(new PokeApiUnavailableException(
+                PokeApiUnavailableException.CIRCUIT_OPEN, "La PokeAPI no está disponible temporalmente.", Duration.ofSeconds(1)));
+        assertThrows(PokeApiUnavailableException.class, () -> rankingService.rank("fire", "hp", 3));
+    }
+
+    private static PokemonStatsResponse stats(String name, int hp, int attack, int defense, int speed) {
+        return new PokemonStatsResponse.Builder().nombre(name).hp(hp).ataque(attack).defensa(defense).velocidad(speed).build();
+    }
+}
@@ -1,24 +1,82 @@
 package com.example.pokemonapi.service;
 
+import com.example.pokemonapi.cache.CacheRefresher;
+import com.example.pokemonapi.cache.PokemonStatsCache;
+import com.example.pokemonapi.config.CacheProperties;
+import com.example.pokemonapi.config.NameIndexProperties;
+import com.example.pokemonapi.config.PokeApiProperties;
+import com.example.pokemonapi.config.ResilienceProperties;
+import com.example.pokemonapi.config.SnapshotProperties;
+import com.example.pokemonapi.exception.DeadlineExceededException;
+import com.example.pokemonapi.exception.PokemonNameRejectedException;
 import com.example.pokemonapi.exception.PokemonNotFoundException;
+import com.example.pokemonapi.metrics.PokemonMetrics;
 import com.example.pokemonapi.model.Pokemon;
 import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.names.PokemonNameIndex;
+import com.example.pokemonapi.resilience.RequestDeadline;
+import com.example.pokemonapi.resilience.UpstreamGuard;
+import com.example.pokemonapi.resilience.UpstreamRetrier;
+import com.example.pokemonapi.snapshot.PokemonSnapshotStore;
+import com.example.pokemonapi.snapshot.PokemonSnapshotWriter;
+import com.example.pokemonapi.support.PokeApiStubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.OngoingStubbing;
+import org.mockito.verification.VerificationMode;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 /**
  * Pruebas unitarias para la clase {@link PokemonService}.
@@ -35,18 +93,23 @@ public class PokemonServiceTest {
     private RestTemplate restTemplate;
 
     /**
-     * Inyecta los mocks (RestTemplate) en una instancia real de PokemonService
-     * para poder probar sus métodos.
+     * Instancia real de PokemonService que recibe el mock de RestTemplate y una
+     * caché en memoria nueva para cada prueba.
      */
-    @InjectMocks
     private PokemonService pokemonService;
 
     /**
-     * Inicializa los mocks de Mockito antes de cada prueba.
+     * Registro de métricas en memoria, nuevo para cada prueba.
+     */
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Inicializa los mocks de Mockito y el servicio antes de cada prueba.
      */
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        pokemonService = new PokemonService(restTemplate, new PokemonStatsCache(new CacheProperties()), bindingProperties(), noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
     }
 
     /**
@@ -60,8 +123,8 @@ public class PokemonServiceTest {
         // 1. Arrange: Crear un objeto Pokemon simulado, tal como lo devolvería la API
         Pokemon mockPokemon = createMockPokemon();
 
-        when(restTemplate.getForObject(anyString(), eq(Pokemon.class)))
-                .thenReturn(mockPokemon);
+        whenPokemonRequested()
+                .thenReturn(ResponseEntity.ok(mockPokemon));
 
         // 2. Act: Llamar al método del servicio que se está probando
         PokemonStatsResponse result = pokemonService.getPokemonStats("pikachu");
@@ -88,7 +151,7 @@ public class PokemonServiceTest {
     @Test
     void getPokemonStats_shouldThrowPokemonNotFoundException_whenPokemonNotFound() {
         // Arrange: Simular que RestTemplate lanza una excepción de cliente con estado 404
-        when(restTemplate.getForObject(anyString(), eq(Pokemon.class)))
+        whenPokemonRequested()
                 .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
 
         // Act & Assert: Verificar que se lanza la excepción correcta
@@ -107,7 +170,7 @@ public class PokemonServiceTest {
     @Test
     void getPokemonStats_shouldThrowRuntimeException_whenApiCallFails() {
         // Arrange: Simular un error genérico en la llamada
-        when(restTemplate.getForObject(anyString(), eq(Pokemon.class)))
+        whenPokemonRequested()
                 .thenThrow(new RuntimeException("API error"));
 
         // Act & Assert: Verificar que se lanza una RuntimeException con el mensaje esperado
@@ -118,6 +181,537 @@ public class PokemonServiceTest {
         assertTrue(thrown.getMessage().contains("Error inesperado al consumir la PokeAPI"));
     }
 
+    /**
+     * Prueba que una segunda consulta del mismo Pokémon se resuelve desde la caché,
+     * sin importar mayúsculas ni espacios, y no vuelve a llamar a la PokeAPI.
+     */
+    @Test
+    void getPokemonStats_shouldUseCache_whenPokemonRequestedTwice() {
+        whenPokemonRequested()
+                .thenReturn(ResponseEntity.ok(createMockPokemon()));
+
+        PokemonStatsResponse first = pokemonService.getPokemonStats("pikachu");
+        PokemonStatsResponse second = pokemonService.getPokemonStats(" Pikachu ");
+
+        assertSame(first, second);
+        verifyPokemonRequested(times(1));
+    }
+
+    /**
+     * Prueba la caché negativa: un nombre inexistente consultado dos veces solo
+     * genera una llamada a la PokeAPI y ambas consultas lanzan {@link PokemonNotFoundException}.
+     */
+    @Test
+    void getPokemonStats_shouldCacheNotFound_whenPokemonRequestedTwice() {
+        whenPokemonRequested()
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemonStats("nonexistent"));
+        assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemonStats("nonexistent"));
+
+        verifyPokemonRequested(times(1));
+    }
+
+    /**
+     * Prueba el agrupamiento de solicitudes concurrentes: N llamadores en paralelo para el
+     * mismo nombre (con la caché deshabilitada) provocan exactamente una llamada a la PokeAPI
+     * y todos reciben la misma respuesta.
+     */
+    @Test
+    void getPokemonStats_shouldCallApiOnce_whenCalledConcurrently() throws Exception {
+        int callers = 16;
+        CacheProperties noCache = new CacheProperties();
+        noCache.setEnabled(false);
+        PokemonService uncachedService = new PokemonService(restTemplate, new PokemonStatsCache(noCache), bindingProperties(), noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+        CountDownLatch started = new CountDownLatch(callers);
+
+        whenPokemonRequested().thenAnswer(invocation -> {
+            // Retiene la llamada hasta que todos los hilos hayan arrancado
+            started.await(5, TimeUnit.SECONDS);
+            Thread.sleep(200);
+            return ResponseEntity.ok(createMockPokemon());
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<PokemonStatsResponse>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                started.countDown();
+                return uncachedService.getPokemonStats("pikachu");
+            }));
+        }
+        executor.shutdown();
+
+        PokemonStatsResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<PokemonStatsResponse> result : results) {
+            assertSame(first, result.get(5, TimeUnit.SECONDS));
+        }
+        verifyPokemonRequested(times(1));
+    }
+
+    /**
+     * Prueba que, en el modo bloqueante, la solicitud que se une a una consulta en curso deja de
+     * esperarla al vencer su propio plazo, sin que falle la que la inició.
+     */
+    @Test
+    void getPokemonStats_shouldStopWaiting_atJoiningCallersDeadline() throws Exception {
+        CountDownLatch calling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        whenPokemonRequested().thenAnswer(invocation -> {
+            calling.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(createMockPokemon());
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<PokemonStatsResponse> leader = executor.submit(() -> pokemonService.getPokemonStats("pikachu"));
+            assertTrue(calling.await(5, TimeUnit.SECONDS));
+            try {
+                RequestDeadline.attach(RequestDeadline.start(Duration.ofMillis(50)));
+                assertThrows(DeadlineExceededException.class, () -> pokemonService.getPokemonStats("pikachu"));
+            } finally {
+                RequestDeadline.attach(null);
+            }
+
+            release.countDown();
+            assertEquals("pikachu", leader.get(5, TimeUnit.SECONDS).getNombre());
+            verifyPokemonRequested(times(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Prueba el lector en streaming contra las respuestas grabadas de la PokeAPI: para cada
+     * fixture, el resultado debe ser idéntico al del mapeo completo al modelo {@link Pokemon}.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"pikachu", "charizard", "bulbasaur", "ditto", "mewtwo"})
+    void getPokemonStats_shouldMatchBindingPath_whenStreamingParserEnabled(String name) throws IOException {
+        PokemonStatsResponse streaming = fetchFromFixture(name, PokeApiProperties.ResponseParser.STREAMING);
+        PokemonStatsResponse binding = fetchFromFixture(name, PokeApiProperties.ResponseParser.BINDING);
+
+        assertEquals(name, streaming.getNombre());
+        assertEquals(binding.getNombre(), streaming.getNombre());
+        assertEquals(binding.getHp(), streaming.getHp());
+        assertEquals(binding.getAtaque(), streaming.getAtaque());
+        assertEquals(binding.getDefensa(), streaming.getDefensa());
+        assertEquals(binding.getVelocidad(), streaming.getVelocidad());
+        assertEquals(binding.getTipos(), streaming.getTipos());
+        assertEquals(binding.getHabilidades(), streaming.getHabilidades());
+    }
+
+    /**
+     * Prueba que el lector en streaming también traduce el 404 de la PokeAPI a
+     * {@link PokemonNotFoundException}.
+     */
+    @Test
+    void getPokemonStats_shouldThrowPokemonNotFoundException_whenStreamingAndNotFound() {
+        RestTemplate realRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(realRestTemplate).build();
+        server.expect(requestTo("https://pokeapi.co/api/v2/pokemon/aguacate"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        PokemonService streamingService = new PokemonService(realRestTemplate,
+                new PokemonStatsCache(new CacheProperties()), new PokeApiProperties(), noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+
+        assertThrows(PokemonNotFoundException.class, () -> streamingService.getPokemonStats("aguacate"));
+        server.verify();
+    }
+
+    /**
+     * Prueba el reintento ante un error transitorio: un 503 de la PokeAPI se reintenta y la
+     * consulta termina con la respuesta del segundo intento.
+     */
+    @Test
+    void getPokemonStats_shouldRetry_whenPokeApiReturnsServerError() throws IOException {
+        RestTemplate realRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(realRestTemplate).build();
+        byte[] body = new ClassPathResource("fixtures/pokeapi/pokemon/pikachu.json").getContentAsByteArray();
+        server.expect(requestTo("https://pokeapi.co/api/v2/pokemon/pikachu"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(requestTo("https://pokeapi.co/api/v2/pokemon/pikachu"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+        PokemonService retryingService = new PokemonService(realRestTemplate,
+                new PokemonStatsCache(new CacheProperties()), new PokeApiProperties(), noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+
+        assertEquals(35, retryingService.getPokemonStats("pikachu").getHp());
+        server.verify();
+        assertEquals(1, meterRegistry.get("pokemon.upstream").tag("outcome", "error").timer().count());
+        assertEquals(1, meterRegistry.get("pokemon.upstream").tag("outcome", "ok").timer().count());
+    }
+
+    /**
+     * Prueba la revalidación con la PokeAPI con ambas estrategias de lectura: al expirar la
+     * entrada, la consulta se hace con el {@code ETag} recibido y un 304 reutiliza la respuesta
+     * almacenada.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"STREAMING", "BINDING"})
+    void getPokemonStats_shouldRevalidateWithETag_whenEntryExpired(String parser) throws IOException {
+        RestTemplate realRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(realRestTemplate).build();
+        byte[] body = new ClassPathResource("fixtures/pokeapi/pokemon/pikachu.json").getContentAsByteArray();
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("W/\"pikachu-v1\"");
+        server.expect(requestTo("https://pokeapi.co/api/v2/pokemon/pikachu"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON).headers(validators));
+        server.expect(requestTo("https://pokeapi.co/api/v2/pokemon/pikachu"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "W/\"pikachu-v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        CacheProperties expired = new CacheProperties();
+        expired.setTtl(Duration.ZERO);
+        PokeApiProperties properties = new PokeApiProperties();
+        properties.setResponseParser(PokeApiProperties.ResponseParser.valueOf(parser));
+        PokemonService revalidatingService = new PokemonService(realRestTemplate, new PokemonStatsCache(expired),
+                properties, noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+
+        PokemonStatsResponse first = revalidatingService.getPokemonStats("pikachu");
+        PokemonStatsResponse second = revalidatingService.getPokemonStats("pikachu");
+
+        server.verify();
+        assertSame(first, second);
+        assertEquals(1, meterRegistry.get("pokemon.upstream.revalidated").counter().count());
+    }
+
+    /**
+     * Prueba la lista de Pokémon de un tipo, leída de {@code /type/{name}}, y el 404 de un tipo inexistente.
+     */
+    @Test
+    void getTypeMembers_shouldReturnNames_inPokeApiOrder() {
+        RestTemplate realRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(realRestTemplate).build();
+        server.expect(requestTo("https://pokeapi.co/api/v2/type/fire"))
+                .andRespond(withSuccess("{\"name\":\"fire\",\"damage_relations\":{},\"pokemon\":["
+                        + "{\"pokemon\":{\"name\":\"charmander\",\"url\":\"u\"},\"slot\":1},"
+                        + "{\"pokemon\":{\"name\":\"charizard\",\"url\":\"u\"},\"slot\":1}]}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://pokeapi.co/api/v2/type/aguacate"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        PokemonService typeService = new PokemonService(realRestTemplate, new PokemonStatsCache(new CacheProperties()),
+                new PokeApiProperties(), noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+
+        assertEquals(List.of("charmander", "charizard"), typeService.getTypeMembers(" Fire"));
+        PokemonNotFoundException ex = assertThrows(PokemonNotFoundException.class, () -> typeService.getTypeMembers("aguacate"));
+        assertEquals("Tipo de Pokémon 'aguacate' no encontrado.", ex.getMessage());
+        server.verify();
+    }
+
+    /**
+     * Consulta un Pokémon con la estrategia indicada, sirviendo el fixture grabado mediante
+     * {@link MockRestServiceServer}.
+     */
+    private PokemonStatsResponse fetchFromFixture(String name, PokeApiProperties.ResponseParser parser) throws IOException {
+        RestTemplate realRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(realRestTemplate).build();
+        byte[] body = new ClassPathResource("fixtures/pokeapi/pokemon/" + name + ".json").getContentAsByteArray();
+        server.expect(requestTo("https://pokeapi.co/api/v2/pokemon/" + name))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        PokeApiProperties properties = new PokeApiProperties();
+        properties.setResponseParser(parser);
+        PokemonStatsResponse response = new PokemonService(realRestTemplate,
+                new PokemonStatsCache(new CacheProperties()), properties, noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex()).getPokemonStats(name);
+        server.verify();
+        return response;
+    }
+
+    /**
+     * Prueba la lectura desde la instantánea local: un nombre presente se responde sin
+     * ninguna llamada a la PokeAPI y uno ausente recurre a la PokeAPI.
+     */
+    @Test
+    void getPokemonStats_shouldServeFromSnapshot_andFallBackOnMiss(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("pokemon.snapshot");
+        new PokemonSnapshotWriter().write(List.of(new PokemonStatsResponse.Builder()
+                .nombre("ditto").hp(48).addTipo("normal").addHabilidad("limber").build()), file);
+        SnapshotProperties snapshotProperties = new SnapshotProperties();
+        snapshotProperties.setPath(file.toString());
+        PokemonService snapshotService = new PokemonService(restTemplate, new PokemonStatsCache(new CacheProperties()),
+                bindingProperties(), new PokemonSnapshotStore(snapshotProperties), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+        whenPokemonRequested().thenReturn(ResponseEntity.ok(createMockPokemon()));
+
+        PokemonStatsResponse ditto = snapshotService.getPokemonStats("Ditto");
+        assertEquals(48, ditto.getHp());
+        verifyPokemonRequested(never());
+
+        assertEquals("pikachu", snapshotService.getPokemonStats("pikachu").getNombre());
+        verifyPokemonRequested(times(1));
+    }
+
+    /**
+     * Prueba el modo no bloqueante contra un servidor local: las consultas concurrentes del
+     * mismo nombre comparten una sola llamada y el resultado coincide con el del modo bloqueante.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"STREAMING", "BINDING"})
+    void getPokemonStatsAsync_shouldCoalesceAndMatchBlocking_whenReactive(String parser) throws Exception {
+        try (PokeApiStubServer stub = PokeApiStubServer.start(2).latency(Duration.ofMillis(100))) {
+            PokemonService reactiveService = reactiveService(stub, PokeApiProperties.ResponseParser.valueOf(parser));
+
+            List<CompletableFuture<PokemonStatsResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(reactiveService.getPokemonStatsAsync("Pikachu"));
+            }
+            PokemonStatsResponse expected = fetchFromFixture("pikachu", PokeApiProperties.ResponseParser.BINDING);
+            for (CompletableFuture<PokemonStatsResponse> future : futures) {
+                PokemonStatsResponse actual = future.get(5, TimeUnit.SECONDS);
+                assertEquals(expected.getNombre(), actual.getNombre());
+                assertEquals(expected.getHp(), actual.getHp());
+                assertEquals(expected.getVelocidad(), actual.getVelocidad());
+                assertEquals(expected.getTipos(), actual.getTipos());
+                assertEquals(expected.getHabilidades(), actual.getHabilidades());
+            }
+            assertEquals(1, stub.pokemonRequests());
+
+            // La segunda consulta se resuelve desde la caché
+            reactiveService.getPokemonStatsAsync("pikachu").get(5, TimeUnit.SECONDS);
+            assertEquals(1, stub.pokemonRequests());
+        }
+    }
+
+    /**
+     * Prueba que el plazo corto de la solicitud que inicia una consulta compartida solo la acota
+     * a ella: la solicitud que se une con un plazo mayor recibe la respuesta de la misma llamada.
+     */
+    @Test
+    void getPokemonStatsAsync_shouldApplyEachCallersDeadline_toItsOwnCopy() throws Exception {
+        try (PokeApiStubServer stub = PokeApiStubServer.start(2).latency(Duration.ofMillis(300))) {
+            PokemonService reactiveService = reactiveService(stub, PokeApiProperties.ResponseParser.STREAMING);
+
+            CompletableFuture<PokemonStatsResponse> shortDeadline;
+            CompletableFuture<PokemonStatsResponse> longDeadline;
+            try {
+                RequestDeadline.attach(RequestDeadline.start(Duration.ofMillis(50)));
+                shortDeadline = reactiveService.getPokemonStatsAsync("pikachu");
+                RequestDeadline.attach(RequestDeadline.start(Duration.ofSeconds(5)));
+                longDeadline = reactiveService.getPokemonStatsAsync("pikachu");
+            } finally {
+                RequestDeadline.attach(null);
+            }
+
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> shortDeadline.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(DeadlineExceededException.class, ex.getCause());
+            assertEquals("pikachu", longDeadline.get(5, TimeUnit.SECONDS).getNombre());
+            assertEquals(1, stub.pokemonRequests());
+        }
+    }
+
+    /**
+     * Prueba que el modo no bloqueante traduce el 404 a {@link PokemonNotFoundException} y
+     * almacena el resultado negativo en la caché.
+     */
+    @Test
+    void getPokemonStatsAsync_shouldFailWithNotFound_andCacheIt_whenReactive() throws Exception {
+        try (PokeApiStubServer stub = PokeApiStubServer.start(2)) {
+            PokemonService reactiveService = reactiveService(stub, PokeApiProperties.ResponseParser.STREAMING);
+
+            for (int i = 0; i < 2; i++) {
+                ExecutionException ex = assertThrows(ExecutionException.class,
+                        () -> reactiveService.getPokemonStatsAsync("aguacate").get(5, TimeUnit.SECONDS));
+                assertInstanceOf(PokemonNotFoundException.class, ex.getCause());
+                assertEquals("Pokémon 'aguacate' no encontrado.", ex.getCause().getMessage());
+            }
+            assertEquals(1, stub.pokemonRequests());
+        }
+    }
+
+    /**
+     * Prueba que, en el modo no bloqueante, una respuesta 200 sin cuerpo se trata como un error
+     * de la PokeAPI en lugar de completar la consulta sin resultado.
+     */
+    @Test
+    void getPokemonStatsAsync_shouldFail_whenPokeApiRespondsWithoutBody() {
+        PokeApiProperties properties = new PokeApiProperties();
+        properties.setClientMode(PokeApiProperties.ClientMode.REACTIVE);
+        WebClient emptyBody = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+                .build();
+        PokemonService reactiveService = new PokemonService(restTemplate, new PokemonStatsCache(new CacheProperties()),
+                properties, noSnapshot(), emptyBody, metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> reactiveService.getPokemonStatsAsync("pikachu").get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause().getCause());
+        assertEquals("La PokeAPI respondió sin cuerpo para 'pikachu'", ex.getCause().getCause().getMessage());
+    }
+
+    /**
+     * Servicio en modo no bloqueante apuntando al servidor local indicado.
+     */
+    private PokemonService reactiveService(PokeApiStubServer stub, PokeApiProperties.ResponseParser parser) {
+        PokeApiProperties properties = new PokeApiProperties();
+        properties.setBaseUrl(stub.baseUrl());
+        properties.setResponseParser(parser);
+        properties.setClientMode(PokeApiProperties.ClientMode.REACTIVE);
+        int maxResponseBytes = (int) properties.getHttp().getMaxResponseSize().toBytes();
+        WebClient webClient = WebClient.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxResponseBytes))
+                .build();
+        return new PokemonService(restTemplate, new PokemonStatsCache(new CacheProperties()), properties,
+                noSnapshot(), webClient, metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+    }
+
+    /**
+     * Prueba "stale-while-revalidate": una entrada que superó {@code soft-ttl} se devuelve sin
+     * esperar a la PokeAPI y se refresca en segundo plano; la siguiente lectura ve el valor nuevo.
+     */
+    @Test
+    void getPokemonStats_shouldServeStaleAndRefreshInBackground_afterSoftTtl() {
+        CacheProperties properties = new CacheProperties();
+        properties.setSoftTtl(Duration.ZERO);
+        PokemonService swrService = new PokemonService(restTemplate, new PokemonStatsCache(properties), bindingProperties(),
+                noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+        Pokemon refreshed = createMockPokemon();
+        refreshed.getStats().get(0).setBaseStat(36);
+        whenPokemonRequested().thenReturn(ResponseEntity.ok(createMockPokemon()), ResponseEntity.ok(refreshed));
+
+        assertEquals(35, swrService.getPokemonStats("pikachu").getHp());
+        assertEquals(35, swrService.getPokemonStats("pikachu").getHp());
+
+        verifyPokemonRequested(timeout(5000).times(2));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (swrService.getPokemonStats("pikachu").getHp() != 36) {
+                Thread.sleep(10);
+            }
+        });
+        assertTrue(meterRegistry.get("pokemon.cache.stale.served").tag("reason", "revalidate").counter().count() >= 1);
+    }
+
+    /**
+     * Prueba "stale-if-error": con la entrada expirada y la PokeAPI respondiendo 503, se
+     * devuelve la última respuesta conocida en lugar del error. Un 404 no se enmascara.
+     */
+    @Test
+    void getPokemonStats_shouldServeStale_whenPokeApiFailsAfterTtl() {
+        CacheProperties properties = new CacheProperties();
+        properties.setTtl(Duration.ZERO);
+        PokemonService staleService = new PokemonService(restTemplate, new PokemonStatsCache(properties), bindingProperties(),
+                noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), noNameIndex());
+        whenPokemonRequested()
+                .thenReturn(ResponseEntity.ok(createMockPokemon()))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertEquals(35, staleService.getPokemonStats("pikachu").getHp());
+        assertEquals(35, staleService.getPokemonStats("pikachu").getHp());
+        assertEquals(1, meterRegistry.get("pokemon.cache.stale.served").tag("reason", "upstream_error").counter().count());
+
+        doThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND))
+                .when(restTemplate).execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+        assertThrows(PokemonNotFoundException.class, () -> staleService.getPokemonStats("pikachu"));
+    }
+
+    /**
+     * Prueba que la llamada a la PokeAPI se mide por resultado y que la construcción de la
+     * respuesta se mide por separado.
+     */
+    @Test
+    void getPokemonStats_shouldRecordUpstreamTimersByOutcome() {
+        whenPokemonRequested("https://pokeapi.co/api/v2/pokemon/pikachu")
+                .thenReturn(ResponseEntity.ok(createMockPokemon()));
+        whenPokemonRequested("https://pokeapi.co/api/v2/pokemon/aguacate")
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        pokemonService.getPokemonStats("pikachu");
+        assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemonStats("aguacate"));
+
+        assertEquals(1, meterRegistry.get("pokemon.upstream").tag("outcome", "ok").timer().count());
+        assertEquals(1, meterRegistry.get("pokemon.upstream").tag("outcome", "not_found").timer().count());
+        assertEquals(0, meterRegistry.get("pokemon.upstream").tag("outcome", "error").timer().count());
+        assertEquals(1, meterRegistry.get("pokemon.response.build").timer().count());
+    }
+
+    /**
+     * Prueba que, con el índice de nombres cargado, un nombre inexistente se rechaza con la
+     * instancia única de la excepción sin llamar a la PokeAPI, que los identificadores numéricos
+     * no se filtran, y que un 404 de un nombre admitido se cuenta como falso positivo.
+     */
+    @Test
+    void getPokemonStats_shouldRejectUnknownName_withoutCallingPokeApi() {
+        PokemonNameIndex nameIndex = noNameIndex();
+        nameIndex.load(List.of("pikachu", "bulbasaur", "missingno"));
+        PokemonService filteredService = new PokemonService(restTemplate, new PokemonStatsCache(new CacheProperties()),
+                bindingProperties(), noSnapshot(), WebClient.create(), metrics(), upstreamGuard(), retrier(), refresher(), nameIndex);
+
+        PokemonNotFoundException rejected = assertThrows(PokemonNotFoundException.class,
+                () -> filteredService.getPokemonStats("Aguacate"));
+        assertSame(PokemonNameRejectedException.INSTANCE, rejected);
+        assertEquals(0, rejected.getStackTrace().length);
+        verifyNoInteractions(restTemplate);
+
+        whenPokemonRequested().thenReturn(ResponseEntity.ok(createMockPokemon()));
+        assertEquals("pikachu", filteredService.getPokemonStats("25").getNombre());
+
+        whenPokemonRequested()
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        assertThrows(PokemonNotFoundException.class, () -> filteredService.getPokemonStats("missingno"));
+        assertEquals(1, nameIndex.getRejected());
+        assertEquals(1, nameIndex.getFalsePositives());
+        assertEquals(0.5, nameIndex.getObservedFalsePositiveRate());
+    }
+
+    private PokemonMetrics metrics() {
+        return new PokemonMetrics(meterRegistry);
+    }
+
+    private static UpstreamGuard upstreamGuard() {
+        return new UpstreamGuard(new ResilienceProperties());
+    }
+
+    private static UpstreamRetrier retrier() {
+        return new UpstreamRetrier(new ResilienceProperties(), Runnable::run);
+    }
+
+    private CacheRefresher refresher() {
+        return new CacheRefresher(new CacheProperties(), metrics());
+    }
+
+    /**
+     * Índice de nombres sin ningún listado cargado: admite todos los nombres.
+     */
+    private static PokemonNameIndex noNameIndex() {
+        return new PokemonNameIndex(null, new PokeApiProperties(), new NameIndexProperties());
+    }
+
+    /**
+     * Almacén sin instantánea configurada: todas las consultas van a la caché o a la PokeAPI.
+     */
+    private PokemonSnapshotStore noSnapshot() {
+        return new PokemonSnapshotStore(new SnapshotProperties());
+    }
+
+    /**
+     * Configuración con el mapeo completo al modelo {@link Pokemon}, que lee la respuesta como un
+     * {@link ResponseEntity} y permite simular la PokeAPI con Mockito.
+     */
+    private PokeApiProperties bindingProperties() {
+        PokeApiProperties properties = new PokeApiProperties();
+        properties.setResponseParser(PokeApiProperties.ResponseParser.BINDING);
+        return properties;
+    }
+
+    /**
+     * Simula la consulta de un Pokémon con el mapeo completo, cuya respuesta es un
+     * {@link ResponseEntity} con el modelo {@link Pokemon}.
+     */
+    @SuppressWarnings("unchecked")
+    private OngoingStubbing<Object> whenPokemonRequested() {
+        return when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private OngoingStubbing<Object> whenPokemonRequested(String url) {
+        return when(restTemplate.execute(eq(url), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyPokemonRequested(VerificationMode mode) {
+        verify(restTemplate, mode).execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class));
+    }
+
     /**
      * Método de utilidad para crear un objeto {@link Pokemon} complejo para las pruebas.
      * Esto mantiene los métodos de prueba limpios y centrados en su lógica.
@@ -0,0 +1,70 @@
+package com.example.pokemonapi.service;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link PokemonStatsExtractor}.
+ */
+public class PokemonStatsExtractorTest {
+
+    private final PokemonStatsExtractor extractor = new PokemonStatsExtractor();
+
+    /**
+     * Verifica la extracción sobre la respuesta grabada completa de pikachu.
+     */
+    @Test
+    void extract_shouldReadStatsTypesAndAbilities_fromRecordedPayload() throws IOException {
+        try (InputStream body = new ClassPathResource("fixtures/pokeapi/pokemon/pikachu.json").getInputStream()) {
+            PokemonStatsResponse result = extractor.extract(body);
+
+            assertEquals("pikachu", result.getNombre());
+            assertEquals(35, result.getHp());
+            assertEquals(55, result.getAtaque());
+            assertEquals(40, result.getDefensa());
+            assertEquals(90, result.getVelocidad());
+            assertEquals(List.of("electric"), result.getTipos());
+            assertEquals(List.of("static", "lightning-rod"), result.getHabilidades());
+        }
+    }
+
+    /**
+     * Verifica que el orden de los campos no importa y que se ignoran los valores
+     * inesperados (nulos, elementos que no son objetos, campos desconocidos anidados).
+     */
+    @Test
+    void extract_shouldTolerateFieldOrderAndUnexpectedValues() throws IOException {
+        String json = "{\"moves\":[{\"move\":{\"name\":\"surf\"}}],"
+                + "\"stats\":[null,{\"stat\":{\"name\":\"speed\"},\"effort\":2,\"base_stat\":90},"
+                + "{\"base_stat\":35,\"stat\":{\"url\":\"x\",\"name\":\"hp\"}}],"
+                + "\"types\":[{\"slot\":1,\"type\":{\"name\":\"electric\",\"extra\":{\"name\":\"no\"}}}],"
+                + "\"abilities\":null,"
+                + "\"name\":\"pikachu\"}";
+
+        PokemonStatsResponse result = extractor.extract(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("pikachu", result.getNombre());
+        assertEquals(35, result.getHp());
+        assertEquals(90, result.getVelocidad());
+        assertEquals(List.of("electric"), result.getTipos());
+        assertTrue(result.getHabilidades().isEmpty());
+    }
+
+    /**
+     * Verifica que un cuerpo que no es un objeto JSON produce una {@link IOException}.
+     */
+    @Test
+    void extract_shouldFail_whenBodyIsNotAnObject() {
+        assertThrows(IOException.class,
+                () -> extractor.extract(new ByteArrayInputStream("[1,2]".getBytes(StandardCharsets.UTF_8))));
+    }
+}
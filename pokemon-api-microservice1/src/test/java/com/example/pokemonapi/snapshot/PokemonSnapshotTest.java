@@ -0,0 +1,130 @@
+package com.example.pokemonapi.snapshot;
+
+import com.example.pokemonapi.config.SnapshotProperties;
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.service.PokemonStatsExtractor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la instantánea binaria: escritura con {@link PokemonSnapshotWriter}, lectura
+ * mapeada en memoria con {@link PokemonSnapshot} y reemplazo en caliente con
+ * {@link PokemonSnapshotStore}. La instantánea de prueba se genera localmente a partir de
+ * las respuestas grabadas de la PokeAPI.
+ */
+public class PokemonSnapshotTest {
+
+    static final List<String> FIXTURE_NAMES = List.of("pikachu", "charizard", "bulbasaur", "ditto", "mewtwo");
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifica que cada Pokémon de la instantánea se lee idéntico a como se escribió.
+     */
+    @Test
+    void find_shouldReturnSameStats_asWritten() throws IOException {
+        List<PokemonStatsResponse> fixtures = loadFixtures();
+        Path file = tempDir.resolve("pokemon.snapshot");
+        new PokemonSnapshotWriter().write(fixtures, file);
+
+        PokemonSnapshot snapshot = PokemonSnapshot.open(file);
+
+        assertEquals(fixtures.size(), snapshot.size());
+        for (PokemonStatsResponse expected : fixtures) {
+            PokemonStatsResponse actual = snapshot.find(expected.getNombre());
+            assertNotNull(actual, expected.getNombre());
+            assertEquals(expected.getNombre(), actual.getNombre());
+            assertEquals(expected.getHp(), actual.getHp());
+            assertEquals(expected.getAtaque(), actual.getAtaque());
+            assertEquals(expected.getDefensa(), actual.getDefensa());
+            assertEquals(expected.getVelocidad(), actual.getVelocidad());
+            assertEquals(expected.getTipos(), actual.getTipos());
+            assertEquals(expected.getHabilidades(), actual.getHabilidades());
+        }
+        assertNull(snapshot.find("aguacate"));
+        assertNull(snapshot.find("pikachu-x"));
+        assertNull(snapshot.find("a"));
+    }
+
+    /**
+     * Verifica que un archivo que no es una instantánea se rechaza al abrirlo.
+     */
+    @Test
+    void open_shouldFail_whenFileIsNotASnapshot() throws IOException {
+        Path file = tempDir.resolve("otro.bin");
+        Files.writeString(file, "esto no es una instantánea de pokémon");
+
+        assertThrows(IOException.class, () -> PokemonSnapshot.open(file));
+    }
+
+    /**
+     * Verifica el reemplazo en caliente: tras escribir una nueva versión del archivo, la
+     * comprobación periódica activa la nueva instantánea sin reiniciar el almacén.
+     */
+    @Test
+    void checkForUpdates_shouldHotSwap_whenFileReplaced() throws IOException {
+        Path file = tempDir.resolve("pokemon.snapshot");
+        PokemonSnapshotWriter writer = new PokemonSnapshotWriter();
+        writer.write(List.of(stats("pikachu", 35)), file);
+        SnapshotProperties properties = new SnapshotProperties();
+        properties.setPath(file.toString());
+        PokemonSnapshotStore store = new PokemonSnapshotStore(properties);
+
+        assertEquals(35, store.find("pikachu").getHp());
+        assertNull(store.find("ditto"));
+
+        writer.write(List.of(stats("pikachu", 36), stats("ditto", 48)), file);
+        // Garantiza una fecha de modificación distinta aunque el sistema de archivos tenga poca resolución
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        store.checkForUpdates();
+
+        assertEquals(36, store.find("pikachu").getHp());
+        assertEquals(48, store.find("ditto").getHp());
+        assertEquals(2, store.status().getRegistros());
+    }
+
+    /**
+     * Verifica que un almacén sin ruta configurada, o con una ruta inexistente, no devuelve datos.
+     */
+    @Test
+    void find_shouldReturnNull_whenNoSnapshotLoaded() {
+        assertNull(new PokemonSnapshotStore(new SnapshotProperties()).find("pikachu"));
+
+        SnapshotProperties missing = new SnapshotProperties();
+        missing.setPath(tempDir.resolve("no-existe.snapshot").toString());
+        PokemonSnapshotStore store = new PokemonSnapshotStore(missing);
+        assertNull(store.find("pikachu"));
+        assertFalse(store.status().isCargada());
+    }
+
+    /**
+     * Lee las respuestas grabadas de la PokeAPI con el lector en streaming.
+     */
+    static List<PokemonStatsResponse> loadFixtures() throws IOException {
+        PokemonStatsExtractor extractor = new PokemonStatsExtractor();
+        List<PokemonStatsResponse> fixtures = new ArrayList<>();
+        for (String name : FIXTURE_NAMES) {
+            try (InputStream body = new ClassPathResource("fixtures/pokeapi/pokemon/" + name + ".json").getInputStream()) {
+                fixtures.add(extractor.extract(body));
+            }
+        }
+        return fixtures;
+    }
+
+    private static PokemonStatsResponse stats(String name, int hp) {
+        return new PokemonStatsResponse.Builder().nombre(name).hp(hp).addTipo("normal").addHabilidad("limber").build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.pokemonapi.snapshot;
+
+import com.example.pokemonapi.model.PokemonStatsResponse;
+import com.example.pokemonapi.support.PokeApiStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de {@link PokemonSnapshotTool} contra un servidor HTTP local que sirve las
+ * respuestas grabadas de la PokeAPI.
+ */
+public class PokemonSnapshotToolTest {
+
+    private PokeApiStubServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = PokeApiStubServer.start(2).listing(PokemonSnapshotTest.FIXTURE_NAMES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Verifica que el recorrido descarga cada Pokémon listado.
+     */
+    @Test
+    void crawl_shouldFetchEveryListedPokemon() throws Exception {
+        List<PokemonStatsResponse> pokemons = new PokemonSnapshotTool(server.baseUrl(), 2).crawl();
+
+        assertEquals(PokemonSnapshotTest.FIXTURE_NAMES,
+                pokemons.stream().map(PokemonStatsResponse::getNombre).collect(Collectors.toList()));
+        assertEquals(90, pokemons.get(0).getVelocidad());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.pokemonapi.support;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Popularidad de los nombres solicitados por el arnés de carga: elige el índice del siguiente
+ * nombre entre {@code 0} y {@code size() - 1}.
+ */
+public interface KeyDistribution {
+
+    /**
+     * Elige el siguiente nombre.
+     *
+     * @param random la fuente de aleatoriedad.
+     * @return el índice del nombre.
+     */
+    int next(Random random);
+
+    /** Número de nombres distintos. */
+    int size();
+
+    /** Todos los nombres con la misma probabilidad. */
+    static KeyDistribution uniform(int keys) {
+        return new KeyDistribution() {
+            @Override
+            public int next(Random random) {
+                return random.nextInt(keys);
+            }
+
+            @Override
+            public int size() {
+                return keys;
+            }
+        };
+    }
+
+    /**
+     * Distribución de Zipf: el nombre en la posición {@code k} (desde 1) tiene probabilidad
+     * proporcional a {@code 1 / k^exponent}. Con exponentes cercanos a 1 unos pocos nombres
+     * concentran la mayoría de las solicitudes, como ocurre con el tráfico real.
+     */
+    static KeyDistribution zipf(int keys, double exponent) {
+        double[] cumulative = new double[keys];
+        double sum = 0;
+        for (int k = 0; k < keys; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        double total = sum;
+        return new KeyDistribution() {
+            @Override
+            public int next(Random random) {
+                int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                return Math.min(index >= 0 ? index : -index - 1, keys - 1);
+            }
+
+            @Override
+            public int size() {
+                return keys;
+            }
+        };
+    }
+
+    /**
+     * Interpreta una especificación textual, usada por el arnés de carga:
+     * {@code uniform:1000} o {@code zipf:1000:1.1}.
+     */
+    static KeyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        switch (parts[0].toLowerCase()) {
+            case "uniform": return uniform(Integer.parseInt(parts[1]));
+            case "zipf": return zipf(Integer.parseInt(parts[1]), Double.parseDouble(parts[2]));
+            default: throw new IllegalArgumentException("Distribución de nombres desconocida: " + spec);
+        }
+    }
+}
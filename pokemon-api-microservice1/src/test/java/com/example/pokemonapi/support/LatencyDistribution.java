@@ -0,0 +1,75 @@
+package com.example.pokemonapi.support;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Distribución de latencias simuladas por {@link PokeApiStubServer}.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Obtiene la latencia de la siguiente respuesta.
+     *
+     * @param random la fuente de aleatoriedad (una por hilo del servidor).
+     * @return la latencia, en nanosegundos.
+     */
+    long nextNanos(Random random);
+
+    /** Sin latencia añadida. */
+    static LatencyDistribution none() {
+        return random -> 0L;
+    }
+
+    /** La misma latencia para todas las respuestas. */
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    /** Latencia uniforme entre {@code min} y {@code max}. */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long span = max.toNanos() - minNanos;
+        return random -> minNanos + (long) (random.nextDouble() * span);
+    }
+
+    /**
+     * Latencia log-normal, la forma habitual de las latencias de red: la mayoría cerca de la
+     * mediana y una cola larga. Se define por la mediana y el percentil 99.
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        double mu = Math.log(median.toNanos());
+        // z(0.99) = 2.326: p99 = exp(mu + 2.326 * sigma)
+        double sigma = (Math.log(p99.toNanos()) - mu) / 2.326;
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    /**
+     * Interpreta una especificación textual, usada por el arnés de carga:
+     * {@code none}, {@code fixed:50ms}, {@code uniform:20ms:80ms} o {@code lognormal:40ms:250ms}
+     * (mediana y p99). Las duraciones aceptan el formato de {@link Duration#parse} o un número
+     * seguido de {@code ms} o {@code s}.
+     */
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        switch (parts[0].toLowerCase()) {
+            case "none": return none();
+            case "fixed": return fixed(duration(parts[1]));
+            case "uniform": return uniform(duration(parts[1]), duration(parts[2]));
+            case "lognormal": return logNormal(duration(parts[1]), duration(parts[2]));
+            default: throw new IllegalArgumentException("Distribución de latencia desconocida: " + spec);
+        }
+    }
+
+    private static Duration duration(String text) {
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s") && !text.startsWith("P")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        return Duration.parse(text);
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.pokemonapi.support;
+
+import com.example.pokemonapi.PokemonApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Arnés de carga de extremo a extremo: arranca {@link PokeApiStubServer} con la latencia, los
+ * errores y los 404 del escenario, arranca la aplicación completa apuntando a él y genera
+ * tráfico de bucle abierto contra {@code GET /pokemon/{name}}.
+ *
+ * Bucle abierto: las solicitudes se envían a la tasa configurada aunque las anteriores no hayan
+ * terminado, y la latencia se mide desde el instante en que la solicitud debía enviarse. Así una
+ * aplicación saturada no frena al generador y su cola se refleja en los percentiles altos.
+ *
+ * El resultado (rendimiento, percentiles p50/p90/p99/p999, códigos de estado y errores) se
+ * escribe como JSON con claves estables, para poder compararlo entre versiones.
+ */
+public class LoadTestHarness {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Ejecuta el escenario completo y escribe el resultado.
+     *
+     * @param scenario el escenario a ejecutar.
+     * @param resultFile el archivo JSON de resultados; se crean los directorios necesarios.
+     * @return el resultado escrito.
+     */
+    public Map<String, Object> run(LoadTestScenario scenario, Path resultFile) throws IOException, InterruptedException {
+        try (PokeApiStubServer stub = PokeApiStubServer.start(256)
+                .fallbackFixture("pikachu")
+                .latency(scenario.getUpstreamLatency())
+                .errorRate(scenario.getUpstreamErrorRate())
+                .notFoundRatio(scenario.getNotFoundRatio());
+             // Como argumentos de línea de comandos, para que prevalezcan sobre application.properties
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(PokemonApiApplication.class)
+                     .run("--server.port=0",
+                             "--pokeapi.base-url=" + stub.baseUrl(),
+                             "--pokeapi.client-mode=" + scenario.getClientMode(),
+                             "--pokemon.cache.enabled=" + scenario.isCacheEnabled())) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://127.0.0.1:" + port + "/pokemon/";
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            Random random = new Random(scenario.getSeed());
+            KeyDistribution keys = scenario.getKeyDistribution();
+
+            drive(client, baseUrl, scenario, scenario.getWarmup(), keys, random);
+            int upstreamBefore = stub.pokemonRequests();
+            int injectedBefore = stub.injectedErrors();
+            Phase measured = drive(client, baseUrl, scenario, scenario.getDuration(), keys, random);
+
+            Map<String, Object> result = measured.toResult(scenario);
+            Map<String, Object> upstream = new LinkedHashMap<>();
+            upstream.put("solicitudes", stub.pokemonRequests() - upstreamBefore);
+            upstream.put("erroresInyectados", stub.injectedErrors() - injectedBefore);
+            result.put("pokeApi", upstream);
+
+            Files.createDirectories(resultFile.toAbsolutePath().getParent());
+            objectMapper.writeValue(resultFile.toFile(), result);
+            return result;
+        }
+    }
+
+    /**
+     * Genera tráfico durante el tiempo indicado y espera a que terminen todas las solicitudes.
+     */
+    private Phase drive(HttpClient client, String baseUrl, LoadTestScenario scenario, Duration duration,
+                        KeyDistribution keys, Random random) throws InterruptedException {
+        int total = (int) Math.round(scenario.getArrivalRate() * duration.toNanos() / 1e9);
+        double meanIntervalNanos = 1e9 / scenario.getArrivalRate();
+        Phase phase = new Phase(total);
+        AtomicInteger outstanding = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[total];
+
+        long start = System.nanoTime();
+        double offset = 0;
+        for (int i = 0; i < total; i++) {
+            offset += scenario.isPoissonArrivals()
+                    ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos
+                    : meanIntervalNanos;
+            long intended = start + (long) offset;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String name = "pokemon-" + keys.next(random);
+            if (outstanding.get() >= scenario.getMaxOutstanding()) {
+                phase.dropped.increment();
+                futures[i] = CompletableFuture.completedFuture(null);
+                continue;
+            }
+            outstanding.incrementAndGet();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + name))
+                    .timeout(scenario.getRequestTimeout())
+                    .build();
+            int index = i;
+            futures[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        outstanding.decrementAndGet();
+                        phase.record(index, intended, response, ex);
+                    });
+        }
+        phase.sendingNanos = System.nanoTime() - start;
+        try {
+            CompletableFuture.allOf(futures).exceptionally(ex -> null)
+                    .get(scenario.getRequestTimeout().toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            // Las solicitudes que no terminaron se cuentan como no completadas
+        }
+        phase.elapsedNanos = System.nanoTime() - start;
+        return phase;
+    }
+
+    /**
+     * Mediciones de una fase de la ejecución.
+     */
+    private static final class Phase {
+        private final long[] latencies;
+        private final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder ioErrors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private long sendingNanos;
+        private long elapsedNanos;
+
+        private Phase(int total) {
+            this.latencies = new long[total];
+            Arrays.fill(latencies, -1);
+        }
+
+        private void record(int index, long intended, HttpResponse<?> response, Throwable ex) {
+            latencies[index] = System.nanoTime() - intended;
+            if (response != null) {
+                statusCodes.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+            } else if (ex instanceof HttpTimeoutException || ex.getCause() instanceof HttpTimeoutException) {
+                timeouts.increment();
+            } else {
+                ioErrors.increment();
+            }
+        }
+
+        private Map<String, Object> toResult(LoadTestScenario scenario) {
+            long[] completed = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            long responses = statusCodes.values().stream().mapToLong(LongAdder::sum).sum();
+            long ok = statusCodes.getOrDefault(200, new LongAdder()).sum();
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("escenario", scenario.getName());
+            result.put("fecha", Instant.now().toString());
+            result.put("configuracion", scenario.toMap());
+
+            Map<String, Object> requests = new LinkedHashMap<>();
+            requests.put("programadas", latencies.length);
+            requests.put("respondidas", responses);
+            requests.put("exitosas", ok);
+            requests.put("descartadas", dropped.sum());
+            requests.put("sinCompletar", latencies.length - completed.length - dropped.sum());
+            result.put("solicitudes", requests);
+
+            Map<String, Object> throughput = new LinkedHashMap<>();
+            throughput.put("tasaLograda", round(latencies.length / (sendingNanos / 1e9)));
+            throughput.put("respuestasPorSegundo", round(responses / (elapsedNanos / 1e9)));
+            throughput.put("exitosasPorSegundo", round(ok / (elapsedNanos / 1e9)));
+            result.put("rendimiento", throughput);
+
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("p50", percentileMillis(completed, 0.50));
+            latency.put("p90", percentileMillis(completed, 0.90));
+            latency.put("p99", percentileMillis(completed, 0.99));
+            latency.put("p999", percentileMillis(completed, 0.999));
+            latency.put("max", completed.length == 0 ? 0 : round(completed[completed.length - 1] / 1e6));
+            latency.put("media", round(Arrays.stream(completed).average().orElse(0) / 1e6));
+            result.put("latenciaMs", latency);
+
+            Map<String, Long> codes = new TreeMap<>();
+            statusCodes.forEach((code, count) -> codes.put(Integer.toString(code), count.sum()));
+            result.put("codigosEstado", codes);
+
+            Map<String, Object> errors = new LinkedHashMap<>();
+            errors.put("tiempoAgotado", timeouts.sum());
+            errors.put("conexion", ioErrors.sum());
+            errors.put("respuestas5xx", codes.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith("5")).mapToLong(Map.Entry::getValue).sum());
+            result.put("errores", errors);
+            return result;
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return round(sorted[Math.max(0, index)] / 1e6);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.pokemonapi.support;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parámetros de una ejecución del arnés de carga: tráfico generado contra
+ * {@code GET /pokemon/{name}}, comportamiento de la PokeAPI simulada y configuración de la
+ * aplicación. Se construye con {@link Builder} o desde propiedades del sistema
+ * {@code loadtest.*} (ver {@link #fromSystemProperties()}).
+ */
+public final class LoadTestScenario {
+
+    private final String name;
+    private final double arrivalRate;
+    private final boolean poissonArrivals;
+    private final Duration warmup;
+    private final Duration duration;
+    private final String keys;
+    private final String upstreamLatency;
+    private final double upstreamErrorRate;
+    private final double notFoundRatio;
+    private final String clientMode;
+    private final boolean cacheEnabled;
+    private final Duration requestTimeout;
+    private final int maxOutstanding;
+    private final long seed;
+
+    private LoadTestScenario(Builder builder) {
+        this.name = builder.name;
+        this.arrivalRate = builder.arrivalRate;
+        this.poissonArrivals = builder.poissonArrivals;
+        this.warmup = builder.warmup;
+        this.duration = builder.duration;
+        this.keys = builder.keys;
+        this.upstreamLatency = builder.upstreamLatency;
+        this.upstreamErrorRate = builder.upstreamErrorRate;
+        this.notFoundRatio = builder.notFoundRatio;
+        this.clientMode = builder.clientMode;
+        this.cacheEnabled = builder.cacheEnabled;
+        this.requestTimeout = builder.requestTimeout;
+        this.maxOutstanding = builder.maxOutstanding;
+        this.seed = builder.seed;
+    }
+
+    /**
+     * Construye el escenario a partir de las propiedades del sistema {@code loadtest.*}, con los
+     * valores del {@link Builder} por defecto para las que no se indiquen. Por ejemplo:
+     * {@code -Dloadtest.rate=500 -Dloadtest.keys=zipf:5000:1.2 -Dloadtest.upstream-latency=fixed:80ms}.
+     */
+    public static LoadTestScenario fromSystemProperties() {
+        Builder builder = new Builder();
+        builder.name(System.getProperty("loadtest.name", builder.name));
+        builder.arrivalRate(Double.parseDouble(System.getProperty("loadtest.rate", Double.toString(builder.arrivalRate))));
+        builder.poissonArrivals(!"constant".equalsIgnoreCase(System.getProperty("loadtest.arrivals", "poisson")));
+        builder.warmup(Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", builder.warmup.toSeconds())));
+        builder.duration(Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", builder.duration.toSeconds())));
+        builder.keys(System.getProperty("loadtest.keys", builder.keys));
+        builder.upstreamLatency(System.getProperty("loadtest.upstream-latency", builder.upstreamLatency));
+        builder.upstreamErrorRate(Double.parseDouble(System.getProperty("loadtest.upstream-error-rate",
+                Double.toString(builder.upstreamErrorRate))));
+        builder.notFoundRatio(Double.parseDouble(System.getProperty("loadtest.not-found-ratio",
+                Double.toString(builder.notFoundRatio))));
+        builder.clientMode(System.getProperty("loadtest.client-mode", builder.clientMode));
+        builder.cacheEnabled(Boolean.parseBoolean(System.getProperty("loadtest.cache-enabled",
+                Boolean.toString(builder.cacheEnabled))));
+        builder.requestTimeout(Duration.ofMillis(Long.getLong("loadtest.request-timeout-ms", builder.requestTimeout.toMillis())));
+        builder.maxOutstanding(Integer.getInteger("loadtest.max-outstanding", builder.maxOutstanding));
+        builder.seed(Long.getLong("loadtest.seed", builder.seed));
+        return builder.build();
+    }
+
+    public String getName() { return name; }
+    public double getArrivalRate() { return arrivalRate; }
+    public boolean isPoissonArrivals() { return poissonArrivals; }
+    public Duration getWarmup() { return warmup; }
+    public Duration getDuration() { return duration; }
+    public KeyDistribution getKeyDistribution() { return KeyDistribution.parse(keys); }
+    public LatencyDistribution getUpstreamLatency() { return LatencyDistribution.parse(upstreamLatency); }
+    public double getUpstreamErrorRate() { return upstreamErrorRate; }
+    public double getNotFoundRatio() { return notFoundRatio; }
+    public String getClientMode() { return clientMode; }
+    public boolean isCacheEnabled() { return cacheEnabled; }
+    public Duration getRequestTimeout() { return requestTimeout; }
+    public int getMaxOutstanding() { return maxOutstanding; }
+    public long getSeed() { return seed; }
+
+    /**
+     * Los parámetros tal como se configuraron, para incluirlos en el archivo de resultados.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("tasaLlegadas", arrivalRate);
+        map.put("llegadas", poissonArrivals ? "poisson" : "constant");
+        map.put("calentamientoSegundos", warmup.toSeconds());
+        map.put("duracionSegundos", duration.toSeconds());
+        map.put("nombres", keys);
+        map.put("latenciaPokeApi", upstreamLatency);
+        map.put("tasaErroresPokeApi", upstreamErrorRate);
+        map.put("proporcionNoEncontrados", notFoundRatio);
+        map.put("modoCliente", clientMode);
+        map.put("cacheHabilitada", cacheEnabled);
+        map.put("tiempoMaximoSolicitudMs", requestTimeout.toMillis());
+        map.put("maximoEnCurso", maxOutstanding);
+        map.put("semilla", seed);
+        return map;
+    }
+
+    /**
+     * Builder de {@link LoadTestScenario}; sus valores iniciales forman el escenario por defecto.
+     */
+    public static class Builder {
+        private String name = "default";
+        private double arrivalRate = 200;
+        private boolean poissonArrivals = true;
+        private Duration warmup = Duration.ofSeconds(5);
+        private Duration duration = Duration.ofSeconds(30);
+        private String keys = "zipf:1000:1.1";
+        private String upstreamLatency = "lognormal:40ms:250ms";
+        private double upstreamErrorRate = 0.01;
+        private double notFoundRatio = 0.05;
+        private String clientMode = "blocking";
+        private boolean cacheEnabled = true;
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        private int maxOutstanding = 10_000;
+        private long seed = 42;
+
+        public Builder name(String name) { this.name = name; return this; }
+        /** Solicitudes por segundo generadas, independientemente de cuándo terminen las anteriores. */
+        public Builder arrivalRate(double arrivalRate) { this.arrivalRate = arrivalRate; return this; }
+        /** Llegadas de Poisson (intervalos exponenciales) o a intervalos constantes. */
+        public Builder poissonArrivals(boolean poissonArrivals) { this.poissonArrivals = poissonArrivals; return this; }
+        public Builder warmup(Duration warmup) { this.warmup = warmup; return this; }
+        public Builder duration(Duration duration) { this.duration = duration; return this; }
+        /** Especificación de {@link KeyDistribution#parse(String)}. */
+        public Builder keys(String keys) { this.keys = keys; return this; }
+        /** Especificación de {@link LatencyDistribution#parse(String)}. */
+        public Builder upstreamLatency(String upstreamLatency) { this.upstreamLatency = upstreamLatency; return this; }
+        public Builder upstreamErrorRate(double upstreamErrorRate) { this.upstreamErrorRate = upstreamErrorRate; return this; }
+        public Builder notFoundRatio(double notFoundRatio) { this.notFoundRatio = notFoundRatio; return this; }
+        public Builder clientMode(String clientMode) { this.clientMode = clientMode; return this; }
+        public Builder cacheEnabled(boolean cacheEnabled) { this.cacheEnabled = cacheEnabled; return this; }
+        public Builder requestTimeout(Duration requestTimeout) { this.requestTimeout = requestTimeout; return this; }
+        /** Solicitudes en curso a partir de las cuales las nuevas llegadas se descartan y se cuentan. */
+        public Builder maxOutstanding(int maxOutstanding) { this.maxOutstanding = maxOutstanding; return this; }
+        public Builder seed(long seed) { this.seed = seed; return this; }
+
+        public LoadTestScenario build() {
+            // Valida las especificaciones al construir y no a mitad de la ejecución
+            KeyDistribution.parse(keys);
+            LatencyDistribution.parse(upstreamLatency);
+            return new LoadTestScenario(this);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.pokemonapi.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Servidor HTTP local que imita la PokeAPI para las pruebas, sirviendo las respuestas grabadas
+ * de {@code fixtures/pokeapi/pokemon}. Los nombres sin respuesta grabada devuelven 404, salvo
+ * que se configure un fixture de respaldo que se sirve para cualquier nombre. También sirve las
+ * especies y las cadenas evolutivas grabadas en {@code fixtures/pokeapi/pokemon-species} y
+ * {@code fixtures/pokeapi/evolution-chain}, sin latencia ni errores inyectados.
+ *
+ * Para las pruebas de carga se pueden inyectar una distribución de latencias, una tasa de
+ * errores 5xx (aleatoria por solicitud) y una proporción de nombres que devuelven 404
+ * (determinista por nombre, de modo que un mismo nombre responde siempre igual).
+ */
+public class PokeApiStubServer implements AutoCloseable {
+
+    private static final String FIXTURES = "fixtures/pokeapi/";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger pokemonRequests = new AtomicInteger();
+    private final AtomicInteger speciesRequests = new AtomicInteger();
+    private final AtomicInteger evolutionChainRequests = new AtomicInteger();
+    private volatile List<String> listedNames = List.of();
+    private final AtomicInteger injectedErrors = new AtomicInteger();
+    private volatile LatencyDistribution latency = LatencyDistribution.none();
+    private volatile double errorRate;
+    private volatile double notFoundRatio;
+    private volatile String fallbackFixture;
+
+    private PokeApiStubServer(int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext("/api/v2/pokemon", this::handle);
+        server.createContext("/api/v2/pokemon-species", exchange -> handleResource(exchange, "pokemon-species", speciesRequests));
+        server.createContext("/api/v2/evolution-chain", exchange -> handleResource(exchange, "evolution-chain", evolutionChainRequests));
+        server.start();
+    }
+
+    /**
+     * Arranca el servidor en un puerto libre.
+     *
+     * @param threads los hilos que atienden solicitudes; con latencia simulada limita la concurrencia del stub.
+     * @return el servidor en marcha.
+     */
+    public static PokeApiStubServer start(int threads) throws IOException {
+        return new PokeApiStubServer(threads);
+    }
+
+    /**
+     * URL base equivalente a {@code https://pokeapi.co/api/v2}.
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v2";
+    }
+
+    /** Nombres devueltos por el listado {@code /pokemon}. */
+    public PokeApiStubServer listing(List<String> names) {
+        this.listedNames = List.copyOf(names);
+        return this;
+    }
+
+    /** Retardo fijo aplicado a cada respuesta de {@code /pokemon/{name}}. */
+    public PokeApiStubServer latency(Duration latency) {
+        return latency(LatencyDistribution.fixed(latency));
+    }
+
+    /** Distribución de los retardos aplicados a las respuestas de {@code /pokemon/{name}}. */
+    public PokeApiStubServer latency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /** Proporción de solicitudes, entre 0 y 1, que responden 503. */
+    public PokeApiStubServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /** Proporción de nombres, entre 0 y 1, que responden 404 aunque haya fixture de respaldo. */
+    public PokeApiStubServer notFoundRatio(double notFoundRatio) {
+        this.notFoundRatio = notFoundRatio;
+        return this;
+    }
+
+    /** Fixture servido para los nombres sin respuesta grabada, en lugar de un 404. */
+    public PokeApiStubServer fallbackFixture(String fixtureName) {
+        this.fallbackFixture = fixtureName;
+        return this;
+    }
+
+    /** Número de solicitudes recibidas en {@code /pokemon/{name}}. */
+    public int pokemonRequests() {
+        return pokemonRequests.get();
+    }
+
+    /** Número de solicitudes recibidas en {@code /pokemon-species/{name}}. */
+    public int speciesRequests() {
+        return speciesRequests.get();
+    }
+
+    /** Número de solicitudes recibidas en {@code /evolution-chain/{id}}. */
+    public int evolutionChainRequests() {
+        return evolutionChainRequests.get();
+    }
+
+    /** Número de errores 5xx inyectados. */
+    public int injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals("/api/v2/pokemon")) {
+            respond(exchange, 200, listingBody().getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        pokemonRequests.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        sleep(latency.nextNanos(random));
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            respond(exchange, 503, "Service Unavailable".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        boolean forcedNotFound = isForcedNotFound(name);
+        byte[] body = forcedNotFound ? null : fixture("pokemon", name);
+        if (body == null && !forcedNotFound && fallbackFixture != null) {
+            body = fixture("pokemon", fallbackFixture);
+        }
+        respondFixture(exchange, body);
+    }
+
+    private void handleResource(HttpExchange exchange, String resource, AtomicInteger requests) throws IOException {
+        requests.incrementAndGet();
+        String path = exchange.getRequestURI().getPath();
+        respondFixture(exchange, fixture(resource, path.substring(path.lastIndexOf('/') + 1)));
+    }
+
+    private static void respondFixture(HttpExchange exchange, byte[] body) throws IOException {
+        if (body == null) {
+            respond(exchange, 404, "Not Found".getBytes(StandardCharsets.UTF_8));
+        } else {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            respond(exchange, 200, body);
+        }
+    }
+
+    private boolean isForcedNotFound(String name) {
+        return notFoundRatio > 0 && Math.floorMod(name.hashCode() * 0x9E3779B9, 10_000) < notFoundRatio * 10_000;
+    }
+
+    private String listingBody() {
+        return listedNames.stream()
+                .map(name -> "{\"name\":\"" + name + "\",\"url\":\"x\"}")
+                .collect(Collectors.joining(",",
+                        "{\"count\":" + listedNames.size() + ",\"next\":null,\"previous\":null,\"results\":[", "]}"));
+    }
+
+    private static byte[] fixture(String resourceType, String name) {
+        ClassPathResource resource = new ClassPathResource(FIXTURES + resourceType + "/" + name + ".json");
+        if (!resource.exists()) {
+            return null;
+        }
+        try {
+            return resource.getContentAsByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.pokemonapi.support;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor local compatible con Redis (protocolo RESP2) para probar la caché compartida sin
+ * red ni un Redis real. Implementa {@code PING}, {@code AUTH}, {@code SELECT}, {@code GET},
+ * {@code SET} (con {@code PX} y {@code EX}), {@code MGET}, {@code DEL} y {@code FLUSHALL}, con
+ * expiración por reloj monótono. Cuenta los comandos recibidos y las lecturas de red, de modo
+ * que las pruebas puedan comprobar la canalización.
+ */
+public class RespStubServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Entry> data = new ConcurrentHashMap<>();
+    private final List<String> commands = new CopyOnWriteArrayList<>();
+    private final List<Socket> clients = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicBoolean corruptNextReply = new AtomicBoolean();
+
+    private RespStubServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::acceptLoop);
+    }
+
+    /**
+     * Arranca el servidor en un puerto libre.
+     *
+     * @return el servidor en marcha.
+     */
+    public static RespStubServer start() throws IOException {
+        return new RespStubServer();
+    }
+
+    public String host() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Nombres de los comandos recibidos, en orden (e.g., {@code "GET"}, {@code "MGET"}).
+     */
+    public List<String> commands() {
+        return List.copyOf(commands);
+    }
+
+    /**
+     * Conexiones aceptadas desde el arranque.
+     */
+    public int connections() {
+        return connections.get();
+    }
+
+    /**
+     * Conexiones que siguen abiertas (el cliente aún no las cerró).
+     */
+    public int openConnections() {
+        return openConnections.get();
+    }
+
+    /**
+     * Responde al siguiente comando con un entero mal formado, que el cliente no puede interpretar.
+     */
+    public void corruptNextReply() {
+        corruptNextReply.set(true);
+    }
+
+    /**
+     * Valor almacenado para una clave, o {@code null} si no existe o expiró.
+     */
+    public byte[] value(String key) {
+        Entry entry = data.get(key);
+        return entry == null || entry.isExpired() ? null : entry.value;
+    }
+
+    /**
+     * Tiempo de vida restante de una clave en milisegundos, o -1 si no expira o no existe.
+     */
+    public long ttlMillis(String key) {
+        Entry entry = data.get(key);
+        return entry == null || entry.expiresAtNanos == Long.MAX_VALUE ? -1
+                : (entry.expiresAtNanos - System.nanoTime()) / 1_000_000;
+    }
+
+    /**
+     * Cierra las conexiones abiertas, simulando una caída momentánea del servidor.
+     */
+    public void dropConnections() throws IOException {
+        for (Socket client : clients) {
+            client.close();
+        }
+        clients.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        dropConnections();
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                connections.incrementAndGet();
+                openConnections.incrementAndGet();
+                clients.add(client);
+                executor.execute(() -> serve(client));
+            } catch (IOException ex) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client) {
+            InputStream in = new BufferedInputStream(client.getInputStream());
+            OutputStream out = new BufferedOutputStream(client.getOutputStream());
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                reply(command, out);
+                // Con canalización, se responde de una vez cuando no quedan comandos por leer
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException ex) {
+            // El cliente cerró la conexión
+        } finally {
+            openConnections.decrementAndGet();
+        }
+    }
+
+    private void reply(List<byte[]> command, OutputStream out) throws IOException {
+        String name = new String(command.get(0), StandardCharsets.UTF_8).toUpperCase();
+        commands.add(name);
+        if (corruptNextReply.compareAndSet(true, false)) {
+            out.write(":no-es-un-numero\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        switch (name) {
+            case "PING" -> simple(out, "PONG");
+            case "AUTH", "SELECT" -> simple(out, "OK");
+            case "GET" -> bulk(out, value(string(command.get(1))));
+            case "MGET" -> {
+                out.write(("*" + (command.size() - 1) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                for (int i = 1; i < command.size(); i++) {
+                    bulk(out, value(string(command.get(i))));
+                }
+            }
+            case "SET" -> {
+                long expiresAt = Long.MAX_VALUE;
+                if (command.size() >= 5) {
+                    long amount = Long.parseLong(string(command.get(4)));
+                    String unit = string(command.get(3)).toUpperCase();
+                    expiresAt = System.nanoTime() + (unit.equals("PX") ? amount * 1_000_000 : amount * 1_000_000_000);
+                }
+                data.put(string(command.get(1)), new Entry(command.get(2), expiresAt));
+                simple(out, "OK");
+            }
+            case "DEL" -> {
+                int removed = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    if (data.remove(string(command.get(i))) != null) {
+                        removed++;
+                    }
+                }
+                out.write((":" + removed + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            }
+            case "FLUSHALL", "FLUSHDB" -> {
+                data.clear();
+                simple(out, "OK");
+            }
+            default -> out.write(("-ERR unknown command '" + name + "'\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            return null;
+        }
+        if (type != '*') {
+            throw new IOException("Se esperaba un arreglo RESP");
+        }
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Se esperaba una cadena binaria RESP");
+            }
+            int length = Integer.parseInt(readLine(in));
+            args.add(in.readNBytes(length));
+            in.read();
+            in.read();
+        }
+        return args;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                throw new EOFException();
+            }
+            line.append((char) b);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private static void simple(OutputStream out, String value) throws IOException {
+        out.write(("+" + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void bulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(value);
+        out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class Entry {
+        private final byte[] value;
+        private final long expiresAtNanos;
+
+        private Entry(byte[] value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired() {
+            return expiresAtNanos != Long.MAX_VALUE && System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.pokemonapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link BloomFilter}.
+ */
+public class BloomFilterTest {
+
+    /**
+     * Verifica que no hay falsos negativos: todo lo insertado se informa como presente.
+     */
+    @Test
+    void mightContain_shouldBeTrue_forEveryInsertedValue() {
+        BloomFilter filter = new BloomFilter(2_000, 0.01);
+        for (int i = 0; i < 2_000; i++) {
+            filter.put("pokemon-" + i);
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            assertTrue(filter.mightContain("pokemon-" + i));
+        }
+        assertEquals(2_000, filter.getInsertions());
+    }
+
+    /**
+     * Verifica que la tasa de falsos positivos medida sobre valores no insertados se mantiene
+     * cerca de la objetivo y de la esperada según el tamaño del filtro.
+     */
+    @Test
+    void mightContain_shouldKeepFalsePositiveRate_nearTarget() {
+        BloomFilter filter = new BloomFilter(2_000, 0.01);
+        for (int i = 0; i < 2_000; i++) {
+            filter.put("pokemon-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("otro-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        double observed = (double) falsePositives / probes;
+        assertTrue(observed < 0.02, "Tasa de falsos positivos demasiado alta: " + observed);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+}
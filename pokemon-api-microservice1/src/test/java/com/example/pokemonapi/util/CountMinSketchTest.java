@@ -0,0 +1,95 @@
+package com.example.pokemonapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link CountMinSketch}.
+ */
+public class CountMinSketchTest {
+
+    /**
+     * Verifica que las estimaciones nunca quedan por debajo del valor real y que las claves
+     * frecuentes se estiman con un error pequeño frente a su frecuencia, aun con muchas claves raras.
+     */
+    @Test
+    void estimate_shouldNeverUnderestimate_andBeCloseForHeavyKeys() {
+        CountMinSketch sketch = new CountMinSketch(1024, 1);
+        Random random = new Random(42);
+        int[] counts = new int[5000];
+        for (int i = 0; i < 200_000; i++) {
+            // La mitad del tráfico va a 10 claves; el resto se reparte entre las demás
+            int key = random.nextBoolean() ? random.nextInt(10) : 10 + random.nextInt(counts.length - 10);
+            counts[key]++;
+            sketch.increment(CountMinSketch.hash("pokemon-" + key));
+        }
+
+        for (int key = 0; key < counts.length; key++) {
+            long estimate = sketch.estimate(CountMinSketch.hash("pokemon-" + key));
+            assertTrue(estimate >= counts[key], "subestimación de " + key);
+            if (key < 10) {
+                assertTrue(estimate - counts[key] < counts[key] * 0.05, "error excesivo en " + key + ": " + estimate);
+            }
+        }
+    }
+
+    /**
+     * Verifica que los incrementos concurrentes de la misma clave no se pierden aunque haya más
+     * hilos que franjas y varios compartan los mismos contadores.
+     */
+    @Test
+    void increment_shouldKeepConcurrentUpdates_whenThreadsShareStripes() throws Exception {
+        CountMinSketch sketch = new CountMinSketch(256, 2);
+        long hash = CountMinSketch.hash("pikachu");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        sketch.increment(hash);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(2, sketch.getStripes());
+        assertEquals(400_000, sketch.estimate(hash));
+    }
+
+    /**
+     * Verifica que el incremento devuelve la estimación en la franja del hilo y que
+     * {@link CountMinSketch#halve()} divide los contadores sin afectar a los vecinos.
+     */
+    @Test
+    void halve_shouldDivideCounters() {
+        CountMinSketch sketch = new CountMinSketch(64, 1);
+        long pikachu = CountMinSketch.hash("pikachu");
+        long eevee = CountMinSketch.hash("eevee");
+        for (int i = 1; i <= 101; i++) {
+            assertEquals(i, sketch.increment(pikachu));
+        }
+        sketch.increment(eevee);
+        sketch.increment(eevee);
+        sketch.increment(eevee);
+
+        sketch.halve();
+
+        assertEquals(50, sketch.estimate(pikachu));
+        assertEquals(1, sketch.estimate(eevee));
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0, 1));
+    }
+}
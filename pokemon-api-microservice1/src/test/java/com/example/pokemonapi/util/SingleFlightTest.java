@@ -0,0 +1,242 @@
+package com.example.pokemonapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link SingleFlight}.
+ */
+public class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    /**
+     * Verifica que los llamadores concurrentes de la misma clave comparten una sola ejecución.
+     */
+    @Test
+    void execute_shouldRunLoaderOnce_forConcurrentCallers() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(CALLERS);
+
+        List<Future<String>> results = runConcurrently(started, () -> singleFlight.execute("pikachu", () -> {
+            executions.incrementAndGet();
+            awaitAndHold(started);
+            return "resultado";
+        }));
+
+        for (Future<String> result : results) {
+            assertEquals("resultado", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    /**
+     * Verifica que todos los llamadores reciben la misma excepción y que la clave se libera
+     * tras el fallo, de modo que la siguiente llamada vuelve a ejecutar la operación.
+     */
+    @Test
+    void execute_shouldShareException_andReleaseKey_whenLoaderFails() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        IllegalStateException failure = new IllegalStateException("fallo");
+        CountDownLatch started = new CountDownLatch(CALLERS);
+
+        List<Future<String>> results = runConcurrently(started, () -> singleFlight.execute("pikachu", () -> {
+            awaitAndHold(started);
+            throw failure;
+        }));
+
+        for (Future<String> result : results) {
+            Exception thrown = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals("de nuevo", singleFlight.execute("pikachu", () -> "de nuevo"));
+    }
+
+    /**
+     * Verifica que quien se une a una ejecución en curso deja de esperarla al agotar su espera,
+     * sin que la ejecución ni quien la inició se vean afectados.
+     */
+    @Test
+    void execute_shouldStopWaiting_whenCallerWaitExpires() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("pikachu", () -> {
+                running.countDown();
+                try {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                return "resultado";
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            IllegalStateException timeout = new IllegalStateException("plazo");
+            assertSame(timeout, assertThrows(IllegalStateException.class, () -> singleFlight.execute("pikachu",
+                    () -> "otra ejecución", TimeUnit.MILLISECONDS.toNanos(50), () -> timeout)));
+
+            release.countDown();
+            assertEquals("resultado", leader.get(5, TimeUnit.SECONDS));
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Verifica que en la variante asíncrona cancelar una copia no afecta a los demás llamadores,
+     * y que la operación se cancela y la clave se libera cuando todos abandonan la suya.
+     */
+    @Test
+    void executeAsync_shouldCancelOperation_onlyWhenEveryCallerAbandons() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> operation = new CompletableFuture<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<String> first = singleFlight.executeAsync("pikachu", () -> {
+            executions.incrementAndGet();
+            return operation;
+        });
+        CompletableFuture<String> second = singleFlight.executeAsync("pikachu", () -> {
+            executions.incrementAndGet();
+            return operation;
+        });
+        assertEquals(1, executions.get());
+
+        first.cancel(false);
+        assertFalse(operation.isCancelled());
+        assertEquals(1, singleFlight.inFlightCount());
+
+        second.completeExceptionally(new IllegalStateException("plazo"));
+        assertTrue(operation.isCancelled());
+        assertEquals(0, singleFlight.inFlightCount());
+
+        CompletableFuture<String> third = singleFlight.executeAsync("pikachu",
+                () -> CompletableFuture.completedFuture("de nuevo"));
+        assertEquals("de nuevo", third.join());
+    }
+
+    /**
+     * Verifica que un llamador bloqueante que se une a una operación asíncrona cuenta como
+     * llamador: aunque todas las copias asíncronas se abandonen, la operación no se cancela y él
+     * recibe el resultado.
+     */
+    @Test
+    void execute_shouldKeepAsyncOperation_whileBlockingCallerWaits() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> operation = new CompletableFuture<>();
+        CompletableFuture<String> async = singleFlight.executeAsync("pikachu", () -> operation);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> blocking = executor.submit(() -> singleFlight.execute("pikachu", () -> "otra ejecución"));
+            // Margen para que el llamador bloqueante llegue a esperar la operación
+            Thread.sleep(200);
+
+            async.cancel(false);
+            assertFalse(operation.isCancelled());
+            assertEquals(1, singleFlight.inFlightCount());
+
+            operation.complete("resultado");
+            assertEquals("resultado", blocking.get(5, TimeUnit.SECONDS));
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Verifica que abandonar una copia asíncrona de una ejecución síncrona no la libera: el
+     * siguiente llamador se une a ella en lugar de iniciar otra.
+     */
+    @Test
+    void executeAsync_shouldNotReleaseSyncFlight_whenCallerAbandons() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("pikachu", () -> {
+                executions.incrementAndGet();
+                running.countDown();
+                try {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                return "resultado";
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            singleFlight.executeAsync("pikachu", () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture("otra ejecución");
+            }).cancel(false);
+            assertEquals(1, singleFlight.inFlightCount());
+
+            CompletableFuture<String> next = singleFlight.executeAsync("pikachu", () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture("otra ejecución");
+            });
+            release.countDown();
+            assertEquals("resultado", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("resultado", next.get(5, TimeUnit.SECONDS));
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Lanza {@link #CALLERS} tareas en paralelo; cada una marca el latch justo antes de ejecutar.
+     */
+    private List<Future<String>> runConcurrently(CountDownLatch started, Callable<String> task) {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    started.countDown();
+                    return task.call();
+                }));
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Retiene la ejecución hasta que todos los llamadores hayan arrancado, y un margen adicional
+     * para que alcancen el punto de espera de la ejecución compartida.
+     */
+    private void awaitAndHold(CountDownLatch started) {
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(200);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
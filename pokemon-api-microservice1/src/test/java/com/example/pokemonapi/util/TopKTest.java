@@ -0,0 +1,58 @@
+package com.example.pokemonapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase {@link TopK}.
+ */
+public class TopKTest {
+
+    /**
+     * Verifica que se conservan los {@code k} mayores, de mayor a menor, y que a igual
+     * puntuación gana el menor identificador.
+     */
+    @Test
+    void sortedDescending_shouldKeepLargest_andBreakTiesById() {
+        TopK top = new TopK(3);
+        int[] scores = {40, 90, 55, 90, 10, 55};
+        for (int id = 0; id < scores.length; id++) {
+            top.offer(scores[id], id);
+        }
+
+        long[] best = top.sortedDescending();
+
+        assertEquals(3, best.length);
+        assertEquals(90, TopK.scoreOf(best[0]));
+        assertEquals(1, TopK.idOf(best[0]));
+        assertEquals(3, TopK.idOf(best[1]));
+        assertEquals(55, TopK.scoreOf(best[2]));
+        assertEquals(2, TopK.idOf(best[2]));
+    }
+
+    /**
+     * Compara con la ordenación completa sobre datos aleatorios, incluido un flujo más corto que {@code k}.
+     */
+    @Test
+    void sortedDescending_shouldMatchFullSort() {
+        Random random = new Random(42);
+        int[] scores = new int[1000];
+        TopK top = new TopK(10);
+        for (int id = 0; id < scores.length; id++) {
+            scores[id] = random.nextInt(300);
+            top.offer(scores[id], id);
+        }
+        int[] expected = Arrays.stream(scores).boxed().sorted((a, b) -> b - a).limit(10).mapToInt(Integer::intValue).toArray();
+
+        assertArrayEquals(expected, Arrays.stream(top.sortedDescending()).mapToInt(TopK::scoreOf).toArray());
+
+        TopK partial = new TopK(10);
+        partial.offer(5, 0);
+        partial.offer(7, 1);
+        assertArrayEquals(new int[] {1, 0}, Arrays.stream(partial.sortedDescending()).mapToInt(TopK::idOf).toArray());
+    }
+}
@@ -0,0 +1,74 @@
+package com.pokemon.api.repository;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.pokemon.api.model.dto.Pokemon;
+import com.pokemon.api.util.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH del trabajo de CPU por invocación de la Lambda: el parseo de la respuesta
+ * de {@code /type/{type}} con {@link PokeApiPokemonRepository#parsePokemonList(String)} y la
+ * serialización de la lista con {@link ApiResponse#success(Object)}.
+ *
+ * Usa la respuesta grabada de {@code src/jmh/resources/fixtures/pokeapi/type}, sin red.
+ * Se ejecuta con {@code mvn -Pjmh test-compile exec:exec}; el perfilador {@code gc} informa
+ * la memoria asignada por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeResponseBenchmark {
+
+    @Param({"water"})
+    public String type;
+
+    private PokeApiPokemonRepository repository;
+    private String payload;
+    private List<Pokemon> pokemonList;
+
+    @Setup
+    public void setUp() throws IOException {
+        repository = new PokeApiPokemonRepository();
+        try (InputStream in = TypeResponseBenchmark.class.getResourceAsStream("/fixtures/pokeapi/type/" + type + ".json")) {
+            if (in == null) {
+                throw new IOException("No existe la respuesta grabada para el tipo " + type);
+            }
+            payload = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        pokemonList = repository.parsePokemonList(payload);
+    }
+
+    @Benchmark
+    public List<Pokemon> parsePokemonList() {
+        return repository.parsePokemonList(payload);
+    }
+
+    @Benchmark
+    public APIGatewayProxyResponseEvent successResponse() {
+        return ApiResponse.success(pokemonList);
+    }
+
+    @Benchmark
+    public APIGatewayProxyResponseEvent parseAndRespond() {
+        return ApiResponse.success(repository.parsePokemonList(payload));
+    }
+}
@@ -75,10 +75,12 @@ public class PokeApiPokemonRepository implements PokemonRepository {
     /**
      * Parsea la respuesta JSON de la PokeAPI para extraer la lista de Pokémon.
      *
+     * Visible en el paquete para los benchmarks JMH.
+     *
      * @param jsonResponse La cadena JSON recibida de la PokeAPI.
      * @return Una lista de objetos Pokemon.
      */
-    private List<Pokemon> parsePokemonList(String jsonResponse) {
+    List<Pokemon> parsePokemonList(String jsonResponse) {
         List<Pokemon> pokemonList = new ArrayList<>();
         JsonObject jsonObject = gson.fromJson(jsonResponse, JsonObject.class);
 